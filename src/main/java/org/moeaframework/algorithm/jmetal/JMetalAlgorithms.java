@@ -18,7 +18,6 @@
 package org.moeaframework.algorithm.jmetal;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.DoubleStream;
@@ -28,26 +27,63 @@ import org.apache.commons.lang3.reflect.TypeUtils;
 import org.apache.commons.text.WordUtils;
 import org.moeaframework.algorithm.Algorithm;
 import org.moeaframework.algorithm.DefaultAlgorithms;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayAGEMOEA;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayAGEMOEAII;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayGWASFGA;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayIBEA;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayMOMBI;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayMOMBI2;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayNSGAIII;
+import org.moeaframework.algorithm.jmetal.algorithms.ArrayWASFGA;
+import org.moeaframework.algorithm.jmetal.algorithms.AsyncMOCellBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.IncrementalESPEABuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.PackedMOCHC;
+import org.moeaframework.algorithm.jmetal.algorithms.ParallelABYSSBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.ParallelDMOPSOBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.ParallelMOEADBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.ParallelOMOPSOBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.ParallelSMPSOBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.RankedNSGAIIBuilder;
+import org.moeaframework.algorithm.jmetal.algorithms.RankedRNSGAIIBuilder;
+import org.moeaframework.algorithm.jmetal.archive.ArchiveType;
+import org.moeaframework.algorithm.jmetal.adapters.BatchSolutionListEvaluator;
 import org.moeaframework.algorithm.jmetal.adapters.BinaryProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.CompositeProblemAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.DoubleProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.IntegerProblemAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.JMetalAlgorithmAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.PermutationProblemAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.ProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.SolutionPool;
+import org.moeaframework.algorithm.jmetal.adapters.SplittableRandomGenerator;
+import org.moeaframework.algorithm.jmetal.hypervolume.AbstractArrayHypervolume;
+import org.moeaframework.algorithm.jmetal.hypervolume.HypervolumeEngine;
+import org.moeaframework.algorithm.jmetal.hypervolume.MonteCarloHypervolume;
+import org.moeaframework.algorithm.jmetal.operators.ArrayBitFlipMutation;
+import org.moeaframework.algorithm.jmetal.operators.ArrayHUXCrossover;
+import org.moeaframework.algorithm.jmetal.operators.PluggableRankingAndCrowdingSelection;
+import org.moeaframework.algorithm.jmetal.ranking.RankingEngine;
 import org.moeaframework.core.DefaultEpsilons;
 import org.moeaframework.core.Epsilons;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.TypedProperties;
 import org.moeaframework.core.spi.ProviderNotFoundException;
 import org.moeaframework.core.spi.RegisteredAlgorithmProvider;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
 import org.moeaframework.core.variable.BinaryVariable;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.problem.Problem;
 import org.moeaframework.problem.ProblemException;
+import org.moeaframework.problem.jmetal.BatchProblem;
+import org.moeaframework.problem.jmetal.JMetalProblem;
 import org.uma.jmetal.algorithm.AlgorithmBuilder;
 import org.uma.jmetal.algorithm.multiobjective.abyss.ABYSSBuilder;
+import org.uma.jmetal.algorithm.multiobjective.agemoea.AGEMOEA;
 import org.uma.jmetal.algorithm.multiobjective.agemoea.AGEMOEABuilder;
+import org.uma.jmetal.algorithm.multiobjective.agemoeaii.AGEMOEAII;
 import org.uma.jmetal.algorithm.multiobjective.agemoeaii.AGEMOEAIIBuilder;
 import org.uma.jmetal.algorithm.multiobjective.cdg.CDGBuilder;
 import org.uma.jmetal.algorithm.multiobjective.dmopso.DMOPSOBuilder;
@@ -64,6 +100,7 @@ import org.uma.jmetal.algorithm.multiobjective.mombi.MOMBI2;
 import org.uma.jmetal.algorithm.multiobjective.mosa.MOSA;
 import org.uma.jmetal.algorithm.multiobjective.mosa.cooling.impl.Exponential;
 import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.NSGAIII;
 import org.uma.jmetal.algorithm.multiobjective.nsgaiii.NSGAIIIBuilder;
 import org.uma.jmetal.algorithm.multiobjective.omopso.OMOPSOBuilder;
 import org.uma.jmetal.algorithm.multiobjective.paes.PAES;
@@ -75,27 +112,28 @@ import org.uma.jmetal.algorithm.multiobjective.spea2.SPEA2Builder;
 import org.uma.jmetal.algorithm.multiobjective.wasfga.WASFGA;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
-import org.uma.jmetal.operator.crossover.impl.HUXCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
-import org.uma.jmetal.operator.mutation.impl.BitFlipMutation;
 import org.uma.jmetal.operator.mutation.impl.NonUniformMutation;
 import org.uma.jmetal.operator.mutation.impl.UniformMutation;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
 import org.uma.jmetal.operator.selection.impl.RandomSelection;
-import org.uma.jmetal.operator.selection.impl.RankingAndCrowdingSelection;
 import org.uma.jmetal.operator.selection.impl.SpatialSpreadDeviationSelection;
+import org.uma.jmetal.problem.binaryproblem.BinaryProblem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.integerproblem.IntegerProblem;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
-import org.uma.jmetal.util.archive.impl.GenericBoundedArchive;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
-import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
 
 public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
@@ -137,22 +175,52 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 		register(this::newWASFGA, "WASFGA", "WASFGA-JMetal");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Each algorithm created by this provider is given its own {@link SplittableRandomGenerator} seeded from the MOEA
+	 * Framework's {@code PRNG}, so the JMetal algorithm is reproducible under {@code PRNG.setSeed} and independent of
+	 * any other JMetal algorithm running concurrently.
+	 */
 	@Override
 	public Algorithm getAlgorithm(String name, TypedProperties properties,Problem problem) {
+		Algorithm algorithm;
+		
 		try  {
-			return super.getAlgorithm(name, properties, problem);
+			algorithm = super.getAlgorithm(name, properties, problem);
 		} catch (JMetalException e) {
 			throw new ProviderNotFoundException(name, e);
 		}
+		
+		if (algorithm instanceof JMetalAlgorithmAdapter<?> adapter) {
+			SplittableRandomGenerator.install();
+			adapter.setRandomGenerator(new SplittableRandomGenerator(PRNG.getRandom().nextLong()));
+		}
+		
+		return algorithm;
 	}
 	
 	/**
-	 * Converts a MOEA Framework problem into an appropriately typed JMetal problem.
+	 * Converts a MOEA Framework problem into an appropriately typed JMetal problem using the default settings.
 	 * 
 	 * @param problem the MOEA Framework problem
 	 * @return the JMetal problem
 	 */
-	private ProblemAdapter<? extends org.uma.jmetal.solution.Solution<?>> createProblemAdapter(Problem problem) {
+	ProblemAdapter<? extends org.uma.jmetal.solution.Solution<?>> createProblemAdapter(Problem problem) {
+		return createProblemAdapter(problem, new TypedProperties());
+	}
+	
+	/**
+	 * Converts a MOEA Framework problem into an appropriately typed JMetal problem.  Problems with
+	 * {@link BinaryIntegerVariable}s are converted into binary problems, as they are binary-encoded, unless the
+	 * {@code integer.adapter} property is {@code true}, in which case they are converted into integer problems.
+	 * 
+	 * @param problem the MOEA Framework problem
+	 * @param properties the given properties
+	 * @return the JMetal problem
+	 */
+	ProblemAdapter<? extends org.uma.jmetal.solution.Solution<?>> createProblemAdapter(Problem problem,
+			TypedProperties properties) {
 		Set<Class<?>> types = new HashSet<Class<?>>();
 		Solution schema = problem.newSolution();
 		
@@ -164,17 +232,19 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 			throw new ProblemException(problem, "Problem has no defined types");
 		}
 		
-		if (types.size() > 1) {
-			throw new ProblemException(problem, "Problem has multiple types defined, expected only one: " +
-					Arrays.toString(types.toArray()));
-		}
-		
 		Class<?> type = types.iterator().next();
+		
+		if (types.size() > 1 || (Permutation.class.isAssignableFrom(type) && schema.getNumberOfVariables() > 1)) {
+			return new CompositeProblemAdapter(problem);
+		}
 
 		if (RealVariable.class.isAssignableFrom(type)) {
-			return new DoubleProblemAdapter(problem);
+			return new DoubleProblemAdapter(problem, unwrap(problem, DoubleProblem.class));
+		} else if (BinaryIntegerVariable.class.isAssignableFrom(type) &&
+				properties.getBoolean("integer.adapter", false)) {
+			return new IntegerProblemAdapter(problem, unwrap(problem, IntegerProblem.class));
 		} else if (BinaryVariable.class.isAssignableFrom(type)) {
-			return new BinaryProblemAdapter(problem);
+			return new BinaryProblemAdapter(problem, unwrap(problem, BinaryProblem.class));
 		} else if (Permutation.class.isAssignableFrom(type)) {
 			return new PermutationProblemAdapter(problem);
 		} else {
@@ -183,6 +253,110 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 		}
 	}
 	
+	/**
+	 * Converts a MOEA Framework problem into an appropriately typed JMetal problem, recycling discarded solutions if
+	 * the {@code pool.size} property is positive.  The pool holds up to {@code pool.size} solutions and is only used
+	 * by algorithms that release the solutions they discard.
+	 * 
+	 * @param problem the MOEA Framework problem
+	 * @param properties the given properties
+	 * @return the JMetal problem
+	 */
+	private ProblemAdapter<? extends org.uma.jmetal.solution.Solution<?>> createPooledProblemAdapter(Problem problem,
+			TypedProperties properties) {
+		ProblemAdapter<? extends org.uma.jmetal.solution.Solution<?>> adapter = createProblemAdapter(problem,
+				properties);
+		int poolSize = properties.getTruncatedInt("pool.size", 0);
+		
+		if (poolSize > 0) {
+			adapter.setSolutionPool(new SolutionPool<>(poolSize));
+		}
+		
+		return adapter;
+	}
+	
+	/**
+	 * If the MOEA Framework problem wraps a JMetal problem of the given type, returns the original JMetal problem.
+	 * JMetal algorithms can then evaluate the original problem directly instead of converting each solution from
+	 * JMetal to the MOEA Framework and back.
+	 * 
+	 * @param <T> the type of JMetal problem
+	 * @param problem the MOEA Framework problem
+	 * @param type the type of JMetal problem
+	 * @return the original JMetal problem, or {@code null} if the problem does not wrap a JMetal problem of this type
+	 */
+	private <T extends org.uma.jmetal.problem.Problem<?>> T unwrap(Problem problem, Class<T> type) {
+		if (problem instanceof JMetalProblem<?> wrapper && type.isInstance(wrapper.getJMetalProblem())) {
+			return type.cast(wrapper.getJMetalProblem());
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Returns the engine used to sort populations into non-dominated fronts, as configured by the {@code ranking}
+	 * property.  The default engine reproduces JMetal's fast non-dominated sort on primitive arrays.
+	 * 
+	 * @param properties the given properties
+	 * @return the ranking engine
+	 */
+	private RankingEngine getRankingEngine(TypedProperties properties) {
+		return properties.getEnum("ranking", RankingEngine.class, RankingEngine.ARRAY);
+	}
+	
+	/**
+	 * Creates the bounded archive configured by the {@code archive.type} property, holding up to
+	 * {@code archiveSize} solutions.  The default is JMetal's crowding distance archive.
+	 * 
+	 * @param <S> the type of solution
+	 * @param properties the given properties
+	 * @return the archive
+	 */
+	private <S extends org.uma.jmetal.solution.Solution<?>> CrowdingDistanceArchive<S> createArchive(
+			TypedProperties properties) {
+		return properties.getEnum("archive.type", ArchiveType.class, ArchiveType.CROWDING)
+				.createArchive(properties.getTruncatedInt("archiveSize", 100));
+	}
+	
+	/**
+	 * Creates the evaluator used by algorithms that evaluate their population as a list.  If the problem is a
+	 * {@link BatchProblem}, the population is evaluated in a single batch unless the {@code evaluation.batch} property
+	 * is {@code false}.
+	 * 
+	 * @param properties the given properties
+	 * @param problem the MOEA Framework problem
+	 * @return the solution list evaluator
+	 */
+	@SuppressWarnings("rawtypes")
+	private SolutionListEvaluator createSolutionListEvaluator(TypedProperties properties, Problem problem) {
+		if (problem instanceof BatchProblem batchProblem && properties.getBoolean("evaluation.batch", true)) {
+			return new BatchSolutionListEvaluator<>(batchProblem);
+		}
+		
+		return new SequentialSolutionListEvaluator<>();
+	}
+	
+	/**
+	 * Creates the hypervolume implementation configured by the {@code hypervolume} property, which computes the
+	 * hypervolume contributions used by SMS-EMOA.  The default is JMetal's PISA implementation.  The {@code offset}
+	 * property sets the offset of the reference point and {@code hypervolume.samples} sets the number of samples used
+	 * by the Monte Carlo approximation.
+	 * <p>
+	 * JMetal's SMS-EMOA only accepts the legacy {@link Hypervolume} type, so the deprecation is suppressed here rather
+	 * than at each use.
+	 * 
+	 * @param <S> the type of solution
+	 * @param properties the given properties
+	 * @return the hypervolume implementation
+	 */
+	@SuppressWarnings("deprecation")
+	private <S extends org.uma.jmetal.solution.Solution<?>> Hypervolume<S> createHypervolume(
+			TypedProperties properties) {
+		return properties.getEnum("hypervolume", HypervolumeEngine.class, HypervolumeEngine.PISA).createHypervolume(
+				properties.getDouble("offset", AbstractArrayHypervolume.DEFAULT_OFFSET),
+				properties.getTruncatedInt("hypervolume.samples", MonteCarloHypervolume.DEFAULT_SAMPLES));
+	}
+	
 	private DoubleProblemAdapter createDoubleProblemAdapter(Problem problem) {
 		ProblemAdapter<?> adapter = createProblemAdapter(problem);
 		
@@ -272,30 +446,52 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newAGEMOEA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 
 	    AGEMOEABuilder builder = new AGEMOEABuilder(adapter)
 	    		.setCrossoverOperator(crossover)
 	    		.setMutationOperator(mutation);
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
+		
+		AGEMOEA algorithm;
+		
+		if (properties.getBoolean("agemoea.arrayKernel", true)) {
+			algorithm = new ArrayAGEMOEA(builder,
+					getRankingEngine(properties).createRanking(new DominanceWithConstraintsComparator()),
+					properties.getBoolean("agemoea.parallel", false));
+		} else {
+			algorithm = builder.build();
+		}
         
-		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
+		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newAGEMOEAII(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 
 	    AGEMOEAIIBuilder builder = new AGEMOEAIIBuilder(adapter)
 	    		.setCrossoverOperator(crossover)
 	    		.setMutationOperator(mutation);
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
+		
+		AGEMOEAII algorithm;
+		
+		if (properties.getBoolean("agemoea.arrayKernel", true)) {
+			algorithm = new ArrayAGEMOEAII(builder,
+					getRankingEngine(properties).createRanking(new DominanceWithConstraintsComparator()),
+					properties.getBoolean("agemoea.parallel", false));
+		} else {
+			algorithm = builder.build();
+		}
         
-		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
+		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -304,11 +500,17 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 
-		Archive<DoubleSolution> archive = new CrowdingDistanceArchive<DoubleSolution>(
-				properties.getTruncatedInt("archiveSize", 100));
+		Archive<DoubleSolution> archive = createArchive(properties);
 		
-	    ABYSSBuilder builder = new ABYSSBuilder(adapter, archive)
-	    		.setCrossoverOperator((CrossoverOperator<DoubleSolution>)crossover)
+	    ABYSSBuilder builder;
+	    
+	    if (properties.getBoolean("abyss.parallel", false)) {
+	    	builder = new ParallelABYSSBuilder(adapter, archive, true);
+	    } else {
+	    	builder = new ABYSSBuilder(adapter, archive);
+	    }
+	    
+	    builder.setCrossoverOperator((CrossoverOperator<DoubleSolution>)crossover)
 	    	    .setMutationOperator((MutationOperator<DoubleSolution>)mutation);
 	    loadProperties(properties, builder);
 	        
@@ -330,7 +532,14 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	private Algorithm newDMOPSO(TypedProperties properties, Problem problem) throws JMetalException {
 		DoubleProblemAdapter adapter = createDoubleProblemAdapter(problem);
 
-		DMOPSOBuilder builder = new DMOPSOBuilder(adapter);
+		DMOPSOBuilder builder;
+		
+		if (properties.getBoolean("pso.parallel", false)) {
+			builder = new ParallelDMOPSOBuilder(adapter, true);
+		} else {
+			builder = new DMOPSOBuilder(adapter);
+		}
+		
 		loadProperties(properties, builder);
 	            
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -338,11 +547,18 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newESPEA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 
-	    ESPEABuilder builder = new ESPEABuilder(adapter, crossover, mutation);
+	    ESPEABuilder builder;
+	    
+	    if (properties.getBoolean("espea.incremental", false)) {
+	    	builder = new IncrementalESPEABuilder(adapter, crossover, mutation);
+	    } else {
+	    	builder = new ESPEABuilder(adapter, crossover, mutation);
+	    }
+	    
 		loadProperties(properties, builder);
         
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -357,7 +573,7 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 				properties.getTruncatedInt("archiveSize", 100),
 				properties.getTruncatedInt("maxEvaluations", 25000),
 				new SpatialSpreadDeviationSelection<>(properties.getInt("numberOfTournaments", 5)),
-				new SequentialSolutionListEvaluator<>());
+				createSolutionListEvaluator(properties, problem));
 
 		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
@@ -375,44 +591,71 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newGWASFGA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 	    SelectionOperator selection = new BinaryTournamentSelection(new RankingAndCrowdingDistanceComparator());
 	    
-		GWASFGA algorithm = new GWASFGA(adapter,	
-				properties.getTruncatedInt("populationSize", 100),
-				DefaultAlgorithms.getMaxIterations(properties),
-				crossover,
-				mutation,
-				selection,
-				new SequentialSolutionListEvaluator<DoubleSolution>(),
-				properties.getDouble("epsilon", 0.01));
+		GWASFGA algorithm;
+		
+		if (properties.getBoolean("wasfga.arrayKernel", true)) {
+			algorithm = new ArrayGWASFGA(adapter,
+					properties.getTruncatedInt("populationSize", 100),
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getDouble("epsilon", 0.01),
+					properties.getBoolean("wasfga.parallel", false));
+		} else {
+			algorithm = new GWASFGA(adapter,	
+					properties.getTruncatedInt("populationSize", 100),
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getDouble("epsilon", 0.01));
+		}
 
 		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newIBEA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 	    SelectionOperator selection = new BinaryTournamentSelection();
 	    
-		IBEA algorithm = new IBEA(adapter,	
-				properties.getTruncatedInt("populationSize", 100),
-				properties.getTruncatedInt("archiveSize", 100),
-				properties.getTruncatedInt("maxEvaluations", 25000),
-				selection,
-				crossover,
-				mutation);
+		IBEA algorithm;
+		
+		if (properties.getBoolean("ibea.arrayKernel", true)) {
+			algorithm = new ArrayIBEA(adapter,
+					properties.getTruncatedInt("populationSize", 100),
+					properties.getTruncatedInt("archiveSize", 100),
+					properties.getTruncatedInt("maxEvaluations", 25000),
+					selection,
+					crossover,
+					mutation,
+					properties.getBoolean("ibea.parallel", false));
+		} else {
+			algorithm = new IBEA(adapter,	
+					properties.getTruncatedInt("populationSize", 100),
+					properties.getTruncatedInt("archiveSize", 100),
+					properties.getTruncatedInt("maxEvaluations", 25000),
+					selection,
+					crossover,
+					mutation);
+		}
 		
 		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newMOCell(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		
 		if (properties.contains("feedback")) {
 			System.err.println("Warning: Parameter 'feedback' is no longer supported in MOCell (JMetal)");
@@ -420,9 +663,19 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 		
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
-		BoundedArchive archive = new CrowdingDistanceArchive(properties.getTruncatedInt("archiveSize", 100));
+		BoundedArchive archive = createArchive(properties);
+		
+		MOCellBuilder builder;
 		
-		MOCellBuilder builder = new MOCellBuilder(adapter, crossover, mutation).setArchive(archive);
+		if (properties.getBoolean("mocell.async", false)) {
+			builder = new AsyncMOCellBuilder(adapter, crossover, mutation,
+					properties.getTruncatedInt("mocell.regions", Runtime.getRuntime().availableProcessors()));
+		} else {
+			builder = new MOCellBuilder(adapter, crossover, mutation);
+		}
+		
+		builder.setArchive(archive);
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
         
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -432,12 +685,13 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	private Algorithm newMOCHC(TypedProperties properties, Problem problem) throws JMetalException {
 		BinaryProblemAdapter adapter = createBinaryProblemAdapter(problem);
 		
-		HUXCrossover crossover = new HUXCrossover(properties.getDouble("hux.rate", 1.0));
-	    BitFlipMutation mutation = new BitFlipMutation(properties.getDouble("bf.rate", 0.35));
+		ArrayHUXCrossover crossover = new ArrayHUXCrossover(properties.getDouble("hux.rate", 1.0));
+	    ArrayBitFlipMutation mutation = new ArrayBitFlipMutation(properties.getDouble("bf.rate", 0.35));
 	    
 	    SelectionOperator parentSelection = new RandomSelection<BinarySolution>();
-	    SelectionOperator newGenerationSelection = new RankingAndCrowdingSelection<BinarySolution>(
-	    		properties.getTruncatedInt("populationSize", 100));
+	    SelectionOperator newGenerationSelection = new PluggableRankingAndCrowdingSelection<BinarySolution>(
+	    		properties.getTruncatedInt("populationSize", 100),
+	    		getRankingEngine(properties).createRanking(new DominanceWithConstraintsComparator<BinarySolution>()));
 
 	    MOCHCBuilder builder = new MOCHCBuilder((BinaryProblemAdapter)adapter)
 	            .setCrossover(crossover)
@@ -446,7 +700,8 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	            .setParentSelection(parentSelection);
 	    loadProperties(properties, builder);
 	    
-		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
+		return new JMetalAlgorithmAdapter(new PackedMOCHC(builder), adapter,
+				properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -457,7 +712,15 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 		
 		MOEADBuilder.Variant variant = MOEADBuilder.Variant.valueOf(properties.getString("variant", "MOEAD"));		
 
-		MOEADBuilder builder = new MOEADBuilder(adapter, variant).setCrossover(crossover).setMutation(mutation);
+		MOEADBuilder builder;
+		
+		if (properties.getBoolean("moead.parallel", false)) {
+			builder = new ParallelMOEADBuilder(adapter, variant, true);
+		} else {
+			builder = new MOEADBuilder(adapter, variant);
+		}
+		
+		builder.setCrossover(crossover).setMutation(mutation);
 		loadProperties(properties, builder);
 	    
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -465,7 +728,7 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newMOMBI(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 	    SelectionOperator selection = new BinaryTournamentSelection(new RankingAndCrowdingDistanceComparator());
@@ -474,20 +737,33 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 			throw new JMetalException("must specify pathWeights file");
 		}
 
-		MOMBI algorithm = new MOMBI(adapter,
-				DefaultAlgorithms.getMaxIterations(properties),
-				crossover,
-				mutation,
-				selection,
-				new SequentialSolutionListEvaluator<DoubleSolution>(),
-				properties.getString("pathWeights", null));
+		MOMBI algorithm;
+		
+		if (properties.getBoolean("mombi.arrayKernel", true)) {
+			algorithm = new ArrayMOMBI(adapter,
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getString("pathWeights", null),
+					properties.getBoolean("mombi.parallel", false));
+		} else {
+			algorithm = new MOMBI(adapter,
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getString("pathWeights", null));
+		}
 		
 		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newMOMBI2(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 	    SelectionOperator selection = new BinaryTournamentSelection(new RankingAndCrowdingDistanceComparator());
@@ -496,25 +772,36 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 			throw new JMetalException("must specify pathWeights file");
 		}
 
-		MOMBI2 algorithm = new MOMBI2(adapter,
-				DefaultAlgorithms.getMaxIterations(properties),
-				crossover,
-				mutation,
-				selection,
-				new SequentialSolutionListEvaluator<DoubleSolution>(),
-				properties.getString("pathWeights", null));
+		MOMBI2 algorithm;
+		
+		if (properties.getBoolean("mombi.arrayKernel", true)) {
+			algorithm = new ArrayMOMBI2(adapter,
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getString("pathWeights", null),
+					properties.getBoolean("mombi.parallel", false));
+		} else {
+			algorithm = new MOMBI2(adapter,
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getString("pathWeights", null));
+		}
 		
 		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newMOSA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter adapter = createProblemAdapter(problem);
+		ProblemAdapter adapter = createProblemAdapter(problem, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 	    
-	    BoundedArchive<DoubleSolution> archive = new GenericBoundedArchive<>(
-	    		properties.getInt("archiveSize", 100),
-	    		new CrowdingDistanceDensityEstimator<>());
+	    BoundedArchive archive = createArchive(properties);
 	    
 	    org.uma.jmetal.solution.Solution initialSolution = (org.uma.jmetal.solution.Solution)adapter.createSolution();
 	    adapter.evaluate(initialSolution);
@@ -532,12 +819,21 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newNSGAII(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter adapter = createProblemAdapter(problem);
+		ProblemAdapter adapter = createPooledProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 		
-		NSGAIIBuilder builder = new NSGAIIBuilder(adapter, crossover, mutation,
-				properties.getTruncatedInt("populationSize", 100));
+		NSGAIIBuilder builder;
+		
+		if (properties.getBoolean("nsgaii.arrayKernel", true)) {
+			builder = new RankedNSGAIIBuilder(adapter, crossover, mutation,
+					properties.getTruncatedInt("populationSize", 100), getRankingEngine(properties));
+		} else {
+			builder = new NSGAIIBuilder(adapter, crossover, mutation,
+					properties.getTruncatedInt("populationSize", 100));
+		}
+		
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
         
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -545,7 +841,7 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newNSGAIII(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter adapter = createProblemAdapter(problem);
+		ProblemAdapter adapter = createPooledProblemAdapter(problem, properties);
 		
 		CrossoverOperator crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
@@ -555,9 +851,20 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 				.setCrossoverOperator(crossover)
 				.setMutationOperator(mutation)
 				.setSelectionOperator(selection);
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
+		
+		NSGAIII algorithm;
+		
+		if (properties.getBoolean("nsgaiii.arrayKernel", true)) {
+			algorithm = new ArrayNSGAIII(builder,
+					getRankingEngine(properties).createRanking(new DefaultDominanceComparator()),
+					properties.getBoolean("nsgaiii.parallel", false));
+		} else {
+			algorithm = builder.build();
+		}
 
-		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
+		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -576,7 +883,7 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 				properties.getDouble("perturbationIndex", 0.5),
 				maxIterations);
 		
-		SolutionListEvaluator evaluator = new SequentialSolutionListEvaluator();
+		SolutionListEvaluator evaluator = createSolutionListEvaluator(properties, problem);
 		
 		Epsilons epsilons = DefaultEpsilons.getInstance().getEpsilons(problem);
 		
@@ -584,8 +891,15 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 			System.err.println("Multiple epsilon values configured for problem, but JMetal only supports 1");
 		}
 		
-		OMOPSOBuilder builder = new OMOPSOBuilder(adapter, evaluator)
-				.setUniformMutation(uniformMutation)
+		OMOPSOBuilder builder;
+		
+		if (properties.getBoolean("pso.parallel", false)) {
+			builder = new ParallelOMOPSOBuilder(adapter, evaluator, true);
+		} else {
+			builder = new OMOPSOBuilder(adapter, evaluator);
+		}
+		
+		builder.setUniformMutation(uniformMutation)
         		.setNonUniformMutation(nonUniformMutation)
         		.setEta(properties.getDouble("epsilon", epsilons.get(0)));
 		loadProperties(properties, builder);
@@ -595,7 +909,7 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newPAES(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 		
 		PAES paes = new PAES(adapter,
@@ -609,11 +923,12 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newPESA2(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 		
         PESA2Builder builder = new PESA2Builder(adapter, crossover, mutation);
+        builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
         loadProperties(properties, builder);
         
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -621,15 +936,26 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newRNSGAII(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 		
 		double[] interestPoint = properties.getDoubleArray("interestPoint", new double[problem.getNumberOfObjectives()]);
 		
-		RNSGAIIBuilder builder = new RNSGAIIBuilder(adapter, crossover, mutation,
-				DoubleStream.of(interestPoint).boxed().toList(),
-				properties.getDouble("epsilon", 0.01));
+		RNSGAIIBuilder builder;
+		
+		if (properties.getBoolean("nsgaii.arrayKernel", true)) {
+			builder = new RankedRNSGAIIBuilder(adapter, crossover, mutation,
+					DoubleStream.of(interestPoint).boxed().toList(),
+					properties.getDouble("epsilon", 0.01),
+					getRankingEngine(properties));
+		} else {
+			builder = new RNSGAIIBuilder(adapter, crossover, mutation,
+					DoubleStream.of(interestPoint).boxed().toList(),
+					properties.getDouble("epsilon", 0.01));
+		}
+		
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
         
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -641,9 +967,18 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 		MutationOperator<DoubleSolution> mutation = (MutationOperator<DoubleSolution>)
 				JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 		
-		BoundedArchive archive = new CrowdingDistanceArchive(properties.getTruncatedInt("archiveSize", 100));
+		BoundedArchive archive = createArchive(properties);
+		
+		SMPSOBuilder builder;
+		
+		if (properties.getBoolean("pso.parallel", false)) {
+			builder = new ParallelSMPSOBuilder(adapter, archive, true);
+		} else {
+			builder = new SMPSOBuilder(adapter, archive);
+		}
 		
-		SMPSOBuilder builder = new SMPSOBuilder(adapter, archive).setMutation(mutation);
+		builder.setMutation(mutation);
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
 		
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -651,11 +986,12 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newSPEA2(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 
 		SPEA2Builder builder = new SPEA2Builder(adapter, crossover, mutation);
+		builder.setSolutionListEvaluator(createSolutionListEvaluator(properties, problem));
 		loadProperties(properties, builder);
 		
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -663,11 +999,12 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private Algorithm newSMSEMOA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 
-	    SMSEMOABuilder builder = new SMSEMOABuilder(adapter, crossover, mutation);
+	    SMSEMOABuilder builder = new SMSEMOABuilder(adapter, crossover, mutation)
+	    		.setHypervolumeImplementation(createHypervolume(properties));
 	    loadProperties(properties, builder);
         
 		return new JMetalAlgorithmAdapter(builder.build(), adapter, properties.getTruncatedInt("maxEvaluations", 25000));
@@ -675,23 +1012,39 @@ public class JMetalAlgorithms extends RegisteredAlgorithmProvider {
 	
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Algorithm newWASFGA(TypedProperties properties, Problem problem) throws JMetalException {
-		ProblemAdapter<?> adapter = createProblemAdapter(problem);
+		ProblemAdapter<?> adapter = createProblemAdapter(problem, properties);
 		CrossoverOperator<?> crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter, properties);
 		MutationOperator<?> mutation = JMetalFactory.getInstance().createMutationOperator(adapter, properties);
 	    SelectionOperator selection = new BinaryTournamentSelection(new RankingAndCrowdingDistanceComparator());
 	    
 		double[] referencePoint = properties.getDoubleArray("referencePoint", new double[problem.getNumberOfObjectives()]);
 	    
-		WASFGA algorithm = new WASFGA(adapter,
-				properties.getTruncatedInt("populationSize", 100),
-				DefaultAlgorithms.getMaxIterations(properties),
-	            crossover,
-	            mutation,
-	            selection,
-	            new SequentialSolutionListEvaluator(),
-	            properties.getDouble("epsilon", 0.01),
-	            DoubleStream.of(referencePoint).boxed().toList(),
-	            properties.getString("weightVectorsFile", ""));
+		WASFGA algorithm;
+		
+		if (properties.getBoolean("wasfga.arrayKernel", true)) {
+			algorithm = new ArrayWASFGA(adapter,
+					properties.getTruncatedInt("populationSize", 100),
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getDouble("epsilon", 0.01),
+					DoubleStream.of(referencePoint).boxed().toList(),
+					properties.getString("weightVectorsFile", ""),
+					properties.getBoolean("wasfga.parallel", false));
+		} else {
+			algorithm = new WASFGA(adapter,
+					properties.getTruncatedInt("populationSize", 100),
+					DefaultAlgorithms.getMaxIterations(properties),
+					crossover,
+					mutation,
+					selection,
+					createSolutionListEvaluator(properties, problem),
+					properties.getDouble("epsilon", 0.01),
+					DoubleStream.of(referencePoint).boxed().toList(),
+					properties.getString("weightVectorsFile", ""));
+		}
 
 		return new JMetalAlgorithmAdapter(algorithm, adapter, properties.getTruncatedInt("maxEvaluations", 25000));
 	}
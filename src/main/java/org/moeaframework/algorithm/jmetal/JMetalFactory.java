@@ -18,6 +18,7 @@
 package org.moeaframework.algorithm.jmetal;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -26,21 +27,27 @@ import java.util.TreeMap;
 
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.moeaframework.algorithm.jmetal.adapters.BinaryProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.CompositeProblemAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.DoubleProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.IntegerProblemAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.PermutationProblemAdapter;
 import org.moeaframework.algorithm.jmetal.adapters.ProblemAdapter;
+import org.moeaframework.algorithm.jmetal.operators.ArrayBitFlipMutation;
+import org.moeaframework.algorithm.jmetal.operators.ArrayPMXCrossover;
+import org.moeaframework.algorithm.jmetal.operators.ArrayPermutationSwapMutation;
+import org.moeaframework.algorithm.jmetal.operators.ArrayPolynomialMutation;
+import org.moeaframework.algorithm.jmetal.operators.ArraySBXCrossover;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.TypedProperties;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.CompositeCrossover;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover.DE_VARIANT;
-import org.uma.jmetal.operator.crossover.impl.PMXCrossover;
-import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.crossover.impl.IntegerSBXCrossover;
 import org.uma.jmetal.operator.crossover.impl.SinglePointCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
-import org.uma.jmetal.operator.mutation.impl.BitFlipMutation;
-import org.uma.jmetal.operator.mutation.impl.PermutationSwapMutation;
-import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.operator.mutation.impl.CompositeMutation;
+import org.uma.jmetal.operator.mutation.impl.IntegerPolynomialMutation;
 
 /**
  * Factory class for creating JMetal crossover and mutation operators.
@@ -103,25 +110,37 @@ public class JMetalFactory {
 		deVariants = new TreeMap<String, DE_VARIANT>(String.CASE_INSENSITIVE_ORDER);
 		
 		registerCrossoverOperator(DoubleProblemAdapter.class,
-				SBXCrossover.class,
+				ArraySBXCrossover.class,
+				new DoubleParameterDescriptor("sbx.rate", 1.0),
+				new DoubleParameterDescriptor("sbx.distributionIndex", 15.0),
+				new BooleanParameterDescriptor("sbx.arrayKernel", true));
+		registerCrossoverOperator(IntegerProblemAdapter.class,
+				IntegerSBXCrossover.class,
 				new DoubleParameterDescriptor("sbx.rate", 1.0),
 				new DoubleParameterDescriptor("sbx.distributionIndex", 15.0));
 		registerCrossoverOperator(BinaryProblemAdapter.class,
 				SinglePointCrossover.class,
 				new DoubleParameterDescriptor("1x.rate", 1.0));
 		registerCrossoverOperator(PermutationProblemAdapter.class,
-				PMXCrossover.class,
+				ArrayPMXCrossover.class,
 				new DoubleParameterDescriptor("pmx.rate", 1.0));
 
 		registerMutationOperator(DoubleProblemAdapter.class,
-				PolynomialMutation.class,
+				ArrayPolynomialMutation.class,
+				new MutationRateParameterDescriptor("pm.rate"),
+				new DoubleParameterDescriptor("pm.distributionIndex", 20.0),
+				new BooleanParameterDescriptor("pm.arrayKernel", true),
+				new BooleanParameterDescriptor("pm.skipSampling", false));
+		registerMutationOperator(IntegerProblemAdapter.class,
+				IntegerPolynomialMutation.class,
 				new MutationRateParameterDescriptor("pm.rate"),
 				new DoubleParameterDescriptor("pm.distributionIndex", 20.0));
 		registerMutationOperator(BinaryProblemAdapter.class,
-				BitFlipMutation.class,
-				new MutationRateParameterDescriptor("pf.rate"));
+				ArrayBitFlipMutation.class,
+				new MutationRateParameterDescriptor("pf.rate"),
+				new BooleanParameterDescriptor("pf.skipSampling", false));
 		registerMutationOperator(PermutationProblemAdapter.class,
-				PermutationSwapMutation.class,
+				ArrayPermutationSwapMutation.class,
 				new DoubleParameterDescriptor("swap.rate", 0.35));
 		
 	    deVariants.put("rand/1/bin", DE_VARIANT.RAND_1_BIN);
@@ -187,7 +206,9 @@ public class JMetalFactory {
 	}
 
 	/**
-	 * Constructs the JMetal crossover operator for the given problem.
+	 * Constructs the JMetal crossover operator for the given problem.  Unless an operator was registered for
+	 * {@link CompositeProblemAdapter}, composite problems use a {@link CompositeCrossover} combining the operators of
+	 * each segment.
 	 * 
 	 * @param problem the problem adapter
 	 * @param properties the user-provided properties
@@ -198,7 +219,15 @@ public class JMetalFactory {
 	public CrossoverOperator<?> createCrossoverOperator(ProblemAdapter<?> problem, TypedProperties properties) {
 		OperatorDescriptor<? extends CrossoverOperator<?>> operator = crossoverOperators.get(problem.getClass());
 		
-		if (operator == null) {
+		if (operator == null && problem instanceof CompositeProblemAdapter composite) {
+			List<CrossoverOperator<?>> operators = new ArrayList<CrossoverOperator<?>>();
+			
+			for (ProblemAdapter<?> segment : composite.getSegments()) {
+				operators.add(createCrossoverOperator(segment, properties));
+			}
+			
+			return new CompositeCrossover(operators);
+		} else if (operator == null) {
 			throw new FrameworkException("No crossover operator defined for problem type " + problem.getClass());
 		} else {
 			try {
@@ -225,7 +254,9 @@ public class JMetalFactory {
 	}
 	
 	/**
-	 * Constructs the JMetal mutation operator for the given problem.
+	 * Constructs the JMetal mutation operator for the given problem.  Unless an operator was registered for
+	 * {@link CompositeProblemAdapter}, composite problems use a {@link CompositeMutation} combining the operators of
+	 * each segment.
 	 * 
 	 * @param problem the problem adapter
 	 * @param properties the user-provided properties
@@ -236,7 +267,15 @@ public class JMetalFactory {
 	public MutationOperator<?> createMutationOperator(ProblemAdapter<?> problem, TypedProperties properties) {
 		OperatorDescriptor<? extends MutationOperator<?>> operator = mutationOperators.get(problem.getClass());
 		
-		if (operator == null) {
+		if (operator == null && problem instanceof CompositeProblemAdapter composite) {
+			List<MutationOperator<?>> operators = new ArrayList<MutationOperator<?>>();
+			
+			for (ProblemAdapter<?> segment : composite.getSegments()) {
+				operators.add(createMutationOperator(segment, properties));
+			}
+			
+			return new CompositeMutation(operators);
+		} else if (operator == null) {
 			throw new FrameworkException("No mutation operator defined for problem type " + problem.getClass());
 		} else {
 			try {
@@ -378,6 +417,28 @@ public class JMetalFactory {
 		
 	}
 	
+	/**
+	 * Defines a parameter of type {@code Boolean}.
+	 */
+	public class BooleanParameterDescriptor extends ParameterDescriptor<Boolean> {
+		
+		/**
+		 * Creates a new parameter of type {@code Boolean}.
+		 * 
+		 * @param name the name of the parameter
+		 * @param defaultValue the default value
+		 */
+		public BooleanParameterDescriptor(String name, Boolean defaultValue) {
+			super(name, defaultValue);
+		}
+		
+		@Override
+		public Boolean getValue(ProblemAdapter<?> problem, TypedProperties properties) {
+			return properties.getBoolean(getName(), getDefaultValue());
+		}
+		
+	}
+	
 	/**
 	 * Defines a parameter of type used to represent a mutation rate. The default value is
 	 * {@code 1 / getNumberOfMutationIndices()}.
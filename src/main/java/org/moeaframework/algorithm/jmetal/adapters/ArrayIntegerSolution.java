@@ -0,0 +1,277 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * A JMetal {@link IntegerSolution} that stores the decision variables in a primitive {@code int[]} array.  The
+ * variable bounds are shared by all solutions created by the same problem.  JMetal operators access the variables
+ * through {@link #variables()}, which is a list view of the array.  Code aware of this class can use
+ * {@link #getValue(int)}, {@link #setValue(int, int)}, or {@link #getValues()} to avoid boxing.
+ */
+public class ArrayIntegerSolution implements IntegerSolution {
+
+	private static final long serialVersionUID = -2854196370147261385L;
+
+	/**
+	 * The decision variables.
+	 */
+	private final int[] values;
+
+	/**
+	 * The variable bounds, shared between solutions.
+	 */
+	private final List<Bounds<Integer>> bounds;
+
+	/**
+	 * The list view of the decision variables, created on first use.
+	 */
+	private transient List<Integer> variables;
+
+	/**
+	 * The objective values.
+	 */
+	private final double[] objectives;
+
+	/**
+	 * The constraint values.
+	 */
+	private final double[] constraints;
+
+	/**
+	 * The attributes associated with this solution.
+	 */
+	private final Map<Object, Object> attributes;
+
+	/**
+	 * The pool used by {@link #copy()} to recycle discarded solutions, or {@code null} if pooling is disabled.
+	 */
+	private transient SolutionPool<? super ArrayIntegerSolution> solutionPool;
+
+	/**
+	 * Creates a new solution with each decision variable initialized uniformly at random within its bounds.
+	 * 
+	 * @param bounds the variable bounds, which are shared and not copied
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 */
+	public ArrayIntegerSolution(List<Bounds<Integer>> bounds, int numberOfObjectives, int numberOfConstraints) {
+		this(new int[bounds.size()], bounds, new double[numberOfObjectives], new double[numberOfConstraints],
+				new HashMap<Object, Object>());
+		randomize();
+	}
+
+	/**
+	 * Creates a copy of the given solution.
+	 * 
+	 * @param solution the solution to copy
+	 */
+	public ArrayIntegerSolution(ArrayIntegerSolution solution) {
+		this(solution.values.clone(), solution.bounds, solution.objectives.clone(), solution.constraints.clone(),
+				new HashMap<Object, Object>(solution.attributes));
+		this.solutionPool = solution.solutionPool;
+	}
+
+	private ArrayIntegerSolution(int[] values, List<Bounds<Integer>> bounds, double[] objectives,
+			double[] constraints, Map<Object, Object> attributes) {
+		super();
+		this.values = values;
+		this.bounds = bounds;
+		this.objectives = objectives;
+		this.constraints = constraints;
+		this.attributes = attributes;
+	}
+
+	/**
+	 * Returns the value of the decision variable at the given index.
+	 * 
+	 * @param index the index of the decision variable
+	 * @return the value of the decision variable
+	 */
+	public int getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Sets the value of the decision variable at the given index.
+	 * 
+	 * @param index the index of the decision variable
+	 * @param value the new value
+	 */
+	public void setValue(int index, int value) {
+		values[index] = value;
+	}
+
+	/**
+	 * Returns the backing array of decision variables.  Changes to the array are reflected in this solution.
+	 * 
+	 * @return the backing array of decision variables
+	 */
+	public int[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Initializes each decision variable uniformly at random within its bounds and clears the objectives,
+	 * constraints, and attributes.  This allows a recycled solution to be reused as a new solution.
+	 */
+	public void randomize() {
+		JMetalRandom random = JMetalRandom.getInstance();
+
+		for (int i = 0; i < values.length; i++) {
+			Bounds<Integer> bound = bounds.get(i);
+			values[i] = random.nextInt(bound.getLowerBound(), bound.getUpperBound());
+		}
+
+		Arrays.fill(objectives, 0.0);
+		Arrays.fill(constraints, 0.0);
+		attributes.clear();
+	}
+
+	/**
+	 * Returns the pool used by {@link #copy()} to recycle discarded solutions.
+	 * 
+	 * @return the pool used to recycle discarded solutions, or {@code null} if pooling is disabled
+	 */
+	public SolutionPool<? super ArrayIntegerSolution> getSolutionPool() {
+		return solutionPool;
+	}
+
+	/**
+	 * Sets the pool used by {@link #copy()} to recycle discarded solutions.  Copies inherit the pool of the original
+	 * solution.
+	 * 
+	 * @param solutionPool the pool used to recycle discarded solutions, or {@code null} to disable pooling
+	 */
+	public void setSolutionPool(SolutionPool<? super ArrayIntegerSolution> solutionPool) {
+		this.solutionPool = solutionPool;
+	}
+
+	@Override
+	public List<Integer> variables() {
+		if (variables == null) {
+			variables = new VariableList();
+		}
+		
+		return variables;
+	}
+
+	@Override
+	public double[] objectives() {
+		return objectives;
+	}
+
+	@Override
+	public double[] constraints() {
+		return constraints;
+	}
+
+	@Override
+	public Map<Object, Object> attributes() {
+		return attributes;
+	}
+
+	@Override
+	public Bounds<Integer> getBounds(int index) {
+		return bounds.get(index);
+	}
+
+	@Override
+	public ArrayIntegerSolution copy() {
+		if (solutionPool != null && solutionPool.acquire() instanceof ArrayIntegerSolution solution) {
+			solution.copyFrom(this);
+			return solution;
+		}
+
+		return new ArrayIntegerSolution(this);
+	}
+
+	/**
+	 * Overwrites the state of this solution with a copy of the given solution, which must have been created by the
+	 * same problem.
+	 * 
+	 * @param solution the solution to copy
+	 */
+	private void copyFrom(ArrayIntegerSolution solution) {
+		System.arraycopy(solution.values, 0, values, 0, values.length);
+		System.arraycopy(solution.objectives, 0, objectives, 0, objectives.length);
+		System.arraycopy(solution.constraints, 0, constraints, 0, constraints.length);
+		attributes.clear();
+		attributes.putAll(solution.attributes);
+		solutionPool = solution.solutionPool;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj == null || obj.getClass() != getClass()) {
+			return false;
+		}
+
+		return Arrays.equals(values, ((ArrayIntegerSolution)obj).values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	@Override
+	public String toString() {
+		return "Variables: " + Arrays.toString(values) + " Objectives: " + Arrays.toString(objectives) +
+				" Constraints: " + Arrays.toString(constraints);
+	}
+
+	/**
+	 * List view of the decision variables.
+	 */
+	private class VariableList extends AbstractList<Integer> implements RandomAccess {
+
+		@Override
+		public Integer get(int index) {
+			return values[index];
+		}
+
+		@Override
+		public Integer set(int index, Integer value) {
+			int oldValue = values[index];
+			values[index] = value;
+			return oldValue;
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+
+	}
+
+}
@@ -0,0 +1,379 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * A JMetal {@link PermutationSolution} that stores the permutation in a primitive {@code int[]} array.  Generic JMetal
+ * operators access the permutation through {@link #variables()}, which is a list view of the array.  Operators aware
+ * of this class use {@link #getValues()} and {@link #swap(int, int)} to avoid boxing.
+ * <p>
+ * To support {@link DeltaPermutationProblem}, the solution also records whether its objective values are up-to-date
+ * and, if so, the single swap applied since.  Any other change marks the objective values as out-of-date.
+ */
+public class ArrayPermutationSolution implements PermutationSolution<Integer> {
+
+	private static final long serialVersionUID = -3498180337712432655L;
+
+	/**
+	 * The permutation.
+	 */
+	private final int[] values;
+
+	/**
+	 * The list view of the permutation, created on first use.
+	 */
+	private transient List<Integer> variables;
+
+	/**
+	 * {@code true} if the objective values correspond to the permutation before any pending swap.
+	 */
+	private boolean evaluated;
+
+	/**
+	 * The first position of the pending swap, or {@code -1} if there is no pending swap.
+	 */
+	private int swapFirst;
+
+	/**
+	 * The second position of the pending swap, or {@code -1} if there is no pending swap.
+	 */
+	private int swapSecond;
+
+	/**
+	 * The objective values.
+	 */
+	private final double[] objectives;
+
+	/**
+	 * The constraint values.
+	 */
+	private final double[] constraints;
+
+	/**
+	 * The attributes associated with this solution.
+	 */
+	private final Map<Object, Object> attributes;
+
+	/**
+	 * The pool used by {@link #copy()} to recycle discarded solutions, or {@code null} if pooling is disabled.
+	 */
+	private transient SolutionPool<? super ArrayPermutationSolution> solutionPool;
+
+	/**
+	 * Creates a new solution initialized with a uniformly random permutation.
+	 * 
+	 * @param length the length of the permutation
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 */
+	public ArrayPermutationSolution(int length, int numberOfObjectives, int numberOfConstraints) {
+		this(new int[length], new double[numberOfObjectives], new double[numberOfConstraints],
+				new HashMap<Object, Object>());
+		randomize();
+	}
+
+	/**
+	 * Creates a copy of the given solution.
+	 * 
+	 * @param solution the solution to copy
+	 */
+	public ArrayPermutationSolution(ArrayPermutationSolution solution) {
+		this(solution.values.clone(), solution.objectives.clone(), solution.constraints.clone(),
+				new HashMap<Object, Object>(solution.attributes));
+		this.solutionPool = solution.solutionPool;
+		this.evaluated = solution.evaluated;
+		this.swapFirst = solution.swapFirst;
+		this.swapSecond = solution.swapSecond;
+	}
+
+	private ArrayPermutationSolution(int[] values, double[] objectives, double[] constraints,
+			Map<Object, Object> attributes) {
+		super();
+		this.values = values;
+		this.objectives = objectives;
+		this.constraints = constraints;
+		this.attributes = attributes;
+		this.swapFirst = -1;
+		this.swapSecond = -1;
+	}
+
+	/**
+	 * Returns the element at the given position.
+	 * 
+	 * @param index the position
+	 * @return the element at the given position
+	 */
+	public int getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Sets the element at the given position.  The caller is responsible for keeping the array a valid permutation.
+	 * 
+	 * @param index the position
+	 * @param value the new element
+	 */
+	public void setValue(int index, int value) {
+		values[index] = value;
+		markModified();
+	}
+
+	/**
+	 * Swaps the elements at the given positions.
+	 * 
+	 * @param i the first position
+	 * @param j the second position
+	 */
+	public void swap(int i, int j) {
+		if (evaluated) {
+			if (swapFirst < 0 && i != j) {
+				swapFirst = i;
+				swapSecond = j;
+			} else if (i != j) {
+				markModified();
+			}
+		}
+
+		int temp = values[i];
+		values[i] = values[j];
+		values[j] = temp;
+	}
+
+	/**
+	 * Returns the backing array.  Changes to the array are reflected in this solution, and callers that modify the
+	 * array must call {@link #markModified()} afterwards.
+	 * 
+	 * @return the backing array
+	 */
+	public int[] getValues() {
+		return values;
+	}
+
+	/**
+	 * Marks the objective values as up-to-date with the current permutation.
+	 */
+	public void markEvaluated() {
+		evaluated = true;
+		swapFirst = -1;
+		swapSecond = -1;
+	}
+
+	/**
+	 * Marks the objective values as out-of-date after the permutation was modified by some means other than
+	 * {@link #swap(int, int)}.
+	 */
+	public void markModified() {
+		evaluated = false;
+		swapFirst = -1;
+		swapSecond = -1;
+	}
+
+	/**
+	 * Returns {@code true} if the objective values are up-to-date with the permutation before any pending swap.
+	 * 
+	 * @return {@code true} if the objective values are up-to-date, ignoring any pending swap
+	 */
+	public boolean isEvaluated() {
+		return evaluated;
+	}
+
+	/**
+	 * Returns {@code true} if exactly one swap was applied since the objective values were last up-to-date.
+	 * 
+	 * @return {@code true} if there is a pending swap
+	 */
+	public boolean hasPendingSwap() {
+		return evaluated && swapFirst >= 0;
+	}
+
+	/**
+	 * Returns the first position of the pending swap.
+	 * 
+	 * @return the first position of the pending swap, or {@code -1} if there is no pending swap
+	 */
+	public int getSwapFirst() {
+		return swapFirst;
+	}
+
+	/**
+	 * Returns the second position of the pending swap.
+	 * 
+	 * @return the second position of the pending swap, or {@code -1} if there is no pending swap
+	 */
+	public int getSwapSecond() {
+		return swapSecond;
+	}
+
+	@Override
+	public int getLength() {
+		return values.length;
+	}
+
+	/**
+	 * Initializes the permutation uniformly at random and clears the objectives, constraints, attributes, and
+	 * evaluation state.  This allows a recycled solution to be reused as a new solution.
+	 */
+	public void randomize() {
+		JMetalRandom random = JMetalRandom.getInstance();
+
+		markModified();
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i;
+		}
+
+		for (int i = values.length - 1; i > 0; i--) {
+			swap(i, random.nextInt(0, i));
+		}
+
+		Arrays.fill(objectives, 0.0);
+		Arrays.fill(constraints, 0.0);
+		attributes.clear();
+	}
+
+	/**
+	 * Returns the pool used by {@link #copy()} to recycle discarded solutions.
+	 * 
+	 * @return the pool used to recycle discarded solutions, or {@code null} if pooling is disabled
+	 */
+	public SolutionPool<? super ArrayPermutationSolution> getSolutionPool() {
+		return solutionPool;
+	}
+
+	/**
+	 * Sets the pool used by {@link #copy()} to recycle discarded solutions.  Copies inherit the pool of the original
+	 * solution.
+	 * 
+	 * @param solutionPool the pool used to recycle discarded solutions, or {@code null} to disable pooling
+	 */
+	public void setSolutionPool(SolutionPool<? super ArrayPermutationSolution> solutionPool) {
+		this.solutionPool = solutionPool;
+	}
+
+	@Override
+	public List<Integer> variables() {
+		if (variables == null) {
+			variables = new VariableList();
+		}
+
+		return variables;
+	}
+
+	@Override
+	public double[] objectives() {
+		return objectives;
+	}
+
+	@Override
+	public double[] constraints() {
+		return constraints;
+	}
+
+	@Override
+	public Map<Object, Object> attributes() {
+		return attributes;
+	}
+
+	@Override
+	public ArrayPermutationSolution copy() {
+		if (solutionPool != null && solutionPool.acquire() instanceof ArrayPermutationSolution solution) {
+			solution.copyFrom(this);
+			return solution;
+		}
+
+		return new ArrayPermutationSolution(this);
+	}
+
+	/**
+	 * Overwrites the state of this solution with a copy of the given solution, which must have been created by the
+	 * same problem.
+	 * 
+	 * @param solution the solution to copy
+	 */
+	private void copyFrom(ArrayPermutationSolution solution) {
+		System.arraycopy(solution.values, 0, values, 0, values.length);
+		System.arraycopy(solution.objectives, 0, objectives, 0, objectives.length);
+		System.arraycopy(solution.constraints, 0, constraints, 0, constraints.length);
+		evaluated = solution.evaluated;
+		swapFirst = solution.swapFirst;
+		swapSecond = solution.swapSecond;
+		attributes.clear();
+		attributes.putAll(solution.attributes);
+		solutionPool = solution.solutionPool;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj == null || obj.getClass() != getClass()) {
+			return false;
+		}
+
+		return Arrays.equals(values, ((ArrayPermutationSolution)obj).values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	@Override
+	public String toString() {
+		return "Variables: " + Arrays.toString(values) + " Objectives: " + Arrays.toString(objectives) +
+				" Constraints: " + Arrays.toString(constraints);
+	}
+
+	/**
+	 * List view of the permutation.
+	 */
+	private class VariableList extends AbstractList<Integer> implements RandomAccess {
+
+		@Override
+		public Integer get(int index) {
+			return values[index];
+		}
+
+		@Override
+		public Integer set(int index, Integer value) {
+			int oldValue = values[index];
+			values[index] = value;
+			markModified();
+			return oldValue;
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+
+	}
+
+}
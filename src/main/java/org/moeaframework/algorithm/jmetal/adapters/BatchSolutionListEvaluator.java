@@ -0,0 +1,112 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.List;
+
+import org.moeaframework.problem.jmetal.BatchProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Evaluates a JMetal population with a {@link BatchProblem} in a single call, instead of evaluating each solution
+ * individually through the JMetal problem.  The decision variables are gathered into structure-of-arrays form, and
+ * the objective values are scattered back into the solutions.  Variables are read directly from the primitive array
+ * of each {@link ArrayDoubleSolution}, and through the boxed variable list of any other solution.  The results are
+ * identical to evaluating each solution with the JMetal problem, provided it represents the same problem as the batch
+ * problem.
+ * 
+ * @param <S> the type of solution
+ */
+public class BatchSolutionListEvaluator<S extends DoubleSolution> implements SolutionListEvaluator<S> {
+
+	private static final long serialVersionUID = -2918413069785218736L;
+
+	/**
+	 * The batch problem.
+	 */
+	private final BatchProblem problem;
+
+	/**
+	 * Constructs a new evaluator for the given batch problem.
+	 * 
+	 * @param problem the batch problem
+	 */
+	public BatchSolutionListEvaluator(BatchProblem problem) {
+		super();
+		this.problem = problem;
+	}
+
+	/**
+	 * Returns the batch problem.
+	 * 
+	 * @return the batch problem
+	 */
+	public BatchProblem getProblem() {
+		return problem;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The JMetal problem is not used, as the solutions are evaluated by the batch problem.
+	 */
+	@Override
+	public List<S> evaluate(List<S> solutionList, Problem<S> jmetalProblem) {
+		int size = solutionList.size();
+		double[][] variables = new double[problem.getNumberOfVariables()][size];
+		double[][] objectives = new double[problem.getNumberOfObjectives()][size];
+
+		for (int j = 0; j < size; j++) {
+			S solution = solutionList.get(j);
+
+			if (solution instanceof ArrayDoubleSolution arraySolution) {
+				double[] values = arraySolution.getValues();
+
+				for (int i = 0; i < variables.length; i++) {
+					variables[i][j] = values[i];
+				}
+			} else {
+				List<Double> values = solution.variables();
+
+				for (int i = 0; i < variables.length; i++) {
+					variables[i][j] = values.get(i);
+				}
+			}
+		}
+
+		problem.evaluate(variables, objectives, size);
+
+		for (int j = 0; j < size; j++) {
+			double[] solutionObjectives = solutionList.get(j).objectives();
+
+			for (int i = 0; i < objectives.length; i++) {
+				solutionObjectives[i] = objectives[i][j];
+			}
+		}
+
+		return solutionList;
+	}
+
+	@Override
+	public void shutdown() {
+		// do nothing
+	}
+
+}
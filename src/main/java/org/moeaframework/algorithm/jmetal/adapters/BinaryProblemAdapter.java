@@ -17,15 +17,14 @@
  */
 package org.moeaframework.algorithm.jmetal.adapters;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.BinaryVariable;
 import org.moeaframework.problem.Problem;
 import org.uma.jmetal.problem.binaryproblem.BinaryProblem;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
-import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
 
 /**
  * Converts a problem with binary decision variables into JMetal's BinaryProblem.
@@ -35,9 +34,9 @@ public class BinaryProblemAdapter extends ProblemAdapter<BinarySolution> impleme
 	private static final long serialVersionUID = -7944545872958727275L;
 	
 	/**
-	 * The total number of bits across all binary variables.
+	 * The number of bits in each variable and their offsets in packed solutions.
 	 */
-	private final int totalNumberOfBits;
+	private final PackedBinarySolution.Layout layout;
 	
 	/**
 	 * Creates a new binary problem adapter
@@ -45,16 +44,25 @@ public class BinaryProblemAdapter extends ProblemAdapter<BinarySolution> impleme
 	 * @param problem the problem
 	 */
 	public BinaryProblemAdapter(Problem problem) {
-		super(problem);
+		this(problem, null);
+	}
+	
+	/**
+	 * Creates a new binary problem adapter that evaluates solutions using the original JMetal problem.
+	 * 
+	 * @param problem the problem
+	 * @param innerProblem the original JMetal problem, or {@code null} to evaluate using the MOEA Framework problem
+	 */
+	public BinaryProblemAdapter(Problem problem, BinaryProblem innerProblem) {
+		super(problem, innerProblem);
 		
-		// count the total number of bits
-		int numberOfBits = 0;
+		List<Integer> numberOfBitsPerVariable = new ArrayList<Integer>(problem.getNumberOfVariables());
 		
 		for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-			numberOfBits += ((BinaryVariable)schema.getVariable(i)).getNumberOfBits();
+			numberOfBitsPerVariable.add(((BinaryVariable)schema.getVariable(i)).getNumberOfBits());
 		}
 		
-		totalNumberOfBits = numberOfBits;
+		layout = new PackedBinarySolution.Layout(numberOfBitsPerVariable);
 	}
 	
 	public int bitsFromVariable(int index) {
@@ -63,25 +71,41 @@ public class BinaryProblemAdapter extends ProblemAdapter<BinarySolution> impleme
 	
 	@Override
 	public int totalNumberOfBits() {
-		return totalNumberOfBits;
+		return layout.getTotalNumberOfBits();
 	}
 	
 	@Override
 	public List<Integer> numberOfBitsPerVariable() {
-		return IntStream.range(0, numberOfVariables()).mapToObj(i -> bitsFromVariable(i)).toList();
+		return layout.getNumberOfBitsPerVariable();
 	}
 	
 	@Override
-	public BinarySolution createSolution() {
-		return new DefaultBinarySolution(numberOfBitsPerVariable(), numberOfObjectives(), numberOfConstraints());
+	public PackedBinarySolution createSolution() {
+		if (acquire() instanceof PackedBinarySolution solution) {
+			solution.randomize();
+			return solution;
+		}
+
+		PackedBinarySolution solution = new PackedBinarySolution(layout, numberOfObjectives(), numberOfConstraints());
+		solution.setSolutionPool(getSolutionPool());
+		return solution;
 	}
 	
 	@Override
 	public Solution convert(BinarySolution solution) {
-		Solution result = problem.newSolution();
+		Solution result = newSolutionWithoutVariables();
 		
 		for (int i = 0; i < numberOfVariables(); i++) {
-			BinaryVariable.setBitSet(result.getVariable(i), solution.variables().get(i));
+			BinaryVariable variable = (BinaryVariable)schema.getVariable(i);
+			
+			if (variable.getClass() == BinaryVariable.class) {
+				result.setVariable(i, new BinaryVariableView(variable.getName(), variable.getNumberOfBits(),
+						solution.variables().get(i)));
+			} else {
+				BinaryVariable copy = variable.copy();
+				BinaryVariable.setBitSet(copy, solution.variables().get(i));
+				result.setVariable(i, copy);
+			}
 		}
 		
 		return result;
@@ -0,0 +1,261 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import org.moeaframework.core.variable.BinaryVariable;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+/**
+ * A JMetal {@link BinarySet} that reads and writes its bits directly from a MOEA Framework {@link BinaryVariable}.
+ * All single-bit and range operations are forwarded to the variable.  Note that {@link BitSet} reads the internal
+ * storage of its argument in bulk operations such as {@link BitSet#and(BitSet)}, so a view must not be passed as the
+ * argument to a bulk operation on a regular {@code BitSet}; use {@link #toBinarySet()} first.
+ */
+public class BinarySetView extends BinarySet {
+
+	private static final long serialVersionUID = -4302788658291440937L;
+
+	/**
+	 * The backing MOEA Framework variable.
+	 */
+	private final BinaryVariable variable;
+
+	/**
+	 * Creates a new view of the given binary variable.
+	 * 
+	 * @param variable the backing MOEA Framework variable
+	 */
+	public BinarySetView(BinaryVariable variable) {
+		super(variable.getNumberOfBits());
+		this.variable = variable;
+	}
+
+	/**
+	 * Returns a standalone copy of the bits.
+	 * 
+	 * @return a standalone copy of the bits
+	 */
+	public BinarySet toBinarySet() {
+		BinarySet result = new BinarySet(getBinarySetLength());
+
+		for (int i = 0; i < getBinarySetLength(); i++) {
+			if (variable.get(i)) {
+				result.set(i);
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean get(int bitIndex) {
+		return bitIndex < getBinarySetLength() && variable.get(bitIndex);
+	}
+
+	@Override
+	public BitSet get(int fromIndex, int toIndex) {
+		return toBinarySet().get(fromIndex, toIndex);
+	}
+
+	@Override
+	public void set(int bitIndex) {
+		variable.set(bitIndex, true);
+	}
+
+	@Override
+	public void set(int bitIndex, boolean value) {
+		variable.set(bitIndex, value);
+	}
+
+	@Override
+	public void set(int fromIndex, int toIndex) {
+		set(fromIndex, toIndex, true);
+	}
+
+	@Override
+	public void set(int fromIndex, int toIndex, boolean value) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			variable.set(i, value);
+		}
+	}
+
+	@Override
+	public void clear(int bitIndex) {
+		variable.set(bitIndex, false);
+	}
+
+	@Override
+	public void clear(int fromIndex, int toIndex) {
+		set(fromIndex, toIndex, false);
+	}
+
+	@Override
+	public void clear() {
+		variable.clear();
+	}
+
+	@Override
+	public void flip(int bitIndex) {
+		variable.set(bitIndex, !variable.get(bitIndex));
+	}
+
+	@Override
+	public void flip(int fromIndex, int toIndex) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			flip(i);
+		}
+	}
+
+	@Override
+	public int cardinality() {
+		return variable.cardinality();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return variable.isEmpty();
+	}
+
+	@Override
+	public int length() {
+		for (int i = getBinarySetLength() - 1; i >= 0; i--) {
+			if (variable.get(i)) {
+				return i + 1;
+			}
+		}
+
+		return 0;
+	}
+
+	@Override
+	public int nextSetBit(int fromIndex) {
+		for (int i = fromIndex; i < getBinarySetLength(); i++) {
+			if (variable.get(i)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int nextClearBit(int fromIndex) {
+		for (int i = fromIndex; i < getBinarySetLength(); i++) {
+			if (!variable.get(i)) {
+				return i;
+			}
+		}
+
+		return Math.max(fromIndex, getBinarySetLength());
+	}
+
+	@Override
+	public int previousSetBit(int fromIndex) {
+		for (int i = Math.min(fromIndex, getBinarySetLength() - 1); i >= 0; i--) {
+			if (variable.get(i)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int previousClearBit(int fromIndex) {
+		for (int i = fromIndex; i >= 0; i--) {
+			if (!get(i)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public boolean intersects(BitSet set) {
+		return toBinarySet().intersects(set);
+	}
+
+	@Override
+	public void and(BitSet set) {
+		for (int i = 0; i < getBinarySetLength(); i++) {
+			variable.set(i, variable.get(i) && set.get(i));
+		}
+	}
+
+	@Override
+	public void or(BitSet set) {
+		for (int i = 0; i < getBinarySetLength(); i++) {
+			variable.set(i, variable.get(i) || set.get(i));
+		}
+	}
+
+	@Override
+	public void xor(BitSet set) {
+		for (int i = 0; i < getBinarySetLength(); i++) {
+			variable.set(i, variable.get(i) ^ set.get(i));
+		}
+	}
+
+	@Override
+	public void andNot(BitSet set) {
+		for (int i = 0; i < getBinarySetLength(); i++) {
+			variable.set(i, variable.get(i) && !set.get(i));
+		}
+	}
+
+	@Override
+	public IntStream stream() {
+		return toBinarySet().stream();
+	}
+
+	@Override
+	public byte[] toByteArray() {
+		return toBinarySet().toByteArray();
+	}
+
+	@Override
+	public long[] toLongArray() {
+		return toBinarySet().toLongArray();
+	}
+
+	@Override
+	public Object clone() {
+		return toBinarySet();
+	}
+
+	@Override
+	public int hashCode() {
+		return toBinarySet().hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof BinarySetView view) {
+			obj = view.toBinarySet();
+		} else if (obj instanceof PackedBinarySet packed) {
+			return packed.equals(this);
+		}
+
+		return toBinarySet().equals(obj);
+	}
+
+}
@@ -0,0 +1,142 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+/**
+ * A JMetal {@link BinarySolution} whose bits are read and written directly from the binary variables of a MOEA
+ * Framework solution instead of a copy.  See {@link BinarySetView} for limitations.
+ */
+public class BinarySolutionView implements BinarySolution {
+
+	private static final long serialVersionUID = 2478316693024526420L;
+
+	/**
+	 * The backing MOEA Framework solution.
+	 */
+	private final Solution solution;
+
+	/**
+	 * The views of each binary variable.
+	 */
+	private final List<BinarySet> variables;
+
+	/**
+	 * The objective values.
+	 */
+	private final double[] objectives;
+
+	/**
+	 * The constraint values.
+	 */
+	private final double[] constraints;
+
+	/**
+	 * The attributes associated with this solution.
+	 */
+	private final Map<Object, Object> attributes;
+
+	/**
+	 * Creates a new view of the given MOEA Framework solution.  All decision variables must be
+	 * {@link BinaryVariable}s.
+	 * 
+	 * @param solution the MOEA Framework solution
+	 */
+	public BinarySolutionView(Solution solution) {
+		super();
+		this.solution = solution;
+		this.variables = new ArrayList<BinarySet>(solution.getNumberOfVariables());
+		this.objectives = new double[solution.getNumberOfObjectives()];
+		this.constraints = new double[solution.getNumberOfConstraints()];
+		this.attributes = new HashMap<Object, Object>();
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			variables.add(new BinarySetView((BinaryVariable)solution.getVariable(i)));
+		}
+	}
+
+	/**
+	 * Returns the backing MOEA Framework solution.
+	 * 
+	 * @return the backing MOEA Framework solution
+	 */
+	public Solution getSolution() {
+		return solution;
+	}
+
+	@Override
+	public List<BinarySet> variables() {
+		return variables;
+	}
+
+	@Override
+	public double[] objectives() {
+		return objectives;
+	}
+
+	@Override
+	public double[] constraints() {
+		return constraints;
+	}
+
+	@Override
+	public Map<Object, Object> attributes() {
+		return attributes;
+	}
+
+	@Override
+	public List<Integer> numberOfBitsPerVariable() {
+		List<Integer> result = new ArrayList<Integer>(variables.size());
+
+		for (BinarySet variable : variables) {
+			result.add(variable.getBinarySetLength());
+		}
+
+		return result;
+	}
+
+	@Override
+	public int totalNumberOfBits() {
+		int result = 0;
+
+		for (BinarySet variable : variables) {
+			result += variable.getBinarySetLength();
+		}
+
+		return result;
+	}
+
+	@Override
+	public BinarySolutionView copy() {
+		BinarySolutionView copy = new BinarySolutionView(solution.copy());
+		System.arraycopy(objectives, 0, copy.objectives, 0, objectives.length);
+		System.arraycopy(constraints, 0, copy.constraints, 0, constraints.length);
+		copy.attributes.putAll(attributes);
+		return copy;
+	}
+
+}
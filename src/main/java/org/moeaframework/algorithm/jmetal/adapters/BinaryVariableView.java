@@ -0,0 +1,169 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.BitSet;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * A MOEA Framework binary variable that reads and writes its bits directly from a JMetal {@code BinarySet}, so changes
+ * made through the view are visible to JMetal.  Calling {@link #copy()} produces a standalone {@link BinaryVariable}.
+ * <p>
+ * Methods of {@link BinaryVariable} read the private storage of their argument, as in
+ * {@link BinaryVariable#hammingDistance(BinaryVariable)}, so the inherited storage mirrors the bits when the view is
+ * created and on every write through the view.  The backing set must therefore not be modified directly while the
+ * view is passed to such methods.
+ */
+public class BinaryVariableView extends BinaryVariable {
+
+	private static final long serialVersionUID = -3151229385207958014L;
+
+	/**
+	 * The backing bits.
+	 */
+	private final BitSet bits;
+
+	/**
+	 * Creates a new view of a binary variable.
+	 * 
+	 * @param name the name of the variable, or {@code null}
+	 * @param numberOfBits the number of bits
+	 * @param bits the backing bits
+	 */
+	public BinaryVariableView(String name, int numberOfBits, BitSet bits) {
+		super(name, numberOfBits);
+		this.bits = bits;
+		
+		for (int i = bits.nextSetBit(0); i >= 0 && i < numberOfBits; i = bits.nextSetBit(i + 1)) {
+			super.set(i, true);
+		}
+	}
+
+	@Override
+	public int cardinality() {
+		return bits.cardinality();
+	}
+
+	@Override
+	public void clear() {
+		bits.clear();
+		super.clear();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return bits.isEmpty();
+	}
+
+	@Override
+	public boolean get(int index) {
+		if (index < 0 || index >= getNumberOfBits()) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		return bits.get(index);
+	}
+
+	@Override
+	public void set(int index, boolean value) {
+		if (index < 0 || index >= getNumberOfBits()) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		bits.set(index, value);
+		super.set(index, value);
+	}
+
+	@Override
+	public BitSet getBitSet() {
+		return bits.get(0, getNumberOfBits());
+	}
+
+	@Override
+	public int hammingDistance(BinaryVariable variable) {
+		Validate.that("numberOfBits", variable.getNumberOfBits()).isEqualTo(getNumberOfBits());
+		int count = 0;
+
+		for (int i = 0; i < getNumberOfBits(); i++) {
+			if (get(i) != variable.get(i)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	@Override
+	public BinaryVariable copy() {
+		BinaryVariable copy = new BinaryVariable(name, getNumberOfBits());
+
+		for (int i = bits.nextSetBit(0); i >= 0 && i < getNumberOfBits(); i = bits.nextSetBit(i + 1)) {
+			copy.set(i, true);
+		}
+
+		return copy;
+	}
+
+	@Override
+	public String encode() {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < getNumberOfBits(); i++) {
+			sb.append(bits.get(i) ? "1" : "0");
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Computes the same hash code as {@link BinaryVariable#hashCode()} for the same name and bits.
+	 */
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder()
+				.appendSuper(new HashCodeBuilder().append(name).toHashCode())
+				.append(getNumberOfBits())
+				.append(getBitSet())
+				.toHashCode();
+	}
+
+	/**
+	 * Compares the name and bits of this view with any {@link BinaryVariable}, including other views.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (!(obj instanceof BinaryVariable rhs)) {
+			return false;
+		}
+
+		return new EqualsBuilder()
+				.append(name, rhs.getName())
+				.append(getNumberOfBits(), rhs.getNumberOfBits())
+				.append(getBitSet(), rhs.getBitSet())
+				.isEquals();
+	}
+
+}
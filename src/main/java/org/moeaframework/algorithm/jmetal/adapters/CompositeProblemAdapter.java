@@ -0,0 +1,245 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.Variable;
+import org.moeaframework.problem.AbstractProblem;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.ProblemException;
+import org.uma.jmetal.solution.compositesolution.CompositeSolution;
+
+/**
+ * Converts a problem with mixed decision variable types into a JMetal problem using {@link CompositeSolution}.  The
+ * decision variables are grouped into segments, one for all real-valued variables, one for all integer-valued
+ * variables, one for all binary variables, and one for each permutation, in order of first appearance.  Each segment
+ * is handled by the corresponding single-type adapter, such as {@link DoubleProblemAdapter}, so each segment uses its
+ * own solution type and operators.
+ */
+public class CompositeProblemAdapter extends ProblemAdapter<CompositeSolution> {
+
+	private static final long serialVersionUID = 2906862185094106432L;
+	
+	/**
+	 * The adapter for each segment.
+	 */
+	private final List<ProblemAdapter<?>> segments;
+	
+	/**
+	 * The indices of the MOEA Framework decision variables contained in each segment.
+	 */
+	private final List<int[]> variableIndices;
+	
+	/**
+	 * Creates a new composite problem adapter.
+	 * 
+	 * @param problem the problem
+	 * @throws ProblemException if the problem contains an unsupported variable type
+	 */
+	public CompositeProblemAdapter(Problem problem) {
+		super(problem);
+		
+		List<Class<? extends Variable>> types = new ArrayList<Class<? extends Variable>>();
+		List<List<Integer>> indices = new ArrayList<List<Integer>>();
+		
+		for (int i = 0; i < schema.getNumberOfVariables(); i++) {
+			Class<? extends Variable> type = getSegmentType(schema.getVariable(i));
+			int segment = type == Permutation.class ? -1 : types.indexOf(type);
+			
+			if (segment < 0) {
+				segment = types.size();
+				types.add(type);
+				indices.add(new ArrayList<Integer>());
+			}
+			
+			indices.get(segment).add(i);
+		}
+		
+		segments = new ArrayList<ProblemAdapter<?>>(types.size());
+		variableIndices = new ArrayList<int[]>(types.size());
+		
+		for (int i = 0; i < types.size(); i++) {
+			int[] index = indices.get(i).stream().mapToInt(Integer::intValue).toArray();
+			segments.add(createSegmentAdapter(types.get(i), new SegmentProblem(problem, schema, index)));
+			variableIndices.add(index);
+		}
+	}
+	
+	/**
+	 * Returns the type of segment containing the given variable.
+	 * 
+	 * @param variable the decision variable
+	 * @return the type of segment
+	 * @throws ProblemException if the variable type is not supported
+	 */
+	private Class<? extends Variable> getSegmentType(Variable variable) {
+		if (variable instanceof RealVariable) {
+			return RealVariable.class;
+		} else if (variable instanceof BinaryIntegerVariable) {
+			return BinaryIntegerVariable.class;
+		} else if (variable instanceof BinaryVariable) {
+			return BinaryVariable.class;
+		} else if (variable instanceof Permutation) {
+			return Permutation.class;
+		} else {
+			throw new ProblemException(problem, "Problems with type " + variable.getClass().getSimpleName() + 
+					" are not currently supported by JMetal");
+		}
+	}
+	
+	/**
+	 * Creates the adapter for a segment.
+	 * 
+	 * @param type the type of segment
+	 * @param segmentProblem the problem defining the variables in the segment
+	 * @return the adapter for the segment
+	 */
+	private static ProblemAdapter<?> createSegmentAdapter(Class<? extends Variable> type, Problem segmentProblem) {
+		if (type == RealVariable.class) {
+			return new DoubleProblemAdapter(segmentProblem);
+		} else if (type == BinaryIntegerVariable.class) {
+			return new IntegerProblemAdapter(segmentProblem);
+		} else if (type == BinaryVariable.class) {
+			return new BinaryProblemAdapter(segmentProblem);
+		} else {
+			return new PermutationProblemAdapter(segmentProblem);
+		}
+	}
+	
+	/**
+	 * Returns the adapters for each segment, in the same order as the variables of a {@link CompositeSolution}.
+	 * 
+	 * @return the adapters for each segment
+	 */
+	public List<ProblemAdapter<?>> getSegments() {
+		return segments;
+	}
+	
+	/**
+	 * Returns the indices of the MOEA Framework decision variables contained in the given segment.
+	 * 
+	 * @param segment the index of the segment
+	 * @return the indices of the decision variables
+	 */
+	public int[] getVariableIndices(int segment) {
+		return variableIndices.get(segment).clone();
+	}
+	
+	/**
+	 * Returns the number of segments, which matches the number of variables in each {@link CompositeSolution}.
+	 */
+	@Override
+	public int numberOfVariables() {
+		return segments.size();
+	}
+	
+	@Override
+	public CompositeSolution createSolution() {
+		List<org.uma.jmetal.solution.Solution<?>> solutions =
+				new ArrayList<org.uma.jmetal.solution.Solution<?>>(segments.size());
+		
+		for (ProblemAdapter<?> segment : segments) {
+			solutions.add(segment.createSolution());
+		}
+		
+		return new CompositeSolution(solutions);
+	}
+
+	@Override
+	public Solution convert(CompositeSolution solution) {
+		Solution result = newSolutionWithoutVariables();
+		
+		for (int i = 0; i < segments.size(); i++) {
+			Solution segment = convert(segments.get(i), solution.variables().get(i));
+			int[] index = variableIndices.get(i);
+			
+			for (int j = 0; j < index.length; j++) {
+				result.setVariable(index[j], segment.getVariable(j));
+			}
+		}
+		
+		return result;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <T extends org.uma.jmetal.solution.Solution<?>> Solution convert(ProblemAdapter<T> adapter,
+			org.uma.jmetal.solution.Solution<?> solution) {
+		return adapter.convert((T)solution);
+	}
+	
+	/**
+	 * Defines the decision variables of a single segment.  Segments are only used to create and convert solutions,
+	 * never to evaluate them.
+	 */
+	private static class SegmentProblem extends AbstractProblem {
+		
+		/**
+		 * The definition of the solution containing only the variables in this segment.
+		 */
+		private final Solution schema;
+		
+		/**
+		 * The name of the original problem.
+		 */
+		private final String name;
+		
+		public SegmentProblem(Problem problem, Solution originalSchema, int[] index) {
+			super(index.length, originalSchema.getNumberOfObjectives(), originalSchema.getNumberOfConstraints());
+			this.name = problem.getName();
+			
+			schema = new Solution(index.length, originalSchema.getNumberOfObjectives(),
+					originalSchema.getNumberOfConstraints());
+			
+			for (int i = 0; i < index.length; i++) {
+				schema.setVariable(i, originalSchema.getVariable(index[i]).copy());
+			}
+			
+			for (int i = 0; i < originalSchema.getNumberOfObjectives(); i++) {
+				schema.setObjective(i, originalSchema.getObjective(i).copy());
+			}
+			
+			for (int i = 0; i < originalSchema.getNumberOfConstraints(); i++) {
+				schema.setConstraint(i, originalSchema.getConstraint(i).copy());
+			}
+		}
+		
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void evaluate(Solution solution) {
+			throw new UnsupportedOperationException("segments can not be evaluated individually");
+		}
+
+		@Override
+		public Solution newSolution() {
+			return schema.copy();
+		}
+		
+	}
+
+}
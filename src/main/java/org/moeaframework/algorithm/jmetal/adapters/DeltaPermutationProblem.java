@@ -0,0 +1,42 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import org.moeaframework.problem.Problem;
+
+/**
+ * Problem with a single permutation decision variable that can update the objective values of a solution after a
+ * local move instead of evaluating it from scratch.  When a problem implements this interface,
+ * {@link PermutationProblemAdapter} tracks the moves applied to each {@link ArrayPermutationSolution} since it was
+ * last evaluated.  Solutions that differ from an evaluated solution by a single swap are updated with
+ * {@link #evaluateSwap(int[], int, int, double[])}, unchanged solutions keep their objective values, and all others
+ * are evaluated normally.  Problems with constraints are always evaluated normally.
+ */
+public interface DeltaPermutationProblem extends Problem {
+
+	/**
+	 * Updates the objective values after the elements at two positions were swapped.
+	 * 
+	 * @param permutation the permutation after the swap
+	 * @param i the first swapped position
+	 * @param j the second swapped position
+	 * @param objectives the objective values before the swap, which are updated in place
+	 */
+	public void evaluateSwap(int[] permutation, int i, int j, double[] objectives);
+
+}
@@ -25,7 +25,6 @@ import org.moeaframework.core.variable.RealVariable;
 import org.moeaframework.problem.Problem;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 
 /**
@@ -34,6 +33,11 @@ import org.uma.jmetal.util.bounds.Bounds;
 public class DoubleProblemAdapter extends ProblemAdapter<DoubleSolution> implements DoubleProblem {
 
 	private static final long serialVersionUID = 4011361659496044697L;
+	
+	/**
+	 * The variable bounds, computed once and shared by all solutions created by this adapter.
+	 */
+	private final List<Bounds<Double>> bounds;
 
 	/**
 	 * Creates a new real-valued problem adapter.
@@ -41,7 +45,20 @@ public class DoubleProblemAdapter extends ProblemAdapter<DoubleSolution> impleme
 	 * @param problem the problem
 	 */
 	public DoubleProblemAdapter(Problem problem) {
-		super(problem);
+		this(problem, null);
+	}
+	
+	/**
+	 * Creates a new real-valued problem adapter that evaluates solutions using the original JMetal problem.
+	 * 
+	 * @param problem the problem
+	 * @param innerProblem the original JMetal problem, or {@code null} to evaluate using the MOEA Framework problem
+	 */
+	public DoubleProblemAdapter(Problem problem, DoubleProblem innerProblem) {
+		super(problem, innerProblem);
+		
+		bounds = IntStream.range(0, problem.getNumberOfVariables()).mapToObj(
+				i -> Bounds.create(getLowerBound(i), getUpperBound(i))).toList();
 	}
 	
 	public double getLowerBound(int index) {
@@ -53,16 +70,33 @@ public class DoubleProblemAdapter extends ProblemAdapter<DoubleSolution> impleme
 	}
 
 	@Override
-	public DoubleSolution createSolution() {
-		return new DefaultDoubleSolution(variableBounds(), numberOfObjectives(), numberOfConstraints());
+	public ArrayDoubleSolution createSolution() {
+		if (acquire() instanceof ArrayDoubleSolution solution) {
+			solution.randomize();
+			return solution;
+		}
+
+		ArrayDoubleSolution solution = new ArrayDoubleSolution(bounds, numberOfObjectives(), numberOfConstraints());
+		solution.setSolutionPool(getSolutionPool());
+		return solution;
 	}
 	
 	@Override
 	public Solution convert(DoubleSolution solution) {
-		Solution result = problem.newSolution();
+		Solution result = newSolutionWithoutVariables();
+		List<Double> values = solution.variables();
 		
 		for (int i = 0; i < numberOfVariables(); i++) {
-			RealVariable.setReal(result.getVariable(i), solution.variables().get(i));
+			RealVariable variable = (RealVariable)schema.getVariable(i);
+			
+			if (variable.getClass() == RealVariable.class) {
+				result.setVariable(i, new RealVariableView(variable.getName(), variable.getLowerBound(),
+						variable.getUpperBound(), values, i));
+			} else {
+				RealVariable copy = variable.copy();
+				copy.setValue(values.get(i));
+				result.setVariable(i, copy);
+			}
 		}
 		
 		return result;
@@ -70,8 +104,7 @@ public class DoubleProblemAdapter extends ProblemAdapter<DoubleSolution> impleme
 
 	@Override
 	public List<Bounds<Double>> variableBounds() {
-		return IntStream.range(0, problem.getNumberOfVariables()).mapToObj(
-				i -> Bounds.create(getLowerBound(i), getUpperBound(i))).toList();
+		return bounds;
 	}
 
 }
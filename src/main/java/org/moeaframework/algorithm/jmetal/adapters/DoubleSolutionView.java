@@ -0,0 +1,150 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVariable;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+/**
+ * A JMetal {@link DoubleSolution} whose variables are read and written directly from the real-valued variables of a
+ * MOEA Framework solution instead of a copy.  The objectives and constraints are stored separately, as JMetal
+ * requires direct access to these arrays.
+ */
+public class DoubleSolutionView implements DoubleSolution {
+
+	private static final long serialVersionUID = -1760286950283718593L;
+
+	/**
+	 * The backing MOEA Framework solution.
+	 */
+	private final Solution solution;
+
+	/**
+	 * The list view of the decision variables, created on first use.
+	 */
+	private transient List<Double> variables;
+
+	/**
+	 * The objective values.
+	 */
+	private final double[] objectives;
+
+	/**
+	 * The constraint values.
+	 */
+	private final double[] constraints;
+
+	/**
+	 * The attributes associated with this solution.
+	 */
+	private final Map<Object, Object> attributes;
+
+	/**
+	 * Creates a new view of the given MOEA Framework solution.  All decision variables must be {@link RealVariable}s.
+	 * 
+	 * @param solution the MOEA Framework solution
+	 */
+	public DoubleSolutionView(Solution solution) {
+		super();
+		this.solution = solution;
+		this.objectives = new double[solution.getNumberOfObjectives()];
+		this.constraints = new double[solution.getNumberOfConstraints()];
+		this.attributes = new HashMap<Object, Object>();
+	}
+
+	/**
+	 * Returns the backing MOEA Framework solution.
+	 * 
+	 * @return the backing MOEA Framework solution
+	 */
+	public Solution getSolution() {
+		return solution;
+	}
+
+	@Override
+	public List<Double> variables() {
+		if (variables == null) {
+			variables = new VariableList();
+		}
+		
+		return variables;
+	}
+
+	@Override
+	public double[] objectives() {
+		return objectives;
+	}
+
+	@Override
+	public double[] constraints() {
+		return constraints;
+	}
+
+	@Override
+	public Map<Object, Object> attributes() {
+		return attributes;
+	}
+
+	@Override
+	public Bounds<Double> getBounds(int index) {
+		RealVariable variable = (RealVariable)solution.getVariable(index);
+		return Bounds.create(variable.getLowerBound(), variable.getUpperBound());
+	}
+
+	@Override
+	public DoubleSolutionView copy() {
+		DoubleSolutionView copy = new DoubleSolutionView(solution.copy());
+		System.arraycopy(objectives, 0, copy.objectives, 0, objectives.length);
+		System.arraycopy(constraints, 0, copy.constraints, 0, constraints.length);
+		copy.attributes.putAll(attributes);
+		return copy;
+	}
+
+	/**
+	 * List view of the decision variables.
+	 */
+	private class VariableList extends AbstractList<Double> {
+
+		@Override
+		public Double get(int index) {
+			return ((RealVariable)solution.getVariable(index)).getValue();
+		}
+
+		@Override
+		public Double set(int index, Double value) {
+			RealVariable variable = (RealVariable)solution.getVariable(index);
+			double oldValue = variable.getValue();
+			variable.setValue(value);
+			return oldValue;
+		}
+
+		@Override
+		public int size() {
+			return solution.getNumberOfVariables();
+		}
+
+	}
+
+}
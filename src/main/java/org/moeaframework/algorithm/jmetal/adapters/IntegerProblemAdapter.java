@@ -0,0 +1,110 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.problem.Problem;
+import org.uma.jmetal.problem.integerproblem.IntegerProblem;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+/**
+ * Converts a problem with integer-valued decision variables, represented by {@link BinaryIntegerVariable}, into
+ * JMetal's IntegerProblem.  Unlike {@link BinaryProblemAdapter}, JMetal operates directly on the integer values rather
+ * than their binary encoding.
+ */
+public class IntegerProblemAdapter extends ProblemAdapter<IntegerSolution> implements IntegerProblem {
+
+	private static final long serialVersionUID = -5195377218958418213L;
+	
+	/**
+	 * The variable bounds, computed once and shared by all solutions created by this adapter.
+	 */
+	private final List<Bounds<Integer>> bounds;
+
+	/**
+	 * Creates a new integer-valued problem adapter.
+	 * 
+	 * @param problem the problem
+	 */
+	public IntegerProblemAdapter(Problem problem) {
+		this(problem, null);
+	}
+	
+	/**
+	 * Creates a new integer-valued problem adapter that evaluates solutions using the original JMetal problem.
+	 * 
+	 * @param problem the problem
+	 * @param innerProblem the original JMetal problem, or {@code null} to evaluate using the MOEA Framework problem
+	 */
+	public IntegerProblemAdapter(Problem problem, IntegerProblem innerProblem) {
+		super(problem, innerProblem);
+		
+		bounds = IntStream.range(0, problem.getNumberOfVariables()).mapToObj(
+				i -> Bounds.create(getLowerBound(i), getUpperBound(i))).toList();
+	}
+	
+	public int getLowerBound(int index) {
+		return ((BinaryIntegerVariable)schema.getVariable(index)).getLowerBound();
+	}
+
+	public int getUpperBound(int index) {
+		return ((BinaryIntegerVariable)schema.getVariable(index)).getUpperBound();
+	}
+
+	@Override
+	public ArrayIntegerSolution createSolution() {
+		if (acquire() instanceof ArrayIntegerSolution solution) {
+			solution.randomize();
+			return solution;
+		}
+
+		ArrayIntegerSolution solution = new ArrayIntegerSolution(bounds, numberOfObjectives(), numberOfConstraints());
+		solution.setSolutionPool(getSolutionPool());
+		return solution;
+	}
+	
+	@Override
+	public Solution convert(IntegerSolution solution) {
+		Solution result = newSolutionWithoutVariables();
+		
+		for (int i = 0; i < numberOfVariables(); i++) {
+			BinaryIntegerVariable variable = ((BinaryIntegerVariable)schema.getVariable(i)).copy();
+			
+			if (solution instanceof ArrayIntegerSolution arraySolution) {
+				variable.setValue(arraySolution.getValue(i));
+			} else {
+				variable.setValue(solution.variables().get(i));
+			}
+			
+			result.setVariable(i, variable);
+		}
+		
+		return result;
+	}
+
+	@Override
+	public List<Bounds<Integer>> variableBounds() {
+		return bounds;
+	}
+
+}
@@ -56,6 +56,12 @@ public class JMetalAlgorithmAdapter<T extends org.uma.jmetal.solution.Solution<?
 	 */
 	private List<T> solutionSet;
 
+	/**
+	 * The random generator bound to the thread running the algorithm, or {@code null} to use the generator installed
+	 * in {@code JMetalRandom}.
+	 */
+	private SplittableRandomGenerator random;
+
 	/**
 	 * Constructs an adapter for the specified JMetal algorithm.
 	 * 
@@ -74,6 +80,25 @@ public class JMetalAlgorithmAdapter<T extends org.uma.jmetal.solution.Solution<?
 		this.extensions = new Extensions(this);
 	}
 	
+	/**
+	 * Returns the random generator bound to the thread running the algorithm.
+	 * 
+	 * @return the random generator, or {@code null} if none is set
+	 */
+	public SplittableRandomGenerator getRandomGenerator() {
+		return random;
+	}
+
+	/**
+	 * Sets the random generator bound to the thread running the algorithm.  For the generator to be used, it must be
+	 * routed from {@code JMetalRandom} with {@link SplittableRandomGenerator#install()}.
+	 * 
+	 * @param random the random generator, or {@code null} to use the generator installed in {@code JMetalRandom}
+	 */
+	public void setRandomGenerator(SplittableRandomGenerator random) {
+		this.random = random;
+	}
+
 	@Override
 	public String getName() {
 		return algorithm.name();
@@ -104,7 +129,8 @@ public class JMetalAlgorithmAdapter<T extends org.uma.jmetal.solution.Solution<?
 
 		if (solutionSet != null) {
 			for (int i = 0; i < solutionSet.size(); i++) {
-				Solution solution = problem.convert(solutionSet.get(i));
+				// copy so the result does not share variables with JMetal's solutions
+				Solution solution = problem.convert(solutionSet.get(i)).copy();
 				solution.setObjectiveValues(solutionSet.get(i).objectives());
 				solution.setConstraintValues(solutionSet.get(i).constraints());
 				result.add(solution);
@@ -125,9 +151,10 @@ public class JMetalAlgorithmAdapter<T extends org.uma.jmetal.solution.Solution<?
 	}
 
 	@Override
+	@SuppressWarnings("try")
 	public void step() {
 		if (solutionSet == null) {
-			try {
+			try (SplittableRandomGenerator.Scope scope = random == null ? null : random.bind(0)) {
 				algorithm.run();
 				solutionSet = algorithm.result();
 			} catch (Exception e) {
@@ -0,0 +1,549 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+/**
+ * A JMetal {@link BinarySet} that reads and writes its bits from a region of a shared {@code long[]} array, using the
+ * same little-endian bit order as {@link BitSet#toLongArray()}.  Bits beyond the length of the set are always zero.
+ * Bulk operations between two packed sets operate on whole words.  As with {@link BinarySetView}, a packed set must
+ * not be passed as the argument to a bulk operation on a regular {@code BitSet}; use {@link #toBinarySet()} first.
+ */
+public class PackedBinarySet extends BinarySet {
+
+	private static final long serialVersionUID = 5215406985729148802L;
+
+	/**
+	 * The backing words, shared with other sets.
+	 */
+	private final long[] words;
+
+	/**
+	 * The index of the first word belonging to this set.
+	 */
+	private final int offset;
+
+	/**
+	 * The number of bits in this set.
+	 */
+	private final int numberOfBits;
+
+	/**
+	 * The number of words belonging to this set.
+	 */
+	private final int numberOfWords;
+
+	/**
+	 * Creates a new binary set backed by a region of the given array.
+	 * 
+	 * @param words the backing words
+	 * @param offset the index of the first word belonging to this set
+	 * @param numberOfBits the number of bits in this set
+	 */
+	public PackedBinarySet(long[] words, int offset, int numberOfBits) {
+		super(0);
+		this.words = words;
+		this.offset = offset;
+		this.numberOfBits = numberOfBits;
+		this.numberOfWords = wordsFor(numberOfBits);
+	}
+
+	/**
+	 * Returns the number of {@code long} words needed to store the given number of bits.
+	 * 
+	 * @param numberOfBits the number of bits
+	 * @return the number of words
+	 */
+	static int wordsFor(int numberOfBits) {
+		return (numberOfBits + 63) >>> 6;
+	}
+
+	/**
+	 * Returns a standalone copy of the bits.
+	 * 
+	 * @return a standalone copy of the bits
+	 */
+	public BinarySet toBinarySet() {
+		BinarySet result = new BinarySet(numberOfBits);
+		result.or(BitSet.valueOf(LongBuffer.wrap(words, offset, numberOfWords)));
+		return result;
+	}
+
+	/**
+	 * Replaces the bits in this set with those of the given set.  Bits in the given set beyond the length of this
+	 * set are ignored.
+	 * 
+	 * @param set the set to copy
+	 */
+	public void copyFrom(BitSet set) {
+		if (set instanceof PackedBinarySet packed && packed.numberOfBits == numberOfBits) {
+			System.arraycopy(packed.words, packed.offset, words, offset, numberOfWords);
+		} else {
+			combine(set, (x, y) -> y);
+		}
+	}
+
+	@Override
+	public int getBinarySetLength() {
+		return numberOfBits;
+	}
+
+	@Override
+	public int size() {
+		return numberOfWords << 6;
+	}
+
+	@Override
+	public boolean get(int bitIndex) {
+		if (bitIndex < 0) {
+			throw new IndexOutOfBoundsException("bitIndex < 0: " + bitIndex);
+		}
+
+		return bitIndex < numberOfBits && (words[offset + (bitIndex >>> 6)] & (1L << bitIndex)) != 0;
+	}
+
+	@Override
+	public BitSet get(int fromIndex, int toIndex) {
+		return toBinarySet().get(fromIndex, toIndex);
+	}
+
+	@Override
+	public void set(int bitIndex) {
+		checkIndex(bitIndex);
+		words[offset + (bitIndex >>> 6)] |= 1L << bitIndex;
+	}
+
+	@Override
+	public void set(int bitIndex, boolean value) {
+		if (value) {
+			set(bitIndex);
+		} else {
+			clear(bitIndex);
+		}
+	}
+
+	@Override
+	public void set(int fromIndex, int toIndex) {
+		apply(fromIndex, toIndex, (x, mask) -> x | mask);
+	}
+
+	@Override
+	public void set(int fromIndex, int toIndex, boolean value) {
+		if (value) {
+			set(fromIndex, toIndex);
+		} else {
+			clear(fromIndex, toIndex);
+		}
+	}
+
+	@Override
+	public void clear(int bitIndex) {
+		checkIndex(bitIndex);
+		words[offset + (bitIndex >>> 6)] &= ~(1L << bitIndex);
+	}
+
+	@Override
+	public void clear(int fromIndex, int toIndex) {
+		apply(fromIndex, toIndex, (x, mask) -> x & ~mask);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(words, offset, offset + numberOfWords, 0L);
+	}
+
+	@Override
+	public void flip(int bitIndex) {
+		checkIndex(bitIndex);
+		words[offset + (bitIndex >>> 6)] ^= 1L << bitIndex;
+	}
+
+	@Override
+	public void flip(int fromIndex, int toIndex) {
+		apply(fromIndex, toIndex, (x, mask) -> x ^ mask);
+	}
+
+	@Override
+	public int cardinality() {
+		int result = 0;
+
+		for (int i = offset; i < offset + numberOfWords; i++) {
+			result += Long.bitCount(words[i]);
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (int i = offset; i < offset + numberOfWords; i++) {
+			if (words[i] != 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int length() {
+		for (int i = numberOfWords - 1; i >= 0; i--) {
+			long word = words[offset + i];
+
+			if (word != 0) {
+				return (i << 6) + 64 - Long.numberOfLeadingZeros(word);
+			}
+		}
+
+		return 0;
+	}
+
+	@Override
+	public int nextSetBit(int fromIndex) {
+		if (fromIndex < 0) {
+			throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+		}
+
+		if (fromIndex >= numberOfBits) {
+			return -1;
+		}
+
+		int i = fromIndex >>> 6;
+		long word = words[offset + i] & (-1L << fromIndex);
+
+		while (true) {
+			if (word != 0) {
+				return (i << 6) + Long.numberOfTrailingZeros(word);
+			}
+
+			if (++i == numberOfWords) {
+				return -1;
+			}
+
+			word = words[offset + i];
+		}
+	}
+
+	@Override
+	public int nextClearBit(int fromIndex) {
+		if (fromIndex < 0) {
+			throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+		}
+
+		if (fromIndex >= numberOfBits) {
+			return fromIndex;
+		}
+
+		int i = fromIndex >>> 6;
+		long word = ~words[offset + i] & (-1L << fromIndex);
+
+		while (true) {
+			if (word != 0) {
+				return Math.min((i << 6) + Long.numberOfTrailingZeros(word), numberOfBits);
+			}
+
+			if (++i == numberOfWords) {
+				return numberOfBits;
+			}
+
+			word = ~words[offset + i];
+		}
+	}
+
+	@Override
+	public int previousSetBit(int fromIndex) {
+		if (fromIndex < 0) {
+			if (fromIndex == -1) {
+				return -1;
+			}
+
+			throw new IndexOutOfBoundsException("fromIndex < -1: " + fromIndex);
+		}
+
+		if (fromIndex >= numberOfBits) {
+			fromIndex = numberOfBits - 1;
+
+			if (fromIndex < 0) {
+				return -1;
+			}
+		}
+
+		int i = fromIndex >>> 6;
+		long word = words[offset + i] & (-1L >>> -(fromIndex + 1));
+
+		while (true) {
+			if (word != 0) {
+				return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+			}
+
+			if (i-- == 0) {
+				return -1;
+			}
+
+			word = words[offset + i];
+		}
+	}
+
+	@Override
+	public int previousClearBit(int fromIndex) {
+		if (fromIndex < 0) {
+			if (fromIndex == -1) {
+				return -1;
+			}
+
+			throw new IndexOutOfBoundsException("fromIndex < -1: " + fromIndex);
+		}
+
+		if (fromIndex >= numberOfBits) {
+			return fromIndex;
+		}
+
+		int i = fromIndex >>> 6;
+		long word = ~words[offset + i] & (-1L >>> -(fromIndex + 1));
+
+		while (true) {
+			if (word != 0) {
+				return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+			}
+
+			if (i-- == 0) {
+				return -1;
+			}
+
+			word = ~words[offset + i];
+		}
+	}
+
+	@Override
+	public boolean intersects(BitSet set) {
+		if (set instanceof PackedBinarySet packed) {
+			for (int i = 0; i < Math.min(numberOfWords, packed.numberOfWords); i++) {
+				if ((words[offset + i] & packed.words[packed.offset + i]) != 0) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		return toBinarySet().intersects(set);
+	}
+
+	@Override
+	public void and(BitSet set) {
+		combine(set, (x, y) -> x & y);
+	}
+
+	@Override
+	public void or(BitSet set) {
+		combine(set, (x, y) -> x | y);
+	}
+
+	@Override
+	public void xor(BitSet set) {
+		combine(set, (x, y) -> x ^ y);
+	}
+
+	@Override
+	public void andNot(BitSet set) {
+		combine(set, (x, y) -> x & ~y);
+	}
+
+	@Override
+	public IntStream stream() {
+		return toBinarySet().stream();
+	}
+
+	@Override
+	public byte[] toByteArray() {
+		return toBinarySet().toByteArray();
+	}
+
+	@Override
+	public long[] toLongArray() {
+		int length = numberOfWords;
+
+		while (length > 0 && words[offset + length - 1] == 0) {
+			length--;
+		}
+
+		return Arrays.copyOfRange(words, offset, offset + length);
+	}
+
+	@Override
+	public Object clone() {
+		return toBinarySet();
+	}
+
+	/**
+	 * Computes the same hash code as {@link BitSet#hashCode()} for the same bits.
+	 */
+	@Override
+	public int hashCode() {
+		long h = 1234;
+
+		for (int i = numberOfWords - 1; i >= 0; i--) {
+			h ^= words[offset + i] * (i + 1);
+		}
+
+		return (int)((h >> 32) ^ h);
+	}
+
+	/**
+	 * Compares the bits in this set with those of any {@link BitSet}, including views whose bits are not stored in
+	 * the {@code BitSet} itself.  Two sets are equal if the same bits are set, regardless of their lengths.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj instanceof PackedBinarySet packed) {
+			for (int i = 0; i < Math.max(numberOfWords, packed.numberOfWords); i++) {
+				if (getWord(i) != packed.getWord(i)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		if (obj instanceof BitSet set) {
+			int i = nextSetBit(0);
+			int j = set.nextSetBit(0);
+
+			while (i == j) {
+				if (i < 0) {
+					return true;
+				}
+
+				i = nextSetBit(i + 1);
+				j = set.nextSetBit(j + 1);
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(numberOfBits);
+
+		for (int i = 0; i < numberOfBits; i++) {
+			sb.append(get(i) ? "1" : "0");
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the word at the given index within this set, or {@code 0} if the index is beyond the last word.
+	 * 
+	 * @param index the index of the word
+	 * @return the word
+	 */
+	private long getWord(int index) {
+		return index < numberOfWords ? words[offset + index] : 0L;
+	}
+
+	/**
+	 * Applies a word-wise operation to the bits of the given set, treating missing words as zero.  Bits beyond the
+	 * length of this set are cleared afterwards.
+	 * 
+	 * @param set the other set
+	 * @param operator the operation, given the word from this set and the corresponding word from the other set
+	 */
+	private void combine(BitSet set, LongBinaryOperator operator) {
+		long[] otherWords;
+		int otherOffset;
+		int otherLength;
+
+		if (set instanceof PackedBinarySet packed) {
+			otherWords = packed.words;
+			otherOffset = packed.offset;
+			otherLength = packed.numberOfWords;
+		} else {
+			otherWords = set.toLongArray();
+			otherOffset = 0;
+			otherLength = otherWords.length;
+		}
+
+		for (int i = 0; i < numberOfWords; i++) {
+			long other = i < otherLength ? otherWords[otherOffset + i] : 0L;
+			words[offset + i] = operator.applyAsLong(words[offset + i], other);
+		}
+
+		if (numberOfWords > 0) {
+			words[offset + numberOfWords - 1] &= -1L >>> -numberOfBits;
+		}
+	}
+
+	/**
+	 * Applies a word-wise operation to a range of bits.
+	 * 
+	 * @param fromIndex the index of the first bit, inclusive
+	 * @param toIndex the index of the last bit, exclusive
+	 * @param operator the operation, given the current word and a mask of the bits in range
+	 */
+	private void apply(int fromIndex, int toIndex, LongBinaryOperator operator) {
+		if (fromIndex < 0 || toIndex > numberOfBits || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+		}
+
+		if (fromIndex == toIndex) {
+			return;
+		}
+
+		int first = fromIndex >>> 6;
+		int last = (toIndex - 1) >>> 6;
+		long firstMask = -1L << fromIndex;
+		long lastMask = -1L >>> -toIndex;
+
+		if (first == last) {
+			words[offset + first] = operator.applyAsLong(words[offset + first], firstMask & lastMask);
+		} else {
+			words[offset + first] = operator.applyAsLong(words[offset + first], firstMask);
+
+			for (int i = first + 1; i < last; i++) {
+				words[offset + i] = operator.applyAsLong(words[offset + i], -1L);
+			}
+
+			words[offset + last] = operator.applyAsLong(words[offset + last], lastMask);
+		}
+	}
+
+	/**
+	 * Throws an exception if the index is outside this set.
+	 * 
+	 * @param bitIndex the index of the bit
+	 */
+	private void checkIndex(int bitIndex) {
+		if (bitIndex < 0 || bitIndex >= numberOfBits) {
+			throw new IndexOutOfBoundsException("bitIndex: " + bitIndex + ", length: " + numberOfBits);
+		}
+	}
+
+}
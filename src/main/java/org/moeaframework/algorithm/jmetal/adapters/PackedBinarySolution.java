@@ -0,0 +1,418 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * A JMetal {@link BinarySolution} that stores the bits of all variables in a single {@code long[]} array.  Each
+ * variable starts on a word boundary, as described by a {@link Layout} shared by all solutions created by the same
+ * problem.  JMetal operators access the bits through {@link #variables()}, which returns {@link PackedBinarySet}
+ * views of each variable.  Copying, hashing, and comparing solutions operate directly on the array.
+ */
+public class PackedBinarySolution implements BinarySolution {
+
+	private static final long serialVersionUID = -1570914725360226195L;
+
+	/**
+	 * The bits of all variables.
+	 */
+	private final long[] words;
+
+	/**
+	 * The layout of the variables, shared between solutions.
+	 */
+	private final Layout layout;
+
+	/**
+	 * The views of each variable, created on first use.
+	 */
+	private transient List<BinarySet> variables;
+
+	/**
+	 * The objective values.
+	 */
+	private final double[] objectives;
+
+	/**
+	 * The constraint values.
+	 */
+	private final double[] constraints;
+
+	/**
+	 * The attributes associated with this solution.
+	 */
+	private final Map<Object, Object> attributes;
+
+	/**
+	 * The pool used by {@link #copy()} to recycle discarded solutions, or {@code null} if pooling is disabled.
+	 */
+	private transient SolutionPool<? super PackedBinarySolution> solutionPool;
+
+	/**
+	 * Creates a new solution with each bit initialized uniformly at random.
+	 * 
+	 * @param layout the layout of the variables, which is shared and not copied
+	 * @param numberOfObjectives the number of objectives
+	 * @param numberOfConstraints the number of constraints
+	 */
+	public PackedBinarySolution(Layout layout, int numberOfObjectives, int numberOfConstraints) {
+		this(new long[layout.getTotalNumberOfWords()], layout, new double[numberOfObjectives],
+				new double[numberOfConstraints], new HashMap<Object, Object>());
+		randomize();
+	}
+
+	/**
+	 * Creates a copy of the given solution.
+	 * 
+	 * @param solution the solution to copy
+	 */
+	public PackedBinarySolution(PackedBinarySolution solution) {
+		this(solution.words.clone(), solution.layout, solution.objectives.clone(), solution.constraints.clone(),
+				new HashMap<Object, Object>(solution.attributes));
+		this.solutionPool = solution.solutionPool;
+	}
+
+	private PackedBinarySolution(long[] words, Layout layout, double[] objectives, double[] constraints,
+			Map<Object, Object> attributes) {
+		super();
+		this.words = words;
+		this.layout = layout;
+		this.objectives = objectives;
+		this.constraints = constraints;
+		this.attributes = attributes;
+	}
+
+	/**
+	 * Returns the backing array of bits.  Changes to the array are reflected in this solution, but bits beyond the
+	 * length of each variable must remain zero.
+	 * 
+	 * @return the backing array of bits
+	 */
+	public long[] getWords() {
+		return words;
+	}
+
+	/**
+	 * Returns the layout of the variables.
+	 * 
+	 * @return the layout of the variables
+	 */
+	public Layout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * Initializes each bit uniformly at random and clears the objectives, constraints, and attributes.  This allows a
+	 * recycled solution to be reused as a new solution.
+	 */
+	public void randomize() {
+		JMetalRandom random = JMetalRandom.getInstance();
+
+		Arrays.fill(words, 0L);
+
+		for (int i = 0; i < layout.getNumberOfVariables(); i++) {
+			int offset = layout.getOffset(i);
+			int numberOfBits = layout.getNumberOfBits(i);
+
+			for (int j = 0; j < numberOfBits; j++) {
+				if (random.nextDouble() < 0.5) {
+					words[offset + (j >>> 6)] |= 1L << j;
+				}
+			}
+		}
+
+		Arrays.fill(objectives, 0.0);
+		Arrays.fill(constraints, 0.0);
+		attributes.clear();
+	}
+
+	/**
+	 * Returns the pool used by {@link #copy()} to recycle discarded solutions.
+	 * 
+	 * @return the pool used to recycle discarded solutions, or {@code null} if pooling is disabled
+	 */
+	public SolutionPool<? super PackedBinarySolution> getSolutionPool() {
+		return solutionPool;
+	}
+
+	/**
+	 * Sets the pool used by {@link #copy()} to recycle discarded solutions.  Copies inherit the pool of the original
+	 * solution.
+	 * 
+	 * @param solutionPool the pool used to recycle discarded solutions, or {@code null} to disable pooling
+	 */
+	public void setSolutionPool(SolutionPool<? super PackedBinarySolution> solutionPool) {
+		this.solutionPool = solutionPool;
+	}
+
+	@Override
+	public List<BinarySet> variables() {
+		if (variables == null) {
+			variables = new VariableList();
+		}
+
+		return variables;
+	}
+
+	@Override
+	public double[] objectives() {
+		return objectives;
+	}
+
+	@Override
+	public double[] constraints() {
+		return constraints;
+	}
+
+	@Override
+	public Map<Object, Object> attributes() {
+		return attributes;
+	}
+
+	@Override
+	public List<Integer> numberOfBitsPerVariable() {
+		return layout.getNumberOfBitsPerVariable();
+	}
+
+	@Override
+	public int totalNumberOfBits() {
+		return layout.getTotalNumberOfBits();
+	}
+
+	@Override
+	public PackedBinarySolution copy() {
+		if (solutionPool != null && solutionPool.acquire() instanceof PackedBinarySolution solution) {
+			solution.copyFrom(this);
+			return solution;
+		}
+
+		return new PackedBinarySolution(this);
+	}
+
+	/**
+	 * Overwrites the state of this solution with a copy of the given solution, which must have been created by the
+	 * same problem.
+	 * 
+	 * @param solution the solution to copy
+	 */
+	private void copyFrom(PackedBinarySolution solution) {
+		System.arraycopy(solution.words, 0, words, 0, words.length);
+		System.arraycopy(solution.objectives, 0, objectives, 0, objectives.length);
+		System.arraycopy(solution.constraints, 0, constraints, 0, constraints.length);
+		attributes.clear();
+		attributes.putAll(solution.attributes);
+		solutionPool = solution.solutionPool;
+	}
+
+	/**
+	 * Returns the number of bits that differ between this solution and the given solution, comparing 64 bits at a
+	 * time.  Both solutions must share the same layout.
+	 * 
+	 * @param solution the other solution
+	 * @return the Hamming distance between the two solutions
+	 */
+	public int hammingDistance(PackedBinarySolution solution) {
+		int distance = 0;
+
+		for (int i = 0; i < words.length; i++) {
+			distance += Long.bitCount(words[i] ^ solution.words[i]);
+		}
+
+		return distance;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj == null || obj.getClass() != getClass()) {
+			return false;
+		}
+
+		PackedBinarySolution rhs = (PackedBinarySolution)obj;
+
+		return Arrays.equals(words, rhs.words) &&
+				layout.getNumberOfBitsPerVariable().equals(rhs.layout.getNumberOfBitsPerVariable());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(words);
+	}
+
+	@Override
+	public String toString() {
+		return "Variables: " + variables() + " Objectives: " + Arrays.toString(objectives) + " Constraints: " +
+				Arrays.toString(constraints);
+	}
+
+	/**
+	 * List of views of each variable.  Setting an element copies its bits into the existing view.
+	 */
+	private class VariableList extends AbstractList<BinarySet> implements RandomAccess {
+
+		private final PackedBinarySet[] views;
+
+		public VariableList() {
+			super();
+			views = new PackedBinarySet[layout.getNumberOfVariables()];
+
+			for (int i = 0; i < views.length; i++) {
+				views[i] = new PackedBinarySet(words, layout.getOffset(i), layout.getNumberOfBits(i));
+			}
+		}
+
+		@Override
+		public BinarySet get(int index) {
+			return views[index];
+		}
+
+		/**
+		 * Copies the bits of the given set into the variable.  The view at this position is retained, and a standalone
+		 * copy of the previous bits is returned.
+		 */
+		@Override
+		public BinarySet set(int index, BinarySet value) {
+			BinarySet oldValue = views[index].toBinarySet();
+			views[index].copyFrom(value);
+			return oldValue;
+		}
+
+		@Override
+		public int size() {
+			return views.length;
+		}
+
+	}
+
+	/**
+	 * The number of bits in each variable and the offset, in words, of each variable in the packed array.
+	 */
+	public static final class Layout implements Serializable {
+
+		private static final long serialVersionUID = 3052317447393436826L;
+
+		/**
+		 * The number of bits in each variable.
+		 */
+		private final List<Integer> numberOfBitsPerVariable;
+
+		/**
+		 * The offset of each variable, in words, followed by the total number of words.
+		 */
+		private final int[] offsets;
+
+		/**
+		 * The total number of bits across all variables.
+		 */
+		private final int totalNumberOfBits;
+
+		/**
+		 * Creates a new layout.
+		 * 
+		 * @param numberOfBitsPerVariable the number of bits in each variable
+		 */
+		public Layout(List<Integer> numberOfBitsPerVariable) {
+			super();
+			this.numberOfBitsPerVariable = Collections.unmodifiableList(new ArrayList<Integer>(numberOfBitsPerVariable));
+			this.offsets = new int[numberOfBitsPerVariable.size() + 1];
+
+			int numberOfBits = 0;
+
+			for (int i = 0; i < numberOfBitsPerVariable.size(); i++) {
+				offsets[i + 1] = offsets[i] + PackedBinarySet.wordsFor(numberOfBitsPerVariable.get(i));
+				numberOfBits += numberOfBitsPerVariable.get(i);
+			}
+
+			this.totalNumberOfBits = numberOfBits;
+		}
+
+		/**
+		 * Returns the number of variables.
+		 * 
+		 * @return the number of variables
+		 */
+		public int getNumberOfVariables() {
+			return numberOfBitsPerVariable.size();
+		}
+
+		/**
+		 * Returns the number of bits in the given variable.
+		 * 
+		 * @param index the index of the variable
+		 * @return the number of bits
+		 */
+		public int getNumberOfBits(int index) {
+			return numberOfBitsPerVariable.get(index);
+		}
+
+		/**
+		 * Returns the number of bits in each variable.
+		 * 
+		 * @return the number of bits in each variable
+		 */
+		public List<Integer> getNumberOfBitsPerVariable() {
+			return numberOfBitsPerVariable;
+		}
+
+		/**
+		 * Returns the index of the first word of the given variable.
+		 * 
+		 * @param index the index of the variable
+		 * @return the index of the first word
+		 */
+		public int getOffset(int index) {
+			return offsets[index];
+		}
+
+		/**
+		 * Returns the total number of bits across all variables.
+		 * 
+		 * @return the total number of bits
+		 */
+		public int getTotalNumberOfBits() {
+			return totalNumberOfBits;
+		}
+
+		/**
+		 * Returns the total number of words needed to store all variables.
+		 * 
+		 * @return the total number of words
+		 */
+		public int getTotalNumberOfWords() {
+			return offsets[offsets.length - 1];
+		}
+
+	}
+
+}
@@ -17,15 +17,12 @@
  */
 package org.moeaframework.algorithm.jmetal.adapters;
 
-import java.util.List;
-
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.Permutation;
 import org.moeaframework.problem.Problem;
 import org.uma.jmetal.problem.permutationproblem.PermutationProblem;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
-import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
 
 /**
  * Converts a problem with a single permutation decision variable into JMetal's PermutationProblem.
@@ -49,24 +46,58 @@ implements PermutationProblem<PermutationSolution<Integer>> {
 	}
 	
 	@Override
-	public PermutationSolution<Integer> createSolution() {
-		return new IntegerPermutationSolution(length(), numberOfObjectives(), numberOfConstraints());
+	public ArrayPermutationSolution createSolution() {
+		if (acquire() instanceof ArrayPermutationSolution solution) {
+			solution.randomize();
+			return solution;
+		}
+
+		ArrayPermutationSolution solution = new ArrayPermutationSolution(length(), numberOfObjectives(), numberOfConstraints());
+		solution.setSolutionPool(getSolutionPool());
+		return solution;
 	}
 	
 	@Override
 	public Solution convert(PermutationSolution<Integer> solution) {
 		Solution result = getProblem().newSolution();
-		List<Integer> permutationList = solution.variables();
-		int[] permutation = new int[permutationList.size()];
 		
-		for (int i = 0; i < permutationList.size(); i++) {
-			permutation[i] = permutationList.get(i);
+		if (solution instanceof ArrayPermutationSolution arraySolution) {
+			Permutation.setPermutation(result.getVariable(0), arraySolution.getValues());
+		} else {
+			int[] permutation = new int[solution.variables().size()];
+			
+			for (int i = 0; i < permutation.length; i++) {
+				permutation[i] = solution.variables().get(i);
+			}
+			
+			Permutation.setPermutation(result.getVariable(0), permutation);
 		}
 		
-		Permutation.setPermutation(result.getVariable(0), permutation);
 		return result;
 	}
 	
+	/**
+	 * Evaluates the solution.  If the problem implements {@link DeltaPermutationProblem}, solutions that are
+	 * unchanged or differ by a single swap since their last evaluation are updated incrementally.
+	 */
+	@Override
+	public PermutationSolution<Integer> evaluate(PermutationSolution<Integer> solution) {
+		if (problem instanceof DeltaPermutationProblem deltaProblem &&
+				solution instanceof ArrayPermutationSolution arraySolution && numberOfConstraints() == 0) {
+			if (arraySolution.hasPendingSwap()) {
+				deltaProblem.evaluateSwap(arraySolution.getValues(), arraySolution.getSwapFirst(),
+						arraySolution.getSwapSecond(), arraySolution.objectives());
+			} else if (!arraySolution.isEvaluated()) {
+				super.evaluate(solution);
+			}
+			
+			arraySolution.markEvaluated();
+			return solution;
+		}
+		
+		return super.evaluate(solution);
+	}
+	
 	@Override
 	public int numberOfVariables() {
 		return length();
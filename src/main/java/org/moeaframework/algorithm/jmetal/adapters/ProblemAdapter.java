@@ -17,6 +17,11 @@
  */
 package org.moeaframework.algorithm.jmetal.adapters;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import org.moeaframework.core.Solution;
 import org.moeaframework.problem.Problem;
 
@@ -40,14 +45,38 @@ implements org.uma.jmetal.problem.Problem<T> {
 	 */
 	protected final Solution schema;
 	
+	/**
+	 * The original JMetal problem when the MOEA Framework problem wraps one, otherwise {@code null}.  When set,
+	 * solutions are evaluated directly by this problem without any conversion.
+	 */
+	protected final org.uma.jmetal.problem.Problem<T> innerProblem;
+	
+	/**
+	 * The pool of discarded solutions recycled by {@link #createSolution()} and by copies of those solutions, or
+	 * {@code null} if pooling is disabled.
+	 */
+	private transient SolutionPool<T> solutionPool;
+	
 	/**
 	 * Creates a new problem adapter for the given MOEA Framework problem.
 	 * 
 	 * @param problem the MOEA Framework problem
 	 */
 	public ProblemAdapter(Problem problem) {
+		this(problem, null);
+	}
+	
+	/**
+	 * Creates a new problem adapter for a MOEA Framework problem that wraps a JMetal problem.  Evaluations are
+	 * delegated to the JMetal problem, avoiding the conversion to and from MOEA Framework solutions.
+	 * 
+	 * @param problem the MOEA Framework problem
+	 * @param innerProblem the original JMetal problem, or {@code null} to evaluate using the MOEA Framework problem
+	 */
+	public ProblemAdapter(Problem problem, org.uma.jmetal.problem.Problem<T> innerProblem) {
 		this.problem = problem;
 		this.schema = problem.newSolution();
+		this.innerProblem = innerProblem;
 	}
 	
 	/**
@@ -68,6 +97,78 @@ implements org.uma.jmetal.problem.Problem<T> {
 		return schema;
 	}
 	
+	/**
+	 * Returns the original JMetal problem if evaluations are delegated to it, otherwise {@code null}.
+	 * 
+	 * @return the original JMetal problem or {@code null}
+	 */
+	public org.uma.jmetal.problem.Problem<T> getInnerProblem() {
+		return innerProblem;
+	}
+	
+	/**
+	 * Returns the pool of discarded solutions, or {@code null} if pooling is disabled.
+	 * 
+	 * @return the pool of discarded solutions or {@code null}
+	 */
+	public SolutionPool<T> getSolutionPool() {
+		return solutionPool;
+	}
+	
+	/**
+	 * Enables or disables recycling of discarded solutions.  Pooling is disabled by default.  When enabled, solutions
+	 * created afterwards by this adapter, and their copies, draw from the pool instead of allocating new instances.
+	 * Solutions are returned to the pool with {@link #release(org.uma.jmetal.solution.Solution)} or
+	 * {@link #releaseDiscarded(List, List)}.
+	 * 
+	 * @param solutionPool the pool of discarded solutions, or {@code null} to disable pooling
+	 */
+	public void setSolutionPool(SolutionPool<T> solutionPool) {
+		this.solutionPool = solutionPool;
+	}
+	
+	/**
+	 * Returns a discarded solution to the pool for reuse.  Only solutions created by this adapter, or copies of those
+	 * solutions, may be released, and they must no longer be referenced elsewhere.  Does nothing if pooling is
+	 * disabled.
+	 * 
+	 * @param solution the discarded solution
+	 */
+	public void release(T solution) {
+		if (solutionPool != null) {
+			solutionPool.release(solution);
+		}
+	}
+	
+	/**
+	 * Returns the candidates that did not survive a replacement step to the pool for reuse.  The candidates must no
+	 * longer be referenced elsewhere, other than by the survivors.  Does nothing if pooling is disabled.
+	 * 
+	 * @param candidates the solutions considered by the replacement step
+	 * @param survivors the solutions kept by the replacement step
+	 */
+	public void releaseDiscarded(List<T> candidates, List<T> survivors) {
+		if (solutionPool != null) {
+			Set<T> kept = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+			kept.addAll(survivors);
+			
+			for (T solution : candidates) {
+				if (!kept.contains(solution)) {
+					solutionPool.release(solution);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Removes and returns a solution from the pool.
+	 * 
+	 * @return a recycled solution, or {@code null} if pooling is disabled or the pool is empty
+	 */
+	protected T acquire() {
+		return solutionPool == null ? null : solutionPool.acquire();
+	}
+	
 	@Override
 	public String name() {
 		return problem.getName();
@@ -88,6 +189,28 @@ implements org.uma.jmetal.problem.Problem<T> {
 		return problem.getNumberOfVariables();
 	}
 	
+	/**
+	 * Creates a MOEA Framework solution with the objectives and constraints defined by the problem schema, but with
+	 * the decision variables unassigned.  Subclasses use this to populate the solution with views of a JMetal
+	 * solution's variables, avoiding the cost of constructing and then copying into new variables.
+	 * 
+	 * @return the MOEA Framework solution with unassigned decision variables
+	 */
+	protected Solution newSolutionWithoutVariables() {
+		Solution result = new Solution(schema.getNumberOfVariables(), schema.getNumberOfObjectives(),
+				schema.getNumberOfConstraints());
+		
+		for (int i = 0; i < schema.getNumberOfObjectives(); i++) {
+			result.setObjective(i, schema.getObjective(i).copy());
+		}
+		
+		for (int i = 0; i < schema.getNumberOfConstraints(); i++) {
+			result.setConstraint(i, schema.getConstraint(i).copy());
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Converts the given JMetal solution back into a MOEA Framework solution.
 	 * 
@@ -98,6 +221,10 @@ implements org.uma.jmetal.problem.Problem<T> {
 	
 	@Override
 	public T evaluate(T solution) {
+		if (innerProblem != null) {
+			return innerProblem.evaluate(solution);
+		}
+		
 		Solution result = convert(solution);
 
 		getProblem().evaluate(result);
@@ -0,0 +1,124 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * A MOEA Framework real-valued variable that reads and writes its value directly from a JMetal solution's variable
+ * list instead of storing a copy.  Calling {@link #copy()} produces a standalone {@link RealVariable}.
+ */
+public class RealVariableView extends RealVariable {
+
+	private static final long serialVersionUID = 4609211245713298826L;
+
+	/**
+	 * The backing variable list.  This is {@code null} while the superclass constructor runs.
+	 */
+	private final List<Double> values;
+
+	/**
+	 * The index of this variable in the backing list.
+	 */
+	private final int index;
+
+	/**
+	 * Creates a new view of a real-valued variable.
+	 * 
+	 * @param name the name of the variable, or {@code null}
+	 * @param lowerBound the lower bound
+	 * @param upperBound the upper bound
+	 * @param values the backing variable list
+	 * @param index the index of this variable in the backing list
+	 */
+	public RealVariableView(String name, double lowerBound, double upperBound, List<Double> values, int index) {
+		super(name, lowerBound, upperBound);
+		this.values = values;
+		this.index = index;
+	}
+
+	@Override
+	public double getValue() {
+		return values.get(index);
+	}
+
+	@Override
+	public void setValue(double value) {
+		if (values == null) {
+			// called by the superclass constructor to initialize the value, which is already held by the list
+			return;
+		}
+
+		if (!Double.isNaN(value)) {
+			Validate.that("value", value).isBetween(getLowerBound(), getUpperBound());
+		}
+
+		values.set(index, value);
+	}
+
+	@Override
+	public RealVariable copy() {
+		return new RealVariable(name, getLowerBound(), getUpperBound()).withValue(getValue());
+	}
+
+	@Override
+	public String encode() {
+		return Double.toString(getValue());
+	}
+
+	@Override
+	public void decode(String value) {
+		values.set(index, Double.parseDouble(value));
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder()
+				.append(name)
+				.append(getLowerBound())
+				.append(getUpperBound())
+				.append(getValue())
+				.toHashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj == null || obj.getClass() != getClass()) {
+			return false;
+		}
+
+		RealVariableView rhs = (RealVariableView)obj;
+
+		return new EqualsBuilder()
+				.append(name, rhs.name)
+				.append(getLowerBound(), rhs.getLowerBound())
+				.append(getUpperBound(), rhs.getUpperBound())
+				.append(getValue(), rhs.getValue())
+				.isEquals();
+	}
+
+}
@@ -0,0 +1,106 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.ArrayDeque;
+
+import org.moeaframework.util.validate.Validate;
+
+/**
+ * Bounded pool of discarded JMetal solutions that can be recycled instead of allocating new instances.  Recycling
+ * reuses the variable, objective, and constraint arrays, which reduces garbage collection pressure on long runs with
+ * large populations.  This class is thread-safe.
+ * <p>
+ * JMetal does not signal when a solution is discarded, so solutions must be explicitly returned to the pool with
+ * {@link #release(Object)}.  A released solution must no longer be referenced anywhere else, including by archives
+ * or the population, as its contents will be overwritten.
+ * 
+ * @param <T> the type of the pooled solutions
+ */
+public class SolutionPool<T> {
+
+	/**
+	 * The maximum number of solutions held by this pool.
+	 */
+	private final int capacity;
+
+	/**
+	 * The solutions available for reuse.
+	 */
+	private final ArrayDeque<T> solutions;
+
+	/**
+	 * Constructs a new, empty solution pool.
+	 * 
+	 * @param capacity the maximum number of solutions held by this pool
+	 */
+	public SolutionPool(int capacity) {
+		super();
+		Validate.that("capacity", capacity).isGreaterThan(0);
+
+		this.capacity = capacity;
+		this.solutions = new ArrayDeque<T>();
+	}
+
+	/**
+	 * Returns the maximum number of solutions held by this pool.
+	 * 
+	 * @return the maximum number of solutions held by this pool
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of solutions currently available for reuse.
+	 * 
+	 * @return the number of solutions currently available for reuse
+	 */
+	public synchronized int size() {
+		return solutions.size();
+	}
+
+	/**
+	 * Removes and returns a solution from this pool.  The contents of the returned solution are undefined and must be
+	 * overwritten by the caller.
+	 * 
+	 * @return a recycled solution, or {@code null} if this pool is empty
+	 */
+	public synchronized T acquire() {
+		return solutions.pollLast();
+	}
+
+	/**
+	 * Returns a discarded solution to this pool.  The solution is dropped if this pool is full.
+	 * 
+	 * @param solution the discarded solution
+	 */
+	public synchronized void release(T solution) {
+		if (solution != null && solutions.size() < capacity) {
+			solutions.addLast(solution);
+		}
+	}
+
+	/**
+	 * Removes all solutions from this pool.
+	 */
+	public synchronized void clear() {
+		solutions.clear();
+	}
+
+}
@@ -0,0 +1,378 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * JMetal random generator for a single run of an algorithm.  Every random stream used by the run is derived from the
+ * seed and a key, so the run is fully determined by the seed regardless of which threads execute it:
+ * <ul>
+ *   <li>The thread running the algorithm calls {@link #bind(long)} with key {@code 0}, which
+ *       {@link JMetalAlgorithmAdapter} does around each step; and
+ *   <li>Parallel tasks are wrapped with {@link #withStreams(int, IntConsumer)}, which reserves one key per task on
+ *       the calling thread and binds the task's stream on whichever thread runs it.
+ * </ul>
+ * Bound streams are owned by a single thread, so drawing from them requires no locking.  Uniform doubles are generated
+ * in blocks, which amortizes the per-call overhead for operators that draw a random number per variable.  Draws from
+ * threads without a bound stream use a shared stream, also derived from the seed, under a lock.
+ * <p>
+ * Since {@link JMetalRandom} is a singleton, use {@link #install()} to route its draws to the stream bound to the
+ * calling thread.  Threads without a bound stream keep using the generator that was previously installed, so
+ * concurrent runs never affect each other's streams.
+ */
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+
+	private static final long serialVersionUID = 2215766431402374627L;
+
+	/**
+	 * The number of uniform doubles generated at a time.
+	 */
+	private static final int BLOCK_SIZE = 128;
+
+	/**
+	 * The stream bound to each thread, or {@code null} if the thread has no bound stream.
+	 */
+	private static final ThreadLocal<State> BINDING = new ThreadLocal<State>();
+
+	/**
+	 * The generator routing the draws of {@link JMetalRandom} to the bound streams.
+	 */
+	private static final Dispatcher DISPATCHER = new Dispatcher();
+
+	/**
+	 * The seed from which all streams are derived.
+	 */
+	private long seed;
+
+	/**
+	 * The stream used by threads without a bound stream.
+	 */
+	private transient State shared;
+
+	/**
+	 * The next key reserved by {@link #withStreams(int, IntConsumer)}.  Key {@code 0} is used by the thread running
+	 * the algorithm.
+	 */
+	private final transient AtomicLong nextKey;
+
+	/**
+	 * Constructs a new random generator with the given seed.
+	 * 
+	 * @param seed the seed
+	 */
+	public SplittableRandomGenerator(long seed) {
+		super();
+		this.nextKey = new AtomicLong(1);
+		setSeed(seed);
+	}
+
+	/**
+	 * Routes the draws of {@link JMetalRandom} to the stream bound to the calling thread.  Threads without a bound
+	 * stream keep using the generator installed before this method was first called.  Calling this method again has
+	 * no effect unless another generator was installed in the meantime.
+	 */
+	public static synchronized void install() {
+		JMetalRandom random = JMetalRandom.getInstance();
+		
+		if (random.getRandomGenerator() != DISPATCHER) {
+			DISPATCHER.fallback = random.getRandomGenerator();
+			random.setRandomGenerator(DISPATCHER);
+		}
+	}
+
+	/**
+	 * Binds the stream with the given key to the calling thread until the returned scope is closed, at which point
+	 * the previously bound stream, if any, is restored.  Binding the same key again restarts the stream.
+	 * 
+	 * @param key the key identifying the stream
+	 * @return the scope of the binding
+	 */
+	public Scope bind(long key) {
+		State previous = BINDING.get();
+		BINDING.set(new State(this, new SplittableRandom(mix(seed, key))));
+		
+		return () -> {
+			if (previous == null) {
+				BINDING.remove();
+			} else {
+				BINDING.set(previous);
+			}
+		};
+	}
+
+	/**
+	 * Wraps a parallel task so that each index runs with its own stream.  The keys are reserved when this method is
+	 * called, so it must be called from the thread that determines the order of the run, typically before the task is
+	 * submitted.  If the calling thread has no bound stream, the task is returned unchanged.
+	 * 
+	 * @param size the number of indices
+	 * @param task the task, which is given an index in {@code [0, size)}
+	 * @return the wrapped task
+	 */
+	@SuppressWarnings("try")
+	public static IntConsumer withStreams(int size, IntConsumer task) {
+		State state = BINDING.get();
+		
+		if (state == null) {
+			return task;
+		}
+		
+		SplittableRandomGenerator owner = state.owner;
+		long base = owner.nextKey.getAndAdd(size);
+		
+		return i -> {
+			try (Scope scope = owner.bind(base + i)) {
+				task.accept(i);
+			}
+		};
+	}
+
+	/**
+	 * Returns a normally distributed value from the stream bound to the calling thread, or from
+	 * {@link ThreadLocalRandom} if the thread has no bound stream.
+	 * 
+	 * @return a normally distributed value with mean {@code 0} and standard deviation {@code 1}
+	 */
+	public static double nextGaussian() {
+		State state = BINDING.get();
+		return state == null ? ThreadLocalRandom.current().nextGaussian() : state.random.nextGaussian();
+	}
+
+	/**
+	 * Returns the stream used for draws from this generator on the calling thread.
+	 * 
+	 * @return the bound stream if it belongs to this generator, otherwise {@code null}
+	 */
+	private State getBoundState() {
+		State state = BINDING.get();
+		return state != null && state.owner == this ? state : null;
+	}
+
+	@Override
+	public int nextInt(int lowerBound, int upperBound) {
+		State state = getBoundState();
+		
+		if (state == null) {
+			synchronized (this) {
+				return shared.nextInt(lowerBound, upperBound);
+			}
+		}
+		
+		return state.nextInt(lowerBound, upperBound);
+	}
+
+	@Override
+	public double nextDouble(double lowerBound, double upperBound) {
+		return lowerBound + nextDouble() * (upperBound - lowerBound);
+	}
+
+	@Override
+	public double nextDouble() {
+		State state = getBoundState();
+		
+		if (state == null) {
+			synchronized (this) {
+				return shared.nextDouble();
+			}
+		}
+		
+		return state.nextDouble();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Streams already bound to a thread are not affected.
+	 */
+	@Override
+	public synchronized void setSeed(long seed) {
+		this.seed = seed;
+		this.shared = new State(this, new SplittableRandom(seed));
+	}
+
+	@Override
+	public long getSeed() {
+		return seed;
+	}
+
+	@Override
+	public String getName() {
+		return "SplittableRandomGenerator";
+	}
+
+	/**
+	 * Restores the transient state after deserialization.
+	 * 
+	 * @return a new generator with the same seed
+	 */
+	private Object readResolve() {
+		return new SplittableRandomGenerator(seed);
+	}
+
+	/**
+	 * Derives the seed of the stream with the given key, using the finalizer of the SplitMix64 generator.
+	 * 
+	 * @param seed the seed of the generator
+	 * @param key the key identifying the stream
+	 * @return the seed of the stream
+	 */
+	private static long mix(long seed, long key) {
+		long z = seed + (key + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * The scope of a binding created by {@link #bind(long)}.
+	 */
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+
+		/**
+		 * Restores the stream bound before this scope was created.
+		 */
+		@Override
+		public void close();
+
+	}
+
+	/**
+	 * A stream and its block of pre-generated uniform doubles.
+	 */
+	private static class State {
+
+		/**
+		 * The generator from which this stream was derived.
+		 */
+		private final SplittableRandomGenerator owner;
+
+		/**
+		 * The stream.
+		 */
+		private final SplittableRandom random;
+
+		/**
+		 * The block of pre-generated uniform doubles, allocated on first use.
+		 */
+		private double[] block;
+
+		/**
+		 * The index of the next unused value in the block.
+		 */
+		private int index;
+
+		public State(SplittableRandomGenerator owner, SplittableRandom random) {
+			super();
+			this.owner = owner;
+			this.random = random;
+		}
+
+		/**
+		 * Returns a uniform integer from the stream.
+		 * 
+		 * @param lowerBound the inclusive lower bound
+		 * @param upperBound the inclusive upper bound
+		 * @return a uniform integer in {@code [lowerBound, upperBound]}
+		 */
+		public int nextInt(int lowerBound, int upperBound) {
+			return (int)random.nextLong(lowerBound, (long)upperBound + 1);
+		}
+
+		/**
+		 * Returns the next uniform double from the block, generating a new block when exhausted.
+		 * 
+		 * @return a uniform double in {@code [0, 1)}
+		 */
+		public double nextDouble() {
+			if (block == null) {
+				block = new double[BLOCK_SIZE];
+				index = BLOCK_SIZE;
+			}
+			
+			if (index == BLOCK_SIZE) {
+				for (int i = 0; i < BLOCK_SIZE; i++) {
+					block[i] = random.nextDouble();
+				}
+
+				index = 0;
+			}
+
+			return block[index++];
+		}
+
+	}
+
+	/**
+	 * Generator installed in {@link JMetalRandom} that routes each draw to the stream bound to the calling thread, or
+	 * to the previously installed generator if the thread has no bound stream.
+	 */
+	private static class Dispatcher implements PseudoRandomGenerator {
+
+		private static final long serialVersionUID = -5436286851120484301L;
+
+		/**
+		 * The generator used by threads without a bound stream.
+		 */
+		private volatile PseudoRandomGenerator fallback;
+
+		@Override
+		public int nextInt(int lowerBound, int upperBound) {
+			State state = BINDING.get();
+			return state == null ? fallback.nextInt(lowerBound, upperBound) : state.nextInt(lowerBound, upperBound);
+		}
+
+		@Override
+		public double nextDouble(double lowerBound, double upperBound) {
+			State state = BINDING.get();
+			return state == null ? fallback.nextDouble(lowerBound, upperBound) :
+				lowerBound + state.nextDouble() * (upperBound - lowerBound);
+		}
+
+		@Override
+		public double nextDouble() {
+			State state = BINDING.get();
+			return state == null ? fallback.nextDouble() : state.nextDouble();
+		}
+
+		@Override
+		public void setSeed(long seed) {
+			fallback.setSeed(seed);
+		}
+
+		@Override
+		public long getSeed() {
+			State state = BINDING.get();
+			return state == null ? fallback.getSeed() : state.owner.getSeed();
+		}
+
+		@Override
+		public String getName() {
+			return fallback.getName();
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.agemoea.AGEMOEA;
+import org.uma.jmetal.algorithm.multiobjective.agemoea.AGEMOEABuilder;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link AGEMOEA} with the environmental selection performed by {@link ArrayAGEMOEAEnvironmentalSelection}.
+ * With a ranking that reproduces JMetal's fronts, the results are identical to {@link AGEMOEA}.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayAGEMOEA<S extends Solution<?>> extends AGEMOEA<S> {
+
+	private static final long serialVersionUID = -4470386455733093386L;
+
+	/**
+	 * The ranking used to sort the combined parent and offspring populations into fronts.
+	 */
+	private final Ranking<S> ranking;
+
+	/**
+	 * If {@code true}, the pairwise distances are computed in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new instance of this algorithm using the settings configured in the given builder.
+	 * 
+	 * @param builder the AGE-MOEA builder
+	 * @param ranking the ranking used to sort the population into fronts
+	 * @param parallel if {@code true}, the pairwise distances are computed in parallel
+	 */
+	public ArrayAGEMOEA(AGEMOEABuilder<S> builder, Ranking<S> ranking, boolean parallel) {
+		super(builder);
+		this.ranking = ranking;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the pairwise distances are computed in parallel.
+	 * 
+	 * @return {@code true} if the pairwise distances are computed in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+		List<S> jointPopulation = new ArrayList<>(population.size() + offspringPopulation.size());
+		jointPopulation.addAll(population);
+		jointPopulation.addAll(offspringPopulation);
+
+		return new ArrayAGEMOEAEnvironmentalSelection<S>(getProblem().numberOfObjectives(), ranking, parallel)
+				.execute(jointPopulation, maxPopulationSize);
+	}
+
+}
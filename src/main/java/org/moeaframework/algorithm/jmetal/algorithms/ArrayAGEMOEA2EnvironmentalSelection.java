@@ -0,0 +1,102 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.algorithm.multiobjective.agemoeaii.util.AGEMOEA2EnvironmentalSelection;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link AGEMOEA2EnvironmentalSelection} with the non-dominated sorting performed by the given ranking, the
+ * pairwise geodesic distances between solutions optionally computed in parallel, and the survival scores computed
+ * incrementally by {@link DiverseSolutionSearch}.  Each distance is computed with the same operations as JMetal, so
+ * with a ranking that reproduces JMetal's fronts the results are identical, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayAGEMOEA2EnvironmentalSelection<S extends Solution<?>> extends AGEMOEA2EnvironmentalSelection<S> {
+
+	/**
+	 * The ranking used to sort the population into fronts.
+	 */
+	private final Ranking<S> ranking;
+
+	/**
+	 * If {@code true}, the pairwise distances are computed in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The search for the next solution to select when computing survival scores.
+	 */
+	private final DiverseSolutionSearch search;
+
+	/**
+	 * Constructs a new environmental selection.
+	 * 
+	 * @param numberOfObjectives the number of objectives
+	 * @param ranking the ranking used to sort the population into fronts
+	 * @param parallel if {@code true}, the pairwise distances are computed in parallel
+	 */
+	public ArrayAGEMOEA2EnvironmentalSelection(int numberOfObjectives, Ranking<S> ranking, boolean parallel) {
+		super(numberOfObjectives);
+		this.ranking = ranking;
+		this.parallel = parallel;
+		this.search = new DiverseSolutionSearch();
+	}
+
+	@Override
+	public List<S> execute(List<S> solutionList, int solutionsToSelect) throws JMetalException {
+		ranking.compute(solutionList);
+		return selectFromFronts(ranking, solutionsToSelect);
+	}
+
+	@Override
+	protected double[][] pairwiseDistances(List<double[]> normalizedFront, double p) {
+		int size = normalizedFront.size();
+
+		for (int i = 0; i < size; i++) {
+			normalizedFront.set(i, projectPoint(normalizedFront.get(i), p));
+		}
+
+		double[][] distances = new double[size][size];
+		IntStream indices = IntStream.range(0, size);
+
+		(parallel ? indices.parallel() : indices).forEach(i -> {
+			for (int j = i + 1; j < size; j++) {
+				double[] midpoint = projectPoint(midPoint(normalizedFront.get(i), normalizedFront.get(j)), P);
+				distances[i][j] = minkowskiDistance(normalizedFront.get(i), midpoint, 2.0) +
+						minkowskiDistance(midpoint, normalizedFront.get(j), 2.0);
+				distances[j][i] = distances[i][j];
+			}
+		});
+
+		return distances;
+	}
+
+	@Override
+	protected double[] findMoreDiverseSolution(double[][] distances, List<Integer> selected,
+			List<Integer> remaining) {
+		return search.find(distances, selected, remaining);
+	}
+
+}
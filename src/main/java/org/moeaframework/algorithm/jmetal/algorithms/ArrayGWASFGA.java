@@ -0,0 +1,128 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.scalarization.ArrayGWASFGARanking;
+import org.moeaframework.algorithm.jmetal.scalarization.ScalarizationKernels;
+import org.uma.jmetal.algorithm.multiobjective.gwasfga.GWASFGA;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFWASFGA;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link GWASFGA} with the ranking computed by {@link ScalarizationKernels#augmentedASF} and
+ * {@link ArrayGWASFGARanking}.  As in JMetal, the weight vectors are split alternately between the utopia and nadir
+ * points.  The results are identical to {@link GWASFGA}, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayGWASFGA<S extends Solution<?>> extends GWASFGA<S> {
+
+	private static final long serialVersionUID = -3467062406006785683L;
+
+	/**
+	 * The weight vectors measured from the utopia point, which are the odd weight vectors.
+	 */
+	private final double[][] utopiaWeights;
+
+	/**
+	 * The weight vectors measured from the nadir point, which are the even weight vectors.
+	 */
+	private final double[][] nadirWeights;
+
+	/**
+	 * The achievement scalarizing functions measured from the utopia point, which are only evaluated when ranking
+	 * infeasible solutions.
+	 */
+	private final ASFWASFGA<S> achievementScalarizingUtopia;
+
+	/**
+	 * The achievement scalarizing functions measured from the nadir point, which are only evaluated when ranking
+	 * infeasible solutions.
+	 */
+	private final ASFWASFGA<S> achievementScalarizingNadir;
+
+	/**
+	 * If {@code true}, the weight vectors are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of GWASFGA.
+	 * 
+	 * @param problem the problem
+	 * @param populationSize the population size
+	 * @param maxIterations the maximum number of iterations
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param selectionOperator the selection operator
+	 * @param evaluator the solution list evaluator
+	 * @param epsilon the epsilon used when generating weight vectors in two objectives
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 */
+	public ArrayGWASFGA(Problem<S> problem, int populationSize, int maxIterations,
+			CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+			SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator, double epsilon,
+			boolean parallel) {
+		super(problem, populationSize, maxIterations, crossoverOperator, mutationOperator, selectionOperator,
+				evaluator, epsilon);
+		this.utopiaWeights = new double[weights.length / 2][];
+		this.nadirWeights = new double[weights.length - utopiaWeights.length][];
+		
+		for (int i = 0; i < weights.length; i++) {
+			if (i % 2 == 0) {
+				nadirWeights[i / 2] = weights[i];
+			} else {
+				utopiaWeights[i / 2] = weights[i];
+			}
+		}
+		
+		this.achievementScalarizingUtopia = new ASFWASFGA<S>(utopiaWeights, getReferencePoint());
+		this.achievementScalarizingNadir = new ASFWASFGA<S>(nadirWeights, getNadirPoint());
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the weight vectors are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the weight vectors are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected Ranking<S> computeRanking(List<S> solutionList) {
+		double[][] objectives = ScalarizationKernels.getObjectives(solutionList);
+		double[][] utopiaValues = ScalarizationKernels.augmentedASF(utopiaWeights,
+				ScalarizationKernels.toArray(getReferencePoint()), objectives, parallel);
+		double[][] nadirValues = ScalarizationKernels.augmentedASF(nadirWeights,
+				ScalarizationKernels.toArray(getNadirPoint()), objectives, parallel);
+		
+		return new ArrayGWASFGARanking<S>(achievementScalarizingUtopia, achievementScalarizingNadir, parallel)
+				.compute(solutionList, utopiaValues, nadirValues);
+	}
+
+}
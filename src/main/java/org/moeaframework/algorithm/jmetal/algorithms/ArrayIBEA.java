@@ -0,0 +1,255 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.moeaframework.algorithm.jmetal.ranking.AbstractArrayRanking;
+import org.uma.jmetal.algorithm.multiobjective.ibea.IBEA;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * JMetal's {@link IBEA} with the indicator matrix and fitness values stored in primitive arrays.  JMetal stores the
+ * matrix as nested lists of boxed values, and removing the worst individual deletes a row and a column from those
+ * lists, which costs {@code O(N^2)} per removal.  Here, the matrix is computed once per generation, optionally in
+ * parallel with one task per row, and removals only update the fitness of the remaining individuals and a mapping from
+ * list positions to matrix rows.
+ * <p>
+ * Each entry and each fitness value is computed with the same operations in the same order as JMetal, so the results
+ * are identical to {@link IBEA}, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayIBEA<S extends Solution<?>> extends IBEA<S> {
+
+	private static final long serialVersionUID = -2305167532985044722L;
+
+	/**
+	 * The scaling factor applied to the indicator values, which matches the value used by JMetal.
+	 */
+	private static final double KAPPA = 0.05;
+
+	/**
+	 * The factor used to extend the reference point beyond the range of each objective, which matches the value used
+	 * by JMetal.
+	 */
+	private static final double RHO = 2.0;
+
+	/**
+	 * If {@code true}, the indicator matrix and fitness values are computed in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The indicator matrix, where {@code indicators[i][j]} is the indicator value of the i-th solution against the
+	 * j-th solution, indexed by the position of each solution when the fitness was calculated.
+	 */
+	private double[][] indicators;
+
+	/**
+	 * The fitness of each solution, indexed by the position of each solution when the fitness was calculated.
+	 */
+	private double[] fitness;
+
+	/**
+	 * The row of the indicator matrix for each solution remaining in the list.
+	 */
+	private int[] rows;
+
+	/**
+	 * The number of solutions remaining in the list.
+	 */
+	private int size;
+
+	/**
+	 * Constructs a new instance of IBEA.
+	 * 
+	 * @param problem the problem
+	 * @param populationSize the population size
+	 * @param archiveSize the archive size
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param selectionOperator the selection operator
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param parallel if {@code true}, the indicator matrix and fitness values are computed in parallel
+	 */
+	public ArrayIBEA(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
+			SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
+			MutationOperator<S> mutationOperator, boolean parallel) {
+		super(problem, populationSize, archiveSize, maxEvaluations, selectionOperator, crossoverOperator,
+				mutationOperator);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the indicator matrix and fitness values are computed in parallel.
+	 * 
+	 * @return {@code true} if the indicator matrix and fitness values are computed in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public void calculateFitness(List<S> solutionSet) {
+		int numberOfObjectives = problem.numberOfObjectives();
+		int n = solutionSet.size();
+		double[][] objectives = new double[n][];
+		double[] violations = new double[n];
+		double[] maximumValues = new double[numberOfObjectives];
+		double[] minimumValues = new double[numberOfObjectives];
+
+		for (int i = 0; i < numberOfObjectives; i++) {
+			maximumValues[i] = -Double.MAX_VALUE;
+			minimumValues[i] = Double.MAX_VALUE;
+		}
+
+		for (int i = 0; i < n; i++) {
+			S solution = solutionSet.get(i);
+			double degree = ConstraintHandling.overallConstraintViolationDegree(solution);
+
+			objectives[i] = solution.objectives();
+			violations[i] = degree < 0.0 ? -degree : 0.0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				if (objectives[i][j] > maximumValues[j]) {
+					maximumValues[j] = objectives[i][j];
+				}
+
+				if (objectives[i][j] < minimumValues[j]) {
+					minimumValues[j] = objectives[i][j];
+				}
+			}
+		}
+
+		indicators = new double[n][n];
+		fitness = new double[n];
+		rows = IntStream.range(0, n).toArray();
+		size = n;
+
+		range(n).forEach(i -> {
+			for (int j = 0; j < n; j++) {
+				indicators[i][j] = AbstractArrayRanking.compare(objectives[i], violations[i], objectives[j],
+						violations[j]) == -1 ?
+						-indicator(objectives[i], objectives[j], numberOfObjectives, maximumValues, minimumValues) :
+						indicator(objectives[j], objectives[i], numberOfObjectives, maximumValues, minimumValues);
+			}
+		});
+
+		maxIndicatorValue = -Double.MAX_VALUE;
+
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				if (Math.abs(indicators[i][j]) > maxIndicatorValue) {
+					maxIndicatorValue = Math.abs(indicators[i][j]);
+				}
+			}
+		}
+
+		range(n).forEach(j -> {
+			double sum = 0.0;
+
+			for (int i = 0; i < n; i++) {
+				if (i != j) {
+					sum += Math.exp(-indicators[i][j] / maxIndicatorValue / KAPPA);
+				}
+			}
+
+			fitness[j] = sum;
+		});
+
+		for (int i = 0; i < n; i++) {
+			solutionFitness.setAttribute(solutionSet.get(i), fitness[i]);
+		}
+	}
+
+	@Override
+	public void removeWorst(List<S> solutionSet) {
+		Check.that(solutionSet.size() == size, "The fitness was not calculated for this list of solutions");
+
+		int worstIndex = 0;
+
+		for (int i = 1; i < size; i++) {
+			if (fitness[rows[i]] > fitness[rows[worstIndex]]) {
+				worstIndex = i;
+			}
+		}
+
+		double[] worst = indicators[rows[worstIndex]];
+
+		for (int i = 0; i < size; i++) {
+			if (i != worstIndex) {
+				int row = rows[i];
+				fitness[row] -= Math.exp(-worst[row] / maxIndicatorValue / KAPPA);
+				solutionFitness.setAttribute(solutionSet.get(i), fitness[row]);
+			}
+		}
+
+		System.arraycopy(rows, worstIndex + 1, rows, worstIndex, size - worstIndex - 1);
+		size--;
+		solutionSet.remove(worstIndex);
+	}
+
+	/**
+	 * Returns the stream of indices {@code 0} to {@code n - 1}, which is parallel if this algorithm is configured to
+	 * compute the fitness in parallel.
+	 * 
+	 * @param n the number of indices
+	 * @return the stream of indices
+	 */
+	private IntStream range(int n) {
+		IntStream stream = IntStream.range(0, n);
+		return parallel ? stream.parallel() : stream;
+	}
+
+	/**
+	 * Computes the hypervolume of the region dominated by the first point but not the second, considering only the
+	 * first {@code d} objectives.  This reproduces {@code IBEA#calculateHypervolumeIndicator} on arrays.
+	 * 
+	 * @param a the objective values of the first point
+	 * @param b the objective values of the second point, or {@code null} to use the reference point
+	 * @param d the number of objectives considered
+	 * @param maximumValues the maximum value of each objective
+	 * @param minimumValues the minimum value of each objective
+	 * @return the indicator value
+	 */
+	private static double indicator(double[] a, double[] b, int d, double[] maximumValues,
+			double[] minimumValues) {
+		double r = RHO * (maximumValues[d - 1] - minimumValues[d - 1]);
+		double max = minimumValues[d - 1] + r;
+		double x = a[d - 1];
+		double y = b == null ? max : b[d - 1];
+
+		if (d == 1) {
+			return x < y ? (y - x) / r : 0.0;
+		} else if (x < y) {
+			return indicator(a, null, d - 1, maximumValues, minimumValues) * (y - x) / r +
+					indicator(a, b, d - 1, maximumValues, minimumValues) * (max - y) / r;
+		} else {
+			return indicator(a, b, d - 1, maximumValues, minimumValues) * (max - x) / r;
+		}
+	}
+
+}
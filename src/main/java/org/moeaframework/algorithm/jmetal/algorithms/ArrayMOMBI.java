@@ -0,0 +1,92 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.scalarization.ArrayR2Ranking;
+import org.moeaframework.algorithm.jmetal.scalarization.ScalarizationKernels;
+import org.uma.jmetal.algorithm.multiobjective.mombi.MOMBI;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2Ranking;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * JMetal's {@link MOMBI} with the R2 ranking computed by {@link ScalarizationKernels#tchebycheff} and
+ * {@link ArrayR2Ranking}.  The results are identical to {@link MOMBI}, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayMOMBI<S extends Solution<?>> extends MOMBI<S> {
+
+	private static final long serialVersionUID = 1953262843361380446L;
+
+	/**
+	 * The weight vectors of the utility functions, indexed by weight vector and then by objective.
+	 */
+	private final double[][] weights;
+
+	/**
+	 * If {@code true}, the weight vectors are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of MOMBI.
+	 * 
+	 * @param problem the problem
+	 * @param maxIterations the maximum number of iterations
+	 * @param crossover the crossover operator
+	 * @param mutation the mutation operator
+	 * @param selection the selection operator
+	 * @param evaluator the solution list evaluator
+	 * @param pathWeights the path to the weight vectors file
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 */
+	public ArrayMOMBI(Problem<S> problem, int maxIterations, CrossoverOperator<S> crossover,
+			MutationOperator<S> mutation, SelectionOperator<List<S>, S> selection, SolutionListEvaluator<S> evaluator,
+			String pathWeights, boolean parallel) {
+		super(problem, maxIterations, crossover, mutation, selection, evaluator, pathWeights);
+		this.weights = ScalarizationKernels.getWeights(getUtilityFunctions());
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the weight vectors are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the weight vectors are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected R2Ranking<S> computeRanking(List<S> solutionList) {
+		double[][] values = ScalarizationKernels.tchebycheff(weights,
+				ScalarizationKernels.toArray(getReferencePoint()),
+				ScalarizationKernels.getObjectives(solutionList),
+				parallel);
+		
+		return new ArrayR2Ranking<S>(getUtilityFunctions(), parallel).computeRanking(solutionList, values, null);
+	}
+
+}
@@ -0,0 +1,109 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.scalarization.ArrayR2Ranking;
+import org.moeaframework.algorithm.jmetal.scalarization.ScalarizationKernels;
+import org.uma.jmetal.algorithm.multiobjective.mombi.MOMBI2;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2Ranking;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * JMetal's {@link MOMBI2} with the normalized R2 ranking computed by {@link ScalarizationKernels#asf} and
+ * {@link ArrayR2Ranking}.  The objectives are normalized once per solution rather than once per solution and weight
+ * vector.  The results are identical to {@link MOMBI2}, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayMOMBI2<S extends Solution<?>> extends MOMBI2<S> {
+
+	private static final long serialVersionUID = -5380473432279937785L;
+
+	/**
+	 * The weight vectors of the utility functions, indexed by weight vector and then by objective.
+	 */
+	private final double[][] weights;
+
+	/**
+	 * The reference point of the utility functions, which JMetal fixes at the origin of the normalized objectives.
+	 */
+	private final double[] referencePoint;
+
+	/**
+	 * If {@code true}, the weight vectors are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of MOMBI2.
+	 * 
+	 * @param problem the problem
+	 * @param maxIterations the maximum number of iterations
+	 * @param crossover the crossover operator
+	 * @param mutation the mutation operator
+	 * @param selection the selection operator
+	 * @param evaluator the solution list evaluator
+	 * @param pathWeights the path to the weight vectors file
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 */
+	public ArrayMOMBI2(Problem<S> problem, int maxIterations, CrossoverOperator<S> crossover,
+			MutationOperator<S> mutation, SelectionOperator<List<S>, S> selection, SolutionListEvaluator<S> evaluator,
+			String pathWeights, boolean parallel) {
+		super(problem, maxIterations, crossover, mutation, selection, evaluator, pathWeights);
+		this.weights = ScalarizationKernels.getWeights(getUtilityFunctions());
+		this.referencePoint = new double[problem.numberOfObjectives()];
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the weight vectors are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the weight vectors are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected R2Ranking<S> computeRanking(List<S> solutionList) {
+		double[][] objectives = ScalarizationKernels.getObjectives(solutionList);
+		double[] norms = new double[objectives.length];
+		
+		for (int s = 0; s < objectives.length; s++) {
+			double sum = 0.0;
+			
+			for (int i = 0; i < objectives[s].length; i++) {
+				objectives[s][i] = normalizer.normalize(objectives[s][i], i);
+				sum += Math.pow(objectives[s][i], 2.0);
+			}
+			
+			norms[s] = Math.sqrt(sum);
+		}
+		
+		double[][] values = ScalarizationKernels.asf(weights, referencePoint, objectives, parallel);
+		return new ArrayR2Ranking<S>(getUtilityFunctions(), parallel).computeRanking(solutionList, values, norms);
+	}
+
+}
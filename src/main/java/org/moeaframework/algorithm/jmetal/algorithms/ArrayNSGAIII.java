@@ -0,0 +1,139 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.adapters.ProblemAdapter;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.NSGAIII;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.NSGAIIIBuilder;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ReferencePoint;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link NSGAIII} with the non-dominated sorting performed by the given ranking and the niching step
+ * performed by {@link ArrayNSGAIIIEnvironmentalSelection}, which associates solutions with reference points on
+ * primitive arrays and optionally in parallel.  With a ranking that reproduces JMetal's fronts, the results are
+ * identical to {@link NSGAIII}.  If the problem is a {@link ProblemAdapter} with a solution pool, the solutions
+ * discarded during replacement are released to the pool.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayNSGAIII<S extends Solution<?>> extends NSGAIII<S> {
+
+	private static final long serialVersionUID = 3546460542958127711L;
+
+	/**
+	 * The ranking used to sort the combined parent and offspring populations into fronts.
+	 */
+	private final Ranking<S> ranking;
+
+	/**
+	 * If {@code true}, solutions are associated with reference points in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new instance of this algorithm using the settings configured in the given builder.
+	 * 
+	 * @param builder the NSGA-III builder
+	 * @param ranking the ranking used to sort the population into fronts
+	 * @param parallel if {@code true}, solutions are associated with reference points in parallel
+	 */
+	public ArrayNSGAIII(NSGAIIIBuilder<S> builder, Ranking<S> ranking, boolean parallel) {
+		super(builder);
+		this.ranking = ranking;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if solutions are associated with reference points in parallel.
+	 * 
+	 * @return {@code true} if solutions are associated with reference points in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected Ranking<S> computeRanking(List<S> solutionList) {
+		return ranking.compute(solutionList);
+	}
+
+	@Override
+	protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+		List<S> jointPopulation = new ArrayList<>(population.size() + offspringPopulation.size());
+		jointPopulation.addAll(population);
+		jointPopulation.addAll(offspringPopulation);
+
+		List<S> survivors = select(jointPopulation);
+
+		if (getProblem() instanceof ProblemAdapter<S> adapter) {
+			adapter.releaseDiscarded(jointPopulation, survivors);
+		}
+
+		return survivors;
+	}
+
+	/**
+	 * Selects the next population from the combined parent and offspring populations.
+	 * 
+	 * @param jointPopulation the combined parent and offspring populations
+	 * @return the next population
+	 */
+	private List<S> select(List<S> jointPopulation) {
+		Ranking<S> jointRanking = computeRanking(jointPopulation);
+		List<List<S>> fronts = new ArrayList<>();
+		List<S> result = new ArrayList<>();
+		List<S> last = new ArrayList<>();
+		int rankingIndex = 0;
+		int candidateSolutions = 0;
+
+		while (candidateSolutions < getMaxPopulationSize()) {
+			last = jointRanking.getSubFront(rankingIndex);
+			fronts.add(last);
+			candidateSolutions += last.size();
+
+			if (result.size() + last.size() <= getMaxPopulationSize()) {
+				result.addAll(last);
+			}
+
+			rankingIndex++;
+		}
+
+		if (result.size() == getMaxPopulationSize()) {
+			return result;
+		}
+
+		List<ReferencePoint<S>> referencePointsCopy = new ArrayList<>(referencePoints.size());
+
+		for (ReferencePoint<S> referencePoint : referencePoints) {
+			referencePointsCopy.add(new ReferencePoint<>(referencePoint));
+		}
+
+		ArrayNSGAIIIEnvironmentalSelection<S> selection = new ArrayNSGAIIIEnvironmentalSelection<>(fronts,
+				getMaxPopulationSize() - result.size(), referencePointsCopy, getProblem().numberOfObjectives(),
+				parallel);
+
+		result.addAll(selection.execute(last));
+		return result;
+	}
+
+}
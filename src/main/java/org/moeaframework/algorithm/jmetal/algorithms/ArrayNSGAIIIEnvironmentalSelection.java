@@ -0,0 +1,167 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.EnvironmentalSelection;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ReferencePoint;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's NSGA-III {@link EnvironmentalSelection} with the association of solutions to reference points computed on
+ * primitive arrays, optionally in parallel.  Associating each solution with its nearest reference point dominates the
+ * cost of the selection for many objectives, and JMetal computes each perpendicular distance on lists of boxed values.
+ * <p>
+ * The nearest reference point of each solution is found independently, using the same operations in the same order
+ * as JMetal, and the reference points are then updated sequentially in population order.  The results are therefore
+ * identical to {@link EnvironmentalSelection}, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayNSGAIIIEnvironmentalSelection<S extends Solution<?>> extends EnvironmentalSelection<S> {
+
+	private static final long serialVersionUID = 7129503846617582340L;
+
+	/**
+	 * The fronts being selected from, where the last front is the one being truncated.
+	 */
+	private final List<List<S>> fronts;
+
+	/**
+	 * The reference points.
+	 */
+	private final List<ReferencePoint<S>> referencePoints;
+
+	/**
+	 * If {@code true}, solutions are associated with reference points in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new environmental selection.
+	 * 
+	 * @param fronts the fronts being selected from, where the last front is the one being truncated
+	 * @param solutionsToSelect the number of solutions to select from the last front
+	 * @param referencePoints the reference points, which are updated during selection
+	 * @param numberOfObjectives the number of objectives
+	 * @param parallel if {@code true}, solutions are associated with reference points in parallel
+	 */
+	public ArrayNSGAIIIEnvironmentalSelection(List<List<S>> fronts, int solutionsToSelect,
+			List<ReferencePoint<S>> referencePoints, int numberOfObjectives, boolean parallel) {
+		super(fronts, solutionsToSelect, referencePoints, numberOfObjectives);
+		this.fronts = fronts;
+		this.referencePoints = referencePoints;
+		this.parallel = parallel;
+	}
+
+	@Override
+	public void associate(List<S> population) {
+		int numberOfReferencePoints = referencePoints.size();
+		double[][] directions = new double[numberOfReferencePoints][];
+		double[] denominators = new double[numberOfReferencePoints];
+
+		for (int r = 0; r < numberOfReferencePoints; r++) {
+			List<Double> position = referencePoints.get(r).position;
+			directions[r] = new double[position.size()];
+
+			for (int i = 0; i < position.size(); i++) {
+				directions[r][i] = position.get(i);
+				denominators[r] += Math.pow(directions[r][i], 2.0);
+			}
+		}
+
+		List<S> solutions = new ArrayList<>();
+
+		for (List<S> front : fronts) {
+			solutions.addAll(front);
+		}
+
+		int size = solutions.size();
+		double[][] points = new double[size][];
+		int[] closest = new int[size];
+		double[] distances = new double[size];
+
+		for (int i = 0; i < size; i++) {
+			List<Double> normalizedObjectives = getAttribute(solutions.get(i));
+			points[i] = new double[normalizedObjectives.size()];
+
+			for (int j = 0; j < points[i].length; j++) {
+				points[i][j] = normalizedObjectives.get(j);
+			}
+		}
+
+		IntStream indices = IntStream.range(0, size);
+
+		(parallel ? indices.parallel() : indices).forEach(i -> {
+			int minIndex = -1;
+			double minDistance = Double.MAX_VALUE;
+
+			for (int r = 0; r < numberOfReferencePoints; r++) {
+				double distance = perpendicularDistance(directions[r], denominators[r], points[i]);
+
+				if (distance < minDistance) {
+					minDistance = distance;
+					minIndex = r;
+				}
+			}
+
+			closest[i] = minIndex;
+			distances[i] = minDistance;
+		});
+
+		int lastFrontStart = size - fronts.get(fronts.size() - 1).size();
+
+		for (int i = 0; i < size; i++) {
+			if (i < lastFrontStart) {
+				referencePoints.get(closest[i]).AddMember();
+			} else {
+				referencePoints.get(closest[i]).AddPotentialMember(solutions.get(i), distances[i]);
+			}
+		}
+	}
+
+	/**
+	 * Computes the distance from a point to the line through the origin in the given direction.  This reproduces
+	 * {@link EnvironmentalSelection#perpendicularDistance(List, List)} on arrays.
+	 * 
+	 * @param direction the direction of the line
+	 * @param denominator the sum of the squared components of the direction
+	 * @param point the point
+	 * @return the perpendicular distance
+	 */
+	private static double perpendicularDistance(double[] direction, double denominator, double[] point) {
+		double numerator = 0.0;
+
+		for (int i = 0; i < direction.length; i++) {
+			numerator += direction[i] * point[i];
+		}
+
+		double k = numerator / denominator;
+		double d = 0.0;
+
+		for (int i = 0; i < direction.length; i++) {
+			d += Math.pow(k * direction[i] - point[i], 2.0);
+		}
+
+		return Math.sqrt(d);
+	}
+
+}
@@ -0,0 +1,105 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.scalarization.ArrayWASFGARanking;
+import org.moeaframework.algorithm.jmetal.scalarization.ScalarizationKernels;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFWASFGA;
+import org.uma.jmetal.algorithm.multiobjective.wasfga.WASFGA;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link WASFGA} with the ranking computed by {@link ScalarizationKernels#augmentedASF} and
+ * {@link ArrayWASFGARanking}.  The results are identical to {@link WASFGA}, with or without parallelism.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayWASFGA<S extends Solution<?>> extends WASFGA<S> {
+
+	private static final long serialVersionUID = 2766358797286924339L;
+
+	/**
+	 * The point of interest, which is shared with the achievement scalarizing functions so updates made through
+	 * {@link #updatePointOfInterest(List)} are seen by both.
+	 */
+	private final List<Double> interestPoint;
+
+	/**
+	 * The achievement scalarizing functions, which are only evaluated when ranking infeasible solutions.
+	 */
+	private final ASFWASFGA<S> achievementScalarizingFunction;
+
+	/**
+	 * If {@code true}, the weight vectors are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of WASFGA.
+	 * 
+	 * @param problem the problem
+	 * @param populationSize the population size
+	 * @param maxIterations the maximum number of iterations
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param selectionOperator the selection operator
+	 * @param evaluator the solution list evaluator
+	 * @param epsilon the epsilon used when generating weight vectors in two objectives
+	 * @param referencePoint the point of interest
+	 * @param weightVectorsFileName the weight vectors file, or {@code ""} to use the default weights
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 */
+	public ArrayWASFGA(Problem<S> problem, int populationSize, int maxIterations,
+			CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+			SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator, double epsilon,
+			List<Double> referencePoint, String weightVectorsFileName, boolean parallel) {
+		super(problem, populationSize, maxIterations, crossoverOperator, mutationOperator, selectionOperator,
+				evaluator, epsilon, referencePoint, weightVectorsFileName);
+		this.interestPoint = referencePoint;
+		this.achievementScalarizingFunction = new ASFWASFGA<S>(weights, referencePoint);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the weight vectors are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the weight vectors are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected Ranking<S> computeRanking(List<S> solutionList) {
+		double[][] values = ScalarizationKernels.augmentedASF(weights,
+				ScalarizationKernels.toArray(interestPoint),
+				ScalarizationKernels.getObjectives(solutionList),
+				parallel);
+		
+		return new ArrayWASFGARanking<S>(achievementScalarizingFunction, parallel).compute(solutionList, values);
+	}
+
+}
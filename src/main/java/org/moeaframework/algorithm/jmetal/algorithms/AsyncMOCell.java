@@ -0,0 +1,241 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+import org.moeaframework.algorithm.jmetal.adapters.SplittableRandomGenerator;
+import org.moeaframework.algorithm.jmetal.archive.SynchronizedArchive;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCell;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.neighborhood.Neighborhood;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+/**
+ * Asynchronous, multi-threaded version of JMetal's {@link MOCell}.  The grid is split into disjoint regions of
+ * contiguous cells, and each region is evolved by its own thread, visiting its cells in order and replacing them as in
+ * {@link MOCell}.  The threads share the evaluation budget, the external archive, and read access to the entire grid,
+ * so neighborhoods spanning two regions see whatever solution the other thread most recently published.
+ * <p>
+ * Each cell is only written by the thread owning its region, and a solution is never modified once it is published
+ * to the grid.  Neighbors are therefore read without locking, and are ranked as copies when the offspring and the
+ * current solution are non-dominated.  The archive is wrapped in a {@link SynchronizedArchive} and only stores copies,
+ * so solutions selected from the archive are copied while holding its lock.
+ * <p>
+ * Each region draws its random numbers from its own stream of the run's {@link SplittableRandomGenerator}, keyed by the
+ * region index.  Nevertheless, since the order in which the threads update the grid and the archive depends on
+ * scheduling, the results are not reproducible and differ from {@link MOCell}, even with a single region.  Offspring
+ * are evaluated directly by the problem rather than through the solution list evaluator, which is only used for the
+ * initial population.
+ *
+ * @param <S> the type of solution
+ */
+public class AsyncMOCell<S extends Solution<?>> extends MOCell<S> {
+
+	private static final long serialVersionUID = 6092715420958163349L;
+
+	/**
+	 * The number of regions evolved concurrently.
+	 */
+	private final int regions;
+
+	/**
+	 * Creates a new instance of the asynchronous MOCell algorithm.
+	 * 
+	 * @param problem the problem
+	 * @param maxEvaluations the maximum number of evaluations, excluding the initial population
+	 * @param populationSize the size of the grid
+	 * @param archive the external archive, which is wrapped in a {@link SynchronizedArchive}
+	 * @param neighborhood the neighborhood of each cell
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param selectionOperator the selection operator
+	 * @param evaluator the evaluator of the initial population
+	 * @param regions the number of regions evolved concurrently
+	 */
+	public AsyncMOCell(Problem<S> problem, int maxEvaluations, int populationSize, BoundedArchive<S> archive,
+			Neighborhood<S> neighborhood, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+			SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator, int regions) {
+		super(problem, maxEvaluations, populationSize, new SynchronizedArchive<S>(archive), neighborhood,
+				crossoverOperator, mutationOperator, selectionOperator, evaluator);
+		
+		if (regions < 1) {
+			throw new JMetalException("regions must be positive: " + regions);
+		}
+		
+		this.regions = regions;
+	}
+
+	/**
+	 * Returns the number of regions evolved concurrently.
+	 * 
+	 * @return the number of regions evolved concurrently
+	 */
+	public int getRegions() {
+		return regions;
+	}
+
+	@Override
+	public void run() {
+		population = evaluatePopulation(createInitialPopulation());
+		initProgress();
+		
+		int size = population.size();
+		int threads = Math.min(regions, size);
+		AtomicReferenceArray<S> cells = new AtomicReferenceArray<S>(size);
+		AtomicInteger counter = new AtomicInteger();
+		
+		for (int i = 0; i < size; i++) {
+			cells.set(i, population.get(i));
+		}
+		
+		List<S> grid = new AbstractList<S>() {
+
+			@Override
+			public S get(int index) {
+				return cells.get(index);
+			}
+
+			@Override
+			public int size() {
+				return cells.length();
+			}
+
+		};
+		
+		IntConsumer region = SplittableRandomGenerator.withStreams(threads, r -> {
+			int start = (int)((long)r * size / threads);
+			int end = (int)((long)(r + 1) * size / threads);
+			
+			for (int i = start; counter.getAndIncrement() < maxEvaluations; i = i + 1 < end ? i + 1 : start) {
+				evolve(grid, cells, i);
+			}
+		});
+		
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(threads);
+		
+		for (int r = 0; r < threads; r++) {
+			int index = r;
+			
+			tasks.add(() -> {
+				region.accept(index);
+				return null;
+			});
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JMetalException("MOCell interrupted", e);
+		} catch (ExecutionException e) {
+			throw new JMetalException("MOCell region failed", e);
+		} finally {
+			executor.shutdownNow();
+		}
+		
+		population = new ArrayList<S>(size);
+		
+		for (int i = 0; i < size; i++) {
+			population.add(cells.get(i));
+		}
+		
+		evaluations = maxEvaluations;
+	}
+
+	/**
+	 * Produces one offspring for the given cell and replaces the solution in the cell if appropriate.  Must only be
+	 * called by the thread owning the cell.
+	 * 
+	 * @param grid a read-only view of the cells
+	 * @param cells the cells
+	 * @param index the index of the cell
+	 */
+	@SuppressWarnings("unchecked")
+	private void evolve(List<S> grid, AtomicReferenceArray<S> cells, int index) {
+		S current = cells.get(index);
+		List<S> neighbors = neighborhood.getNeighbors(grid, index);
+		neighbors.add(current);
+		
+		List<S> parents = new ArrayList<S>(2);
+		parents.add(selectionOperator.execute(neighbors));
+		
+		S archived = ((SynchronizedArchive<S>)archive).apply(solutions ->
+				solutions.size() > 1 ? (S)selectionOperator.execute(solutions).copy() : null);
+		parents.add(archived != null ? archived : selectionOperator.execute(neighbors));
+		
+		S offspring = crossoverOperator.execute(parents).get(0);
+		mutationOperator.execute(offspring);
+		getProblem().evaluate(offspring);
+		
+		int flag = dominanceComparator.compare(current, offspring);
+		
+		if (flag == 1) {
+			archive.add((S)offspring.copy());
+			cells.set(index, offspring);
+		} else if (flag == 0) {
+			List<S> candidates = new ArrayList<S>(neighbors.size() + 1);
+			
+			for (S neighbor : neighbors) {
+				candidates.add((S)neighbor.copy());
+			}
+			
+			candidates.add(offspring);
+			
+			FastNonDominatedSortRanking<S> ranking = new FastNonDominatedSortRanking<S>();
+			ranking.compute(candidates);
+			
+			CrowdingDistanceDensityEstimator<S> crowdingDistance = new CrowdingDistanceDensityEstimator<S>();
+			
+			for (int j = 0; j < ranking.getNumberOfSubFronts(); j++) {
+				crowdingDistance.compute(ranking.getSubFront(j));
+			}
+			
+			candidates.sort(new RankingAndCrowdingDistanceComparator<S>());
+			archive.add((S)offspring.copy());
+			
+			if (candidates.get(candidates.size() - 1) != offspring) {
+				cells.set(index, offspring);
+			}
+		}
+	}
+
+}
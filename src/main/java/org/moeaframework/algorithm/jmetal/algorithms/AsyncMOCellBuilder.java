@@ -0,0 +1,68 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCell;
+import org.uma.jmetal.algorithm.multiobjective.mocell.MOCellBuilder;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link MOCellBuilder} producing an {@link AsyncMOCell}.
+ *
+ * @param <S> the type of solution
+ */
+public class AsyncMOCellBuilder<S extends Solution<?>> extends MOCellBuilder<S> {
+
+	/**
+	 * The number of regions evolved concurrently.
+	 */
+	private final int regions;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param regions the number of regions evolved concurrently
+	 */
+	public AsyncMOCellBuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
+			MutationOperator<S> mutationOperator, int regions) {
+		super(problem, crossoverOperator, mutationOperator);
+		this.regions = regions;
+	}
+
+	/**
+	 * Returns the number of regions evolved concurrently.
+	 * 
+	 * @return the number of regions evolved concurrently
+	 */
+	public int getRegions() {
+		return regions;
+	}
+
+	@Override
+	public MOCell<S> build() {
+		return new AsyncMOCell<S>(problem, maxEvaluations, populationSize, archive, neighborhood, crossoverOperator,
+				mutationOperator, selectionOperator, evaluator, regions);
+	}
+
+}
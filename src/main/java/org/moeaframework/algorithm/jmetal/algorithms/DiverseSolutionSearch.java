@@ -0,0 +1,113 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the next solution to select during the AGE-MOEA survival score computation, which is the remaining solution
+ * with the largest sum of distances to its two nearest selected solutions.  JMetal rescans every pair of remaining and
+ * selected solutions each time a solution is selected, costing {@code O(N^3)} per front.  Here, the two nearest
+ * distances of each remaining solution are kept between calls and only updated with the solutions selected since the
+ * previous call, costing {@code O(N^2)} per front.
+ * <p>
+ * The two nearest distances are the two smallest values of the same set of distances, and ties are broken in favor
+ * of the last remaining solution exactly as in JMetal, so the results are identical.
+ */
+class DiverseSolutionSearch {
+
+	/**
+	 * The distance matrix from the previous call, used to detect when a new front is being processed.
+	 */
+	private double[][] distances;
+
+	/**
+	 * The number of selected solutions whose distances have been included.
+	 */
+	private int processed;
+
+	/**
+	 * The distance from each solution to its nearest selected solution.
+	 */
+	private double[] nearest;
+
+	/**
+	 * The distance from each solution to its second nearest selected solution.
+	 */
+	private double[] secondNearest;
+
+	/**
+	 * Constructs a new search.
+	 */
+	public DiverseSolutionSearch() {
+		super();
+	}
+
+	/**
+	 * Finds the remaining solution with the largest sum of distances to its two nearest selected solutions.  The
+	 * selected solutions must only grow between calls with the same distance matrix.
+	 * 
+	 * @param distances the distance matrix
+	 * @param selected the indices of the selected solutions
+	 * @param remaining the indices of the remaining solutions
+	 * @return the index of the chosen solution and its sum of distances, or an index of {@code -1} if none is found
+	 */
+	public double[] find(double[][] distances, List<Integer> selected, List<Integer> remaining) {
+		if (distances != this.distances || selected.size() < processed) {
+			this.distances = distances;
+			processed = 0;
+			nearest = new double[distances.length];
+			secondNearest = new double[distances.length];
+			Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+			Arrays.fill(secondNearest, Double.POSITIVE_INFINITY);
+		}
+
+		for (int k = processed; k < selected.size(); k++) {
+			int index2 = selected.get(k);
+
+			for (int index1 : remaining) {
+				double distance = distances[index1][index2];
+
+				if (distance < nearest[index1]) {
+					secondNearest[index1] = nearest[index1];
+					nearest[index1] = distance;
+				} else if (distance < secondNearest[index1]) {
+					secondNearest[index1] = distance;
+				}
+			}
+		}
+
+		processed = selected.size();
+
+		double bestValue = 0.0;
+		int bestIndex = -1;
+
+		for (int index1 : remaining) {
+			double value = nearest[index1] + secondNearest[index1];
+
+			if (value >= bestValue) {
+				bestValue = value;
+				bestIndex = index1;
+			}
+		}
+
+		return new double[] { bestIndex, bestValue };
+	}
+
+}
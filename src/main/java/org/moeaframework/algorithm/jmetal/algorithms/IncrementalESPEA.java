@@ -0,0 +1,120 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.archive.IncrementalEnergyArchive;
+import org.uma.jmetal.algorithm.multiobjective.espea.ESPEA;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.EnergyArchive;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.ScalarizationWrapper;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * JMetal's {@link ESPEA} using an {@link IncrementalEnergyArchive}, which updates the energy of each archived solution
+ * in linear time instead of recomputing all pairwise distances on every insertion.
+ * <p>
+ * Since the archive of {@link ESPEA} is created by its constructor and cannot be replaced, this class keeps its own
+ * archive and overrides every method using it.  The results match {@link ESPEA} unless a replacement decision falls
+ * within the rounding error described in {@link IncrementalEnergyArchive}.
+ *
+ * @param <S> the type of solution
+ */
+public class IncrementalESPEA<S extends Solution<?>> extends ESPEA<S> {
+
+	private static final long serialVersionUID = -1824016590359253017L;
+
+	/**
+	 * The energy archive used in place of the archive created by {@link ESPEA}.
+	 */
+	private final IncrementalEnergyArchive<S> incrementalArchive;
+
+	/**
+	 * Creates a new instance of the ESPEA algorithm with an incremental energy archive.
+	 * 
+	 * @param problem the problem
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param populationSize the population size, which is also the archive size
+	 * @param crossoverOperator the crossover operator
+	 * @param fullArchiveCrossoverOperator the crossover operator used once the archive is full
+	 * @param mutationOperator the mutation operator
+	 * @param selectionOperator the selection operator
+	 * @param scalarizationWrapper the scalarization applied to the solutions before computing their energies
+	 * @param evaluator the solution list evaluator
+	 * @param normalizeObjectives if {@code true}, the objectives are normalized before computing distances
+	 * @param replacementStrategy the strategy used to pick the solution replaced by a new solution
+	 */
+	public IncrementalESPEA(Problem<S> problem, int maxEvaluations, int populationSize,
+			CrossoverOperator<S> crossoverOperator, CrossoverOperator<S> fullArchiveCrossoverOperator,
+			MutationOperator<S> mutationOperator, SelectionOperator<List<S>, S> selectionOperator,
+			ScalarizationWrapper scalarizationWrapper, SolutionListEvaluator<S> evaluator,
+			boolean normalizeObjectives, EnergyArchive.ReplacementStrategy replacementStrategy) {
+		super(problem, maxEvaluations, populationSize, crossoverOperator, fullArchiveCrossoverOperator,
+				mutationOperator, selectionOperator, scalarizationWrapper, evaluator, normalizeObjectives,
+				replacementStrategy);
+		
+		incrementalArchive = new IncrementalEnergyArchive<S>(populationSize, scalarizationWrapper,
+				normalizeObjectives, replacementStrategy);
+	}
+
+	/**
+	 * Returns the energy archive.
+	 * 
+	 * @return the energy archive
+	 */
+	public IncrementalEnergyArchive<S> getArchive() {
+		return incrementalArchive;
+	}
+
+	@Override
+	protected void initProgress() {
+		evaluations = getMaxPopulationSize();
+		population.forEach(incrementalArchive::add);
+	}
+
+	@Override
+	protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+		offspringPopulation.forEach(incrementalArchive::add);
+		return incrementalArchive.solutions();
+	}
+
+	@Override
+	public List<S> result() {
+		return incrementalArchive.solutions();
+	}
+
+	@Override
+	protected List<S> selection(List<S> population) {
+		CrossoverOperator<S> chosenOperator = incrementalArchive.isFull() ? fullArchiveCrossoverOperator :
+			crossoverOperator;
+		List<S> matingPopulation = new ArrayList<S>(chosenOperator.numberOfRequiredParents());
+		
+		for (int i = 0; i < chosenOperator.numberOfRequiredParents(); i++) {
+			matingPopulation.add(selectionOperator.execute(population));
+		}
+		
+		return matingPopulation;
+	}
+
+}
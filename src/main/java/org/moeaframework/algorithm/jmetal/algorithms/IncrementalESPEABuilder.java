@@ -0,0 +1,60 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.uma.jmetal.algorithm.multiobjective.espea.ESPEA;
+import org.uma.jmetal.algorithm.multiobjective.espea.ESPEABuilder;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link ESPEABuilder} producing an {@link IncrementalESPEA}.  Since the problem is private in
+ * {@link ESPEABuilder}, this class tracks it itself.
+ *
+ * @param <S> the type of solution
+ */
+public class IncrementalESPEABuilder<S extends Solution<?>> extends ESPEABuilder<S> {
+
+	/**
+	 * The problem.
+	 */
+	private final Problem<S> problem;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 */
+	public IncrementalESPEABuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
+			MutationOperator<S> mutationOperator) {
+		super(problem, crossoverOperator, mutationOperator);
+		this.problem = problem;
+	}
+
+	@Override
+	public ESPEA<S> build() {
+		return new IncrementalESPEA<S>(problem, getMaxEvaluations(), getPopulationSize(), getCrossoverOperator(),
+				getFullArchiveCrossoverOperator(), getMutationOperator(), getSelectionOperator(), getScalarization(),
+				getEvaluator(), isNormalizeObjectives(), getOperationType());
+	}
+
+}
@@ -0,0 +1,276 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.abyss.ABYSS;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.localsearch.impl.BasicLocalSearch;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.bounds.Bounds;
+
+/**
+ * JMetal's {@link ABYSS} with the combination, improvement and diversification phases evaluating their solutions in
+ * batches.  Each phase first creates all of its solutions on the calling thread, drawing random numbers in the same
+ * order as {@link ABYSS}, then evaluates the batch, optionally in parallel.  The improved solutions are then passed to
+ * the reference set update one at a time and in the same order as {@link ABYSS}, so the reference sets and the
+ * archive are updated with the same semantics.
+ * <p>
+ * The local search is a batched form of JMetal's {@link BasicLocalSearch} with a single improvement round, as
+ * configured by {@code ABYSSBuilder}.  Since a tie between a solution and its mutant is broken with a random number
+ * drawn after the mutant is evaluated, these draws now follow the mutations of the entire batch.  The results
+ * therefore differ from {@link ABYSS}, but are identical with or without parallelism.  Unlike {@link ABYSS}, the
+ * random solutions created during a restart are evaluated only once.
+ */
+public class ParallelABYSS extends ABYSS {
+
+	private static final long serialVersionUID = 3260427981447826415L;
+
+	/**
+	 * The mutation operator used by the local search.
+	 */
+	private final MutationOperator<DoubleSolution> improvementMutation;
+
+	/**
+	 * The comparator used by the local search to decide if a mutant replaces the original solution.
+	 */
+	private final Comparator<DoubleSolution> improvementComparator;
+
+	/**
+	 * If {@code true}, each batch of solutions is evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new instance of the AbYSS algorithm with batched evaluations.
+	 * 
+	 * @param problem the problem
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param populationSize the population size
+	 * @param referenceSet1Size the size of the reference set containing the best solutions
+	 * @param referenceSet2Size the size of the reference set containing the most diverse solutions
+	 * @param archiveSize the archive size
+	 * @param archive the archive
+	 * @param improvementMutation the mutation operator used by the local search
+	 * @param improvementComparator the comparator used by the local search
+	 * @param crossoverOperator the crossover operator
+	 * @param numberOfSubRanges the number of sub-ranges used when generating diverse solutions
+	 * @param parallel if {@code true}, each batch of solutions is evaluated in parallel
+	 */
+	public ParallelABYSS(DoubleProblem problem, int maxEvaluations, int populationSize, int referenceSet1Size,
+			int referenceSet2Size, int archiveSize, Archive<DoubleSolution> archive,
+			MutationOperator<DoubleSolution> improvementMutation, Comparator<DoubleSolution> improvementComparator,
+			CrossoverOperator<DoubleSolution> crossoverOperator, int numberOfSubRanges, boolean parallel) {
+		super(problem, maxEvaluations, populationSize, referenceSet1Size, referenceSet2Size, archiveSize, archive,
+				new BasicLocalSearch<DoubleSolution>(1, improvementMutation, improvementComparator, problem),
+				crossoverOperator, numberOfSubRanges);
+		this.improvementMutation = improvementMutation;
+		this.improvementComparator = improvementComparator;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if each batch of solutions is evaluated in parallel.
+	 * 
+	 * @return {@code true} if each batch of solutions is evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public void run() {
+		initializationPhase();
+		referenceSetUpdate();
+		
+		while (!isStoppingConditionReached()) {
+			List<DoubleSolution> combinedSolutions = solutionCombination(subsetGeneration());
+			
+			if (restartConditionIsFulfilled(combinedSolutions)) {
+				restart();
+				referenceSetUpdate();
+				continue;
+			}
+			
+			for (DoubleSolution improvedSolution : improvement(combinedSolutions)) {
+				referenceSetUpdate(improvedSolution);
+			}
+		}
+	}
+
+	@Override
+	public void initializationPhase() {
+		setPopulation(improvement(diversificationGeneration(getPopulationSize())));
+	}
+
+	@Override
+	public DoubleSolution diversificationGeneration() {
+		return diversificationGeneration(1).get(0);
+	}
+
+	@Override
+	public DoubleSolution improvement(DoubleSolution solution) {
+		return improvement(List.of(solution)).get(0);
+	}
+
+	@Override
+	public List<DoubleSolution> solutionCombination(List<List<DoubleSolution>> solutionList) {
+		List<DoubleSolution> resultList = new ArrayList<DoubleSolution>(2 * solutionList.size());
+		
+		for (List<DoubleSolution> pair : solutionList) {
+			List<DoubleSolution> offspring = crossover.execute(pair);
+			resultList.add(offspring.get(0));
+			resultList.add(offspring.get(1));
+		}
+		
+		SwarmKernels.evaluate(problem, resultList, parallel);
+		evaluations += resultList.size();
+		return resultList;
+	}
+
+	@Override
+	public void restart() {
+		List<DoubleSolution> population = getPopulation();
+		population.clear();
+		
+		for (DoubleSolution solution : improvement(referenceSet1)) {
+			solution.attributes().put(SOLUTION_IS_MARKED, true);
+			population.add(solution);
+		}
+		
+		referenceSet1.clear();
+		referenceSet2.clear();
+		
+		CrowdingDistanceArchive<DoubleSolution> crowdingArchive = (CrowdingDistanceArchive<DoubleSolution>)archive;
+		crowdingArchive.computeDensityEstimator();
+		crowdingArchive.solutions().sort(crowdingDistanceComparator);
+		
+		int insert = Math.min(getPopulationSize() / 2, crowdingArchive.solutions().size());
+		insert = Math.min(insert, getPopulationSize() - population.size());
+		
+		for (int i = 0; i < insert; i++) {
+			DoubleSolution solution = (DoubleSolution)crowdingArchive.solutions().get(i).copy();
+			solution.attributes().put(SOLUTION_IS_MARKED, false);
+			population.add(solution);
+		}
+		
+		for (DoubleSolution solution : improvement(diversificationGeneration(getPopulationSize() - population.size()))) {
+			solution.attributes().put(SOLUTION_IS_MARKED, false);
+			population.add(solution);
+		}
+	}
+
+	/**
+	 * Creates and evaluates the given number of diverse solutions.  The sub-range of each variable is chosen with a
+	 * probability inversely proportional to the number of solutions already generated in that sub-range, as in
+	 * {@link ABYSS#diversificationGeneration()}.
+	 * 
+	 * @param size the number of solutions
+	 * @return the evaluated solutions
+	 */
+	protected List<DoubleSolution> diversificationGeneration(int size) {
+		List<DoubleSolution> solutions = new ArrayList<DoubleSolution>(size);
+		
+		for (int k = 0; k < size; k++) {
+			DoubleSolution solution = problem.createSolution();
+			
+			for (int i = 0; i < problem.numberOfVariables(); i++) {
+				int range;
+				sumOfReverseFrequencyValues[i] = 0;
+				
+				for (int j = 0; j < numberOfSubRanges; j++) {
+					reverseFrequency[j][i] = sumOfFrequencyValues[i] - frequency[j][i];
+					sumOfReverseFrequencyValues[i] += reverseFrequency[j][i];
+				}
+				
+				if (sumOfReverseFrequencyValues[i] == 0) {
+					range = randomGenerator.nextInt(0, numberOfSubRanges - 1);
+				} else {
+					double value = randomGenerator.nextInt(0, sumOfReverseFrequencyValues[i] - 1);
+					range = 0;
+					
+					while (value > reverseFrequency[range][i]) {
+						value -= reverseFrequency[range][i];
+						range++;
+					}
+				}
+				
+				frequency[range][i]++;
+				sumOfFrequencyValues[i]++;
+				
+				Bounds<Double> bounds = ((DoubleProblem)problem).variableBounds().get(i);
+				double lowerBound = bounds.getLowerBound();
+				double upperBound = bounds.getUpperBound();
+				double low = lowerBound + range * (upperBound - lowerBound) / numberOfSubRanges;
+				double high = low + (upperBound - lowerBound) / numberOfSubRanges;
+				
+				solution.variables().set(i, randomGenerator.nextDouble(low, high));
+			}
+			
+			solutions.add(solution);
+		}
+		
+		SwarmKernels.evaluate(problem, solutions, parallel);
+		evaluations += size;
+		return solutions;
+	}
+
+	/**
+	 * Applies one round of local search to each of the given solutions.  All mutants are created first, then
+	 * evaluated together, and finally compared against the original solutions in order.  A mutant replaces its
+	 * original if it is better or, with probability {@code 0.5}, if neither is better.  The given solutions are not
+	 * modified.
+	 * 
+	 * @param solutions the solutions to improve
+	 * @return copies of the improved solutions, in the same order
+	 */
+	protected List<DoubleSolution> improvement(List<DoubleSolution> solutions) {
+		List<DoubleSolution> mutants = new ArrayList<DoubleSolution>(solutions.size());
+		
+		for (DoubleSolution solution : solutions) {
+			mutants.add(improvementMutation.execute((DoubleSolution)solution.copy()));
+		}
+		
+		SwarmKernels.evaluate(problem, mutants, parallel);
+		evaluations += mutants.size();
+		
+		List<DoubleSolution> result = new ArrayList<DoubleSolution>(solutions.size());
+		
+		for (int i = 0; i < solutions.size(); i++) {
+			DoubleSolution solution = solutions.get(i);
+			DoubleSolution mutant = mutants.get(i);
+			int best = improvementComparator.compare(mutant, solution);
+			
+			if (best == -1 || (best == 0 && randomGenerator.nextDouble() < 0.5)) {
+				solution = mutant;
+			}
+			
+			result.add((DoubleSolution)solution.copy());
+		}
+		
+		return result;
+	}
+
+}
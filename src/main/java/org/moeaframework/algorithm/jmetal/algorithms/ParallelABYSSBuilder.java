@@ -0,0 +1,119 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.uma.jmetal.algorithm.multiobjective.abyss.ABYSS;
+import org.uma.jmetal.algorithm.multiobjective.abyss.ABYSSBuilder;
+import org.uma.jmetal.operator.localsearch.LocalSearchOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.MultiComparator;
+import org.uma.jmetal.util.comparator.constraintcomparator.impl.OverallConstraintViolationDegreeComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+
+/**
+ * JMetal's {@link ABYSSBuilder} producing a {@link ParallelABYSS}.  If a custom improvement operator is set, the
+ * algorithm is built by JMetal unchanged.
+ * <p>
+ * Since the problem, the archive and the components of the default improvement operator are private in
+ * {@link ABYSSBuilder}, this class tracks them itself.  As in {@link ABYSSBuilder}, the local search keeps using the
+ * default mutation operator even if {@link #setMutationOperator(MutationOperator)} is called.
+ */
+public class ParallelABYSSBuilder extends ABYSSBuilder {
+
+	/**
+	 * The problem.
+	 */
+	private final DoubleProblem problem;
+
+	/**
+	 * The archive.
+	 */
+	private final Archive<DoubleSolution> archive;
+
+	/**
+	 * The mutation operator used by the default improvement operator.
+	 */
+	private final MutationOperator<DoubleSolution> improvementMutation;
+
+	/**
+	 * The comparator used by the default improvement operator.
+	 */
+	private final Comparator<DoubleSolution> improvementComparator;
+
+	/**
+	 * {@code true} if a custom improvement operator was set.
+	 */
+	private boolean customImprovementOperator;
+
+	/**
+	 * If {@code true}, each batch of solutions is evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param archive the archive
+	 * @param parallel if {@code true}, each batch of solutions is evaluated in parallel
+	 */
+	public ParallelABYSSBuilder(DoubleProblem problem, Archive<DoubleSolution> archive, boolean parallel) {
+		super(problem, archive);
+		this.problem = problem;
+		this.archive = archive;
+		this.improvementMutation = getMutationOperator();
+		this.improvementComparator = new MultiComparator<DoubleSolution>(Arrays.asList(
+				new OverallConstraintViolationDegreeComparator<DoubleSolution>(),
+				new DominanceWithConstraintsComparator<DoubleSolution>()));
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if each batch of solutions is evaluated in parallel.
+	 * 
+	 * @return {@code true} if each batch of solutions is evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public ParallelABYSSBuilder setImprovementOperator(LocalSearchOperator<DoubleSolution> improvementOperator) {
+		super.setImprovementOperator(improvementOperator);
+		this.customImprovementOperator = true;
+		return this;
+	}
+
+	@Override
+	public ABYSS build() {
+		if (customImprovementOperator) {
+			return super.build();
+		}
+		
+		return new ParallelABYSS(problem, getMaxEvaluations(), getPopulationSize(), getRefSet1Size(),
+				getRefSet2Size(), getArchiveSize(), archive, improvementMutation, improvementComparator,
+				getCrossoverOperator(), getNumberOfSubranges(), parallel);
+	}
+
+}
@@ -0,0 +1,514 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import org.moeaframework.algorithm.jmetal.adapters.SplittableRandomGenerator;
+import org.uma.jmetal.algorithm.multiobjective.dmopso.DMOPSO;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * JMetal's {@link DMOPSO} with the velocities stored as primitive arrays and the particles moved and evaluated with
+ * one task per particle.  JMetal moves, evaluates and updates one particle at a time, but the move of a particle
+ * depends only on its own memory and on the global bests, which change at the end of each iteration.  This class
+ * therefore draws the random numbers of each particle up front in JMetal's order, moves and evaluates all particles
+ * together, and then updates the ideal point and particle memories in the original order.  The global bests are
+ * updated with one task per subproblem.  The results are identical to {@link DMOPSO}, with or without parallelism,
+ * except that particles reset after reaching the maximum age are sampled from the particle's own stream of the run's
+ * {@link SplittableRandomGenerator}, whereas JMetal uses an unseeded generator.
+ * <p>
+ * Since the state of {@link DMOPSO} is private, this class reproduces the entire algorithm.
+ */
+public class ParallelDMOPSO extends DMOPSO {
+
+	private static final long serialVersionUID = 8807365092164120361L;
+
+	/**
+	 * The problem.
+	 */
+	private final DoubleProblem problem;
+
+	/**
+	 * The ranges of the random coefficients, stored as minimum and maximum pairs for {@code r1}, {@code r2},
+	 * {@code c1} and {@code c2}.
+	 */
+	private final double[] coefficientBounds;
+
+	/**
+	 * The inertia weight.
+	 */
+	private final double weightMax;
+
+	/**
+	 * The factor applied to the velocity when the lower bound is hit.
+	 */
+	private final double changeVelocity1;
+
+	/**
+	 * The factor applied to the velocity when the upper bound is hit.
+	 */
+	private final double changeVelocity2;
+
+	/**
+	 * The scalarizing function.
+	 */
+	private final FunctionType functionType;
+
+	/**
+	 * The directory containing the weight vectors.
+	 */
+	private final String dataDirectory;
+
+	/**
+	 * The lower bounds of the decision variables.
+	 */
+	private final double[] lowerBounds;
+
+	/**
+	 * The upper bounds of the decision variables.
+	 */
+	private final double[] upperBounds;
+
+	/**
+	 * The maximum change in each variable per iteration.
+	 */
+	private final double[] deltaMax;
+
+	/**
+	 * The velocities, indexed by particle and then by variable.
+	 */
+	private final double[][] speed;
+
+	/**
+	 * The number of iterations since the memory of each particle last changed.
+	 */
+	private final int[] age;
+
+	/**
+	 * The best position found by each particle.
+	 */
+	private final DoubleSolution[] localBest;
+
+	/**
+	 * The best solution found for each subproblem.
+	 */
+	private final DoubleSolution[] globalBest;
+
+	/**
+	 * The subproblem whose global best guides each particle in the current iteration.
+	 */
+	private final int[] shfGBest;
+
+	/**
+	 * The weight vector of each subproblem.
+	 */
+	private final double[][] lambda;
+
+	/**
+	 * The ideal point.
+	 */
+	private final double[] z;
+
+	/**
+	 * The solution attaining the ideal value of each objective.
+	 */
+	private final DoubleSolution[] indArray;
+
+	/**
+	 * If {@code true}, the particles are moved and evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The swarm.
+	 */
+	private List<DoubleSolution> swarm;
+
+	/**
+	 * Constructs a new instance of dMOPSO.
+	 * 
+	 * @param problem the problem
+	 * @param swarmSize the swarm size
+	 * @param maxIterations the maximum number of iterations
+	 * @param r1Min the minimum value of {@code r1}
+	 * @param r1Max the maximum value of {@code r1}
+	 * @param r2Min the minimum value of {@code r2}
+	 * @param r2Max the maximum value of {@code r2}
+	 * @param c1Min the minimum value of {@code c1}
+	 * @param c1Max the maximum value of {@code c1}
+	 * @param c2Min the minimum value of {@code c2}
+	 * @param c2Max the maximum value of {@code c2}
+	 * @param weightMin the minimum inertia weight
+	 * @param weightMax the maximum inertia weight
+	 * @param changeVelocity1 the factor applied to the velocity when the lower bound is hit
+	 * @param changeVelocity2 the factor applied to the velocity when the upper bound is hit
+	 * @param functionType the scalarizing function
+	 * @param dataDirectory the directory containing the weight vectors
+	 * @param maxAge the number of iterations without improvement before a particle is reset
+	 * @param name the name of the algorithm
+	 * @param parallel if {@code true}, the particles are moved and evaluated in parallel
+	 */
+	public ParallelDMOPSO(DoubleProblem problem, int swarmSize, int maxIterations, double r1Min, double r1Max,
+			double r2Min, double r2Max, double c1Min, double c1Max, double c2Min, double c2Max, double weightMin,
+			double weightMax, double changeVelocity1, double changeVelocity2, FunctionType functionType,
+			String dataDirectory, int maxAge, String name, boolean parallel) {
+		super(problem, swarmSize, maxIterations, r1Min, r1Max, r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin,
+				weightMax, changeVelocity1, changeVelocity2, functionType, dataDirectory, maxAge, name);
+		this.problem = problem;
+		this.coefficientBounds = new double[] { r1Min, r1Max, r2Min, r2Max, c1Min, c1Max, c2Min, c2Max };
+		this.weightMax = weightMax;
+		this.changeVelocity1 = changeVelocity1;
+		this.changeVelocity2 = changeVelocity2;
+		this.functionType = functionType;
+		this.dataDirectory = dataDirectory;
+		this.lowerBounds = SwarmKernels.getLowerBounds(problem);
+		this.upperBounds = SwarmKernels.getUpperBounds(problem);
+		this.speed = new double[swarmSize][problem.numberOfVariables()];
+		this.age = new int[swarmSize];
+		this.localBest = new DoubleSolution[swarmSize];
+		this.globalBest = new DoubleSolution[swarmSize];
+		this.shfGBest = new int[swarmSize];
+		this.lambda = new double[swarmSize][problem.numberOfObjectives()];
+		this.z = new double[problem.numberOfObjectives()];
+		this.indArray = new DoubleSolution[problem.numberOfObjectives()];
+		this.parallel = parallel;
+		
+		deltaMax = new double[lowerBounds.length];
+		
+		for (int j = 0; j < lowerBounds.length; j++) {
+			deltaMax[j] = (upperBounds[j] - lowerBounds[j]) / 2.0;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the particles are moved and evaluated in parallel.
+	 * 
+	 * @return {@code true} if the particles are moved and evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public List<DoubleSolution> getSwarm() {
+		return swarm;
+	}
+
+	@Override
+	public List<DoubleSolution> result() {
+		return Arrays.asList(globalBest);
+	}
+
+	@Override
+	public void run() {
+		swarm = createInitialSwarm();
+		SwarmKernels.evaluate(problem, swarm, parallel);
+		
+		for (int i = 0; i < swarmSize; i++) {
+			Arrays.fill(speed[i], 0.0);
+			age[i] = 0;
+		}
+		
+		initializeUniformWeight();
+		initIdealPoint();
+		
+		for (int i = 0; i < swarmSize; i++) {
+			globalBest[i] = (DoubleSolution)swarm.get(i).copy();
+		}
+		
+		updateGlobalBest();
+		
+		for (int i = 0; i < swarmSize; i++) {
+			localBest[i] = (DoubleSolution)swarm.get(i).copy();
+		}
+		
+		updateGlobalBest();
+		iterations = 1;
+		
+		while (iterations < maxIterations) {
+			shuffleGlobalBest();
+			move();
+			
+			for (int i = 0; i < swarmSize; i++) {
+				updateReference(swarm.get(i));
+				updateLocalBest(i);
+			}
+			
+			updateGlobalBest();
+			iterations++;
+		}
+	}
+
+	/**
+	 * Moves, or resets once it reaches the maximum age, and evaluates each particle.
+	 */
+	private void move() {
+		JMetalRandom random = JMetalRandom.getInstance();
+		double[][] coefficients = new double[swarmSize][4];
+		
+		for (int i = 0; i < swarmSize; i++) {
+			if (age[i] < maxAge) {
+				for (int k = 0; k < 4; k++) {
+					coefficients[i][k] = random.nextDouble(coefficientBounds[2 * k], coefficientBounds[2 * k + 1]);
+				}
+			}
+		}
+		
+		double[][] positions = SwarmKernels.getPositions(swarm, parallel);
+		double[][] bestPositions = SwarmKernels.getPositions(Arrays.asList(localBest), parallel);
+		double[][] globalPositions = SwarmKernels.getPositions(Arrays.asList(globalBest), parallel);
+		
+		SwarmKernels.range(swarmSize, parallel).forEach(SplittableRandomGenerator.withStreams(swarmSize, i -> {
+			List<Double> variables = swarm.get(i).variables();
+			double[] bestGlobal = globalPositions[shfGBest[i]];
+			
+			if (age[i] < maxAge) {
+				double r1 = coefficients[i][0];
+				double r2 = coefficients[i][1];
+				double c1 = coefficients[i][2];
+				double c2 = coefficients[i][3];
+				double chi = SwarmKernels.constrictionCoefficient(c1, c2);
+				
+				for (int j = 0; j < positions[i].length; j++) {
+					double v = chi * (weightMax * speed[i][j] + c1 * r1 * (bestPositions[i][j] - positions[i][j]) +
+							c2 * r2 * (bestGlobal[j] - positions[i][j]));
+					
+					if (v > deltaMax[j]) {
+						v = deltaMax[j];
+					}
+					
+					if (v < -deltaMax[j]) {
+						v = -deltaMax[j];
+					}
+					
+					speed[i][j] = v;
+					variables.set(j, positions[i][j] + v);
+				}
+			} else {
+				for (int j = 0; j < positions[i].length; j++) {
+					double mean = (bestGlobal[j] - bestPositions[i][j]) / 2.0;
+					double sigma = Math.abs(bestGlobal[j] - bestPositions[i][j]);
+					
+					variables.set(j, SplittableRandomGenerator.nextGaussian() * sigma + mean);
+					speed[i][j] = 0.0;
+				}
+			}
+			
+			SwarmKernels.repair(variables, speed[i], lowerBounds, upperBounds, changeVelocity1, changeVelocity2);
+			problem.evaluate(swarm.get(i));
+		}));
+	}
+
+	@Override
+	protected void initializeUniformWeight() {
+		if (problem.numberOfObjectives() == 2 && swarmSize <= 300) {
+			for (int n = 0; n < swarmSize; n++) {
+				double a = 1.0 * n / (swarmSize - 1);
+				lambda[n][0] = a;
+				lambda[n][1] = 1.0 - a;
+			}
+		} else {
+			String dataFileName = "W" + problem.numberOfObjectives() + "D_" + swarmSize + ".dat";
+			
+			try {
+				InputStream inputStream = getClass().getClassLoader().getResourceAsStream(
+						"/" + dataDirectory + "/" + dataFileName);
+				
+				if (inputStream == null) {
+					inputStream = new FileInputStream(dataDirectory + "/" + dataFileName);
+				}
+				
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+					String line = reader.readLine();
+					int i = 0;
+					
+					while (line != null) {
+						StringTokenizer tokenizer = new StringTokenizer(line);
+						int j = 0;
+						
+						while (tokenizer.hasMoreTokens()) {
+							lambda[i][j] = Double.parseDouble(tokenizer.nextToken());
+							j++;
+						}
+						
+						line = reader.readLine();
+						i++;
+					}
+				}
+			} catch (Exception e) {
+				throw new JMetalException("initializeUniformWeight: failed when reading for file: " + dataDirectory +
+						"/" + dataFileName, e);
+			}
+		}
+	}
+
+	/**
+	 * Initializes the ideal point from the swarm, following JMetal's {@code DMOPSO#initIdealPoint}.
+	 */
+	private void initIdealPoint() {
+		for (int i = 0; i < z.length; i++) {
+			z[i] = 1.0E30;
+			indArray[i] = problem.createSolution();
+			problem.evaluate(indArray[i]);
+		}
+		
+		for (DoubleSolution particle : swarm) {
+			updateReference(particle);
+		}
+	}
+
+	/**
+	 * Updates the ideal point with the given solution.
+	 * 
+	 * @param individual the solution
+	 */
+	private void updateReference(DoubleSolution individual) {
+		for (int n = 0; n < z.length; n++) {
+			if (individual.objectives()[n] < z[n]) {
+				z[n] = individual.objectives()[n];
+				indArray[n] = (DoubleSolution)individual.copy();
+			}
+		}
+	}
+
+	/**
+	 * Updates the global best of each subproblem with the swarm, with one task per subproblem.
+	 */
+	private void updateGlobalBest() {
+		SwarmKernels.range(lambda.length, parallel).forEach(j -> {
+			double gBestFitness = fitness(globalBest[j], lambda[j]);
+			
+			for (DoubleSolution particle : swarm) {
+				double value = fitness(particle, lambda[j]);
+				
+				if (value < gBestFitness) {
+					globalBest[j] = (DoubleSolution)particle.copy();
+					gBestFitness = value;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Updates the memory of a particle, following JMetal's {@code DMOPSO#updateLocalBest}.
+	 * 
+	 * @param part the index of the particle
+	 */
+	private void updateLocalBest(int part) {
+		DoubleSolution indiv = (DoubleSolution)swarm.get(part).copy();
+		double f1 = fitness(localBest[part], lambda[part]);
+		double f2 = fitness(indiv, lambda[part]);
+		
+		if (age[part] >= maxAge || f2 <= f1) {
+			localBest[part] = indiv;
+			age[part] = 0;
+		} else {
+			age[part]++;
+		}
+	}
+
+	/**
+	 * Assigns a random global best to each particle, following JMetal's {@code DMOPSO#shuffleGlobalBest}.
+	 */
+	private void shuffleGlobalBest() {
+		JMetalRandom random = JMetalRandom.getInstance();
+		int[] aux = new int[swarmSize];
+		
+		for (int i = 0; i < swarmSize; i++) {
+			aux[i] = i;
+		}
+		
+		for (int i = 0; i < swarmSize; i++) {
+			int rnd = random.nextInt(i, swarmSize - 1);
+			int tmp = aux[rnd];
+			aux[rnd] = aux[i];
+			shfGBest[i] = tmp;
+		}
+	}
+
+	/**
+	 * Computes the scalarized fitness of a solution, following JMetal's {@code DMOPSO#fitnessFunction}.
+	 * 
+	 * @param solution the solution
+	 * @param weights the weight vector
+	 * @return the fitness, where smaller values are better
+	 * @throws JMetalException if the function type is not supported
+	 */
+	private double fitness(DoubleSolution solution, double[] weights) {
+		double[] objectives = solution.objectives();
+		
+		switch (functionType) {
+			case TCHE -> {
+				double maxFun = -1.0E30;
+				
+				for (int n = 0; n < objectives.length; n++) {
+					double diff = Math.abs(objectives[n] - z[n]);
+					double feval = weights[n] == 0.0 ? 1.0E-4 * diff : diff * weights[n];
+					
+					if (feval > maxFun) {
+						maxFun = feval;
+					}
+				}
+				
+				return maxFun;
+			}
+			case AGG -> {
+				double sum = 0.0;
+				
+				for (int n = 0; n < objectives.length; n++) {
+					sum += weights[n] * objectives[n];
+				}
+				
+				return sum;
+			}
+			case PBI -> {
+				double theta = 5.0;
+				double nl = 0.0;
+				double d1 = 0.0;
+				double d2 = 0.0;
+				
+				for (int i = 0; i < objectives.length; i++) {
+					d1 += (objectives[i] - z[i]) * weights[i];
+					nl += Math.pow(weights[i], 2.0);
+				}
+				
+				nl = Math.sqrt(nl);
+				d1 = Math.abs(d1) / nl;
+				
+				for (int i = 0; i < objectives.length; i++) {
+					d2 += Math.pow(objectives[i] - z[i] - d1 * (weights[i] / nl), 2.0);
+				}
+				
+				d2 = Math.sqrt(d2);
+				return d1 + theta * d2;
+			}
+			default -> throw new JMetalException("dMOPSO.fitnessFunction: unknown type " + functionType);
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.uma.jmetal.algorithm.multiobjective.dmopso.DMOPSO;
+import org.uma.jmetal.algorithm.multiobjective.dmopso.DMOPSOBuilder;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+
+/**
+ * JMetal's {@link DMOPSOBuilder} producing a {@link ParallelDMOPSO}.
+ */
+public class ParallelDMOPSOBuilder extends DMOPSOBuilder {
+
+	/**
+	 * If {@code true}, the particles are updated and evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param parallel if {@code true}, the particles are updated and evaluated in parallel
+	 */
+	public ParallelDMOPSOBuilder(DoubleProblem problem, boolean parallel) {
+		super(problem);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the particles are updated and evaluated in parallel.
+	 * 
+	 * @return {@code true} if the particles are updated and evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public DMOPSO build() {
+		return new ParallelDMOPSO(getProblem(), getSwarmSize(), getMaxIterations(), getR1Min(), getR1Max(),
+				getR2Min(), getR2Max(), getC1Min(), getC1Max(), getC2Min(), getC2Max(), getWeightMin(),
+				getWeightMax(), getChangeVelocity1(), getChangeVelocity2(), getFunctionType(), getDataDirectory(),
+				getMaxAge(), getName(), parallel);
+	}
+
+}
@@ -0,0 +1,132 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEAD;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+/**
+ * JMetal's {@link MOEAD} where the offspring of consecutive subproblems are evaluated together in a
+ * {@link SubproblemBatch}.  The results are identical to {@link MOEAD}, with or without parallelism.
+ */
+public class ParallelMOEAD extends MOEAD {
+
+	private static final long serialVersionUID = 4417012633185370149L;
+
+	/**
+	 * If {@code true}, the offspring in each batch are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of MOEA/D.
+	 * 
+	 * @param problem the problem
+	 * @param populationSize the population size
+	 * @param resultPopulationSize the number of solutions returned
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param mutation the mutation operator
+	 * @param crossover the differential evolution operator
+	 * @param functionType the scalarizing function
+	 * @param dataDirectory the directory containing the weight vectors
+	 * @param neighborhoodSelectionProbability the probability of selecting parents from the neighborhood
+	 * @param maximumNumberOfReplacedSolutions the maximum number of solutions replaced by each offspring
+	 * @param neighborSize the size of the neighborhood
+	 * @param parallel if {@code true}, the offspring in each batch are evaluated in parallel
+	 */
+	public ParallelMOEAD(Problem<DoubleSolution> problem, int populationSize, int resultPopulationSize,
+			int maxEvaluations, MutationOperator<DoubleSolution> mutation, CrossoverOperator<DoubleSolution> crossover,
+			FunctionType functionType, String dataDirectory, double neighborhoodSelectionProbability,
+			int maximumNumberOfReplacedSolutions, int neighborSize, boolean parallel) {
+		super(problem, populationSize, resultPopulationSize, maxEvaluations, mutation, crossover, functionType,
+				dataDirectory, neighborhoodSelectionProbability, maximumNumberOfReplacedSolutions, neighborSize);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the offspring in each batch are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the offspring in each batch are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public void run() {
+		initializePopulation();
+		initializeUniformWeight();
+		initializeNeighborhood();
+		idealPoint.update(population);
+		evaluations = populationSize;
+		
+		SubproblemBatch batch = new SubproblemBatch(populationSize, parallel);
+		
+		do {
+			int[] permutation = new int[populationSize];
+			MOEADUtils.randomPermutation(permutation, populationSize);
+			
+			for (int i = 0; i < populationSize; i++) {
+				reproduce(batch, permutation[i]);
+			}
+			
+			flush(batch);
+		} while (evaluations < maxEvaluations);
+	}
+
+	/**
+	 * Creates the offspring of a subproblem and adds it to the batch, first flushing the batch if the offspring must
+	 * see its updates.
+	 * 
+	 * @param batch the batch
+	 * @param subProblemId the subproblem
+	 */
+	private void reproduce(SubproblemBatch batch, int subProblemId) {
+		NeighborType neighborType = chooseNeighborType();
+		List<Integer> matingPool = matingSelection(subProblemId, 2, neighborType);
+		
+		if (batch.conflicts(subProblemId, matingPool)) {
+			flush(batch);
+		}
+		
+		batch.add(population, subProblemId, matingPool,
+				neighborType == NeighborType.NEIGHBOR ? neighborhood[subProblemId] : null,
+				differentialEvolutionCrossover, mutationOperator);
+	}
+
+	/**
+	 * Evaluates the offspring in the batch and updates the ideal point and neighborhood of each.
+	 * 
+	 * @param batch the batch
+	 */
+	private void flush(SubproblemBatch batch) {
+		batch.flush(problem, offspring -> {
+			evaluations++;
+			idealPoint.update(offspring.getChild().objectives());
+			SubproblemBatch.updateNeighborhood(offspring, population, lambda, functionType, idealPoint,
+					maximumNumberOfReplacedSolutions);
+		});
+	}
+
+}
@@ -0,0 +1,80 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.AbstractMOEAD;
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADBuilder;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+/**
+ * JMetal's {@link MOEADBuilder} producing MOEA/D variants that evaluate the offspring of consecutive subproblems
+ * together in a {@link SubproblemBatch}.  {@link MOEADBuilder.Variant#MOEADD} is built by JMetal unchanged, since each
+ * of its offspring can replace any member of the population and so no two subproblems can share a batch.
+ */
+public class ParallelMOEADBuilder extends MOEADBuilder {
+
+	/**
+	 * If {@code true}, the offspring in each batch are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param variant the MOEA/D variant
+	 * @param parallel if {@code true}, the offspring in each batch are evaluated in parallel
+	 */
+	public ParallelMOEADBuilder(Problem<DoubleSolution> problem, Variant variant, boolean parallel) {
+		super(problem, variant);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the offspring in each batch are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the offspring in each batch are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public AbstractMOEAD<DoubleSolution> build() {
+		return switch (moeadVariant) {
+			case MOEAD -> new ParallelMOEAD(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
+					crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+					maximumNumberOfReplacedSolutions, neighborSize, parallel);
+			case ConstraintMOEAD -> new ParallelConstraintMOEAD(problem, populationSize, resultPopulationSize,
+					maxEvaluations, mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+					maximumNumberOfReplacedSolutions, neighborSize, parallel);
+			case MOEADDRA -> new ParallelMOEADDRA(problem, populationSize, resultPopulationSize, maxEvaluations,
+					mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+					maximumNumberOfReplacedSolutions, neighborSize, parallel);
+			case MOEADSTM -> new ParallelMOEADSTM(problem, populationSize, resultPopulationSize, maxEvaluations,
+					mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+					maximumNumberOfReplacedSolutions, neighborSize, parallel);
+			case MOEADIEPSILON -> new ParallelMOEADIEpsilon(problem, populationSize, resultPopulationSize,
+					maxEvaluations, mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+					maximumNumberOfReplacedSolutions, neighborSize, parallel);
+			default -> super.build();
+		};
+	}
+
+}
@@ -0,0 +1,278 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADIEpsilon;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+/**
+ * JMetal's {@link MOEADIEpsilon} where the offspring of consecutive subproblems are evaluated together in a
+ * {@link SubproblemBatch}.  The results are identical to {@link MOEADIEpsilon}, with or without parallelism.
+ */
+public class ParallelMOEADIEpsilon extends MOEADIEpsilon {
+
+	private static final long serialVersionUID = 5520932683717032474L;
+
+	/**
+	 * The differential evolution operator, which is tracked here since it is private in {@link MOEADIEpsilon}.
+	 */
+	private final DifferentialEvolutionCrossover differentialEvolutionCrossover;
+
+	/**
+	 * The archive of feasible, nondominated solutions, which is tracked here since it is private in
+	 * {@link MOEADIEpsilon}.
+	 */
+	private final List<DoubleSolution> archive;
+
+	/**
+	 * The current epsilon level.
+	 */
+	private double epsilonK;
+
+	/**
+	 * The largest constraint violation observed.
+	 */
+	private double phiMax;
+
+	/**
+	 * If {@code true}, the offspring in each batch are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of MOEA/D with the improved epsilon constraint handling method.
+	 * 
+	 * @param problem the problem
+	 * @param populationSize the population size
+	 * @param resultPopulationSize the number of solutions returned
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param mutation the mutation operator
+	 * @param crossover the differential evolution operator
+	 * @param functionType the scalarizing function
+	 * @param dataDirectory the directory containing the weight vectors
+	 * @param neighborhoodSelectionProbability the probability of selecting parents from the neighborhood
+	 * @param maximumNumberOfReplacedSolutions the maximum number of solutions replaced by each offspring
+	 * @param neighborSize the size of the neighborhood
+	 * @param parallel if {@code true}, the offspring in each batch are evaluated in parallel
+	 */
+	public ParallelMOEADIEpsilon(Problem<DoubleSolution> problem, int populationSize, int resultPopulationSize,
+			int maxEvaluations, MutationOperator<DoubleSolution> mutation, CrossoverOperator<DoubleSolution> crossover,
+			FunctionType functionType, String dataDirectory, double neighborhoodSelectionProbability,
+			int maximumNumberOfReplacedSolutions, int neighborSize, boolean parallel) {
+		super(problem, populationSize, resultPopulationSize, maxEvaluations, mutation, crossover, functionType,
+				dataDirectory, neighborhoodSelectionProbability, maximumNumberOfReplacedSolutions, neighborSize);
+		this.differentialEvolutionCrossover = (DifferentialEvolutionCrossover)crossoverOperator;
+		this.archive = new ArrayList<DoubleSolution>();
+		this.phiMax = -1.0E30;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the offspring in each batch are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the offspring in each batch are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public void run() {
+		initializeUniformWeight();
+		initializeNeighborhood();
+		initializePopulation();
+		idealPoint.update(population);
+		
+		double[] constraints = new double[populationSize];
+		
+		for (int i = 0; i < populationSize; i++) {
+			constraints[i] = ConstraintHandling.overallConstraintViolationDegree(population.get(i));
+		}
+		
+		Arrays.sort(constraints);
+		double epsilonZero = Math.abs(constraints[(int)Math.ceil(0.05 * populationSize)]);
+		
+		if (phiMax < Math.abs(constraints[0])) {
+			phiMax = Math.abs(constraints[0]);
+		}
+		
+		int tc = 800;
+		double tao = 0.1;
+		double rk = ConstraintHandling.feasibilityRatio(population);
+		int generationCounter = 0;
+		
+		evaluations = populationSize;
+		epsilonK = epsilonZero;
+		
+		SubproblemBatch batch = new SubproblemBatch(populationSize, parallel);
+		
+		do {
+			if (generationCounter >= tc) {
+				epsilonK = 0.0;
+			} else if (rk < 0.95) {
+				epsilonK = (1.0 - tao) * epsilonK;
+			} else {
+				epsilonK = phiMax * (1.0 + tao);
+			}
+			
+			int[] permutation = new int[populationSize];
+			MOEADUtils.randomPermutation(permutation, populationSize);
+			
+			for (int i = 0; i < populationSize; i++) {
+				reproduce(batch, permutation[i]);
+			}
+			
+			flush(batch);
+			rk = ConstraintHandling.feasibilityRatio(population);
+			updateExternalArchive();
+			generationCounter++;
+		} while (evaluations < maxEvaluations);
+	}
+
+	@Override
+	public List<DoubleSolution> result() {
+		return archive;
+	}
+
+	/**
+	 * Creates the offspring of a subproblem and adds it to the batch, first flushing the batch if the offspring must
+	 * see its updates.
+	 * 
+	 * @param batch the batch
+	 * @param subProblemId the subproblem
+	 */
+	private void reproduce(SubproblemBatch batch, int subProblemId) {
+		NeighborType neighborType = chooseNeighborType();
+		List<Integer> matingPool = matingSelection(subProblemId, 2, neighborType);
+		
+		if (batch.conflicts(subProblemId, matingPool)) {
+			flush(batch);
+		}
+		
+		batch.add(population, subProblemId, matingPool,
+				neighborType == NeighborType.NEIGHBOR ? neighborhood[subProblemId] : null,
+				differentialEvolutionCrossover, mutationOperator);
+	}
+
+	/**
+	 * Evaluates the offspring in the batch, then updates the largest constraint violation, the ideal point and the
+	 * neighborhood of each.
+	 * 
+	 * @param batch the batch
+	 */
+	private void flush(SubproblemBatch batch) {
+		batch.flush(problem, offspring -> {
+			DoubleSolution child = offspring.getChild();
+			evaluations++;
+			
+			if (phiMax < Math.abs(ConstraintHandling.overallConstraintViolationDegree(child))) {
+				phiMax = ConstraintHandling.overallConstraintViolationDegree(child);
+			}
+			
+			idealPoint.update(child.objectives());
+			updateNeighborhood(offspring);
+		});
+	}
+
+	/**
+	 * Replaces members of the neighborhood that are improved by the offspring, following
+	 * {@link MOEADIEpsilon#updateNeighborhood} but with the random permutation drawn when the offspring was created.
+	 * 
+	 * @param offspring the offspring
+	 */
+	private void updateNeighborhood(SubproblemBatch.Offspring offspring) {
+		DoubleSolution child = offspring.getChild();
+		int numberOfReplacedSolutions = 0;
+		
+		for (int i = 0; i < offspring.size(); i++) {
+			int k = offspring.get(i);
+			double f1 = SubproblemBatch.fitness(functionType, population.get(k), lambda[k], idealPoint);
+			double f2 = SubproblemBatch.fitness(functionType, child, lambda[k], idealPoint);
+			double cons1 = Math.abs(ConstraintHandling.overallConstraintViolationDegree(population.get(k)));
+			double cons2 = Math.abs(ConstraintHandling.overallConstraintViolationDegree(child));
+			
+			if ((cons1 < epsilonK && cons2 <= epsilonK) || cons1 == cons2) {
+				if (f2 < f1) {
+					population.set(k, (DoubleSolution)child.copy());
+					numberOfReplacedSolutions++;
+				}
+			} else if (cons2 < cons1) {
+				population.set(k, (DoubleSolution)child.copy());
+				numberOfReplacedSolutions++;
+			}
+			
+			if (numberOfReplacedSolutions >= maximumNumberOfReplacedSolutions) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Updates the archive with the feasible, nondominated solutions in the population, following JMetal's private
+	 * {@code MOEADIEpsilon#updateExternalArchive}.
+	 */
+	private void updateExternalArchive() {
+		List<DoubleSolution> feasibleSolutions = new ArrayList<DoubleSolution>();
+		
+		for (DoubleSolution solution : population) {
+			if (ConstraintHandling.isFeasible(solution)) {
+				feasibleSolutions.add((DoubleSolution)solution.copy());
+			}
+		}
+		
+		if (feasibleSolutions.isEmpty()) {
+			return;
+		}
+		
+		feasibleSolutions.addAll(archive);
+		
+		FastNonDominatedSortRanking<DoubleSolution> ranking = new FastNonDominatedSortRanking<DoubleSolution>();
+		ranking.compute(feasibleSolutions);
+		List<DoubleSolution> firstRankSolutions = ranking.getSubFront(0);
+		
+		if (firstRankSolutions.size() > populationSize) {
+			CrowdingDistanceDensityEstimator<DoubleSolution> crowdingDistance =
+					new CrowdingDistanceDensityEstimator<DoubleSolution>();
+			
+			while (firstRankSolutions.size() > populationSize) {
+				crowdingDistance.compute(firstRankSolutions);
+				firstRankSolutions.sort(crowdingDistance.comparator());
+				firstRankSolutions.remove(firstRankSolutions.size() - 1);
+			}
+		}
+		
+		archive.clear();
+		
+		for (DoubleSolution solution : firstRankSolutions) {
+			archive.add((DoubleSolution)solution.copy());
+		}
+	}
+
+}
@@ -0,0 +1,294 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.omopso.OMOPSO;
+import org.uma.jmetal.operator.mutation.impl.NonUniformMutation;
+import org.uma.jmetal.operator.mutation.impl.UniformMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.EpsilonDominanceComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * JMetal's {@link OMOPSO} with the velocities and positions stored as primitive arrays and the swarm updated and
+ * evaluated with one task per particle.  The random numbers of each particle, including the indices of the two
+ * leaders competing to guide it, are drawn up front in JMetal's order.  The leaders are then selected from the
+ * archive, which is not modified while the velocities are updated, without any locking.  The results are identical to
+ * {@link OMOPSO}, with or without parallelism.
+ * <p>
+ * Since the relevant state of {@link OMOPSO} is private, this class tracks the velocities, particle memories,
+ * archives and iteration count itself.  The solution list evaluator is replaced by the particle-parallel evaluation.
+ */
+public class ParallelOMOPSO extends OMOPSO {
+
+	private static final long serialVersionUID = 2651427410716381925L;
+
+	/**
+	 * The problem.
+	 */
+	private final DoubleProblem problem;
+
+	/**
+	 * The maximum number of iterations.
+	 */
+	private final int maxIterations;
+
+	/**
+	 * The archive of leaders.
+	 */
+	private final CrowdingDistanceArchive<DoubleSolution> leaderArchive;
+
+	/**
+	 * The archive of epsilon-nondominated solutions, which is returned as the result.
+	 */
+	private final NonDominatedSolutionListArchive<DoubleSolution> epsilonArchive;
+
+	/**
+	 * The crowding distance of the leaders.
+	 */
+	private final CrowdingDistanceDensityEstimator<DoubleSolution> crowdingDistance;
+
+	/**
+	 * The comparator selecting the less crowded of two leaders.
+	 */
+	private final Comparator<DoubleSolution> crowdingDistanceComparator;
+
+	/**
+	 * The dominance comparator used to update the memory of each particle.
+	 */
+	private final Comparator<DoubleSolution> dominanceComparator;
+
+	/**
+	 * The uniform mutation applied to every third particle.
+	 */
+	private final UniformMutation uniformMutation;
+
+	/**
+	 * The non-uniform mutation applied to every third particle.
+	 */
+	private final NonUniformMutation nonUniformMutation;
+
+	/**
+	 * The lower bounds of the decision variables.
+	 */
+	private final double[] lowerBounds;
+
+	/**
+	 * The upper bounds of the decision variables.
+	 */
+	private final double[] upperBounds;
+
+	/**
+	 * The velocities, indexed by particle and then by variable.
+	 */
+	private final double[][] speed;
+
+	/**
+	 * The best position found by each particle.
+	 */
+	private final DoubleSolution[] localBest;
+
+	/**
+	 * If {@code true}, the particles are updated and evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The current iteration.
+	 */
+	private int currentIteration;
+
+	/**
+	 * Constructs a new instance of OMOPSO.
+	 * 
+	 * @param problem the problem
+	 * @param evaluator the solution list evaluator, which is not used
+	 * @param swarmSize the swarm size
+	 * @param maxIterations the maximum number of iterations
+	 * @param archiveSize the size of the archive of leaders
+	 * @param eta the epsilon value of the epsilon-dominance archive
+	 * @param uniformMutation the uniform mutation operator
+	 * @param nonUniformMutation the non-uniform mutation operator
+	 * @param parallel if {@code true}, the particles are updated and evaluated in parallel
+	 */
+	public ParallelOMOPSO(DoubleProblem problem, SolutionListEvaluator<DoubleSolution> evaluator, int swarmSize,
+			int maxIterations, int archiveSize, double eta, UniformMutation uniformMutation,
+			NonUniformMutation nonUniformMutation, boolean parallel) {
+		super(problem, evaluator, swarmSize, maxIterations, archiveSize, eta, uniformMutation, nonUniformMutation);
+		this.problem = problem;
+		this.maxIterations = maxIterations;
+		this.leaderArchive = new CrowdingDistanceArchive<DoubleSolution>(archiveSize);
+		this.epsilonArchive = new NonDominatedSolutionListArchive<DoubleSolution>(
+				new EpsilonDominanceComparator<DoubleSolution>(eta));
+		this.crowdingDistance = new CrowdingDistanceDensityEstimator<DoubleSolution>();
+		this.crowdingDistanceComparator = crowdingDistance.comparator();
+		this.dominanceComparator = new DominanceWithConstraintsComparator<DoubleSolution>();
+		this.uniformMutation = uniformMutation;
+		this.nonUniformMutation = nonUniformMutation;
+		this.lowerBounds = SwarmKernels.getLowerBounds(problem);
+		this.upperBounds = SwarmKernels.getUpperBounds(problem);
+		this.speed = new double[swarmSize][problem.numberOfVariables()];
+		this.localBest = new DoubleSolution[swarmSize];
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the particles are updated and evaluated in parallel.
+	 * 
+	 * @return {@code true} if the particles are updated and evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected void initProgress() {
+		currentIteration = 1;
+		crowdingDistance.compute(leaderArchive.solutions());
+	}
+
+	@Override
+	protected void updateProgress() {
+		currentIteration++;
+		crowdingDistance.compute(leaderArchive.solutions());
+	}
+
+	@Override
+	protected boolean isStoppingConditionReached() {
+		return currentIteration >= maxIterations;
+	}
+
+	@Override
+	protected List<DoubleSolution> evaluateSwarm(List<DoubleSolution> swarm) {
+		SwarmKernels.evaluate(problem, swarm, parallel);
+		return swarm;
+	}
+
+	@Override
+	public List<DoubleSolution> result() {
+		return epsilonArchive.solutions();
+	}
+
+	@Override
+	protected void initializeLeader(List<DoubleSolution> swarm) {
+		updateLeaders(swarm);
+	}
+
+	@Override
+	protected void initializeParticlesMemory(List<DoubleSolution> swarm) {
+		for (int i = 0; i < swarm.size(); i++) {
+			localBest[i] = (DoubleSolution)swarm.get(i).copy();
+		}
+	}
+
+	@Override
+	protected void initializeVelocity(List<DoubleSolution> swarm) {
+		for (double[] velocity : speed) {
+			Arrays.fill(velocity, 0.0);
+		}
+	}
+
+	@Override
+	protected void updateVelocity(List<DoubleSolution> swarm) {
+		JMetalRandom random = JMetalRandom.getInstance();
+		List<DoubleSolution> candidates = leaderArchive.solutions();
+		int size = swarm.size();
+		int[][] selected = new int[size][2];
+		double[][] coefficients = new double[size][5];
+		
+		for (int i = 0; i < size; i++) {
+			selected[i][0] = random.nextInt(0, candidates.size() - 1);
+			selected[i][1] = random.nextInt(0, candidates.size() - 1);
+			coefficients[i][0] = random.nextDouble();
+			coefficients[i][1] = random.nextDouble();
+			coefficients[i][2] = random.nextDouble(1.5, 2.0);
+			coefficients[i][3] = random.nextDouble(1.5, 2.0);
+			coefficients[i][4] = random.nextDouble(0.1, 0.5);
+		}
+		
+		double[][] positions = SwarmKernels.getPositions(swarm, parallel);
+		double[][] bestPositions = SwarmKernels.getPositions(Arrays.asList(localBest), parallel);
+		double[][] leaderPositions = SwarmKernels.getPositions(candidates, parallel);
+		
+		SwarmKernels.range(size, parallel).forEach(i -> {
+			int one = selected[i][0];
+			int two = selected[i][1];
+			double[] bestGlobal = leaderPositions[crowdingDistanceComparator.compare(candidates.get(one),
+					candidates.get(two)) < 1 ? one : two];
+			double r1 = coefficients[i][0];
+			double r2 = coefficients[i][1];
+			double c1 = coefficients[i][2];
+			double c2 = coefficients[i][3];
+			double w = coefficients[i][4];
+			
+			for (int j = 0; j < positions[i].length; j++) {
+				speed[i][j] = w * speed[i][j] + c1 * r1 * (bestPositions[i][j] - positions[i][j]) +
+						c2 * r2 * (bestGlobal[j] - positions[i][j]);
+			}
+		});
+	}
+
+	@Override
+	protected void updatePosition(List<DoubleSolution> swarm) {
+		SwarmKernels.updatePositions(swarm, speed, lowerBounds, upperBounds, -1.0, -1.0, parallel);
+	}
+
+	@Override
+	protected void perturbation(List<DoubleSolution> swarm) {
+		nonUniformMutation.setCurrentIteration(currentIteration);
+		
+		for (int i = 0; i < swarm.size(); i++) {
+			if (i % 3 == 0) {
+				nonUniformMutation.execute(swarm.get(i));
+			} else if (i % 3 == 1) {
+				uniformMutation.execute(swarm.get(i));
+			}
+		}
+	}
+
+	@Override
+	protected void updateLeaders(List<DoubleSolution> swarm) {
+		for (DoubleSolution solution : swarm) {
+			DoubleSolution particle = (DoubleSolution)solution.copy();
+			
+			if (leaderArchive.add(particle)) {
+				epsilonArchive.add((DoubleSolution)particle.copy());
+			}
+		}
+	}
+
+	@Override
+	protected void updateParticlesMemory(List<DoubleSolution> swarm) {
+		SwarmKernels.range(swarm.size(), parallel).forEach(i -> {
+			if (dominanceComparator.compare(swarm.get(i), localBest[i]) != 1) {
+				localBest[i] = (DoubleSolution)swarm.get(i).copy();
+			}
+		});
+	}
+
+}
@@ -0,0 +1,78 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.uma.jmetal.algorithm.multiobjective.omopso.OMOPSO;
+import org.uma.jmetal.algorithm.multiobjective.omopso.OMOPSOBuilder;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * JMetal's {@link OMOPSOBuilder} producing a {@link ParallelOMOPSO}.
+ */
+public class ParallelOMOPSOBuilder extends OMOPSOBuilder {
+
+	/**
+	 * The epsilon value of the epsilon-dominance archive, which is tracked here since it is private in
+	 * {@link OMOPSOBuilder}.
+	 */
+	private double eta;
+
+	/**
+	 * If {@code true}, the particles are updated and evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param evaluator the solution list evaluator
+	 * @param parallel if {@code true}, the particles are updated and evaluated in parallel
+	 */
+	public ParallelOMOPSOBuilder(DoubleProblem problem, SolutionListEvaluator<DoubleSolution> evaluator,
+			boolean parallel) {
+		super(problem, evaluator);
+		this.eta = 0.0075;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the particles are updated and evaluated in parallel.
+	 * 
+	 * @return {@code true} if the particles are updated and evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public ParallelOMOPSOBuilder setEta(double eta) {
+		super.setEta(eta);
+		this.eta = eta;
+		return this;
+	}
+
+	@Override
+	public OMOPSO build() {
+		return new ParallelOMOPSO(problem, evaluator, getSwarmSize(), getMaxIterations(), getArchiveSize(), eta,
+				getUniformMutation(), getNonUniformMutation(), parallel);
+	}
+
+}
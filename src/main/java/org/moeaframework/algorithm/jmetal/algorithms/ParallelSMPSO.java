@@ -0,0 +1,269 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.smpso.SMPSO;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
+
+/**
+ * JMetal's {@link SMPSO} with the velocities and positions stored as primitive arrays and the swarm updated and
+ * evaluated with one task per particle.  The random numbers of each particle, including the indices of the two
+ * leaders competing to guide it, are drawn up front in JMetal's order.  The leaders are then selected from the
+ * archive, which is not modified while the velocities are updated, without any locking.  The results are identical to
+ * {@link SMPSO}, with or without parallelism.
+ * <p>
+ * Since the relevant state of {@link SMPSO} is private, this class tracks the velocities and leaders itself.  The
+ * solution list evaluator is replaced by the particle-parallel evaluation.
+ */
+public class ParallelSMPSO extends SMPSO {
+
+	private static final long serialVersionUID = -6618231920417451702L;
+
+	/**
+	 * The problem.
+	 */
+	private final DoubleProblem problem;
+
+	/**
+	 * The archive of leaders.
+	 */
+	private final BoundedArchive<DoubleSolution> leaders;
+
+	/**
+	 * The dominance comparator used to update the memory of each particle.
+	 */
+	private final Comparator<DoubleSolution> dominanceComparator;
+
+	/**
+	 * The attribute storing the best position found by each particle.
+	 */
+	private final GenericSolutionAttribute<DoubleSolution, DoubleSolution> localBest;
+
+	/**
+	 * The ranges of the random coefficients, stored as minimum and maximum pairs for {@code r1}, {@code r2},
+	 * {@code c1} and {@code c2}.
+	 */
+	private final double[] coefficientBounds;
+
+	/**
+	 * The inertia weight.
+	 */
+	private final double weightMax;
+
+	/**
+	 * The factor applied to the velocity when the lower bound is hit.
+	 */
+	private final double changeVelocity1;
+
+	/**
+	 * The factor applied to the velocity when the upper bound is hit.
+	 */
+	private final double changeVelocity2;
+
+	/**
+	 * The lower bounds of the decision variables.
+	 */
+	private final double[] lowerBounds;
+
+	/**
+	 * The upper bounds of the decision variables.
+	 */
+	private final double[] upperBounds;
+
+	/**
+	 * The maximum change in each variable per iteration.
+	 */
+	private final double[] deltaMax;
+
+	/**
+	 * The velocities, indexed by particle and then by variable.
+	 */
+	private final double[][] speed;
+
+	/**
+	 * If {@code true}, the particles are updated and evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new instance of SMPSO.
+	 * 
+	 * @param problem the problem
+	 * @param swarmSize the swarm size
+	 * @param leaders the archive of leaders
+	 * @param mutationOperator the mutation operator
+	 * @param maxIterations the maximum number of iterations
+	 * @param r1Min the minimum value of {@code r1}
+	 * @param r1Max the maximum value of {@code r1}
+	 * @param r2Min the minimum value of {@code r2}
+	 * @param r2Max the maximum value of {@code r2}
+	 * @param c1Min the minimum value of {@code c1}
+	 * @param c1Max the maximum value of {@code c1}
+	 * @param c2Min the minimum value of {@code c2}
+	 * @param c2Max the maximum value of {@code c2}
+	 * @param weightMin the minimum inertia weight
+	 * @param weightMax the maximum inertia weight
+	 * @param changeVelocity1 the factor applied to the velocity when the lower bound is hit
+	 * @param changeVelocity2 the factor applied to the velocity when the upper bound is hit
+	 * @param dominanceComparator the dominance comparator
+	 * @param evaluator the solution list evaluator, which is not used
+	 * @param parallel if {@code true}, the particles are updated and evaluated in parallel
+	 */
+	public ParallelSMPSO(DoubleProblem problem, int swarmSize, BoundedArchive<DoubleSolution> leaders,
+			MutationOperator<DoubleSolution> mutationOperator, int maxIterations, double r1Min, double r1Max,
+			double r2Min, double r2Max, double c1Min, double c1Max, double c2Min, double c2Max, double weightMin,
+			double weightMax, double changeVelocity1, double changeVelocity2,
+			Comparator<DoubleSolution> dominanceComparator, SolutionListEvaluator<DoubleSolution> evaluator,
+			boolean parallel) {
+		super(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max, r2Min, r2Max, c1Min,
+				c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1, changeVelocity2, dominanceComparator,
+				evaluator);
+		this.problem = problem;
+		this.leaders = leaders;
+		this.dominanceComparator = dominanceComparator;
+		this.localBest = new GenericSolutionAttribute<DoubleSolution, DoubleSolution>();
+		this.coefficientBounds = new double[] { r1Min, r1Max, r2Min, r2Max, c1Min, c1Max, c2Min, c2Max };
+		this.weightMax = weightMax;
+		this.changeVelocity1 = changeVelocity1;
+		this.changeVelocity2 = changeVelocity2;
+		this.lowerBounds = SwarmKernels.getLowerBounds(problem);
+		this.upperBounds = SwarmKernels.getUpperBounds(problem);
+		this.speed = new double[swarmSize][problem.numberOfVariables()];
+		this.parallel = parallel;
+		
+		deltaMax = new double[lowerBounds.length];
+		
+		for (int j = 0; j < lowerBounds.length; j++) {
+			deltaMax[j] = (upperBounds[j] - lowerBounds[j]) / 2.0;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the particles are updated and evaluated in parallel.
+	 * 
+	 * @return {@code true} if the particles are updated and evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected List<DoubleSolution> evaluateSwarm(List<DoubleSolution> swarm) {
+		SwarmKernels.evaluate(problem, swarm, parallel);
+		return swarm;
+	}
+
+	@Override
+	protected void initializeVelocity(List<DoubleSolution> swarm) {
+		for (double[] velocity : speed) {
+			Arrays.fill(velocity, 0.0);
+		}
+	}
+
+	@Override
+	protected void initializeParticlesMemory(List<DoubleSolution> swarm) {
+		for (DoubleSolution particle : swarm) {
+			localBest.setAttribute(particle, (DoubleSolution)particle.copy());
+		}
+	}
+
+	@Override
+	protected void updateVelocity(List<DoubleSolution> swarm) {
+		JMetalRandom random = JMetalRandom.getInstance();
+		List<DoubleSolution> candidates = leaders.solutions();
+		int size = swarm.size();
+		int[][] selected = new int[size][2];
+		double[][] coefficients = new double[size][4];
+		
+		for (int i = 0; i < size; i++) {
+			selected[i][0] = random.nextInt(0, candidates.size() - 1);
+			selected[i][1] = random.nextInt(0, candidates.size() - 1);
+			
+			for (int k = 0; k < 4; k++) {
+				coefficients[i][k] = random.nextDouble(coefficientBounds[2 * k], coefficientBounds[2 * k + 1]);
+			}
+		}
+		
+		List<DoubleSolution> bestParticles = new ArrayList<DoubleSolution>(size);
+		
+		for (DoubleSolution particle : swarm) {
+			bestParticles.add(localBest.getAttribute(particle));
+		}
+		
+		double[][] positions = SwarmKernels.getPositions(swarm, parallel);
+		double[][] bestPositions = SwarmKernels.getPositions(bestParticles, parallel);
+		double[][] leaderPositions = SwarmKernels.getPositions(candidates, parallel);
+		Comparator<DoubleSolution> comparator = leaders.comparator();
+		
+		SwarmKernels.range(size, parallel).forEach(i -> {
+			int one = selected[i][0];
+			int two = selected[i][1];
+			double[] bestGlobal = leaderPositions[comparator.compare(candidates.get(one), candidates.get(two)) < 1 ?
+					one : two];
+			double r1 = coefficients[i][0];
+			double r2 = coefficients[i][1];
+			double c1 = coefficients[i][2];
+			double c2 = coefficients[i][3];
+			double chi = constrictionCoefficient(c1, c2);
+			
+			for (int j = 0; j < positions[i].length; j++) {
+				double v = chi * (weightMax * speed[i][j] + c1 * r1 * (bestPositions[i][j] - positions[i][j]) +
+						c2 * r2 * (bestGlobal[j] - positions[i][j]));
+				
+				if (v > deltaMax[j]) {
+					v = deltaMax[j];
+				}
+				
+				if (v < -deltaMax[j]) {
+					v = -deltaMax[j];
+				}
+				
+				speed[i][j] = v;
+			}
+		});
+	}
+
+	@Override
+	protected void updatePosition(List<DoubleSolution> swarm) {
+		SwarmKernels.updatePositions(swarm, speed, lowerBounds, upperBounds, changeVelocity1, changeVelocity2,
+				parallel);
+	}
+
+	@Override
+	protected void updateParticlesMemory(List<DoubleSolution> swarm) {
+		SwarmKernels.range(swarm.size(), parallel).forEach(i -> {
+			DoubleSolution particle = swarm.get(i);
+			
+			if (dominanceComparator.compare(particle, localBest.getAttribute(particle)) != 1) {
+				localBest.setAttribute(particle, (DoubleSolution)particle.copy());
+			}
+		});
+	}
+
+}
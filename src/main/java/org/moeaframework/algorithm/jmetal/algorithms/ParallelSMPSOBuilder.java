@@ -0,0 +1,85 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.uma.jmetal.algorithm.multiobjective.smpso.SMPSO;
+import org.uma.jmetal.algorithm.multiobjective.smpso.SMPSOBuilder;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+
+/**
+ * JMetal's {@link SMPSOBuilder} producing a {@link ParallelSMPSO}.  Variants other than
+ * {@link SMPSOBuilder.SMPSOVariant#SMPSO} are built by JMetal unchanged.
+ */
+public class ParallelSMPSOBuilder extends SMPSOBuilder {
+
+	/**
+	 * The dominance comparator, which is tracked here since it is private in {@link SMPSOBuilder}.
+	 */
+	private DominanceComparator<DoubleSolution> dominanceComparator;
+
+	/**
+	 * If {@code true}, the particles are updated and evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param leaders the archive of leaders
+	 * @param parallel if {@code true}, the particles are updated and evaluated in parallel
+	 */
+	public ParallelSMPSOBuilder(DoubleProblem problem, BoundedArchive<DoubleSolution> leaders, boolean parallel) {
+		super(problem, leaders);
+		this.dominanceComparator = new DefaultDominanceComparator<DoubleSolution>();
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the particles are updated and evaluated in parallel.
+	 * 
+	 * @return {@code true} if the particles are updated and evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	public ParallelSMPSOBuilder setDominanceComparator(DominanceComparator<DoubleSolution> dominanceComparator) {
+		super.setDominanceComparator(dominanceComparator);
+		this.dominanceComparator = dominanceComparator;
+		return this;
+	}
+
+	@Override
+	public SMPSO build() {
+		if (!SMPSOVariant.SMPSO.equals(variant)) {
+			return super.build();
+		}
+		
+		return new ParallelSMPSO(getProblem(), getSwarmSize(), getLeaders(), getMutationOperator(),
+				getMaxIterations(), getR1Min(), getR1Max(), getR2Min(), getR2Max(), getC1Min(), getC1Max(), getC2Min(),
+				getC2Max(), getWeightMin(), getWeightMax(), getChangeVelocity1(), getChangeVelocity2(),
+				dominanceComparator, getEvaluator(), parallel);
+	}
+
+}
@@ -0,0 +1,102 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.adapters.ProblemAdapter;
+import org.moeaframework.algorithm.jmetal.operators.PluggableRankingAndCrowdingSelection;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link NSGAII} with the non-dominated sorting performed by the given ranking.  JMetal's implementation
+ * always uses {@link org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking} during replacement.  If the
+ * problem is a {@link ProblemAdapter} with a solution pool, the solutions discarded during replacement are released to
+ * the pool.
+ *
+ * @param <S> the type of solution
+ * @see RankedNSGAIIBuilder
+ */
+public class RankedNSGAII<S extends Solution<?>> extends NSGAII<S> {
+
+	private static final long serialVersionUID = 6620584402158063113L;
+
+	/**
+	 * The ranking used to sort the combined parent and offspring populations into fronts.
+	 */
+	private final Ranking<S> ranking;
+
+	/**
+	 * Creates a new instance of this algorithm.
+	 * 
+	 * @param problem the problem
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param populationSize the population size
+	 * @param matingPoolSize the number of parents selected each generation
+	 * @param offspringPopulationSize the number of offspring generated each generation
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param selectionOperator the operator selecting parents from the population
+	 * @param dominanceComparator the dominance comparator, which must be consistent with the ranking
+	 * @param evaluator the evaluator
+	 * @param ranking the ranking used to sort the population into fronts
+	 */
+	public RankedNSGAII(Problem<S> problem, int maxEvaluations, int populationSize, int matingPoolSize,
+			int offspringPopulationSize, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+			SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+			SolutionListEvaluator<S> evaluator, Ranking<S> ranking) {
+		super(problem, maxEvaluations, populationSize, matingPoolSize, offspringPopulationSize, crossoverOperator,
+				mutationOperator, selectionOperator, dominanceComparator, evaluator);
+		this.ranking = ranking;
+	}
+
+	/**
+	 * Returns the ranking used to sort the population into fronts.
+	 * 
+	 * @return the ranking
+	 */
+	public Ranking<S> getRanking() {
+		return ranking;
+	}
+
+	@Override
+	protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+		List<S> jointPopulation = new ArrayList<>(population.size() + offspringPopulation.size());
+		jointPopulation.addAll(population);
+		jointPopulation.addAll(offspringPopulation);
+
+		List<S> survivors = new PluggableRankingAndCrowdingSelection<>(getMaxPopulationSize(), ranking)
+				.execute(jointPopulation);
+
+		if (getProblem() instanceof ProblemAdapter<S> adapter) {
+			adapter.releaseDiscarded(jointPopulation, survivors);
+		}
+
+		return survivors;
+	}
+
+}
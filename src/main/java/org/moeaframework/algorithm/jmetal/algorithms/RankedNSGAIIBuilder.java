@@ -0,0 +1,104 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import org.moeaframework.algorithm.jmetal.ranking.RankingEngine;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+
+/**
+ * JMetal's {@link NSGAIIBuilder} producing a {@link RankedNSGAII} that sorts the population with the given ranking
+ * engine.  Variants other than {@link NSGAIIBuilder.NSGAIIVariant#NSGAII} are built by JMetal unchanged.
+ *
+ * @param <S> the type of solution
+ */
+public class RankedNSGAIIBuilder<S extends Solution<?>> extends NSGAIIBuilder<S> {
+
+	/**
+	 * The ranking engine.
+	 */
+	private final RankingEngine rankingEngine;
+
+	/**
+	 * The dominance comparator, which is tracked here since it is private in {@link NSGAIIBuilder}.
+	 */
+	private DominanceComparator<S> dominanceComparator;
+
+	/**
+	 * The variant, which is tracked here since it is private in {@link NSGAIIBuilder}.
+	 */
+	private NSGAIIVariant variant;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param populationSize the population size
+	 * @param rankingEngine the ranking engine
+	 */
+	public RankedNSGAIIBuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
+			MutationOperator<S> mutationOperator, int populationSize, RankingEngine rankingEngine) {
+		super(problem, crossoverOperator, mutationOperator, populationSize);
+		this.rankingEngine = rankingEngine;
+		this.dominanceComparator = new DefaultDominanceComparator<>();
+		this.variant = NSGAIIVariant.NSGAII;
+	}
+
+	/**
+	 * Returns the ranking engine.
+	 * 
+	 * @return the ranking engine
+	 */
+	public RankingEngine getRankingEngine() {
+		return rankingEngine;
+	}
+
+	@Override
+	public RankedNSGAIIBuilder<S> setDominanceComparator(DominanceComparator<S> dominanceComparator) {
+		super.setDominanceComparator(dominanceComparator);
+		this.dominanceComparator = dominanceComparator;
+		return this;
+	}
+
+	@Override
+	public RankedNSGAIIBuilder<S> setVariant(NSGAIIVariant variant) {
+		super.setVariant(variant);
+		this.variant = variant;
+		return this;
+	}
+
+	@Override
+	public NSGAII<S> build() {
+		if (!NSGAIIVariant.NSGAII.equals(variant)) {
+			return super.build();
+		}
+
+		return new RankedNSGAII<>(getProblem(), getMaxIterations(), getPopulationSize(), matingPoolSize,
+				offspringPopulationSize, getCrossoverOperator(), getMutationOperator(), getSelectionOperator(),
+				dominanceComparator, getSolutionListEvaluator(), rankingEngine.createRanking(dominanceComparator));
+	}
+
+}
@@ -0,0 +1,113 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.operators.PluggableRankingAndPreferenceSelection;
+import org.uma.jmetal.algorithm.multiobjective.rnsgaii.RNSGAII;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.selection.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link RNSGAII} with the non-dominated sorting performed by the given ranking.  JMetal's implementation
+ * always uses {@link org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking} during replacement.
+ * <p>
+ * Since the interest point and epsilon are private in {@link RNSGAII}, this class tracks them itself.
+ *
+ * @param <S> the type of solution
+ * @see RankedRNSGAIIBuilder
+ */
+public class RankedRNSGAII<S extends Solution<?>> extends RNSGAII<S> {
+
+	private static final long serialVersionUID = -3954306286470112659L;
+
+	/**
+	 * The ranking used to sort the combined parent and offspring populations into fronts.
+	 */
+	private final Ranking<S> ranking;
+
+	/**
+	 * The reference points, concatenated into a single list.
+	 */
+	private List<Double> interestPoint;
+
+	/**
+	 * The epsilon value used to remove solutions near one another.
+	 */
+	private final double epsilon;
+
+	/**
+	 * Creates a new instance of this algorithm.
+	 * 
+	 * @param problem the problem
+	 * @param maxEvaluations the maximum number of evaluations
+	 * @param populationSize the population size
+	 * @param matingPoolSize the number of parents selected each generation
+	 * @param offspringPopulationSize the number of offspring generated each generation
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param selectionOperator the operator selecting parents from the population
+	 * @param evaluator the evaluator
+	 * @param interestPoint the reference points, concatenated into a single list
+	 * @param epsilon the epsilon value used to remove solutions near one another
+	 * @param ranking the ranking used to sort the population into fronts
+	 */
+	public RankedRNSGAII(Problem<S> problem, int maxEvaluations, int populationSize, int matingPoolSize,
+			int offspringPopulationSize, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+			SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
+			List<Double> interestPoint, double epsilon, Ranking<S> ranking) {
+		super(problem, maxEvaluations, populationSize, matingPoolSize, offspringPopulationSize, crossoverOperator,
+				mutationOperator, selectionOperator, evaluator, interestPoint, epsilon);
+		this.interestPoint = interestPoint;
+		this.epsilon = epsilon;
+		this.ranking = ranking;
+	}
+
+	/**
+	 * Returns the ranking used to sort the population into fronts.
+	 * 
+	 * @return the ranking
+	 */
+	public Ranking<S> getRanking() {
+		return ranking;
+	}
+
+	@Override
+	public void updatePointOfInterest(List<Double> newReferencePoints) {
+		super.updatePointOfInterest(newReferencePoints);
+		this.interestPoint = newReferencePoints;
+	}
+
+	@Override
+	protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+		List<S> jointPopulation = new ArrayList<>(population.size() + offspringPopulation.size());
+		jointPopulation.addAll(population);
+		jointPopulation.addAll(offspringPopulation);
+
+		return new PluggableRankingAndPreferenceSelection<>(getMaxPopulationSize(), interestPoint, epsilon, ranking)
+				.execute(jointPopulation);
+	}
+
+}
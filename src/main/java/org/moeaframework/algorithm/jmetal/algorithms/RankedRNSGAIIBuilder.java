@@ -0,0 +1,90 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.ranking.RankingEngine;
+import org.uma.jmetal.algorithm.multiobjective.rnsgaii.RNSGAII;
+import org.uma.jmetal.algorithm.multiobjective.rnsgaii.RNSGAIIBuilder;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+
+/**
+ * JMetal's {@link RNSGAIIBuilder} producing a {@link RankedRNSGAII} that sorts the population with the given ranking
+ * engine.  As in JMetal, the replacement step ranks solutions by their objectives only.
+ *
+ * @param <S> the type of solution
+ */
+public class RankedRNSGAIIBuilder<S extends Solution<?>> extends RNSGAIIBuilder<S> {
+
+	/**
+	 * The ranking engine.
+	 */
+	private final RankingEngine rankingEngine;
+
+	/**
+	 * The reference points, concatenated into a single list.
+	 */
+	private final List<Double> interestPoint;
+
+	/**
+	 * The epsilon value used to remove solutions near one another.
+	 */
+	private final double epsilon;
+
+	/**
+	 * Creates a new builder.
+	 * 
+	 * @param problem the problem
+	 * @param crossoverOperator the crossover operator
+	 * @param mutationOperator the mutation operator
+	 * @param interestPoint the reference points, concatenated into a single list
+	 * @param epsilon the epsilon value used to remove solutions near one another
+	 * @param rankingEngine the ranking engine
+	 */
+	public RankedRNSGAIIBuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
+			MutationOperator<S> mutationOperator, List<Double> interestPoint, double epsilon,
+			RankingEngine rankingEngine) {
+		super(problem, crossoverOperator, mutationOperator, interestPoint, epsilon);
+		this.interestPoint = interestPoint;
+		this.epsilon = epsilon;
+		this.rankingEngine = rankingEngine;
+	}
+
+	/**
+	 * Returns the ranking engine.
+	 * 
+	 * @return the ranking engine
+	 */
+	public RankingEngine getRankingEngine() {
+		return rankingEngine;
+	}
+
+	@Override
+	public RNSGAII<S> build() {
+		return new RankedRNSGAII<>(getProblem(), getMaxIterations(), getPopulationSize(), matingPoolSize,
+				offspringPopulationSize, getCrossoverOperator(), getMutationOperator(), getSelectionOperator(),
+				getSolutionListEvaluator(), interestPoint, epsilon,
+				rankingEngine.createRanking(new DefaultDominanceComparator<>()));
+	}
+
+}
@@ -0,0 +1,368 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.AbstractMOEAD.FunctionType;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.point.impl.IdealPoint;
+
+/**
+ * Collects the offspring of consecutive MOEA/D subproblems so they can be evaluated together.  JMetal processes one
+ * subproblem at a time: it creates an offspring from the current population, evaluates it, and updates the
+ * neighborhood of the subproblem.  An offspring can join the batch if its parents and its own subproblem are not
+ * replaced by any earlier offspring in the batch, in which case creating it before those updates gives the same
+ * offspring as JMetal.  Otherwise, the batch is flushed first.  When a batch is flushed, the offspring are evaluated
+ * together, optionally in parallel, and the updates are then applied one at a time in the original order.
+ * <p>
+ * The random permutation used by each update is drawn when the offspring is created, which is where JMetal draws
+ * it, so all random numbers are consumed in the same order as JMetal and the results are identical to the sequential
+ * algorithm.
+ */
+final class SubproblemBatch {
+
+	/**
+	 * If {@code true}, the offspring are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The offspring waiting to be evaluated, in the order they were created.
+	 */
+	private final List<Offspring> offspring;
+
+	/**
+	 * {@code true} for each member of the population that may be replaced by an offspring in this batch.
+	 */
+	private final boolean[] replaced;
+
+	/**
+	 * {@code true} if an offspring in this batch may replace any member of the population.
+	 */
+	private boolean replacesAll;
+
+	/**
+	 * Constructs a new, empty batch.
+	 * 
+	 * @param populationSize the population size
+	 * @param parallel if {@code true}, the offspring are evaluated in parallel
+	 */
+	public SubproblemBatch(int populationSize, boolean parallel) {
+		super();
+		this.parallel = parallel;
+		this.offspring = new ArrayList<Offspring>();
+		this.replaced = new boolean[populationSize];
+	}
+
+	/**
+	 * Returns {@code true} if the offspring are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the offspring are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Returns {@code true} if an offspring of the given subproblem must see the updates of the offspring already in
+	 * this batch, in which case the batch must be flushed before the offspring is created.
+	 * 
+	 * @param subProblemId the subproblem
+	 * @param matingPool the indices of the parents selected for the subproblem
+	 * @return {@code true} if the batch must be flushed first
+	 */
+	public boolean conflicts(int subProblemId, List<Integer> matingPool) {
+		if (offspring.isEmpty()) {
+			return false;
+		}
+		
+		if (replacesAll || replaced[subProblemId]) {
+			return true;
+		}
+		
+		for (int index : matingPool) {
+			if (replaced[index]) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+
+	/**
+	 * Creates an offspring for a subproblem with differential evolution and mutation, exactly as JMetal does, and adds
+	 * it to this batch along with the random permutation later used to update the neighborhood.
+	 * 
+	 * @param population the population
+	 * @param subProblemId the subproblem
+	 * @param matingPool the indices of the two parents selected for the subproblem
+	 * @param neighbors the neighborhood of the subproblem, or {@code null} if the update considers the entire
+	 *        population
+	 * @param crossover the differential evolution operator
+	 * @param mutation the mutation operator
+	 * @return the offspring, which is not yet evaluated
+	 */
+	public DoubleSolution add(List<DoubleSolution> population, int subProblemId, List<Integer> matingPool,
+			int[] neighbors, DifferentialEvolutionCrossover crossover, MutationOperator<DoubleSolution> mutation) {
+		List<DoubleSolution> parents = new ArrayList<DoubleSolution>(3);
+		parents.add(population.get(matingPool.get(0)));
+		parents.add(population.get(matingPool.get(1)));
+		parents.add(population.get(subProblemId));
+		
+		crossover.setCurrentSolution(population.get(subProblemId));
+		DoubleSolution child = crossover.execute(parents).get(0);
+		mutation.execute(child);
+		
+		int[] permutation = new int[neighbors == null ? population.size() : neighbors.length];
+		MOEADUtils.randomPermutation(permutation, permutation.length);
+		
+		if (neighbors == null) {
+			replacesAll = true;
+		} else {
+			for (int index : neighbors) {
+				replaced[index] = true;
+			}
+		}
+		
+		offspring.add(new Offspring(subProblemId, neighbors, child, permutation));
+		return child;
+	}
+
+	/**
+	 * Evaluates all offspring in this batch and then applies the update of each offspring in the order they were
+	 * created.  The batch is empty afterwards.
+	 * 
+	 * @param problem the problem used to evaluate the offspring
+	 * @param update the update applied to each evaluated offspring
+	 */
+	public void flush(Problem<DoubleSolution> problem, Update update) {
+		IntStream indices = IntStream.range(0, offspring.size());
+		(parallel ? indices.parallel() : indices).forEach(i -> problem.evaluate(offspring.get(i).getChild()));
+		
+		for (Offspring next : offspring) {
+			update.apply(next);
+		}
+		
+		offspring.clear();
+		Arrays.fill(replaced, false);
+		replacesAll = false;
+	}
+
+	/**
+	 * Replaces members of the neighborhood that are improved by the offspring, following JMetal's
+	 * {@code AbstractMOEAD#updateNeighborhood} but with the random permutation drawn when the offspring was created.
+	 * 
+	 * @param offspring the offspring
+	 * @param population the population
+	 * @param lambda the weight vectors
+	 * @param functionType the scalarizing function
+	 * @param idealPoint the ideal point
+	 * @param maximumNumberOfReplacedSolutions the maximum number of solutions replaced
+	 */
+	public static void updateNeighborhood(Offspring offspring, List<DoubleSolution> population, double[][] lambda,
+			FunctionType functionType, IdealPoint idealPoint, int maximumNumberOfReplacedSolutions) {
+		DoubleSolution child = offspring.getChild();
+		int time = 0;
+		
+		for (int i = 0; i < offspring.size(); i++) {
+			int k = offspring.get(i);
+			double f1 = fitness(functionType, population.get(k), lambda[k], idealPoint);
+			double f2 = fitness(functionType, child, lambda[k], idealPoint);
+			
+			if (f2 < f1) {
+				population.set(k, (DoubleSolution)child.copy());
+				time++;
+			}
+			
+			if (time >= maximumNumberOfReplacedSolutions) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Computes the scalarized fitness of a solution, following JMetal's {@code AbstractMOEAD#fitnessFunction}, which
+	 * is not accessible outside of JMetal.
+	 * 
+	 * @param functionType the scalarizing function
+	 * @param solution the solution
+	 * @param lambda the weight vector
+	 * @param idealPoint the ideal point
+	 * @return the fitness, where smaller values are better
+	 * @throws JMetalException if the function type is not supported
+	 */
+	public static double fitness(FunctionType functionType, DoubleSolution solution, double[] lambda,
+			IdealPoint idealPoint) {
+		double[] objectives = solution.objectives();
+		
+		switch (functionType) {
+			case TCHE -> {
+				double maxFun = -1.0E30;
+				
+				for (int n = 0; n < objectives.length; n++) {
+					double diff = Math.abs(objectives[n] - idealPoint.value(n));
+					double feval = lambda[n] == 0.0 ? 1.0E-4 * diff : diff * lambda[n];
+					
+					if (feval > maxFun) {
+						maxFun = feval;
+					}
+				}
+				
+				return maxFun;
+			}
+			case AGG -> {
+				double sum = 0.0;
+				
+				for (int n = 0; n < objectives.length; n++) {
+					sum += lambda[n] * objectives[n];
+				}
+				
+				return sum;
+			}
+			case PBI -> {
+				double theta = 5.0;
+				double nl = 0.0;
+				double d1 = 0.0;
+				double d2 = 0.0;
+				
+				for (int i = 0; i < objectives.length; i++) {
+					d1 += (objectives[i] - idealPoint.value(i)) * lambda[i];
+					nl += Math.pow(lambda[i], 2.0);
+				}
+				
+				nl = Math.sqrt(nl);
+				d1 = Math.abs(d1) / nl;
+				
+				for (int i = 0; i < objectives.length; i++) {
+					d2 += Math.pow(objectives[i] - idealPoint.value(i) - d1 * (lambda[i] / nl), 2.0);
+				}
+				
+				d2 = Math.sqrt(d2);
+				return d1 + theta * d2;
+			}
+			default -> throw new JMetalException(" MOEAD.fitnessFunction: unknown type " + functionType);
+		}
+	}
+
+	/**
+	 * The update applied to each offspring when a batch is flushed.
+	 */
+	@FunctionalInterface
+	interface Update {
+		
+		/**
+		 * Applies the update for an evaluated offspring.
+		 * 
+		 * @param offspring the offspring
+		 */
+		public void apply(Offspring offspring);
+		
+	}
+
+	/**
+	 * An offspring waiting in a batch, along with the members of the population its update visits.
+	 */
+	static final class Offspring {
+		
+		/**
+		 * The subproblem that produced this offspring.
+		 */
+		private final int subProblemId;
+		
+		/**
+		 * The neighborhood of the subproblem, or {@code null} if the update visits the entire population.
+		 */
+		private final int[] neighbors;
+		
+		/**
+		 * The offspring.
+		 */
+		private final DoubleSolution child;
+		
+		/**
+		 * The random permutation giving the order in which the update visits the neighborhood or population.
+		 */
+		private final int[] permutation;
+		
+		/**
+		 * Constructs a new offspring.
+		 * 
+		 * @param subProblemId the subproblem that produced this offspring
+		 * @param neighbors the neighborhood of the subproblem, or {@code null} if the update visits the entire
+		 *        population
+		 * @param child the offspring
+		 * @param permutation the random permutation giving the order in which the update visits the neighborhood or
+		 *        population
+		 */
+		public Offspring(int subProblemId, int[] neighbors, DoubleSolution child, int[] permutation) {
+			super();
+			this.subProblemId = subProblemId;
+			this.neighbors = neighbors;
+			this.child = child;
+			this.permutation = permutation;
+		}
+		
+		/**
+		 * Returns the subproblem that produced this offspring.
+		 * 
+		 * @return the subproblem that produced this offspring
+		 */
+		public int getSubProblemId() {
+			return subProblemId;
+		}
+		
+		/**
+		 * Returns the offspring.
+		 * 
+		 * @return the offspring
+		 */
+		public DoubleSolution getChild() {
+			return child;
+		}
+		
+		/**
+		 * Returns the number of members of the population visited by the update.
+		 * 
+		 * @return the number of members of the population visited by the update
+		 */
+		public int size() {
+			return permutation.length;
+		}
+		
+		/**
+		 * Returns the index of the i-th member of the population visited by the update.
+		 * 
+		 * @param i the position in the visiting order
+		 * @return the index of the member of the population
+		 */
+		public int get(int i) {
+			return neighbors == null ? permutation[i] : neighbors[permutation[i]];
+		}
+		
+	}
+
+}
@@ -0,0 +1,182 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+/**
+ * Kernels shared by the parallel particle swarm algorithms.  Positions, velocities and bounds are stored as primitive
+ * arrays indexed by particle and then by variable, and each particle is processed by an independent task.
+ * <p>
+ * Each kernel performs the same operations in the same order as the corresponding JMetal code, so the results are
+ * identical to those produced by JMetal.
+ */
+final class SwarmKernels {
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private SwarmKernels() {
+		super();
+	}
+
+	/**
+	 * Returns the indices {@code 0, ..., size - 1} as a stream, which is parallel if requested.
+	 * 
+	 * @param size the number of indices
+	 * @param parallel if {@code true}, the stream is parallel
+	 * @return the stream of indices
+	 */
+	public static IntStream range(int size, boolean parallel) {
+		IntStream indices = IntStream.range(0, size);
+		return parallel ? indices.parallel() : indices;
+	}
+
+	/**
+	 * Returns the decision variables of the given solutions.
+	 * 
+	 * @param solutions the solutions
+	 * @param parallel if {@code true}, the solutions are read in parallel
+	 * @return the decision variables, indexed by solution and then by variable
+	 */
+	public static double[][] getPositions(List<DoubleSolution> solutions, boolean parallel) {
+		double[][] positions = new double[solutions.size()][];
+		
+		range(solutions.size(), parallel).forEach(i -> {
+			List<Double> variables = solutions.get(i).variables();
+			double[] position = new double[variables.size()];
+			
+			for (int j = 0; j < position.length; j++) {
+				position[j] = variables.get(j);
+			}
+			
+			positions[i] = position;
+		});
+		
+		return positions;
+	}
+
+	/**
+	 * Returns the lower bounds of the decision variables.
+	 * 
+	 * @param problem the problem
+	 * @return the lower bounds
+	 */
+	public static double[] getLowerBounds(DoubleProblem problem) {
+		return problem.variableBounds().stream().mapToDouble(bounds -> bounds.getLowerBound()).toArray();
+	}
+
+	/**
+	 * Returns the upper bounds of the decision variables.
+	 * 
+	 * @param problem the problem
+	 * @return the upper bounds
+	 */
+	public static double[] getUpperBounds(DoubleProblem problem) {
+		return problem.variableBounds().stream().mapToDouble(bounds -> bounds.getUpperBound()).toArray();
+	}
+
+	/**
+	 * Computes the constriction coefficient limiting the velocity of a particle, matching JMetal's
+	 * {@code constrictionCoefficient} in SMPSO and dMOPSO.
+	 * 
+	 * @param c1 the cognitive coefficient
+	 * @param c2 the social coefficient
+	 * @return the constriction coefficient
+	 */
+	public static double constrictionCoefficient(double c1, double c2) {
+		double rho = c1 + c2;
+		
+		if (rho <= 4.0) {
+			return 1.0;
+		}
+		
+		return 2.0 / (2.0 - rho - Math.sqrt(Math.pow(rho, 2.0) - 4.0 * rho));
+	}
+
+	/**
+	 * Moves each particle by its velocity and then repairs any variables outside the bounds, matching JMetal's
+	 * {@code updatePosition} in SMPSO and OMOPSO.
+	 * 
+	 * @param swarm the swarm
+	 * @param speed the velocities, indexed by particle and then by variable, which are scaled when a bound is hit
+	 * @param lowerBounds the lower bounds
+	 * @param upperBounds the upper bounds
+	 * @param changeVelocity1 the factor applied to the velocity when the lower bound is hit
+	 * @param changeVelocity2 the factor applied to the velocity when the upper bound is hit
+	 * @param parallel if {@code true}, the particles are moved in parallel
+	 */
+	public static void updatePositions(List<DoubleSolution> swarm, double[][] speed, double[] lowerBounds,
+			double[] upperBounds, double changeVelocity1, double changeVelocity2, boolean parallel) {
+		range(swarm.size(), parallel).forEach(i -> {
+			List<Double> variables = swarm.get(i).variables();
+			
+			for (int j = 0; j < variables.size(); j++) {
+				variables.set(j, variables.get(j) + speed[i][j]);
+			}
+			
+			repair(variables, speed[i], lowerBounds, upperBounds, changeVelocity1, changeVelocity2);
+		});
+	}
+
+	/**
+	 * Replaces any variables of a particle that are outside the bounds with the violated bound and scales the
+	 * corresponding velocity.
+	 * 
+	 * @param variables the variables of the particle
+	 * @param speed the velocity of the particle
+	 * @param lowerBounds the lower bounds
+	 * @param upperBounds the upper bounds
+	 * @param changeVelocity1 the factor applied to the velocity when the lower bound is hit
+	 * @param changeVelocity2 the factor applied to the velocity when the upper bound is hit
+	 */
+	public static void repair(List<Double> variables, double[] speed, double[] lowerBounds, double[] upperBounds,
+			double changeVelocity1, double changeVelocity2) {
+		for (int j = 0; j < variables.size(); j++) {
+			double value = variables.get(j);
+			
+			if (value < lowerBounds[j]) {
+				value = lowerBounds[j];
+				variables.set(j, value);
+				speed[j] = speed[j] * changeVelocity1;
+			}
+			
+			if (value > upperBounds[j]) {
+				variables.set(j, upperBounds[j]);
+				speed[j] = speed[j] * changeVelocity2;
+			}
+		}
+	}
+
+	/**
+	 * Evaluates each particle in the swarm.
+	 * 
+	 * @param problem the problem
+	 * @param swarm the swarm
+	 * @param parallel if {@code true}, the particles are evaluated in parallel
+	 */
+	public static void evaluate(Problem<DoubleSolution> problem, List<DoubleSolution> swarm, boolean parallel) {
+		range(swarm.size(), parallel).forEach(i -> problem.evaluate(swarm.get(i)));
+	}
+
+}
@@ -0,0 +1,62 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+
+/**
+ * The bounded archives available to algorithms that store non-dominated solutions in a crowding distance archive.
+ */
+public enum ArchiveType {
+
+	/**
+	 * JMetal's {@link CrowdingDistanceArchive}.
+	 */
+	CROWDING,
+
+	/**
+	 * JMetal's {@link CrowdingDistanceArchive}, comparing solutions with {@link DominanceWithConstraintsComparator} so
+	 * that feasible solutions replace infeasible ones.
+	 */
+	CONSTRAINED_CROWDING,
+
+	/**
+	 * The {@link NDTreeArchive}, which is faster for large archives.  Solutions are compared by constraint violation
+	 * before dominance, as with {@link #CONSTRAINED_CROWDING}.
+	 */
+	NDTREE;
+
+	/**
+	 * Creates an archive of this type.
+	 * 
+	 * @param <S> the type of solution
+	 * @param maxSize the maximum number of solutions stored in the archive
+	 * @return the archive
+	 */
+	public <S extends Solution<?>> CrowdingDistanceArchive<S> createArchive(int maxSize) {
+		return switch (this) {
+			case CROWDING -> new CrowdingDistanceArchive<>(maxSize);
+			case CONSTRAINED_CROWDING ->
+					new CrowdingDistanceArchive<>(maxSize, new DominanceWithConstraintsComparator<>());
+			case NDTREE -> new NDTreeArchive<>(maxSize);
+		};
+	}
+
+}
@@ -0,0 +1,490 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.uma.jmetal.algorithm.multiobjective.espea.util.EnergyArchive;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.ScalarizationValue;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.ScalarizationWrapper;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.Fitness;
+
+/**
+ * Energy archive with the same semantics as JMetal's {@link EnergyArchive}, designed for large archives.  When the
+ * archive overflows, JMetal's implementation computes the distance between every pair of archived solutions to find
+ * the Riesz s-energy of each solution, which takes quadratic time per insertion.  This archive instead keeps, for
+ * each archived solution, the sum of its pairwise energy terms with all other archived solutions.  The sums are
+ * updated in linear time when a solution enters or leaves the archive, and only recomputed from scratch when the
+ * normalization bounds or the scalarization values of the archived solutions change.
+ * <p>
+ * A full recomputation adds the terms in the same order as {@link EnergyArchive}, so the energies are identical.  The
+ * incremental updates add and subtract the same terms in a different order, so between recomputations the energies
+ * may differ in the last few bits.  The archive therefore keeps the same solutions as {@link EnergyArchive} unless the
+ * energies of two candidates for replacement are within this rounding error of each other.
+ * <p>
+ * The list returned by {@link #solutions()} may be reordered, but solutions can only be added or removed through this
+ * archive.
+ *
+ * @param <S> the type of solution
+ */
+public class IncrementalEnergyArchive<S extends Solution<?>> extends EnergyArchive<S> {
+
+	private static final long serialVersionUID = 5716025013645390184L;
+
+	/**
+	 * The scalarization applied to the solutions before computing their energies.
+	 */
+	private final ScalarizationWrapper scalarizationWrapper;
+
+	/**
+	 * If {@code true}, the objectives are normalized before computing distances.
+	 */
+	private final boolean normalizeObjectives;
+
+	/**
+	 * The strategy used to pick the solution replaced by a new solution.
+	 */
+	private final ReplacementStrategy replacementStrategy;
+
+	/**
+	 * The scalarization value attribute.
+	 */
+	private final ScalarizationValue<S> scalarization;
+
+	/**
+	 * The fitness attribute, which is read by {@link #comparator()}.
+	 */
+	private final Fitness<S> fitness;
+
+	/**
+	 * Maps each archived solution to its entry.
+	 */
+	private final Map<S, Entry> entries;
+
+	/**
+	 * The minimum objective values used to compute the energy sums, or {@code null} if the sums must be recomputed.
+	 */
+	private double[] minimum;
+
+	/**
+	 * The maximum objective values used to compute the energy sums, or {@code null} if the sums must be recomputed.
+	 */
+	private double[] maximum;
+
+	/**
+	 * Constructs a new energy archive.
+	 * 
+	 * @param maxSize the maximum number of solutions stored in this archive
+	 * @param scalarizationWrapper the scalarization applied to the solutions before computing their energies
+	 * @param normalizeObjectives if {@code true}, the objectives are normalized before computing distances
+	 * @param replacementStrategy the strategy used to pick the solution replaced by a new solution
+	 */
+	public IncrementalEnergyArchive(int maxSize, ScalarizationWrapper scalarizationWrapper,
+			boolean normalizeObjectives, ReplacementStrategy replacementStrategy) {
+		super(maxSize, scalarizationWrapper, normalizeObjectives, replacementStrategy);
+		this.scalarizationWrapper = scalarizationWrapper;
+		this.normalizeObjectives = normalizeObjectives;
+		this.replacementStrategy = replacementStrategy;
+		
+		scalarization = new ScalarizationValue<S>();
+		fitness = new Fitness<S>();
+		entries = new IdentityHashMap<S, Entry>();
+	}
+
+	@Override
+	public boolean add(S solution) {
+		boolean success = archive.add(solution);
+		
+		if (success) {
+			synchronize();
+			prune();
+		}
+		
+		return success;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * As in {@link EnergyArchive}, this must only be called when the archive holds one more solution than its maximum
+	 * size, in which case the last solution is the candidate considered for insertion.
+	 */
+	@Override
+	public void computeDensityEstimator() {
+		computeFitness();
+	}
+
+	@Override
+	public void prune() {
+		if (solutions().size() > maximumSize()) {
+			List<S> solutions = solutions();
+			S candidate = solutions.get(solutions.size() - 1);
+			Entry candidateEntry = entries.get(candidate);
+			int worst = computeFitness();
+			
+			if (solutions.get(worst) != candidate) {
+				for (int i = 0; i < solutions.size() - 1; i++) {
+					entries.get(solutions.get(i)).sum += candidateEntry.q / candidateEntry.distances[i];
+				}
+				
+				candidateEntry.sum = candidateEntry.total;
+				candidateEntry.valid = true;
+			}
+			
+			candidateEntry.distances = null;
+			solutions.remove(solutions.get(worst));
+			synchronize();
+		}
+	}
+
+	/**
+	 * Updates the entries after solutions are added to or removed from the underlying archive.  The energy terms of
+	 * each removed solution are subtracted from the remaining solutions, and each added solution is given an entry
+	 * whose sum is computed the next time the archive overflows.
+	 */
+	private void synchronize() {
+		List<S> solutions = solutions();
+		Set<S> current = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>());
+		current.addAll(solutions);
+		
+		entries.entrySet().removeIf(mapping -> {
+			if (current.contains(mapping.getKey())) {
+				return false;
+			}
+			
+			Entry removed = mapping.getValue();
+			
+			if (removed.valid) {
+				for (Entry entry : entries.values()) {
+					if (entry != removed && entry.valid) {
+						entry.sum -= removed.q / distance(entry.objectives, removed.objectives);
+					}
+				}
+			}
+			
+			return true;
+		});
+		
+		for (S solution : solutions) {
+			entries.computeIfAbsent(solution, key -> new Entry(key.objectives().clone()));
+		}
+	}
+
+	/**
+	 * Computes the fitness of each solution, as in {@link EnergyArchive#computeDensityEstimator()}, and records the
+	 * distances from the candidate, which is the last solution, to the other solutions.
+	 * 
+	 * @return the index of the solution with the largest fitness, which is removed when pruning
+	 */
+	private int computeFitness() {
+		List<S> solutions = solutions();
+		int size = solutions.size() - 1;
+		double[] q = computeScalarization(solutions);
+		
+		if (!updateBounds(solutions) || !isConsistent(solutions, q)) {
+			recomputeSums(solutions, q);
+		} else {
+			for (int i = 0; i < size; i++) {
+				Entry entry = entries.get(solutions.get(i));
+				
+				if (!entry.valid) {
+					addToSums(solutions, q, i);
+				}
+			}
+		}
+		
+		Entry candidate = entries.get(solutions.get(size));
+		candidate.q = q[size];
+		candidate.distances = new double[size];
+		candidate.total = 0.0;
+		
+		double[] individualEnergy = new double[size];
+		
+		for (int i = 0; i < size; i++) {
+			candidate.distances[i] = distance(entries.get(solutions.get(i)).objectives, candidate.objectives);
+			individualEnergy[i] = q[i] / candidate.distances[i];
+			candidate.total += individualEnergy[i];
+		}
+		
+		boolean eligible = false;
+		int worst = 0;
+		double worstFitness = 0.0;
+		
+		for (int i = 0; i < size; i++) {
+			// as in EnergyArchive, the energy of the last archived solution is not multiplied by its scalarization
+			double energy = entries.get(solutions.get(i)).sum * (i < size - 1 ? q[i] : 1.0);
+			double replacement = (candidate.total - individualEnergy[i]) * q[size];
+			double value = -Double.MAX_VALUE;
+			
+			if (replacement < energy) {
+				eligible = true;
+				
+				value = switch (replacementStrategy) {
+					case BEST_FEASIBLE_POSITION -> -replacement;
+					case LARGEST_DIFFERENCE -> energy;
+					case WORST_IN_ARCHIVE -> energy - replacement;
+				};
+			}
+			
+			fitness.setAttribute(solutions.get(i), value);
+			
+			if (i == 0 || worstFitness < value) {
+				worst = i;
+				worstFitness = value;
+			}
+		}
+		
+		double candidateFitness = eligible ? -Double.MAX_VALUE : Double.MAX_VALUE;
+		fitness.setAttribute(solutions.get(size), candidateFitness);
+		
+		if (size == 0 || worstFitness < candidateFitness) {
+			worst = size;
+		}
+		
+		return worst;
+	}
+
+	/**
+	 * Computes the scalarization value of each solution, shifted to be positive as in {@link EnergyArchive}.
+	 * 
+	 * @param solutions the solutions
+	 * @return the scalarization values
+	 */
+	private double[] computeScalarization(List<S> solutions) {
+		scalarizationWrapper.execute(solutions);
+		
+		double[] q = new double[solutions.size()];
+		double minimumValue = Double.MAX_VALUE;
+		
+		for (int i = 0; i < q.length; i++) {
+			q[i] = scalarization.getAttribute(solutions.get(i));
+			minimumValue = Math.min(minimumValue, q[i]);
+		}
+		
+		if (minimumValue < 0.0) {
+			for (int i = 0; i < q.length; i++) {
+				q[i] = 1e-5 + q[i] + minimumValue;
+				scalarization.setAttribute(solutions.get(i), q[i]);
+			}
+		}
+		
+		return q;
+	}
+
+	/**
+	 * Computes the normalization bounds of the given solutions.
+	 * 
+	 * @param solutions the solutions
+	 * @return {@code true} if the bounds are unchanged and the existing energy sums can be reused
+	 */
+	private boolean updateBounds(List<S> solutions) {
+		if (!normalizeObjectives) {
+			return minimum != null;
+		}
+		
+		int numberOfObjectives = solutions.get(0).objectives().length;
+		double[] newMinimum = new double[numberOfObjectives];
+		double[] newMaximum = new double[numberOfObjectives];
+		
+		Arrays.fill(newMinimum, Double.MAX_VALUE);
+		Arrays.fill(newMaximum, -Double.MAX_VALUE);
+		
+		for (S solution : solutions) {
+			double[] objectives = solution.objectives();
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				newMinimum[j] = Math.min(newMinimum[j], objectives[j]);
+				newMaximum[j] = Math.max(newMaximum[j], objectives[j]);
+			}
+		}
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			if (newMaximum[j] - newMinimum[j] == 0.0) {
+				throw new JMetalException("Maximum and minimum values of index " + j + " are the same: " +
+						newMaximum[j]);
+			}
+		}
+		
+		boolean unchanged = Arrays.equals(minimum, newMinimum) && Arrays.equals(maximum, newMaximum);
+		minimum = newMinimum;
+		maximum = newMaximum;
+		return unchanged;
+	}
+
+	/**
+	 * Returns {@code true} if the energy sums of the archived solutions were computed with the given scalarization
+	 * values.
+	 * 
+	 * @param solutions the solutions, where the last solution is the candidate
+	 * @param q the scalarization values
+	 * @return {@code true} if the energy sums can be reused
+	 */
+	private boolean isConsistent(List<S> solutions, double[] q) {
+		for (int i = 0; i < solutions.size() - 1; i++) {
+			Entry entry = entries.get(solutions.get(i));
+			
+			if (entry.valid && entry.q != q[i]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Recomputes the energy sums of all archived solutions, excluding the candidate, from scratch.  The terms are
+	 * added in the same order as {@link EnergyArchive}.
+	 * 
+	 * @param solutions the solutions, where the last solution is the candidate
+	 * @param q the scalarization values
+	 */
+	private void recomputeSums(List<S> solutions, double[] q) {
+		int size = solutions.size() - 1;
+		Entry[] archived = new Entry[size];
+		
+		if (!normalizeObjectives) {
+			minimum = new double[0];
+			maximum = new double[0];
+		}
+		
+		for (int i = 0; i < size; i++) {
+			archived[i] = entries.get(solutions.get(i));
+			archived[i].q = q[i];
+			archived[i].sum = 0.0;
+			archived[i].valid = true;
+		}
+		
+		for (int i = 0; i < size - 1; i++) {
+			for (int j = i + 1; j < size; j++) {
+				double distance = distance(archived[i].objectives, archived[j].objectives);
+				archived[i].sum += q[j] / distance;
+				archived[j].sum += q[i] / distance;
+			}
+		}
+	}
+
+	/**
+	 * Adds the energy terms between an archived solution without a valid sum and all archived solutions with valid
+	 * sums.
+	 * 
+	 * @param solutions the solutions, where the last solution is the candidate
+	 * @param q the scalarization values
+	 * @param index the index of the solution
+	 */
+	private void addToSums(List<S> solutions, double[] q, int index) {
+		Entry added = entries.get(solutions.get(index));
+		added.q = q[index];
+		added.sum = 0.0;
+		
+		for (int i = 0; i < solutions.size() - 1; i++) {
+			Entry entry = entries.get(solutions.get(i));
+			
+			if (entry.valid) {
+				double distance = distance(entry.objectives, added.objectives);
+				entry.sum += added.q / distance;
+				added.sum += entry.q / distance;
+			}
+		}
+		
+		added.valid = true;
+	}
+
+	/**
+	 * Returns the Euclidean distance between two objective vectors, after normalizing them if enabled.
+	 * 
+	 * @param objectives1 the first objective vector
+	 * @param objectives2 the second objective vector
+	 * @return the distance between the objective vectors
+	 */
+	private double distance(double[] objectives1, double[] objectives2) {
+		double distance = 0.0;
+		
+		for (int j = 0; j < objectives1.length; j++) {
+			double diff;
+			
+			if (normalizeObjectives) {
+				double range = maximum[j] - minimum[j];
+				diff = (objectives1[j] - minimum[j]) / range - (objectives2[j] - minimum[j]) / range;
+			} else {
+				diff = objectives1[j] - objectives2[j];
+			}
+			
+			distance += diff * diff;
+		}
+		
+		return Math.sqrt(distance);
+	}
+
+	/**
+	 * The state tracked for each archived solution.
+	 */
+	private static class Entry implements Serializable {
+
+		private static final long serialVersionUID = -2190370826516893645L;
+
+		/**
+		 * A copy of the objective values.
+		 */
+		private final double[] objectives;
+
+		/**
+		 * The scalarization value used when computing the energy sums.
+		 */
+		private double q;
+
+		/**
+		 * The sum of {@code q[j] / distance} over all other archived solutions with valid sums.
+		 */
+		private double sum;
+
+		/**
+		 * {@code true} if {@link #sum} has been computed.
+		 */
+		private boolean valid;
+
+		/**
+		 * When this solution is the candidate, the distances to the archived solutions.
+		 */
+		private double[] distances;
+
+		/**
+		 * When this solution is the candidate, the sum of the energy terms with all archived solutions.
+		 */
+		private double total;
+
+		/**
+		 * Constructs a new entry.
+		 * 
+		 * @param objectives a copy of the objective values
+		 */
+		public Entry(double[] objectives) {
+			super();
+			this.objectives = objectives;
+		}
+
+	}
+
+}
@@ -0,0 +1,491 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * ND-tree indexing a set of mutually non-dominated points for fast dominance queries.  Each node stores the ideal and
+ * nadir points bounding the points beneath it, which allows entire subtrees to be accepted, rejected, or skipped
+ * without comparing against the individual points.  Leaves hold up to {@code maxLeafSize} points and are split into
+ * {@code M + 1} children when full, where {@code M} is the number of objectives.
+ * <p>
+ * The bounds of a node are not tightened when points are removed.  The stale bounds are conservative, so queries
+ * remain exact, and are corrected as new points are inserted.  All objectives are minimized.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Jaszkiewicz, A. and Lust, T.  "ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance
+ *       Problem."  IEEE Transactions on Evolutionary Computation, 22(5):778-791, 2018.
+ * </ol>
+ *
+ * @param <P> the type of point stored in the tree
+ */
+class NDTree<P extends NDTree.Point> implements Serializable {
+
+	private static final long serialVersionUID = 2877318003719436505L;
+
+	/**
+	 * The maximum number of points stored in a leaf before it is split.
+	 */
+	private final int maxLeafSize;
+
+	/**
+	 * The root node, or {@code null} if the tree is empty.
+	 */
+	private Node<P> root;
+
+	/**
+	 * Constructs a new, empty ND-tree.
+	 * 
+	 * @param maxLeafSize the maximum number of points stored in a leaf before it is split
+	 */
+	public NDTree(int maxLeafSize) {
+		super();
+		this.maxLeafSize = maxLeafSize;
+	}
+
+	/**
+	 * Checks if the given point is dominated by or equal to any point in this tree and, if not, removes all points
+	 * in this tree dominated by the given point.  The given point is not inserted.
+	 * 
+	 * @param point the point
+	 * @param removed the callback receiving each removed point
+	 * @return {@code true} if the point is not dominated by or equal to any point in this tree; {@code false}
+	 *         otherwise
+	 */
+	public boolean update(P point, Consumer<P> removed) {
+		if (root == null) {
+			return true;
+		}
+
+		if (!updateNode(root, point.objectives, removed)) {
+			return false;
+		}
+
+		if (root.isEmpty()) {
+			root = null;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Inserts a point into this tree.  The point must not be dominated by or equal to any point in this tree, which
+	 * is established by first calling {@link #update(Point, Consumer)}.
+	 * 
+	 * @param point the point
+	 */
+	public void insert(P point) {
+		double[] objectives = point.objectives;
+
+		if (root == null) {
+			root = new Node<>(null, objectives);
+		}
+
+		Node<P> node = root;
+		node.include(objectives);
+
+		while (!node.isLeaf()) {
+			node = closestChild(node, objectives);
+			node.include(objectives);
+		}
+
+		node.points.add(point);
+		point.leaf = node;
+
+		if (node.points.size() > maxLeafSize) {
+			split(node);
+		}
+	}
+
+	/**
+	 * Removes a point from this tree.
+	 * 
+	 * @param point the point
+	 */
+	public void remove(P point) {
+		@SuppressWarnings("unchecked")
+		Node<P> node = (Node<P>)point.leaf;
+
+		node.points.remove(point);
+		point.leaf = null;
+
+		while (node != null && node.isEmpty()) {
+			Node<P> parent = node.parent;
+
+			if (parent == null) {
+				root = null;
+			} else {
+				parent.children.remove(node);
+			}
+
+			node = parent;
+		}
+	}
+
+	/**
+	 * Recursively checks the given objectives against the points in a node, removing any dominated points.
+	 * 
+	 * @param node the node
+	 * @param objectives the objective values of the new point
+	 * @param removed the callback receiving each removed point
+	 * @return {@code true} if the new point is not dominated by or equal to any point in the node; {@code false}
+	 *         otherwise
+	 */
+	private boolean updateNode(Node<P> node, double[] objectives, Consumer<P> removed) {
+		if (weaklyDominates(node.nadir, objectives)) {
+			return false;
+		} else if (dominates(objectives, node.ideal)) {
+			node.removeAll(removed);
+		} else if (weaklyDominates(node.ideal, objectives) || weaklyDominates(objectives, node.nadir)) {
+			if (node.isLeaf()) {
+				Iterator<P> iterator = node.points.iterator();
+
+				while (iterator.hasNext()) {
+					P point = iterator.next();
+
+					if (weaklyDominates(point.objectives, objectives)) {
+						return false;
+					} else if (weaklyDominates(objectives, point.objectives)) {
+						iterator.remove();
+						point.leaf = null;
+						removed.accept(point);
+					}
+				}
+			} else {
+				Iterator<Node<P>> iterator = node.children.iterator();
+
+				while (iterator.hasNext()) {
+					Node<P> child = iterator.next();
+
+					if (!updateNode(child, objectives, removed)) {
+						return false;
+					} else if (child.isEmpty()) {
+						iterator.remove();
+					}
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the child whose midpoint, halfway between its ideal and nadir points, is closest to the given
+	 * objectives.
+	 * 
+	 * @param node the internal node
+	 * @param objectives the objective values
+	 * @return the closest child
+	 */
+	private Node<P> closestChild(Node<P> node, double[] objectives) {
+		Node<P> closest = null;
+		double minimumDistance = Double.POSITIVE_INFINITY;
+
+		for (Node<P> child : node.children) {
+			double distance = 0.0;
+
+			for (int i = 0; i < objectives.length; i++) {
+				double delta = objectives[i] - 0.5 * (child.ideal[i] + child.nadir[i]);
+				distance += delta * delta;
+			}
+
+			if (closest == null || distance < minimumDistance) {
+				closest = child;
+				minimumDistance = distance;
+			}
+		}
+
+		return closest;
+	}
+
+	/**
+	 * Splits a full leaf into {@code M + 1} children.  The first child is seeded with the point furthest, on average,
+	 * from all other points, and each subsequent child with the point furthest from the existing seeds.  The remaining
+	 * points are assigned to the child with the closest midpoint.
+	 * 
+	 * @param node the leaf to split
+	 */
+	private void split(Node<P> node) {
+		List<P> points = node.points;
+		int size = points.size();
+		int numberOfChildren = Math.min(points.get(0).objectives.length + 1, size);
+		double[][] distances = new double[size][size];
+
+		for (int i = 0; i < size; i++) {
+			for (int j = i + 1; j < size; j++) {
+				distances[i][j] = distances[j][i] = distance(points.get(i).objectives, points.get(j).objectives);
+			}
+		}
+
+		boolean[] seeded = new boolean[size];
+		double[] seedDistances = new double[size];
+		node.points = null;
+		node.children = new ArrayList<>(numberOfChildren);
+
+		for (int k = 0; k < numberOfChildren; k++) {
+			int seed = -1;
+
+			for (int i = 0; i < size; i++) {
+				if (!seeded[i] && (seed < 0 || score(distances, seedDistances, i, k) > score(distances, seedDistances,
+						seed, k))) {
+					seed = i;
+				}
+			}
+
+			seeded[seed] = true;
+
+			for (int i = 0; i < size; i++) {
+				seedDistances[i] += distances[seed][i];
+			}
+
+			Node<P> child = new Node<>(node, points.get(seed).objectives);
+			child.points.add(points.get(seed));
+			points.get(seed).leaf = child;
+			node.children.add(child);
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (!seeded[i]) {
+				P point = points.get(i);
+				Node<P> child = closestChild(node, point.objectives);
+				child.include(point.objectives);
+				child.points.add(point);
+				point.leaf = child;
+			}
+		}
+	}
+
+	/**
+	 * Returns the score used to select seeds when splitting a leaf, which is the sum of distances to all other points
+	 * for the first seed and the sum of distances to the existing seeds thereafter.
+	 * 
+	 * @param distances the pairwise distances between points
+	 * @param seedDistances the sum of distances from each point to the existing seeds
+	 * @param index the index of the candidate point
+	 * @param numberOfSeeds the number of existing seeds
+	 * @return the score
+	 */
+	private static double score(double[][] distances, double[] seedDistances, int index, int numberOfSeeds) {
+		if (numberOfSeeds == 0) {
+			double sum = 0.0;
+
+			for (double distance : distances[index]) {
+				sum += distance;
+			}
+
+			return sum;
+		}
+
+		return seedDistances[index];
+	}
+
+	/**
+	 * Returns the Euclidean distance between two objective vectors.
+	 * 
+	 * @param objectives1 the first objective vector
+	 * @param objectives2 the second objective vector
+	 * @return the Euclidean distance
+	 */
+	private static double distance(double[] objectives1, double[] objectives2) {
+		double sum = 0.0;
+
+		for (int i = 0; i < objectives1.length; i++) {
+			double delta = objectives1[i] - objectives2[i];
+			sum += delta * delta;
+		}
+
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Returns {@code true} if the first vector is less than or equal to the second vector in every objective.
+	 * 
+	 * @param objectives1 the first objective vector
+	 * @param objectives2 the second objective vector
+	 * @return {@code true} if the first vector weakly dominates the second vector
+	 */
+	static boolean weaklyDominates(double[] objectives1, double[] objectives2) {
+		for (int i = 0; i < objectives1.length; i++) {
+			if (objectives1[i] > objectives2[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if the first vector weakly dominates the second vector and is strictly less in at least
+	 * one objective.
+	 * 
+	 * @param objectives1 the first objective vector
+	 * @param objectives2 the second objective vector
+	 * @return {@code true} if the first vector dominates the second vector
+	 */
+	static boolean dominates(double[] objectives1, double[] objectives2) {
+		boolean better = false;
+
+		for (int i = 0; i < objectives1.length; i++) {
+			if (objectives1[i] > objectives2[i]) {
+				return false;
+			} else if (objectives1[i] < objectives2[i]) {
+				better = true;
+			}
+		}
+
+		return better;
+	}
+
+	/**
+	 * A point stored in the tree.
+	 */
+	static class Point implements Serializable {
+
+		private static final long serialVersionUID = -4071954396713788372L;
+
+		/**
+		 * The objective values of this point.
+		 */
+		final double[] objectives;
+
+		/**
+		 * The leaf containing this point, or {@code null} if this point is not in a tree.
+		 */
+		Node<?> leaf;
+
+		/**
+		 * Constructs a new point.
+		 * 
+		 * @param objectives the objective values of this point
+		 */
+		public Point(double[] objectives) {
+			super();
+			this.objectives = objectives;
+		}
+
+	}
+
+	/**
+	 * A node in the tree, which is either a leaf storing points or an internal node storing child nodes.
+	 *
+	 * @param <P> the type of point stored in the tree
+	 */
+	static class Node<P extends Point> implements Serializable {
+
+		private static final long serialVersionUID = 6208937129566542861L;
+
+		/**
+		 * The parent of this node, or {@code null} if this is the root.
+		 */
+		final Node<P> parent;
+
+		/**
+		 * The component-wise minimum of the points beneath this node.
+		 */
+		final double[] ideal;
+
+		/**
+		 * The component-wise maximum of the points beneath this node.
+		 */
+		final double[] nadir;
+
+		/**
+		 * The points stored in this leaf, or {@code null} if this is an internal node.
+		 */
+		List<P> points;
+
+		/**
+		 * The children of this internal node, or {@code null} if this is a leaf.
+		 */
+		List<Node<P>> children;
+
+		/**
+		 * Constructs a new leaf with bounds initialized to the given objective values.
+		 * 
+		 * @param parent the parent of this node, or {@code null} if this is the root
+		 * @param objectives the objective values
+		 */
+		public Node(Node<P> parent, double[] objectives) {
+			super();
+			this.parent = parent;
+			this.ideal = objectives.clone();
+			this.nadir = objectives.clone();
+			this.points = new ArrayList<>();
+		}
+
+		/**
+		 * Returns {@code true} if this node is a leaf.
+		 * 
+		 * @return {@code true} if this node is a leaf
+		 */
+		public boolean isLeaf() {
+			return points != null;
+		}
+
+		/**
+		 * Returns {@code true} if this node contains no points or children.
+		 * 
+		 * @return {@code true} if this node is empty
+		 */
+		public boolean isEmpty() {
+			return isLeaf() ? points.isEmpty() : children.isEmpty();
+		}
+
+		/**
+		 * Expands the bounds of this node to include the given objective values.
+		 * 
+		 * @param objectives the objective values
+		 */
+		public void include(double[] objectives) {
+			for (int i = 0; i < objectives.length; i++) {
+				ideal[i] = Math.min(ideal[i], objectives[i]);
+				nadir[i] = Math.max(nadir[i], objectives[i]);
+			}
+		}
+
+		/**
+		 * Removes all points beneath this node.
+		 * 
+		 * @param removed the callback receiving each removed point
+		 */
+		public void removeAll(Consumer<P> removed) {
+			if (isLeaf()) {
+				for (P point : points) {
+					point.leaf = null;
+					removed.accept(point);
+				}
+
+				points.clear();
+			} else {
+				for (Node<P> child : children) {
+					child.removeAll(removed);
+				}
+
+				children.clear();
+			}
+		}
+
+	}
+
+}
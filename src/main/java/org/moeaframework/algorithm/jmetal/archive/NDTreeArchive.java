@@ -0,0 +1,467 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Bounded archive with the same semantics as JMetal's {@link CrowdingDistanceArchive}, designed for large archives.
+ * JMetal's implementation compares each new solution against every archived solution and, once full, recomputes the
+ * crowding distances of the entire archive on every insertion.  This archive instead:
+ * <ol>
+ *   <li>Indexes the archived solutions in an {@link NDTree}, so most dominance checks are resolved by comparing
+ *       against the bounds of entire subtrees; and
+ *   <li>Keeps the solutions sorted by each objective, so the crowding distance components of a solution are updated
+ *       incrementally when its neighbors are inserted or removed.
+ * </ol>
+ * Solutions are compared as by {@link DominanceWithConstraintsComparator}: a solution with a smaller overall constraint
+ * violation dominates one with a larger violation, and solutions with the same violation are compared by Pareto
+ * dominance.  Consequently, all archived solutions have the same violation, which is the only violation the ND-tree
+ * needs to consider.  For unconstrained problems, this is identical to {@link CrowdingDistanceArchive} with its default
+ * dominance comparator.  The crowding distances are written to the solutions, for use by
+ * {@link CrowdingDistanceDensityEstimator#comparator()}, only when {@link #computeDensityEstimator()} is called.
+ * <p>
+ * The list returned by {@link #solutions()} may be sorted or otherwise reordered, but solutions can only be added or
+ * removed through this archive.
+ *
+ * @param <S> the type of solution
+ */
+public class NDTreeArchive<S extends Solution<?>> extends CrowdingDistanceArchive<S> {
+
+	private static final long serialVersionUID = -4431981384170367316L;
+
+	/**
+	 * The default maximum number of solutions stored in each leaf of the ND-tree.
+	 */
+	public static final int DEFAULT_MAX_LEAF_SIZE = 20;
+
+	/**
+	 * The attribute used to store the crowding distance of each solution.
+	 */
+	private static final String CROWDING_DISTANCE = CrowdingDistanceDensityEstimator.class.getName();
+
+	/**
+	 * The dominance index.
+	 */
+	private final NDTree<Entry<S>> tree;
+
+	/**
+	 * The archived solutions, in the order returned by {@link #solutions()}.
+	 */
+	private final List<Entry<S>> entries;
+
+	/**
+	 * Maps each archived solution to its entry.
+	 */
+	private final Map<S, Entry<S>> lookup;
+
+	/**
+	 * The archived solutions sorted by each objective, or {@code null} if no solution has been added.
+	 */
+	private List<TreeSet<Entry<S>>> orderings;
+
+	/**
+	 * The view of the archived solutions returned by {@link #solutions()}.
+	 */
+	private final List<S> solutions;
+
+	/**
+	 * The overall constraint violation degree shared by all archived solutions, which is {@code 0} if they are
+	 * feasible and negative otherwise.
+	 */
+	private double violation;
+
+	/**
+	 * The identifier assigned to the next entry, used to break ties when sorting by objective.
+	 */
+	private long nextId;
+
+	/**
+	 * Constructs a new archive.
+	 * 
+	 * @param maxSize the maximum number of solutions stored in this archive
+	 */
+	public NDTreeArchive(int maxSize) {
+		this(maxSize, DEFAULT_MAX_LEAF_SIZE);
+	}
+
+	/**
+	 * Constructs a new archive.
+	 * 
+	 * @param maxSize the maximum number of solutions stored in this archive
+	 * @param maxLeafSize the maximum number of solutions stored in each leaf of the ND-tree
+	 */
+	public NDTreeArchive(int maxSize, int maxLeafSize) {
+		super(maxSize);
+		Check.that(maxLeafSize > 0, "The maximum leaf size must be positive: " + maxLeafSize);
+
+		this.tree = new NDTree<>(maxLeafSize);
+		this.entries = new ArrayList<>();
+		this.lookup = new IdentityHashMap<>();
+		this.solutions = new SolutionList();
+	}
+
+	@Override
+	public boolean add(S solution) {
+		double solutionViolation = ConstraintHandling.overallConstraintViolationDegree(solution);
+
+		if (!entries.isEmpty() && solutionViolation != violation) {
+			if (solutionViolation < violation) {
+				return false;
+			}
+
+			clear();
+		}
+
+		Entry<S> entry = new Entry<>(solution, nextId++);
+
+		if (!tree.update(entry, this::unlink)) {
+			return false;
+		}
+
+		violation = solutionViolation;
+
+		tree.insert(entry);
+		link(entry);
+		prune();
+		return true;
+	}
+
+	@Override
+	public void prune() {
+		if (size() > maximumSize()) {
+			double[] ranges = getRanges();
+			Entry<S> worst = null;
+			double worstDistance = Double.POSITIVE_INFINITY;
+
+			for (Entry<S> entry : entries) {
+				double distance = getCrowdingDistance(entry, ranges);
+
+				if (worst == null || distance < worstDistance) {
+					worst = entry;
+					worstDistance = distance;
+				}
+			}
+
+			tree.remove(worst);
+			unlink(worst);
+		}
+	}
+
+	@Override
+	public void computeDensityEstimator() {
+		double[] ranges = getRanges();
+
+		for (Entry<S> entry : entries) {
+			entry.solution.attributes().put(CROWDING_DISTANCE, getCrowdingDistance(entry, ranges));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned comparator uses the current crowding distance of archived solutions, and the crowding distance
+	 * last written by {@link #computeDensityEstimator()} for any other solution.
+	 */
+	@Override
+	public Comparator<S> comparator() {
+		return Comparator.<S>comparingDouble(this::getCrowdingDistance).reversed();
+	}
+
+	@Override
+	public List<S> solutions() {
+		return solutions;
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public S get(int index) {
+		return entries.get(index).solution;
+	}
+
+	/**
+	 * Removes all archived solutions, which happens when a solution with a smaller constraint violation is added.
+	 */
+	private void clear() {
+		while (!entries.isEmpty()) {
+			Entry<S> entry = entries.get(entries.size() - 1);
+			tree.remove(entry);
+			unlink(entry);
+		}
+	}
+
+	/**
+	 * Returns the crowding distance of the given solution.
+	 * 
+	 * @param solution the solution
+	 * @return the crowding distance
+	 */
+	private double getCrowdingDistance(S solution) {
+		Entry<S> entry = lookup.get(solution);
+
+		if (entry == null) {
+			Object value = solution.attributes().get(CROWDING_DISTANCE);
+			return value == null ? 0.0 : (Double)value;
+		}
+
+		return getCrowdingDistance(entry, getRanges());
+	}
+
+	/**
+	 * Returns the crowding distance of an archived solution, matching {@link CrowdingDistanceDensityEstimator}.
+	 * Solutions at either end of an objective with a non-zero range have an infinite distance.
+	 * 
+	 * @param entry the entry of the archived solution
+	 * @param ranges the range of each objective
+	 * @return the crowding distance
+	 */
+	private double getCrowdingDistance(Entry<S> entry, double[] ranges) {
+		if (entries.size() <= 2) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		double distance = 0.0;
+
+		for (int i = 0; i < ranges.length; i++) {
+			if (ranges[i] != 0.0) {
+				distance += entry.gaps[i] / ranges[i];
+			}
+		}
+
+		return distance;
+	}
+
+	/**
+	 * Returns the difference between the largest and smallest value of each objective in this archive.
+	 * 
+	 * @return the range of each objective
+	 */
+	private double[] getRanges() {
+		double[] ranges = new double[orderings == null ? 0 : orderings.size()];
+
+		for (int i = 0; i < ranges.length; i++) {
+			TreeSet<Entry<S>> ordering = orderings.get(i);
+
+			if (!ordering.isEmpty()) {
+				ranges[i] = ordering.last().objectives[i] - ordering.first().objectives[i];
+			}
+		}
+
+		return ranges;
+	}
+
+	/**
+	 * Adds an entry to the list of solutions and the per-objective orderings, updating the crowding distance
+	 * components of its neighbors.
+	 * 
+	 * @param entry the entry
+	 */
+	private void link(Entry<S> entry) {
+		if (orderings == null) {
+			orderings = new ArrayList<>(entry.objectives.length);
+
+			for (int i = 0; i < entry.objectives.length; i++) {
+				orderings.add(new TreeSet<>(new ObjectiveComparator<S>(i)));
+			}
+		}
+
+		entry.position = entries.size();
+		entries.add(entry);
+		lookup.put(entry.solution, entry);
+
+		for (int i = 0; i < orderings.size(); i++) {
+			TreeSet<Entry<S>> ordering = orderings.get(i);
+			ordering.add(entry);
+
+			updateGap(ordering, entry, i);
+			updateGap(ordering, ordering.lower(entry), i);
+			updateGap(ordering, ordering.higher(entry), i);
+		}
+	}
+
+	/**
+	 * Removes an entry from the list of solutions and the per-objective orderings, updating the crowding distance
+	 * components of its neighbors.  The entry must already be removed from the tree.
+	 * 
+	 * @param entry the entry
+	 */
+	private void unlink(Entry<S> entry) {
+		Entry<S> last = entries.remove(entries.size() - 1);
+
+		if (last != entry) {
+			entries.set(entry.position, last);
+			last.position = entry.position;
+		}
+
+		lookup.remove(entry.solution);
+
+		for (int i = 0; i < orderings.size(); i++) {
+			TreeSet<Entry<S>> ordering = orderings.get(i);
+			Entry<S> lower = ordering.lower(entry);
+			Entry<S> higher = ordering.higher(entry);
+			ordering.remove(entry);
+
+			updateGap(ordering, lower, i);
+			updateGap(ordering, higher, i);
+		}
+	}
+
+	/**
+	 * Recomputes the distance between the neighbors of an entry in the given objective, which is infinite if the
+	 * entry is the first or last in that objective.
+	 * 
+	 * @param ordering the entries sorted by the objective
+	 * @param entry the entry, or {@code null} in which case this method does nothing
+	 * @param objective the index of the objective
+	 */
+	private void updateGap(TreeSet<Entry<S>> ordering, Entry<S> entry, int objective) {
+		if (entry == null) {
+			return;
+		}
+
+		Entry<S> lower = ordering.lower(entry);
+		Entry<S> higher = ordering.higher(entry);
+
+		entry.gaps[objective] = lower == null || higher == null ? Double.POSITIVE_INFINITY :
+			higher.objectives[objective] - lower.objectives[objective];
+	}
+
+	/**
+	 * An archived solution.
+	 *
+	 * @param <S> the type of solution
+	 */
+	private static class Entry<S extends Solution<?>> extends NDTree.Point {
+
+		private static final long serialVersionUID = 1766264372637342219L;
+
+		/**
+		 * The solution.
+		 */
+		final S solution;
+
+		/**
+		 * The identifier of this entry, used to break ties when sorting by objective.
+		 */
+		final long id;
+
+		/**
+		 * The distance between the neighbors of this entry in each objective.
+		 */
+		final double[] gaps;
+
+		/**
+		 * The index of this entry in the list of solutions.
+		 */
+		int position;
+
+		/**
+		 * Constructs a new entry.
+		 * 
+		 * @param solution the solution
+		 * @param id the identifier of this entry
+		 */
+		public Entry(S solution, long id) {
+			super(solution.objectives().clone());
+			this.solution = solution;
+			this.id = id;
+			this.gaps = new double[objectives.length];
+		}
+
+	}
+
+	/**
+	 * Orders entries by the value of an objective, breaking ties by their identifiers.
+	 *
+	 * @param <S> the type of solution
+	 */
+	private static class ObjectiveComparator<S extends Solution<?>> implements Comparator<Entry<S>>, Serializable {
+
+		private static final long serialVersionUID = 3981587779380651264L;
+
+		/**
+		 * The index of the objective.
+		 */
+		private final int objective;
+
+		/**
+		 * Constructs a new comparator.
+		 * 
+		 * @param objective the index of the objective
+		 */
+		public ObjectiveComparator(int objective) {
+			super();
+			this.objective = objective;
+		}
+
+		@Override
+		public int compare(Entry<S> entry1, Entry<S> entry2) {
+			int result = Double.compare(entry1.objectives[objective], entry2.objectives[objective]);
+			return result != 0 ? result : Long.compare(entry1.id, entry2.id);
+		}
+
+	}
+
+	/**
+	 * View of the archived solutions.  Reordering this list, such as by sorting, reorders the underlying entries.
+	 */
+	private class SolutionList extends AbstractList<S> implements Serializable {
+
+		private static final long serialVersionUID = -1245470542418226108L;
+
+		@Override
+		public S get(int index) {
+			return entries.get(index).solution;
+		}
+
+		@Override
+		public S set(int index, S solution) {
+			Entry<S> entry = lookup.get(solution);
+			Check.that(entry != null, "Only archived solutions can be stored in the archive's solution list");
+
+			Entry<S> previous = entries.set(index, entry);
+			entry.position = index;
+			return previous.solution;
+		}
+
+		@Override
+		public int size() {
+			return entries.size();
+		}
+
+	}
+
+}
@@ -0,0 +1,111 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.uma.jmetal.util.archive.BoundedArchive;
+
+/**
+ * Thread-safe view of a bounded archive.  Every operation is synchronized on this wrapper, and {@link #solutions()}
+ * returns a snapshot so callers can iterate over the archived solutions while other threads continue adding to the
+ * archive.  Use {@link #apply(Function)} to run several operations, such as selecting and copying an archived
+ * solution, atomically.
+ *
+ * @param <S> the type of solution
+ */
+public class SynchronizedArchive<S> implements BoundedArchive<S> {
+
+	private static final long serialVersionUID = 2871165640593713617L;
+
+	/**
+	 * The underlying archive.
+	 */
+	private final BoundedArchive<S> archive;
+
+	/**
+	 * Creates a thread-safe view of the given archive.  The archive should not be modified other than through this
+	 * wrapper.
+	 * 
+	 * @param archive the underlying archive
+	 */
+	public SynchronizedArchive(BoundedArchive<S> archive) {
+		super();
+		this.archive = archive;
+	}
+
+	/**
+	 * Returns the underlying archive.
+	 * 
+	 * @return the underlying archive
+	 */
+	public BoundedArchive<S> getArchive() {
+		return archive;
+	}
+
+	/**
+	 * Applies the given function to the archived solutions while holding the lock on this archive.  The function must
+	 * not modify the list and must not retain it after returning.
+	 * 
+	 * @param <T> the type of the result
+	 * @param function the function applied to the archived solutions
+	 * @return the result of the function
+	 */
+	public synchronized <T> T apply(Function<List<S>, T> function) {
+		return function.apply(archive.solutions());
+	}
+
+	@Override
+	public synchronized boolean add(S solution) {
+		return archive.add(solution);
+	}
+
+	@Override
+	public synchronized S get(int index) {
+		return archive.get(index);
+	}
+
+	@Override
+	public synchronized List<S> solutions() {
+		return new ArrayList<S>(archive.solutions());
+	}
+
+	@Override
+	public synchronized int size() {
+		return archive.size();
+	}
+
+	@Override
+	public synchronized int maximumSize() {
+		return archive.maximumSize();
+	}
+
+	@Override
+	public synchronized Comparator<S> comparator() {
+		return archive.comparator();
+	}
+
+	@Override
+	public synchronized void computeDensityEstimator() {
+		archive.computeDensityEstimator();
+	}
+
+}
@@ -0,0 +1,173 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import java.util.List;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+/**
+ * Abstract class for hypervolume implementations that compute contributions on primitive arrays.  Objectives are
+ * normalized and offset exactly as in {@link PISAHypervolume}, so the contributions match those computed by JMetal,
+ * and are stored under the same attribute read by {@link HypervolumeContributionComparator}.
+ *
+ * @param <S> the type of solution
+ */
+@SuppressWarnings("deprecation")
+public abstract class AbstractArrayHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+
+	private static final long serialVersionUID = -3468210857761593072L;
+
+	/**
+	 * The default offset, matching {@link PISAHypervolume}.
+	 */
+	public static final double DEFAULT_OFFSET = 100.0;
+
+	/**
+	 * The offset added to the reference point after normalization, which ensures extreme points have a non-zero
+	 * contribution.
+	 */
+	private double offset;
+
+	/**
+	 * Constructs a new hypervolume implementation with the default offset.
+	 */
+	public AbstractArrayHypervolume() {
+		super();
+		this.offset = DEFAULT_OFFSET;
+	}
+
+	/**
+	 * Computes the hypervolume contribution of each point.
+	 * 
+	 * @param points the normalized and minimized objective values of each solution
+	 * @param reference the reference point
+	 * @return the contribution of each point
+	 */
+	protected abstract double[] contributions(double[][] points, double[] reference);
+
+	@Override
+	public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+		int size = solutionList.size();
+
+		if (size > 1) {
+			int numberOfObjectives = solutionList.get(0).objectives().length;
+			double[] minimum = new double[numberOfObjectives];
+			double[] maximum = new double[numberOfObjectives];
+			double[] reference = new double[numberOfObjectives];
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				minimum[j] = Double.POSITIVE_INFINITY;
+				maximum[j] = Double.NEGATIVE_INFINITY;
+
+				for (S solution : referenceFrontList) {
+					minimum[j] = Math.min(minimum[j], solution.objectives()[j]);
+					maximum[j] = Math.max(maximum[j], solution.objectives()[j]);
+				}
+
+				if (maximum[j] - minimum[j] == 0.0) {
+					throw new JMetalException("Maximum and minimum values of index " + j + " are the same: " +
+							maximum[j]);
+				}
+
+				reference[j] = 1.0 + offset / (maximum[j] - minimum[j]);
+			}
+
+			double[][] points = new double[size][numberOfObjectives];
+
+			for (int i = 0; i < size; i++) {
+				double[] objectives = solutionList.get(i).objectives();
+
+				for (int j = 0; j < numberOfObjectives; j++) {
+					points[i][j] = clamp((objectives[j] - minimum[j]) / (maximum[j] - minimum[j]));
+				}
+			}
+
+			double[] contributions = contributions(points, reference);
+			HypervolumeContributionAttribute<S> attribute = new HypervolumeContributionAttribute<>();
+
+			for (int i = 0; i < size; i++) {
+				attribute.setAttribute(solutionList.get(i), contributions[i]);
+			}
+
+			solutionList.sort(new HypervolumeContributionComparator<>());
+		}
+
+		return solutionList;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * As in {@link PISAHypervolume}, objective values are assumed to be normalized, are clamped to {@code [0, 1]}, and
+	 * are measured against the reference point {@code (1, ..., 1)}.
+	 */
+	@Override
+	public Double evaluate(List<S> paretoFrontApproximation) {
+		Check.notNull(paretoFrontApproximation);
+
+		if (paretoFrontApproximation.isEmpty()) {
+			return 0.0;
+		}
+
+		int numberOfObjectives = paretoFrontApproximation.get(0).objectives().length;
+		double[][] points = new double[paretoFrontApproximation.size()][numberOfObjectives];
+		double[] reference = new double[numberOfObjectives];
+
+		for (int i = 0; i < points.length; i++) {
+			double[] objectives = paretoFrontApproximation.get(i).objectives();
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = clamp(objectives[j]);
+			}
+		}
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			reference[j] = 1.0;
+		}
+
+		return HypervolumeKernels.hypervolume(points, reference);
+	}
+
+	@Override
+	public double getOffset() {
+		return offset;
+	}
+
+	@Override
+	public void setOffset(double offset) {
+		this.offset = offset;
+	}
+
+	/**
+	 * Clamps a normalized value to the range {@code [0, 1]}.
+	 * 
+	 * @param value the normalized value
+	 * @return the clamped value
+	 */
+	private static double clamp(double value) {
+		return value < 0.0 ? 0.0 : value > 1.0 ? 1.0 : value;
+	}
+
+}
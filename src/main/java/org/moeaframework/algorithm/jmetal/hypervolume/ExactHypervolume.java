@@ -0,0 +1,51 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Computes exact hypervolume contributions using {@link HypervolumeKernels#contributions(double[][], double[])}.
+ * Unlike {@link org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume}, which computes
+ * the hypervolume of the front once with each point removed, the contribution of each point is computed directly
+ * from its limit set, using a sweep in two and three objectives and the WFG algorithm in higher dimensions.
+ *
+ * @param <S> the type of solution
+ */
+public class ExactHypervolume<S extends Solution<?>> extends AbstractArrayHypervolume<S> {
+
+	private static final long serialVersionUID = 5907342183176024431L;
+
+	/**
+	 * Constructs a new exact hypervolume implementation.
+	 */
+	public ExactHypervolume() {
+		super();
+	}
+
+	@Override
+	protected double[] contributions(double[][] points, double[] reference) {
+		return HypervolumeKernels.contributions(points, reference);
+	}
+
+	@Override
+	public String description() {
+		return "Exact hypervolume using the WFG algorithm";
+	}
+
+}
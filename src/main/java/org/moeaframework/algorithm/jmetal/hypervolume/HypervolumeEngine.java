@@ -0,0 +1,64 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+
+/**
+ * The implementations available for computing hypervolume contributions in SMS-EMOA.
+ */
+@SuppressWarnings("deprecation")
+public enum HypervolumeEngine {
+
+	/**
+	 * JMetal's {@link PISAHypervolume}.
+	 */
+	PISA,
+
+	/**
+	 * The {@link ExactHypervolume}, which computes the same contributions faster.
+	 */
+	EXACT,
+
+	/**
+	 * The {@link MonteCarloHypervolume}, which estimates contributions for many-objective problems.
+	 */
+	MONTE_CARLO;
+
+	/**
+	 * Creates a hypervolume implementation of this type.
+	 * 
+	 * @param <S> the type of solution
+	 * @param offset the offset added to the reference point after normalization
+	 * @param samples the number of samples used by {@link #MONTE_CARLO}
+	 * @return the hypervolume implementation
+	 */
+	public <S extends Solution<?>> Hypervolume<S> createHypervolume(double offset, int samples) {
+		Hypervolume<S> hypervolume = switch (this) {
+			case PISA -> new PISAHypervolume<>();
+			case EXACT -> new ExactHypervolume<>();
+			case MONTE_CARLO -> new MonteCarloHypervolume<>(samples);
+		};
+
+		hypervolume.setOffset(offset);
+		return hypervolume;
+	}
+
+}
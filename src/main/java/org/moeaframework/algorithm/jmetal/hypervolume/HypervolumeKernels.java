@@ -0,0 +1,479 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Hypervolume and hypervolume contribution kernels operating on primitive arrays.  All points are minimized and
+ * measured against a reference point; any point that does not strictly dominate the reference point encloses no
+ * volume.
+ * <p>
+ * Exact hypervolumes are computed by a sweep in two and three objectives and, in higher dimensions, by the WFG
+ * algorithm: points are processed in decreasing order of the last objective, so the volume exclusively dominated by
+ * each point, relative to the points processed after it, is a slab whose cross-section is a hypervolume in one fewer
+ * objective.  Contributions are computed as the volume of each point minus the hypervolume of its limit set, which
+ * reduces to a single sweep for mutually non-dominated points in two objectives.
+ */
+public final class HypervolumeKernels {
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private HypervolumeKernels() {
+		super();
+	}
+
+	/**
+	 * Computes the hypervolume dominated by the given points.
+	 * 
+	 * @param points the points, which are not modified
+	 * @param reference the reference point
+	 * @return the hypervolume
+	 */
+	public static double hypervolume(double[][] points, double[] reference) {
+		return hypervolume(points, points.length, reference.length, reference);
+	}
+
+	/**
+	 * Computes the exact hypervolume contribution of each point, which is the volume dominated by that point and by
+	 * no other point.  Duplicate points and dominated points contribute nothing.
+	 * 
+	 * @param points the points, which are not modified
+	 * @param reference the reference point
+	 * @return the contribution of each point
+	 */
+	public static double[] contributions(double[][] points, double[] reference) {
+		int size = points.length;
+		int dimension = reference.length;
+		double[] result = new double[size];
+
+		if (dimension == 2) {
+			Integer[] order = new Integer[size];
+
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+
+			Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> points[i][0])
+					.thenComparingDouble(i -> points[i][1]));
+
+			if (contributions2D(points, order, reference, result)) {
+				return result;
+			}
+		}
+
+		double[][] limitSet = new double[size][dimension];
+
+		for (int i = 0; i < size; i++) {
+			double volume = volume(points[i], dimension, reference);
+
+			if (volume > 0.0) {
+				int count = 0;
+
+				for (int j = 0; j < size; j++) {
+					if (j != i) {
+						for (int k = 0; k < dimension; k++) {
+							limitSet[count][k] = Math.max(points[i][k], points[j][k]);
+						}
+
+						count++;
+					}
+				}
+
+				count = filterNondominated(limitSet, count, dimension, reference);
+				result[i] = volume - hypervolume(limitSet, count, dimension, reference);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Estimates the hypervolume contribution of each point by Monte Carlo sampling.  Samples are drawn uniformly from
+	 * the box between the ideal point and the reference point, and each sample dominated by exactly one point counts
+	 * towards the contribution of that point.
+	 * 
+	 * @param points the points, which are not modified
+	 * @param reference the reference point
+	 * @param samples the number of samples
+	 * @param random the source of random numbers
+	 * @return the estimated contribution of each point
+	 */
+	public static double[] approximateContributions(double[][] points, double[] reference, int samples,
+			JMetalRandom random) {
+		int size = points.length;
+		int dimension = reference.length;
+		double[] result = new double[size];
+
+		if (size == 0) {
+			return result;
+		}
+
+		double[] lower = new double[dimension];
+		double[] upper = reference;
+		double volume = 1.0;
+
+		for (int k = 0; k < dimension; k++) {
+			lower[k] = Double.POSITIVE_INFINITY;
+
+			for (int i = 0; i < size; i++) {
+				lower[k] = Math.min(lower[k], points[i][k]);
+			}
+
+			volume *= Math.max(upper[k] - lower[k], 0.0);
+		}
+
+		if (volume == 0.0) {
+			return result;
+		}
+
+		int[] hits = new int[size];
+		double[] sample = new double[dimension];
+
+		for (int s = 0; s < samples; s++) {
+			for (int k = 0; k < dimension; k++) {
+				sample[k] = lower[k] + random.nextDouble() * (upper[k] - lower[k]);
+			}
+
+			int owner = -1;
+
+			for (int i = 0; i < size; i++) {
+				if (weaklyDominates(points[i], sample, dimension)) {
+					if (owner >= 0) {
+						owner = -1;
+						break;
+					}
+
+					owner = i;
+				}
+			}
+
+			if (owner >= 0) {
+				hits[owner]++;
+			}
+		}
+
+		for (int i = 0; i < size; i++) {
+			result[i] = volume * hits[i] / samples;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the contributions of points in two objectives with a single sweep, provided the points are mutually
+	 * non-dominated apart from duplicates.
+	 * 
+	 * @param points the points
+	 * @param order the indices of the points sorted by the first and then the second objective
+	 * @param reference the reference point
+	 * @param result the array where the contributions are stored
+	 * @return {@code true} if the contributions were computed; {@code false} if some point dominates another
+	 */
+	private static boolean contributions2D(double[][] points, Integer[] order, double[] reference, double[] result) {
+		int size = order.length;
+		int[] unique = new int[size];
+		boolean[] duplicated = new boolean[size];
+		int count = 0;
+
+		for (int i = 0; i < size; i++) {
+			double[] point = points[order[i]];
+
+			if (point[0] >= reference[0] || point[1] >= reference[1]) {
+				continue;
+			}
+
+			if (count > 0) {
+				double[] previous = points[unique[count - 1]];
+
+				if (previous[0] == point[0] && previous[1] == point[1]) {
+					duplicated[count - 1] = true;
+					continue;
+				} else if (point[1] >= previous[1]) {
+					return false;
+				}
+			}
+
+			unique[count++] = order[i];
+		}
+
+		for (int i = 0; i < count; i++) {
+			if (!duplicated[i]) {
+				double[] point = points[unique[i]];
+				double right = i + 1 < count ? points[unique[i + 1]][0] : reference[0];
+				double top = i > 0 ? points[unique[i - 1]][1] : reference[1];
+				result[unique[i]] = (right - point[0]) * (top - point[1]);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Computes the hypervolume dominated by the first {@code size} points, considering only the first
+	 * {@code dimension} objectives.  The points themselves are not modified, but the order of the array may change.
+	 * 
+	 * @param points the points
+	 * @param size the number of points
+	 * @param dimension the number of objectives
+	 * @param reference the reference point
+	 * @return the hypervolume
+	 */
+	private static double hypervolume(double[][] points, int size, int dimension, double[] reference) {
+		double[][] inside = new double[size][];
+		int count = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (volume(points[i], dimension, reference) > 0.0) {
+				inside[count++] = points[i];
+			}
+		}
+
+		if (count == 0) {
+			return 0.0;
+		} else if (count == 1) {
+			return volume(inside[0], dimension, reference);
+		}
+
+		switch (dimension) {
+			case 1:
+				double minimum = inside[0][0];
+
+				for (int i = 1; i < count; i++) {
+					minimum = Math.min(minimum, inside[i][0]);
+				}
+
+				return reference[0] - minimum;
+			case 2:
+				return hypervolume2D(inside, count, reference);
+			case 3:
+				return hypervolume3D(inside, count, reference);
+			default:
+				int last = dimension - 1;
+				Arrays.sort(inside, 0, count, Comparator.comparingDouble((double[] point) -> point[last]).reversed());
+
+				double[][] limitSet = new double[count][last];
+				double total = 0.0;
+
+				for (int k = 0; k < count; k++) {
+					double[] point = inside[k];
+					int limitSize = 0;
+
+					for (int j = k + 1; j < count; j++) {
+						for (int i = 0; i < last; i++) {
+							limitSet[limitSize][i] = Math.max(point[i], inside[j][i]);
+						}
+
+						limitSize++;
+					}
+
+					limitSize = filterNondominated(limitSet, limitSize, last, reference);
+					total += (reference[last] - point[last]) *
+							(volume(point, last, reference) - hypervolume(limitSet, limitSize, last, reference));
+				}
+
+				return total;
+		}
+	}
+
+	/**
+	 * Computes the hypervolume in two objectives by sweeping the points in order of the first objective.
+	 * 
+	 * @param points the points, all of which strictly dominate the reference point
+	 * @param size the number of points
+	 * @param reference the reference point
+	 * @return the hypervolume
+	 */
+	private static double hypervolume2D(double[][] points, int size, double[] reference) {
+		Arrays.sort(points, 0, size, Comparator.comparingDouble((double[] point) -> point[0]));
+
+		double bound = reference[1];
+		double total = 0.0;
+
+		for (int i = 0; i < size; i++) {
+			double[] point = points[i];
+
+			if (point[1] < bound) {
+				total += (reference[0] - point[0]) * (bound - point[1]);
+				bound = point[1];
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * Computes the hypervolume in three objectives by sweeping the points in order of the third objective while
+	 * maintaining the area dominated in the first two objectives.
+	 * 
+	 * @param points the points, all of which strictly dominate the reference point
+	 * @param size the number of points
+	 * @param reference the reference point
+	 * @return the hypervolume
+	 */
+	private static double hypervolume3D(double[][] points, int size, double[] reference) {
+		Arrays.sort(points, 0, size, Comparator.comparingDouble((double[] point) -> point[2]));
+
+		TreeMap<Double, Double> staircase = new TreeMap<>();
+		double area = 0.0;
+		double total = 0.0;
+
+		for (int i = 0; i < size; i++) {
+			double[] point = points[i];
+
+			if (i > 0) {
+				total += area * (point[2] - points[i - 1][2]);
+			}
+
+			area += insert(staircase, point[0], point[1], reference);
+		}
+
+		return total + area * (reference[2] - points[size - 1][2]);
+	}
+
+	/**
+	 * Inserts a point into a two-dimensional staircase of mutually non-dominated points, removing any points it
+	 * dominates.
+	 * 
+	 * @param staircase the staircase, mapping the first objective to the second objective
+	 * @param x the first objective of the point
+	 * @param y the second objective of the point
+	 * @param reference the reference point
+	 * @return the increase in the area dominated by the staircase
+	 */
+	private static double insert(TreeMap<Double, Double> staircase, double x, double y, double[] reference) {
+		Map.Entry<Double, Double> floor = staircase.floorEntry(x);
+
+		if (floor != null && floor.getValue() <= y) {
+			return 0.0;
+		}
+
+		Map.Entry<Double, Double> lower = staircase.lowerEntry(x);
+		double height = lower == null ? reference[1] : lower.getValue();
+		double left = x;
+		double previous = 0.0;
+
+		for (Map.Entry<Double, Double> entry = staircase.ceilingEntry(x);
+				entry != null && entry.getValue() >= y;
+				entry = staircase.ceilingEntry(x)) {
+			previous += (entry.getKey() - left) * (reference[1] - height);
+			height = entry.getValue();
+			left = entry.getKey();
+			staircase.remove(entry.getKey());
+		}
+
+		Double next = staircase.ceilingKey(x);
+		double right = next == null ? reference[0] : next;
+		previous += (right - left) * (reference[1] - height);
+
+		staircase.put(x, y);
+		return (right - x) * (reference[1] - y) - previous;
+	}
+
+	/**
+	 * Removes points that do not strictly dominate the reference point or that are weakly dominated by another point,
+	 * keeping the first of any duplicates.  The remaining points are moved to the front of the array.
+	 * 
+	 * @param points the points
+	 * @param size the number of points
+	 * @param dimension the number of objectives
+	 * @param reference the reference point
+	 * @return the number of remaining points
+	 */
+	private static int filterNondominated(double[][] points, int size, int dimension, double[] reference) {
+		boolean[] removed = new boolean[size];
+
+		for (int i = 0; i < size; i++) {
+			removed[i] = volume(points[i], dimension, reference) <= 0.0;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (removed[i]) {
+				continue;
+			}
+
+			for (int j = 0; j < size; j++) {
+				if (j != i && !removed[j] && weaklyDominates(points[j], points[i], dimension) &&
+						(j < i || !weaklyDominates(points[i], points[j], dimension))) {
+					removed[i] = true;
+					break;
+				}
+			}
+		}
+
+		int count = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (!removed[i]) {
+				double[] temp = points[count];
+				points[count++] = points[i];
+				points[i] = temp;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the volume of the box between a point and the reference point, or {@code 0} if the point does not
+	 * strictly dominate the reference point.
+	 * 
+	 * @param point the point
+	 * @param dimension the number of objectives
+	 * @param reference the reference point
+	 * @return the volume of the box
+	 */
+	private static double volume(double[] point, int dimension, double[] reference) {
+		double volume = 1.0;
+
+		for (int i = 0; i < dimension; i++) {
+			if (point[i] >= reference[i]) {
+				return 0.0;
+			}
+
+			volume *= reference[i] - point[i];
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Returns {@code true} if the first point is no worse than the second point in every objective.
+	 * 
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param dimension the number of objectives
+	 * @return {@code true} if the first point weakly dominates the second point
+	 */
+	private static boolean weaklyDominates(double[] point1, double[] point2, int dimension) {
+		for (int i = 0; i < dimension; i++) {
+			if (point1[i] > point2[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+}
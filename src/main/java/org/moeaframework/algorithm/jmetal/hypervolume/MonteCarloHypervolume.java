@@ -0,0 +1,83 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Estimates hypervolume contributions by Monte Carlo sampling using
+ * {@link HypervolumeKernels#approximateContributions(double[][], double[], int, JMetalRandom)}.  The cost grows
+ * linearly with the number of objectives, making this suitable for many-objective problems where exact contributions
+ * are too expensive.  Samples are drawn from {@link JMetalRandom}, so results are reproducible when its seed is set.
+ *
+ * @param <S> the type of solution
+ */
+public class MonteCarloHypervolume<S extends Solution<?>> extends AbstractArrayHypervolume<S> {
+
+	private static final long serialVersionUID = -1642758936407419285L;
+
+	/**
+	 * The default number of samples.
+	 */
+	public static final int DEFAULT_SAMPLES = 10000;
+
+	/**
+	 * The number of samples drawn each time contributions are computed.
+	 */
+	private final int samples;
+
+	/**
+	 * Constructs a new Monte Carlo hypervolume implementation with the default number of samples.
+	 */
+	public MonteCarloHypervolume() {
+		this(DEFAULT_SAMPLES);
+	}
+
+	/**
+	 * Constructs a new Monte Carlo hypervolume implementation.
+	 * 
+	 * @param samples the number of samples drawn each time contributions are computed
+	 */
+	public MonteCarloHypervolume(int samples) {
+		super();
+		Check.that(samples > 0, "The number of samples must be positive: " + samples);
+		this.samples = samples;
+	}
+
+	/**
+	 * Returns the number of samples drawn each time contributions are computed.
+	 * 
+	 * @return the number of samples
+	 */
+	public int getSamples() {
+		return samples;
+	}
+
+	@Override
+	protected double[] contributions(double[][] points, double[] reference) {
+		return HypervolumeKernels.approximateContributions(points, reference, samples, JMetalRandom.getInstance());
+	}
+
+	@Override
+	public String description() {
+		return "Monte Carlo approximation of hypervolume contributions";
+	}
+
+}
@@ -0,0 +1,122 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import org.moeaframework.algorithm.jmetal.adapters.PackedBinarySolution;
+import org.moeaframework.util.validate.Validate;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.BitFlipMutation;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Bit flip mutation operating directly on the {@code long[]} array of a {@link PackedBinarySolution}.  Each bit is
+ * flipped independently with the given probability.  With skip sampling enabled, the positions of the flipped bits are
+ * drawn from the geometric distribution of the gaps between them, so the cost is proportional to the number of flipped
+ * bits instead of the total number of bits.  Other binary solutions are handled by JMetal's {@link BitFlipMutation}.
+ */
+public class ArrayBitFlipMutation implements MutationOperator<BinarySolution> {
+
+	private static final long serialVersionUID = 8713405968233785017L;
+
+	/**
+	 * The probability of flipping each bit.
+	 */
+	private final double mutationProbability;
+
+	/**
+	 * {@code true} if the flipped bits are selected with geometric skips.
+	 */
+	private final boolean useSkipSampling;
+
+	/**
+	 * The sampler for the gaps between flipped bits.
+	 */
+	private final SkipSampler sampler;
+
+	/**
+	 * The fallback operator for other solutions.
+	 */
+	private final BitFlipMutation<BinarySolution> fallback;
+
+	/**
+	 * Creates a new bit flip mutation operator using skip sampling.
+	 * 
+	 * @param mutationProbability the probability of flipping each bit
+	 */
+	public ArrayBitFlipMutation(double mutationProbability) {
+		this(mutationProbability, true);
+	}
+
+	/**
+	 * Creates a new bit flip mutation operator.
+	 * 
+	 * @param mutationProbability the probability of flipping each bit
+	 * @param useSkipSampling {@code true} to select the flipped bits with geometric skips, {@code false} to draw a
+	 *        random number for each bit
+	 */
+	public ArrayBitFlipMutation(double mutationProbability, boolean useSkipSampling) {
+		super();
+		Validate.that("mutationProbability", mutationProbability).isProbability();
+
+		this.mutationProbability = mutationProbability;
+		this.useSkipSampling = useSkipSampling;
+		this.sampler = new SkipSampler(mutationProbability);
+		this.fallback = new BitFlipMutation<BinarySolution>(mutationProbability);
+	}
+
+	@Override
+	public double mutationProbability() {
+		return mutationProbability;
+	}
+
+	@Override
+	public BinarySolution execute(BinarySolution solution) {
+		Check.notNull(solution);
+
+		if (solution instanceof PackedBinarySolution packedSolution) {
+			long[] words = packedSolution.getWords();
+			PackedBinarySolution.Layout layout = packedSolution.getLayout();
+			JMetalRandom random = JMetalRandom.getInstance();
+
+			for (int i = 0; i < layout.getNumberOfVariables(); i++) {
+				int offset = layout.getOffset(i);
+				int numberOfBits = layout.getNumberOfBits(i);
+
+				if (useSkipSampling) {
+					for (int j = sampler.nextIndex(-1, numberOfBits, random); j < numberOfBits;
+							j = sampler.nextIndex(j, numberOfBits, random)) {
+						words[offset + (j >>> 6)] ^= 1L << j;
+					}
+				} else {
+					for (int j = 0; j < numberOfBits; j++) {
+						if (random.nextDouble() <= mutationProbability) {
+							words[offset + (j >>> 6)] ^= 1L << j;
+						}
+					}
+				}
+			}
+
+			return solution;
+		}
+
+		return fallback.execute(solution);
+	}
+
+}
@@ -0,0 +1,164 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.adapters.ArrayPermutationSolution;
+import org.moeaframework.util.validate.Validate;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.PMXCrossover;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Partially-mapped crossover (PMX) operating directly on the {@code int[]} arrays of
+ * {@link ArrayPermutationSolution}s.  Produces the same offspring as JMetal's {@link PMXCrossover} given the same
+ * cutting points.  Other permutation solutions are handled by {@link PMXCrossover}.
+ */
+public class ArrayPMXCrossover implements CrossoverOperator<PermutationSolution<Integer>> {
+
+	private static final long serialVersionUID = 4181463931627478373L;
+
+	/**
+	 * The probability of applying this operator.
+	 */
+	private final double crossoverProbability;
+
+	/**
+	 * The fallback operator for other permutation solutions.
+	 */
+	private final PMXCrossover fallback;
+
+	/**
+	 * Creates a new PMX crossover operator.
+	 * 
+	 * @param crossoverProbability the probability of applying this operator
+	 */
+	public ArrayPMXCrossover(double crossoverProbability) {
+		super();
+		Validate.that("crossoverProbability", crossoverProbability).isProbability();
+
+		this.crossoverProbability = crossoverProbability;
+		this.fallback = new PMXCrossover(crossoverProbability);
+	}
+
+	@Override
+	public double crossoverProbability() {
+		return crossoverProbability;
+	}
+
+	@Override
+	public int numberOfRequiredParents() {
+		return 2;
+	}
+
+	@Override
+	public int numberOfGeneratedChildren() {
+		return 2;
+	}
+
+	@Override
+	public List<PermutationSolution<Integer>> execute(List<PermutationSolution<Integer>> parents) {
+		Validate.that("parents.size()", parents.size()).isEqualTo(2);
+
+		if (parents.get(0) instanceof ArrayPermutationSolution parent1 &&
+				parents.get(1) instanceof ArrayPermutationSolution parent2) {
+			ArrayPermutationSolution offspring1 = parent1.copy();
+			ArrayPermutationSolution offspring2 = parent2.copy();
+
+			JMetalRandom random = JMetalRandom.getInstance();
+			int length = parent1.getLength();
+
+			if (length > 1 && random.nextDouble() < crossoverProbability) {
+				int cuttingPoint1 = random.nextInt(0, length - 1);
+				int cuttingPoint2 = random.nextInt(0, length - 1);
+
+				while (cuttingPoint2 == cuttingPoint1) {
+					cuttingPoint2 = random.nextInt(0, length - 1);
+				}
+
+				evolve(parent1.getValues(), parent2.getValues(), offspring1.getValues(), offspring2.getValues(),
+						Math.min(cuttingPoint1, cuttingPoint2), Math.max(cuttingPoint1, cuttingPoint2));
+				offspring1.markModified();
+				offspring2.markModified();
+			}
+
+			List<PermutationSolution<Integer>> result = new ArrayList<PermutationSolution<Integer>>(2);
+			result.add(offspring1);
+			result.add(offspring2);
+			return result;
+		}
+
+		return fallback.execute(parents);
+	}
+
+	/**
+	 * Applies PMX to the given parents, storing the result in the offspring arrays.
+	 * 
+	 * @param parent1 the first parent
+	 * @param parent2 the second parent
+	 * @param offspring1 the first offspring
+	 * @param offspring2 the second offspring
+	 * @param start the first position of the mapping section, inclusive
+	 * @param end the last position of the mapping section, inclusive
+	 */
+	static void evolve(int[] parent1, int[] parent2, int[] offspring1, int[] offspring2, int start, int end) {
+		int length = parent1.length;
+		int[] replacement1 = new int[length];
+		int[] replacement2 = new int[length];
+
+		for (int i = 0; i < length; i++) {
+			replacement1[i] = -1;
+			replacement2[i] = -1;
+		}
+
+		for (int i = start; i <= end; i++) {
+			offspring1[i] = parent2[i];
+			offspring2[i] = parent1[i];
+			replacement1[parent2[i]] = parent1[i];
+			replacement2[parent1[i]] = parent2[i];
+		}
+
+		for (int i = 0; i < length; i++) {
+			if (i >= start && i <= end) {
+				continue;
+			}
+
+			int n1 = parent1[i];
+			int m1 = replacement1[n1];
+			int n2 = parent2[i];
+			int m2 = replacement2[n2];
+
+			while (m1 != -1) {
+				n1 = m1;
+				m1 = replacement1[m1];
+			}
+
+			while (m2 != -1) {
+				n2 = m2;
+				m2 = replacement2[m2];
+			}
+
+			offspring1[i] = n1;
+			offspring2[i] = n2;
+		}
+	}
+
+}
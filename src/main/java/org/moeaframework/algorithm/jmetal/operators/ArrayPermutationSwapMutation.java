@@ -0,0 +1,88 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import org.moeaframework.algorithm.jmetal.adapters.ArrayPermutationSolution;
+import org.moeaframework.util.validate.Validate;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PermutationSwapMutation;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Swap mutation operating directly on the {@code int[]} array of an {@link ArrayPermutationSolution}.  With the given
+ * probability, swaps two distinct, randomly-selected positions.  Other permutation solutions are handled by JMetal's
+ * {@link PermutationSwapMutation}.
+ */
+public class ArrayPermutationSwapMutation implements MutationOperator<PermutationSolution<Integer>> {
+
+	private static final long serialVersionUID = -6164781104787622587L;
+
+	/**
+	 * The probability of applying this operator.
+	 */
+	private final double mutationProbability;
+
+	/**
+	 * The fallback operator for other permutation solutions.
+	 */
+	private final PermutationSwapMutation<Integer> fallback;
+
+	/**
+	 * Creates a new swap mutation operator.
+	 * 
+	 * @param mutationProbability the probability of applying this operator
+	 */
+	public ArrayPermutationSwapMutation(double mutationProbability) {
+		super();
+		Validate.that("mutationProbability", mutationProbability).isProbability();
+
+		this.mutationProbability = mutationProbability;
+		this.fallback = new PermutationSwapMutation<Integer>(mutationProbability);
+	}
+
+	@Override
+	public double mutationProbability() {
+		return mutationProbability;
+	}
+
+	@Override
+	public PermutationSolution<Integer> execute(PermutationSolution<Integer> solution) {
+		if (solution instanceof ArrayPermutationSolution arraySolution) {
+			JMetalRandom random = JMetalRandom.getInstance();
+			int length = arraySolution.getLength();
+
+			if (length > 1 && random.nextDouble() < mutationProbability) {
+				int i = random.nextInt(0, length - 1);
+				int j = random.nextInt(0, length - 2);
+
+				// shift to pick a position distinct from i without rejection sampling
+				if (j >= i) {
+					j++;
+				}
+
+				arraySolution.swap(i, j);
+			}
+
+			return solution;
+		}
+
+		return fallback.execute(solution);
+	}
+
+}
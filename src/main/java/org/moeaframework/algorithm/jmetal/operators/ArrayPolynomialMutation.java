@@ -0,0 +1,194 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import org.moeaframework.algorithm.jmetal.adapters.ArrayDoubleSolution;
+import org.moeaframework.util.validate.Validate;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Polynomial mutation (PM) operating directly on the {@code double[]} array of an {@link ArrayDoubleSolution}.  The
+ * kernel avoids boxing and list accesses but otherwise performs the same computations, drawing the same random numbers
+ * in the same order, as JMetal's {@link PolynomialMutation}.  Given the same random number stream, the mutated
+ * solutions are therefore identical.  Other solutions, or all solutions when the kernel is disabled, are handled by
+ * {@link PolynomialMutation}.
+ * <p>
+ * With skip sampling enabled, the kernel instead draws the positions of the mutated variables from the geometric
+ * distribution of the gaps between them.  The result is equivalent in distribution, but the cost is proportional to
+ * the number of mutated variables rather than the total number of variables, which matters for large problems using
+ * the default rate of one mutation per solution.
+ */
+public class ArrayPolynomialMutation implements MutationOperator<DoubleSolution> {
+
+	private static final long serialVersionUID = -2291792185365316466L;
+
+	/**
+	 * The probability of mutating each variable.
+	 */
+	private final double mutationProbability;
+
+	/**
+	 * The distribution index controlling the spread of the mutation.
+	 */
+	private final double distributionIndex;
+
+	/**
+	 * {@code true} if the array kernel is used for {@link ArrayDoubleSolution}s.
+	 */
+	private final boolean useArrayKernel;
+
+	/**
+	 * {@code true} if the array kernel selects the mutated variables with geometric skips.
+	 */
+	private final boolean useSkipSampling;
+
+	/**
+	 * The sampler for the gaps between mutated variables.
+	 */
+	private final SkipSampler sampler;
+
+	/**
+	 * The fallback operator for other solutions.
+	 */
+	private final PolynomialMutation fallback;
+
+	/**
+	 * Creates a new PM operator using the array kernel with skip sampling.
+	 * 
+	 * @param mutationProbability the probability of mutating each variable
+	 * @param distributionIndex the distribution index controlling the spread of the mutation
+	 */
+	public ArrayPolynomialMutation(double mutationProbability, double distributionIndex) {
+		this(mutationProbability, distributionIndex, true, true);
+	}
+
+	/**
+	 * Creates a new PM operator.
+	 * 
+	 * @param mutationProbability the probability of mutating each variable
+	 * @param distributionIndex the distribution index controlling the spread of the mutation
+	 * @param useArrayKernel {@code true} to use the array kernel for {@link ArrayDoubleSolution}s, {@code false} to
+	 *        always use JMetal's {@link PolynomialMutation}
+	 * @param useSkipSampling {@code true} if the array kernel selects the mutated variables with geometric skips,
+	 *        {@code false} to draw a random number for each variable
+	 */
+	public ArrayPolynomialMutation(double mutationProbability, double distributionIndex, boolean useArrayKernel,
+			boolean useSkipSampling) {
+		super();
+		Validate.that("mutationProbability", mutationProbability).isProbability();
+		Validate.that("distributionIndex", distributionIndex).isGreaterThanOrEqualTo(0.0);
+
+		this.mutationProbability = mutationProbability;
+		this.distributionIndex = distributionIndex;
+		this.useArrayKernel = useArrayKernel;
+		this.useSkipSampling = useSkipSampling;
+		this.sampler = new SkipSampler(mutationProbability);
+		this.fallback = new PolynomialMutation(mutationProbability, distributionIndex);
+	}
+
+	@Override
+	public double mutationProbability() {
+		return mutationProbability;
+	}
+
+	/**
+	 * Returns the distribution index controlling the spread of the mutation.
+	 * 
+	 * @return the distribution index
+	 */
+	public double getDistributionIndex() {
+		return distributionIndex;
+	}
+
+	@Override
+	public DoubleSolution execute(DoubleSolution solution) {
+		Check.notNull(solution);
+
+		if (useArrayKernel && solution instanceof ArrayDoubleSolution arraySolution) {
+			evolve(arraySolution, JMetalRandom.getInstance());
+			return solution;
+		}
+
+		return fallback.execute(solution);
+	}
+
+	/**
+	 * Mutates the variables of the solution in place.
+	 * 
+	 * @param solution the solution
+	 * @param random the source of random numbers
+	 */
+	private void evolve(ArrayDoubleSolution solution, JMetalRandom random) {
+		double[] values = solution.getValues();
+
+		if (useSkipSampling) {
+			for (int i = sampler.nextIndex(-1, values.length, random); i < values.length;
+					i = sampler.nextIndex(i, values.length, random)) {
+				mutate(solution, values, i, random);
+			}
+		} else {
+			for (int i = 0; i < values.length; i++) {
+				if (random.nextDouble() <= mutationProbability) {
+					mutate(solution, values, i, random);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Mutates a single variable in place.
+	 * 
+	 * @param solution the solution
+	 * @param values the variables of the solution
+	 * @param index the index of the variable to mutate
+	 * @param random the source of random numbers
+	 */
+	private void mutate(ArrayDoubleSolution solution, double[] values, int index, JMetalRandom random) {
+		Bounds<Double> bounds = solution.getBounds(index);
+		double yl = bounds.getLowerBound();
+		double yu = bounds.getUpperBound();
+		double y = values[index];
+
+		if (yl == yu) {
+			values[index] = yl;
+			return;
+		}
+
+		double rnd = random.nextDouble();
+		double exponent = distributionIndex + 1.0;
+		double deltaq;
+
+		if (rnd <= 0.5) {
+			double xy = 1.0 - (y - yl) / (yu - yl);
+			double val = 2.0 * rnd + (1.0 - 2.0 * rnd) * Math.pow(xy, exponent);
+			deltaq = Math.pow(val, 1.0 / exponent) - 1.0;
+		} else {
+			double xy = 1.0 - (yu - y) / (yu - yl);
+			double val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * Math.pow(xy, exponent);
+			deltaq = 1.0 - Math.pow(val, 1.0 / exponent);
+		}
+
+		values[index] = ArraySBXCrossover.clamp(y + deltaq * (yu - yl), yl, yu);
+	}
+
+}
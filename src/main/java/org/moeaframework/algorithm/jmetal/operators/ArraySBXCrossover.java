@@ -0,0 +1,234 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.moeaframework.algorithm.jmetal.adapters.ArrayDoubleSolution;
+import org.moeaframework.util.validate.Validate;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Simulated binary crossover (SBX) operating directly on the {@code double[]} arrays of {@link ArrayDoubleSolution}s.
+ * The kernel avoids boxing and list accesses but otherwise performs the same computations, drawing the same random
+ * numbers in the same order, as JMetal's {@link SBXCrossover}.  Given the same random number stream, the offspring are
+ * therefore identical.  Other solutions, or all solutions when the kernel is disabled, are handled by
+ * {@link SBXCrossover}.
+ */
+public class ArraySBXCrossover implements CrossoverOperator<DoubleSolution> {
+
+	private static final long serialVersionUID = 4702356281834457290L;
+
+	/**
+	 * Variables whose values differ by less than this amount are not recombined.
+	 */
+	private static final double EPS = 1.0e-14;
+
+	/**
+	 * The probability of applying this operator.
+	 */
+	private final double crossoverProbability;
+
+	/**
+	 * The distribution index controlling the spread of the offspring.
+	 */
+	private final double distributionIndex;
+
+	/**
+	 * {@code true} if the array kernel is used for {@link ArrayDoubleSolution}s.
+	 */
+	private final boolean useArrayKernel;
+
+	/**
+	 * The fallback operator for other solutions.
+	 */
+	private final SBXCrossover fallback;
+
+	/**
+	 * Creates a new SBX operator using the array kernel.
+	 * 
+	 * @param crossoverProbability the probability of applying this operator
+	 * @param distributionIndex the distribution index controlling the spread of the offspring
+	 */
+	public ArraySBXCrossover(double crossoverProbability, double distributionIndex) {
+		this(crossoverProbability, distributionIndex, true);
+	}
+
+	/**
+	 * Creates a new SBX operator.
+	 * 
+	 * @param crossoverProbability the probability of applying this operator
+	 * @param distributionIndex the distribution index controlling the spread of the offspring
+	 * @param useArrayKernel {@code true} to use the array kernel for {@link ArrayDoubleSolution}s, {@code false} to
+	 *        always use JMetal's {@link SBXCrossover}
+	 */
+	public ArraySBXCrossover(double crossoverProbability, double distributionIndex, boolean useArrayKernel) {
+		super();
+		Validate.that("crossoverProbability", crossoverProbability).isProbability();
+		Validate.that("distributionIndex", distributionIndex).isGreaterThanOrEqualTo(0.0);
+
+		this.crossoverProbability = crossoverProbability;
+		this.distributionIndex = distributionIndex;
+		this.useArrayKernel = useArrayKernel;
+		this.fallback = new SBXCrossover(crossoverProbability, distributionIndex);
+	}
+
+	@Override
+	public double crossoverProbability() {
+		return crossoverProbability;
+	}
+
+	/**
+	 * Returns the distribution index controlling the spread of the offspring.
+	 * 
+	 * @return the distribution index
+	 */
+	public double distributionIndex() {
+		return distributionIndex;
+	}
+
+	@Override
+	public int numberOfRequiredParents() {
+		return 2;
+	}
+
+	@Override
+	public int numberOfGeneratedChildren() {
+		return 2;
+	}
+
+	@Override
+	public List<DoubleSolution> execute(List<DoubleSolution> solutions) {
+		Check.notNull(solutions);
+		Check.that(solutions.size() == 2, "There must be two parents instead of " + solutions.size());
+
+		if (useArrayKernel && solutions.get(0) instanceof ArrayDoubleSolution parent1 &&
+				solutions.get(1) instanceof ArrayDoubleSolution parent2) {
+			ArrayDoubleSolution offspring1 = parent1.copy();
+			ArrayDoubleSolution offspring2 = parent2.copy();
+			JMetalRandom random = JMetalRandom.getInstance();
+
+			if (random.nextDouble() <= crossoverProbability) {
+				evolve(parent1, parent2, offspring1.getValues(), offspring2.getValues(), random);
+			}
+
+			List<DoubleSolution> result = new ArrayList<DoubleSolution>(2);
+			result.add(offspring1);
+			result.add(offspring2);
+			return result;
+		}
+
+		return fallback.execute(solutions);
+	}
+
+	/**
+	 * Recombines the variables of the parents, storing the results in the offspring arrays.
+	 * 
+	 * @param parent1 the first parent
+	 * @param parent2 the second parent
+	 * @param offspring1 the variables of the first offspring
+	 * @param offspring2 the variables of the second offspring
+	 * @param random the source of random numbers
+	 */
+	private void evolve(ArrayDoubleSolution parent1, ArrayDoubleSolution parent2, double[] offspring1,
+			double[] offspring2, JMetalRandom random) {
+		double[] x1 = parent1.getValues();
+		double[] x2 = parent2.getValues();
+		double exponent = -(distributionIndex + 1.0);
+		double inverseExponent = 1.0 / (distributionIndex + 1.0);
+
+		for (int i = 0; i < x1.length; i++) {
+			double valueX1 = x1[i];
+			double valueX2 = x2[i];
+
+			if (random.nextDouble() > 0.5) {
+				offspring1[i] = valueX2;
+				offspring2[i] = valueX1;
+			} else if (Math.abs(valueX1 - valueX2) <= EPS) {
+				offspring1[i] = valueX1;
+				offspring2[i] = valueX2;
+			} else {
+				double y1 = Math.min(valueX1, valueX2);
+				double y2 = Math.max(valueX1, valueX2);
+				Bounds<Double> bounds = parent1.getBounds(i);
+				double lowerBound = bounds.getLowerBound();
+				double upperBound = bounds.getUpperBound();
+				double rand = random.nextDouble();
+
+				double beta = 1.0 + 2.0 * (y1 - lowerBound) / (y2 - y1);
+				double alpha = 2.0 - Math.pow(beta, exponent);
+				double betaq = spread(rand, alpha, inverseExponent);
+				double c1 = clamp(0.5 * (y1 + y2 - betaq * (y2 - y1)), lowerBound, upperBound);
+
+				beta = 1.0 + 2.0 * (upperBound - y2) / (y2 - y1);
+				alpha = 2.0 - Math.pow(beta, exponent);
+				betaq = spread(rand, alpha, inverseExponent);
+				double c2 = clamp(0.5 * (y1 + y2 + betaq * (y2 - y1)), lowerBound, upperBound);
+
+				if (random.nextDouble() <= 0.5) {
+					offspring1[i] = c2;
+					offspring2[i] = c1;
+				} else {
+					offspring1[i] = c1;
+					offspring2[i] = c2;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the spread factor for the given uniform random number.
+	 * 
+	 * @param rand the uniform random number
+	 * @param alpha the scaling term derived from the distance to the bound
+	 * @param inverseExponent the inverse of the distribution index plus one
+	 * @return the spread factor
+	 */
+	private static double spread(double rand, double alpha, double inverseExponent) {
+		if (rand <= 1.0 / alpha) {
+			return Math.pow(rand * alpha, inverseExponent);
+		} else {
+			return Math.pow(1.0 / (2.0 - rand * alpha), inverseExponent);
+		}
+	}
+
+	/**
+	 * Clamps the value to the given bounds.
+	 * 
+	 * @param value the value
+	 * @param lowerBound the lower bound
+	 * @param upperBound the upper bound
+	 * @return the clamped value
+	 */
+	static double clamp(double value, double lowerBound, double upperBound) {
+		if (value < lowerBound) {
+			return lowerBound;
+		} else if (value > upperBound) {
+			return upperBound;
+		} else {
+			return value;
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.List;
+
+import org.uma.jmetal.operator.selection.impl.RankingAndPreferenceSelection;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * JMetal's {@link RankingAndPreferenceSelection} using the given ranking in place of the hard-coded
+ * {@link org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking}.
+ *
+ * @param <S> the type of solution
+ */
+public class PluggableRankingAndPreferenceSelection<S extends Solution<?>> extends RankingAndPreferenceSelection<S> {
+
+	private static final long serialVersionUID = -2519360931624187120L;
+
+	/**
+	 * The ranking used to sort the solutions into fronts.
+	 */
+	private final Ranking<S> ranking;
+
+	/**
+	 * Creates a new selection operator.
+	 * 
+	 * @param solutionsToSelect the number of solutions to select
+	 * @param interestPoint the reference points, concatenated into a single list
+	 * @param epsilon the epsilon value used to remove solutions near one another
+	 * @param ranking the ranking used to sort the solutions into fronts
+	 */
+	public PluggableRankingAndPreferenceSelection(int solutionsToSelect, List<Double> interestPoint, double epsilon,
+			Ranking<S> ranking) {
+		super(solutionsToSelect, interestPoint, epsilon);
+		Check.notNull(ranking);
+		this.ranking = ranking;
+	}
+
+	/**
+	 * Returns the ranking used to sort the solutions into fronts.
+	 * 
+	 * @return the ranking
+	 */
+	public Ranking<S> getRanking() {
+		return ranking;
+	}
+
+	@Override
+	public List<S> execute(List<S> solutionList) {
+		Check.notNull(solutionList);
+		Check.collectionIsNotEmpty(solutionList);
+		Check.that(solutionList.size() >= getNumberOfSolutionsToSelect(), "The population size (" +
+				solutionList.size() + ") is smaller than the solutions to selected (" +
+				getNumberOfSolutionsToSelect() + ")");
+
+		ranking.compute(solutionList);
+		return preferenceDistanceSelection(ranking, solutionList.get(0).objectives().length);
+	}
+
+}
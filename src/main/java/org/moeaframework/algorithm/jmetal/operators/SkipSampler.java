@@ -0,0 +1,76 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Samples the gaps between successive successes of independent Bernoulli trials.  The number of failures before the
+ * next success follows a geometric distribution, so iterating over the selected indices costs one random number per
+ * selected index rather than one per index.  This is equivalent in distribution to testing each index with
+ * probability {@code p}.
+ */
+class SkipSampler {
+
+	/**
+	 * The value of {@code log(1 - p)}.
+	 */
+	private final double logComplement;
+
+	/**
+	 * Creates a new sampler for the given success probability.
+	 * 
+	 * @param probability the success probability of each trial
+	 */
+	public SkipSampler(double probability) {
+		super();
+		this.logComplement = Math.log1p(-probability);
+	}
+
+	/**
+	 * Returns the number of failed trials before the next success.
+	 * 
+	 * @param random the source of random numbers
+	 * @return the number of failed trials before the next success, or {@link Integer#MAX_VALUE} if there are no
+	 *         further successes within the range of an {@code int}
+	 */
+	public int next(JMetalRandom random) {
+		if (logComplement == 0.0) {
+			return Integer.MAX_VALUE;
+		} else if (logComplement == Double.NEGATIVE_INFINITY) {
+			return 0;
+		}
+
+		double skip = Math.floor(Math.log(1.0 - random.nextDouble()) / logComplement);
+		return skip >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)skip;
+	}
+
+	/**
+	 * Returns the next selected index after the given index.
+	 * 
+	 * @param index the current index, or {@code -1} to start at the beginning
+	 * @param length the number of indices
+	 * @param random the source of random numbers
+	 * @return the next selected index, or {@code length} if no further indices are selected
+	 */
+	public int nextIndex(int index, int length, JMetalRandom random) {
+		int skip = next(random);
+		return skip >= length - index - 1 ? length : index + skip + 1;
+	}
+
+}
@@ -0,0 +1,202 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+/**
+ * Abstract class for rankings that sort the population using primitive arrays of objective values and constraint
+ * violations instead of invoking a dominance comparator on each pair of solutions.
+ * <p>
+ * Ranks are stored under the same attribute as {@link FastNonDominatedSortRanking}, so comparators such as
+ * {@link org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator} created with their default ranking read
+ * the ranks computed by this class.
+ *
+ * @param <S> the type of solution
+ */
+public abstract class AbstractArrayRanking<S extends Solution<?>> implements Ranking<S> {
+
+	/**
+	 * The attribute used to store the rank of each solution.
+	 */
+	private final String attributeId = FastNonDominatedSortRanking.class.getName();
+
+	/**
+	 * If {@code true}, solutions are first compared by their overall constraint violation, matching
+	 * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator}.  Otherwise,
+	 * only the objectives are compared, matching
+	 * {@link org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator}.
+	 */
+	private final boolean useConstraints;
+
+	/**
+	 * The solutions in each front from the last call to {@link #compute(List)}.
+	 */
+	private List<List<S>> rankedSubPopulations;
+
+	/**
+	 * Constructs a new ranking.
+	 * 
+	 * @param useConstraints {@code true} if solutions are first compared by their overall constraint violation
+	 */
+	public AbstractArrayRanking(boolean useConstraints) {
+		super();
+		this.useConstraints = useConstraints;
+		this.rankedSubPopulations = new ArrayList<>();
+	}
+
+	/**
+	 * Returns {@code true} if solutions are first compared by their overall constraint violation.
+	 * 
+	 * @return {@code true} if solutions are first compared by their overall constraint violation
+	 */
+	public boolean isUseConstraints() {
+		return useConstraints;
+	}
+
+	/**
+	 * Sorts the population into non-dominated fronts.
+	 * 
+	 * @param objectives the objective values of each solution
+	 * @param violations the overall constraint violation of each solution, where {@code 0} is feasible and larger
+	 *        values are worse
+	 * @return the indices of the solutions in each front, starting with the non-dominated front
+	 */
+	protected abstract int[][] sort(double[][] objectives, double[] violations);
+
+	@Override
+	public Ranking<S> compute(List<S> solutionList) {
+		int size = solutionList.size();
+		double[][] objectives = new double[size][];
+		double[] violations = new double[size];
+
+		for (int i = 0; i < size; i++) {
+			S solution = solutionList.get(i);
+			objectives[i] = solution.objectives();
+
+			if (useConstraints) {
+				double degree = ConstraintHandling.overallConstraintViolationDegree(solution);
+				violations[i] = degree < 0.0 ? -degree : 0.0;
+			}
+		}
+
+		int[][] fronts = sort(objectives, violations);
+		rankedSubPopulations = new ArrayList<>(fronts.length);
+
+		for (int rank = 0; rank < fronts.length; rank++) {
+			List<S> subFront = new ArrayList<>(fronts[rank].length);
+
+			for (int index : fronts[rank]) {
+				S solution = solutionList.get(index);
+				solution.attributes().put(attributeId, rank);
+				subFront.add(solution);
+			}
+
+			rankedSubPopulations.add(subFront);
+		}
+
+		return this;
+	}
+
+	@Override
+	public List<S> getSubFront(int rank) {
+		Check.that(rank < rankedSubPopulations.size(),
+				"Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() - 1));
+		return rankedSubPopulations.get(rank);
+	}
+
+	@Override
+	public int getNumberOfSubFronts() {
+		return rankedSubPopulations.size();
+	}
+
+	@Override
+	public Integer getRank(S solution) {
+		Check.notNull(solution);
+		Object rank = solution.attributes().get(attributeId);
+		return rank == null ? -1 : (Integer)rank;
+	}
+
+	@Override
+	public Object getAttributedId() {
+		return attributeId;
+	}
+
+	/**
+	 * Compares two solutions by constraint violation and then by Pareto dominance.
+	 * 
+	 * @param objectives1 the objective values of the first solution
+	 * @param violation1 the overall constraint violation of the first solution
+	 * @param objectives2 the objective values of the second solution
+	 * @param violation2 the overall constraint violation of the second solution
+	 * @return {@code -1} if the first solution dominates the second, {@code 1} if the second solution dominates the
+	 *         first, or {@code 0} if neither dominates the other
+	 */
+	public static int compare(double[] objectives1, double violation1, double[] objectives2, double violation2) {
+		if (violation1 < violation2) {
+			return -1;
+		} else if (violation1 > violation2) {
+			return 1;
+		}
+
+		boolean better = false;
+		boolean worse = false;
+
+		for (int i = 0; i < objectives1.length; i++) {
+			if (objectives1[i] < objectives2[i]) {
+				better = true;
+			} else if (objectives2[i] < objectives1[i]) {
+				worse = true;
+			}
+
+			if (better && worse) {
+				return 0;
+			}
+		}
+
+		return better == worse ? 0 : better ? -1 : 1;
+	}
+
+	/**
+	 * Appends a value to a growable array.
+	 * 
+	 * @param array the array, which may be {@code null}
+	 * @param size the number of values stored in the array
+	 * @param value the value to append
+	 * @return the array containing the appended value, which is a new array if the original array was full
+	 */
+	static int[] append(int[] array, int size, int value) {
+		if (array == null) {
+			array = new int[4];
+		} else if (size == array.length) {
+			array = Arrays.copyOf(array, 2 * size);
+		}
+
+		array[size] = value;
+		return array;
+	}
+
+}
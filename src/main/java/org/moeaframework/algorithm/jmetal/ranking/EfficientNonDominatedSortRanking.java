@@ -0,0 +1,145 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Efficient non-dominated sort with sequential search (ENS-SS) operating on primitive arrays.  Solutions are visited
+ * in lexicographic order of their constraint violation and objectives, so a solution can only be dominated by
+ * solutions visited before it.  Each solution is then assigned to the first front containing no solution that
+ * dominates it.  This typically requires far fewer comparisons than the fast non-dominated sort, whose cost is always
+ * quadratic in the population size.
+ * <p>
+ * The fronts are identical to those produced by the fast non-dominated sort, but the solutions in each front are
+ * listed in the order they appear in the population.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Zhang, X., Tian, Y., Cheng, R., and Jin, Y.  "An Efficient Approach to Nondominated Sorting for
+ *       Evolutionary Multiobjective Optimization."  IEEE Transactions on Evolutionary Computation,
+ *       19(2):201-213, 2015.
+ * </ol>
+ *
+ * @param <S> the type of solution
+ */
+public class EfficientNonDominatedSortRanking<S extends Solution<?>> extends AbstractArrayRanking<S> {
+
+	/**
+	 * Constructs a new ranking.
+	 * 
+	 * @param useConstraints {@code true} if solutions are first compared by their overall constraint violation
+	 */
+	public EfficientNonDominatedSortRanking(boolean useConstraints) {
+		super(useConstraints);
+	}
+
+	@Override
+	protected int[][] sort(double[][] objectives, double[] violations) {
+		int size = objectives.length;
+		Integer[] order = new Integer[size];
+
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+
+		Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> violations[i])
+				.thenComparing((i, j) -> compareLexicographically(objectives[i], objectives[j])));
+
+		List<int[]> fronts = new ArrayList<>();
+		List<Integer> frontSizes = new ArrayList<>();
+
+		for (int index : order) {
+			int rank = 0;
+
+			while (rank < fronts.size() &&
+					isDominated(index, fronts.get(rank), frontSizes.get(rank), objectives, violations)) {
+				rank++;
+			}
+
+			if (rank == fronts.size()) {
+				fronts.add(null);
+				frontSizes.add(0);
+			}
+
+			int frontSize = frontSizes.get(rank);
+			fronts.set(rank, append(fronts.get(rank), frontSize, index));
+			frontSizes.set(rank, frontSize + 1);
+		}
+
+		int[][] result = new int[fronts.size()][];
+
+		for (int rank = 0; rank < result.length; rank++) {
+			result[rank] = Arrays.copyOf(fronts.get(rank), frontSizes.get(rank));
+			Arrays.sort(result[rank]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compares two objective vectors lexicographically.  Unlike {@link Arrays#compare(double[], double[])}, this treats
+	 * {@code -0.0} and {@code 0.0} as equal, consistent with the dominance relation.
+	 * 
+	 * @param objectives1 the first objective vector
+	 * @param objectives2 the second objective vector
+	 * @return a negative value, zero, or a positive value if the first vector is less than, equal to, or greater than
+	 *         the second vector
+	 */
+	private static int compareLexicographically(double[] objectives1, double[] objectives2) {
+		for (int i = 0; i < objectives1.length; i++) {
+			if (objectives1[i] < objectives2[i]) {
+				return -1;
+			} else if (objectives1[i] > objectives2[i]) {
+				return 1;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns {@code true} if any solution in the front dominates the given solution.  The front is searched starting
+	 * with the most recently added solution, which is the one most likely to dominate the given solution.
+	 * 
+	 * @param index the index of the solution
+	 * @param front the indices of the solutions in the front
+	 * @param frontSize the number of solutions in the front
+	 * @param objectives the objective values of each solution
+	 * @param violations the overall constraint violation of each solution
+	 * @return {@code true} if any solution in the front dominates the given solution
+	 */
+	private static boolean isDominated(int index, int[] front, int frontSize, double[][] objectives,
+			double[] violations) {
+		for (int i = frontSize - 1; i >= 0; i--) {
+			int other = front[i];
+
+			if (compare(objectives[other], violations[other], objectives[index], violations[index]) < 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
@@ -0,0 +1,154 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+/**
+ * Deb's fast non-dominated sort operating on primitive arrays.  This produces the same fronts, with the solutions in
+ * each front listed in the same order, as {@link FastNonDominatedSortRanking}, but avoids the boxed indices, linked
+ * lists, and repeated constraint violation calculations of the JMetal implementation.
+ * <p>
+ * When parallel, the solutions dominated by each solution are found concurrently.  Each pair of solutions is then
+ * compared twice, once from each side, so this is only faster when multiple cores are available.
+ *
+ * @param <S> the type of solution
+ */
+public class FastNonDominatedSortArrayRanking<S extends Solution<?>> extends AbstractArrayRanking<S> {
+
+	/**
+	 * {@code true} if the pairwise comparisons are performed in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * Constructs a new sequential ranking.
+	 * 
+	 * @param useConstraints {@code true} if solutions are first compared by their overall constraint violation
+	 */
+	public FastNonDominatedSortArrayRanking(boolean useConstraints) {
+		this(useConstraints, false);
+	}
+
+	/**
+	 * Constructs a new ranking.
+	 * 
+	 * @param useConstraints {@code true} if solutions are first compared by their overall constraint violation
+	 * @param parallel {@code true} if the pairwise comparisons are performed in parallel
+	 */
+	public FastNonDominatedSortArrayRanking(boolean useConstraints, boolean parallel) {
+		super(useConstraints);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the pairwise comparisons are performed in parallel.
+	 * 
+	 * @return {@code true} if the pairwise comparisons are performed in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	@Override
+	protected int[][] sort(double[][] objectives, double[] violations) {
+		int size = objectives.length;
+		int[][] dominated = new int[size][];
+		int[] dominatedSize = new int[size];
+		int[] dominationCount = new int[size];
+
+		if (parallel) {
+			IntStream.range(0, size).parallel().forEach(p -> {
+				int[] list = null;
+				int count = 0;
+
+				for (int q = 0; q < size; q++) {
+					if (q != p && compare(objectives[p], violations[p], objectives[q], violations[q]) < 0) {
+						list = append(list, count++, q);
+					}
+				}
+
+				dominated[p] = list;
+				dominatedSize[p] = count;
+			});
+
+			for (int p = 0; p < size; p++) {
+				for (int i = 0; i < dominatedSize[p]; i++) {
+					dominationCount[dominated[p][i]]++;
+				}
+			}
+		} else {
+			for (int p = 0; p < size - 1; p++) {
+				for (int q = p + 1; q < size; q++) {
+					int flag = compare(objectives[p], violations[p], objectives[q], violations[q]);
+
+					if (flag < 0) {
+						dominated[p] = append(dominated[p], dominatedSize[p]++, q);
+						dominationCount[q]++;
+					} else if (flag > 0) {
+						dominated[q] = append(dominated[q], dominatedSize[q]++, p);
+						dominationCount[p]++;
+					}
+				}
+			}
+		}
+
+		List<int[]> fronts = new ArrayList<>();
+		int[] front = new int[size];
+		int[] nextFront = new int[size];
+		int frontSize = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (dominationCount[i] == 0) {
+				front[frontSize++] = i;
+			}
+		}
+
+		while (frontSize > 0) {
+			fronts.add(Arrays.copyOf(front, frontSize));
+
+			int nextFrontSize = 0;
+
+			for (int i = 0; i < frontSize; i++) {
+				int p = front[i];
+
+				for (int j = 0; j < dominatedSize[p]; j++) {
+					int q = dominated[p][j];
+
+					if (--dominationCount[q] == 0) {
+						nextFront[nextFrontSize++] = q;
+					}
+				}
+			}
+
+			int[] temp = front;
+			front = nextFront;
+			nextFront = temp;
+			frontSize = nextFrontSize;
+		}
+
+		return fronts.toArray(int[][]::new);
+	}
+
+}
@@ -0,0 +1,84 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.ranking;
+
+import java.util.Comparator;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+/**
+ * The non-dominated sorting algorithms available to rank populations.  The array-based engines replace JMetal's
+ * {@link FastNonDominatedSortRanking} when the dominance comparator is a {@link DefaultDominanceComparator} or a
+ * {@link DominanceWithConstraintsComparator} using the overall constraint violation.  Any other comparator is passed
+ * to {@link FastNonDominatedSortRanking}.
+ */
+public enum RankingEngine {
+
+	/**
+	 * JMetal's {@link FastNonDominatedSortRanking}.
+	 */
+	DEFAULT,
+
+	/**
+	 * The fast non-dominated sort on primitive arrays, which reproduces the results of {@link #DEFAULT} exactly.
+	 */
+	ARRAY,
+
+	/**
+	 * The fast non-dominated sort on primitive arrays with the pairwise comparisons performed in parallel, which
+	 * reproduces the results of {@link #DEFAULT} exactly.
+	 */
+	PARALLEL,
+
+	/**
+	 * The efficient non-dominated sort, which produces the same fronts as {@link #DEFAULT} with fewer comparisons but
+	 * lists the solutions in each front in population order.
+	 */
+	ENS;
+
+	/**
+	 * Creates a ranking that sorts solutions using the given dominance comparator.
+	 * 
+	 * @param <S> the type of solution
+	 * @param dominanceComparator the dominance comparator
+	 * @return the ranking
+	 */
+	public <S extends Solution<?>> Ranking<S> createRanking(Comparator<S> dominanceComparator) {
+		boolean useConstraints;
+
+		if (dominanceComparator.getClass() == DefaultDominanceComparator.class) {
+			useConstraints = false;
+		} else if (dominanceComparator.getClass() == DominanceWithConstraintsComparator.class) {
+			useConstraints = true;
+		} else {
+			return new FastNonDominatedSortRanking<>(dominanceComparator);
+		}
+
+		return switch (this) {
+			case DEFAULT -> new FastNonDominatedSortRanking<>(dominanceComparator);
+			case ARRAY -> new FastNonDominatedSortArrayRanking<>(useConstraints);
+			case PARALLEL -> new FastNonDominatedSortArrayRanking<>(useConstraints, true);
+			case ENS -> new EfficientNonDominatedSortRanking<>(useConstraints);
+		};
+	}
+
+}
@@ -0,0 +1,102 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFUtilityFunctionSet;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.Normalizer;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link ASFUtilityFunctionSet} evaluated with {@link ScalarizationKernels#asf}.  When a normalizer is set,
+ * the objectives are normalized once per solution rather than once per solution and weight vector.
+ * 
+ * @param <S> the type of solution
+ */
+public class ArrayASFUtilityFunctionSet<S extends Solution<?>> extends ASFUtilityFunctionSet<S>
+implements ArrayUtilityFunctionsSet {
+
+	private static final long serialVersionUID = 6935519461270431093L;
+
+	/**
+	 * The reference point.
+	 */
+	private final List<Double> referencePoint;
+
+	/**
+	 * The normalizer applied to the objectives, or {@code null} if the objectives are not normalized.
+	 */
+	private Normalizer normalizer;
+
+	/**
+	 * Constructs a new achievement scalarizing function set with the reference point at the origin.
+	 * 
+	 * @param weights the weight vectors
+	 */
+	public ArrayASFUtilityFunctionSet(double[][] weights) {
+		this(weights, new ArrayList<Double>(Collections.nCopies(weights.length > 0 ? weights[0].length : 0, 0.0)));
+	}
+
+	/**
+	 * Constructs a new achievement scalarizing function set.
+	 * 
+	 * @param weights the weight vectors
+	 * @param referencePoint the reference point
+	 */
+	public ArrayASFUtilityFunctionSet(double[][] weights, List<Double> referencePoint) {
+		super(weights, referencePoint);
+		this.referencePoint = referencePoint;
+	}
+
+	/**
+	 * Constructs a new achievement scalarizing function set.
+	 * 
+	 * @param filePath the file containing the weight vectors
+	 * @param referencePoint the reference point
+	 */
+	public ArrayASFUtilityFunctionSet(String filePath, List<Double> referencePoint) {
+		super(filePath, referencePoint);
+		this.referencePoint = referencePoint;
+	}
+
+	@Override
+	public void setNormalizer(Normalizer normalizer) {
+		super.setNormalizer(normalizer);
+		this.normalizer = normalizer;
+	}
+
+	@Override
+	public double[][] evaluate(List<? extends Solution<?>> solutions, boolean parallel) {
+		double[][] objectives = ScalarizationKernels.getObjectives(solutions);
+		
+		if (normalizer != null) {
+			for (int s = 0; s < objectives.length; s++) {
+				for (int i = 0; i < objectives[s].length; i++) {
+					objectives[s][i] = normalizer.normalize(objectives[s][i], i);
+				}
+			}
+		}
+		
+		return ScalarizationKernels.asf(ScalarizationKernels.getWeights(this),
+				ScalarizationKernels.toArray(referencePoint), objectives, parallel);
+	}
+
+}
@@ -0,0 +1,102 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFWASFGA;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link ASFWASFGA} evaluated with {@link ScalarizationKernels#augmentedASF}.  The point of interest is read
+ * when the set is evaluated, so updates made by {@link #updatePointOfInterest(List)} are seen.  Once a nadir and
+ * utopia point are both set, each difference is divided by the range between them before weighting, as in JMetal.
+ * 
+ * @param <S> the type of solution
+ */
+public class ArrayASFWASFGA<S extends Solution<?>> extends ASFWASFGA<S> implements ArrayUtilityFunctionsSet {
+
+	private static final long serialVersionUID = -1571412207069377409L;
+
+	/**
+	 * The point of interest.
+	 */
+	private final List<Double> interestPoint;
+
+	/**
+	 * The nadir point, or {@code null} if not set.
+	 */
+	private List<Double> nadir;
+
+	/**
+	 * The utopia point, or {@code null} if not set.
+	 */
+	private List<Double> utopia;
+
+	/**
+	 * Constructs a new augmented achievement scalarizing function set with the point of interest at the origin.
+	 * 
+	 * @param weights the weight vectors
+	 */
+	public ArrayASFWASFGA(double[][] weights) {
+		this(weights, new ArrayList<Double>(Collections.nCopies(weights.length > 0 ? weights[0].length : 0, 0.0)));
+	}
+
+	/**
+	 * Constructs a new augmented achievement scalarizing function set.
+	 * 
+	 * @param weights the weight vectors
+	 * @param interestPoint the point of interest
+	 */
+	public ArrayASFWASFGA(double[][] weights, List<Double> interestPoint) {
+		super(weights, interestPoint);
+		this.interestPoint = interestPoint;
+	}
+
+	@Override
+	public void setNadir(List<Double> nadir) {
+		super.setNadir(nadir);
+		this.nadir = nadir;
+	}
+
+	@Override
+	public void setUtopia(List<Double> utopia) {
+		super.setUtopia(utopia);
+		this.utopia = utopia;
+	}
+
+	@Override
+	public double[][] evaluate(List<? extends Solution<?>> solutions, boolean parallel) {
+		double[] ranges = null;
+		
+		if (nadir != null && utopia != null) {
+			ranges = new double[nadir.size()];
+			
+			for (int i = 0; i < ranges.length; i++) {
+				ranges[i] = nadir.get(i) - utopia.get(i);
+			}
+		}
+		
+		return ScalarizationKernels.augmentedASF(ScalarizationKernels.getWeights(this),
+				ScalarizationKernels.toArray(interestPoint), ranges, ScalarizationKernels.getObjectives(solutions),
+				parallel);
+	}
+
+}
@@ -0,0 +1,148 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.gwasfga.util.GWASFGARanking;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.AbstractUtilityFunctionsSet;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link GWASFGARanking} computed from matrices of scalarized values.  This works like
+ * {@link ArrayWASFGARanking}, except each rank alternates between the weight vectors measured from the utopia point
+ * and from the nadir point.  The ranks and subfronts are identical to {@link GWASFGARanking}.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayGWASFGARanking<S extends Solution<?>> extends GWASFGARanking<S> {
+
+	private static final long serialVersionUID = 6286064618716203529L;
+
+	/**
+	 * The achievement scalarizing functions measured from the utopia point.
+	 */
+	private final AbstractUtilityFunctionsSet<S> utilityFunctionsUtopia;
+
+	/**
+	 * The achievement scalarizing functions measured from the nadir point.
+	 */
+	private final AbstractUtilityFunctionsSet<S> utilityFunctionsNadir;
+
+	/**
+	 * If {@code true}, the value matrices are evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The subfronts computed by the last call to {@link #compute(List)}.
+	 */
+	private List<List<S>> rankedSubpopulations;
+
+	/**
+	 * Constructs a new GWASFGA ranking.
+	 * 
+	 * @param utilityFunctionsUtopia the achievement scalarizing functions measured from the utopia point
+	 * @param utilityFunctionsNadir the achievement scalarizing functions measured from the nadir point
+	 * @param parallel if {@code true}, the value matrices are evaluated in parallel
+	 */
+	public ArrayGWASFGARanking(AbstractUtilityFunctionsSet<S> utilityFunctionsUtopia,
+			AbstractUtilityFunctionsSet<S> utilityFunctionsNadir, boolean parallel) {
+		super(utilityFunctionsUtopia, utilityFunctionsNadir);
+		this.utilityFunctionsUtopia = utilityFunctionsUtopia;
+		this.utilityFunctionsNadir = utilityFunctionsNadir;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the value matrices are evaluated in parallel.
+	 * 
+	 * @return {@code true} if the value matrices are evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Ranks the population, evaluating the utility functions with {@link ScalarizationKernels#evaluate}.  Utility
+	 * functions implementing {@link ArrayUtilityFunctionsSet} are evaluated with their kernel rather than boxed.
+	 * 
+	 * @param population the population
+	 * @return this ranking
+	 */
+	@Override
+	public ArrayGWASFGARanking<S> compute(List<S> population) {
+		return compute(population,
+				ScalarizationKernels.evaluate(utilityFunctionsUtopia, population, parallel),
+				ScalarizationKernels.evaluate(utilityFunctionsNadir, population, parallel));
+	}
+
+	/**
+	 * Ranks the population from precomputed scalarized values.
+	 * 
+	 * @param population the population
+	 * @param utopiaValues the values measured from the utopia point, indexed by weight vector and then by solution
+	 * @param nadirValues the values measured from the nadir point, indexed by weight vector and then by solution
+	 * @return this ranking
+	 */
+	public ArrayGWASFGARanking<S> compute(List<S> population, double[][] utopiaValues, double[][] nadirValues) {
+		List<S> infeasible = new ArrayList<S>();
+		int[] feasible = ArrayWASFGARanking.split(population, infeasible);
+		int numberOfWeights = utopiaValues.length + nadirValues.length;
+		int numberOfFeasibleRanks = ArrayWASFGARanking.getNumberOfFeasibleRanks(feasible.length, numberOfWeights);
+		rankedSubpopulations = ArrayWASFGARanking.createSubpopulations(numberOfFeasibleRanks + infeasible.size());
+		
+		int remaining = feasible.length;
+		
+		for (int rank = 0; rank < numberOfFeasibleRanks; rank++) {
+			for (int w = 0; w < numberOfWeights / 2; w++) {
+				for (double[][] values : new double[][][] { utopiaValues, nadirValues }) {
+					if (remaining > 0) {
+						S solution = population.get(ArrayWASFGARanking.removeBest(values[w], feasible, remaining--));
+						setAttribute(solution, rank);
+						rankedSubpopulations.get(rank).add(solution);
+					}
+				}
+			}
+		}
+		
+		if (!infeasible.isEmpty()) {
+			int[] ranks = rankUnfeasibleSolutions(infeasible);
+			
+			for (int i = 0; i < ranks.length; i++) {
+				int rank = ranks[i] + numberOfFeasibleRanks;
+				setAttribute(infeasible.get(i), rank);
+				rankedSubpopulations.get(rank).add(infeasible.get(i));
+			}
+		}
+		
+		return this;
+	}
+
+	@Override
+	public List<S> getSubFront(int rank) {
+		return rankedSubpopulations.get(rank);
+	}
+
+	@Override
+	public int getNumberOfSubFronts() {
+		return rankedSubpopulations.size();
+	}
+
+}
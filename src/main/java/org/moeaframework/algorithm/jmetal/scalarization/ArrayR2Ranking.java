@@ -0,0 +1,218 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.AbstractUtilityFunctionsSet;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2Ranking;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2SolutionData;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link R2Ranking} computed from a matrix of scalarized values.  The rank of each solution is its best
+ * position when the population is sorted by the value of each weight vector.  JMetal evaluates and sorts the boxed
+ * population once per weight vector; here, the values are computed up front, and each row is sorted independently,
+ * optionally in parallel.
+ * <p>
+ * JMetal sorts the same list over and over with a stable sort, so solutions with equal values keep the order left by
+ * the previous weight vector.  Rows that contain equal values are therefore sorted again, in sequence, starting from
+ * the order of the previous row, which gives ranks, solution data, and subfronts identical to {@link R2Ranking}.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayR2Ranking<S extends Solution<?>> extends R2Ranking<S> {
+
+	private static final long serialVersionUID = 4571236298419536612L;
+
+	/**
+	 * If {@code true}, the rows of the value matrix are evaluated and sorted in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The subfronts computed by the last call to {@link #computeRanking(List)}.
+	 */
+	private List<List<S>> rankedSubpopulations;
+
+	/**
+	 * Constructs a new R2 ranking.
+	 * 
+	 * @param utilityFunctions the utility functions
+	 * @param parallel if {@code true}, the rows of the value matrix are evaluated and sorted in parallel
+	 */
+	public ArrayR2Ranking(AbstractUtilityFunctionsSet<S> utilityFunctions, boolean parallel) {
+		super(utilityFunctions);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the rows of the value matrix are evaluated and sorted in parallel.
+	 * 
+	 * @return {@code true} if the rows of the value matrix are evaluated and sorted in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Ranks the population, evaluating the utility functions with {@link ScalarizationKernels#evaluate}.  Utility
+	 * functions implementing {@link ArrayUtilityFunctionsSet} are evaluated with their kernel rather than boxed.
+	 * 
+	 * @param population the population
+	 * @return this ranking
+	 */
+	@Override
+	public ArrayR2Ranking<S> computeRanking(List<S> population) {
+		return computeRanking(population, ScalarizationKernels.evaluate(getUtilityFunctions(), population, parallel),
+				null);
+	}
+
+	/**
+	 * Ranks the population from precomputed scalarized values.  As in JMetal, the population is left sorted by the
+	 * values of the last weight vector.
+	 * 
+	 * @param population the population
+	 * @param values the scalarized values, indexed by weight vector and then by solution
+	 * @param utilities the utility of each solution, or {@code null} to use the smallest scalarized value of each
+	 *        solution as in {@link R2Ranking}
+	 * @return this ranking
+	 */
+	public ArrayR2Ranking<S> computeRanking(List<S> population, double[][] values, double[] utilities) {
+		int size = population.size();
+		List<S> solutions = new ArrayList<S>(population);
+		R2SolutionData[] data = new R2SolutionData[size];
+		
+		for (int s = 0; s < size; s++) {
+			data[s] = new R2SolutionData();
+			
+			if (utilities != null) {
+				data[s].utility = utilities[s];
+			}
+			
+			setAttribute(solutions.get(s), data[s]);
+		}
+		
+		Integer[][] orders = new Integer[values.length][];
+		boolean[] ties = new boolean[values.length];
+		IntStream indices = IntStream.range(0, values.length);
+		
+		(parallel ? indices.parallel() : indices).forEach(w -> {
+			orders[w] = sort(values[w], IntStream.range(0, size).boxed().toArray(Integer[]::new));
+			ties[w] = hasTies(values[w], orders[w]);
+		});
+		
+		Integer[] order = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+		
+		for (int w = 0; w < values.length; w++) {
+			double[] row = values[w];
+			
+			if (ties[w]) {
+				orders[w] = sort(row, order.clone());
+			}
+			
+			order = orders[w];
+			
+			for (int p = 0; p < size; p++) {
+				R2SolutionData solutionData = data[order[p]];
+				solutionData.alpha = row[order[p]];
+				
+				if (utilities == null && solutionData.alpha < solutionData.utility) {
+					solutionData.utility = solutionData.alpha;
+				}
+				
+				if (p + 1 < solutionData.rank) {
+					solutionData.rank = p + 1;
+				}
+			}
+		}
+		
+		TreeMap<Integer, List<S>> fronts = new TreeMap<Integer, List<S>>();
+		
+		for (int p = 0; p < size; p++) {
+			S solution = solutions.get(order[p]);
+			population.set(p, solution);
+			fronts.computeIfAbsent(data[order[p]].rank, key -> new ArrayList<S>()).add(solution);
+		}
+		
+		rankedSubpopulations = new ArrayList<List<S>>(fronts.values());
+		return this;
+	}
+
+	@Override
+	public List<S> getSubfront(int rank) {
+		return rankedSubpopulations.get(rank);
+	}
+
+	@Override
+	public int getNumberOfSubfronts() {
+		return rankedSubpopulations.size();
+	}
+	
+	/**
+	 * Stably sorts solution indices by the given values, using the same comparison as JMetal.
+	 * 
+	 * @param row the values of each solution
+	 * @param order the solution indices, which are sorted in place
+	 * @return the sorted indices
+	 */
+	private static Integer[] sort(double[] row, Integer[] order) {
+		Arrays.sort(order, (s1, s2) -> compare(row[s1], row[s2]));
+		return order;
+	}
+	
+	/**
+	 * Returns {@code true} if any two adjacent solutions in the sorted order compare as equal, in which case the order
+	 * depends on the order before sorting.
+	 * 
+	 * @param row the values of each solution
+	 * @param order the sorted solution indices
+	 * @return {@code true} if the sorted order contains equal values
+	 */
+	private static boolean hasTies(double[] row, Integer[] order) {
+		for (int p = 1; p < order.length; p++) {
+			if (compare(row[order[p - 1]], row[order[p]]) == 0) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Compares two values in the same way as JMetal, which treats {@code NaN} as equal to every value.
+	 * 
+	 * @param value1 the first value
+	 * @param value2 the second value
+	 * @return {@code -1}, {@code 0}, or {@code 1} if the first value is less than, equal to, or greater than the second
+	 */
+	private static int compare(double value1, double value2) {
+		if (value1 < value2) {
+			return -1;
+		} else if (value1 > value2) {
+			return 1;
+		} else {
+			return 0;
+		}
+	}
+
+}
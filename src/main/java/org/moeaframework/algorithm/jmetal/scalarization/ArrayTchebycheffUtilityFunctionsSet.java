@@ -0,0 +1,58 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.TchebycheffUtilityFunctionsSet;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * JMetal's {@link TchebycheffUtilityFunctionsSet} evaluated with {@link ScalarizationKernels#tchebycheff}.  The
+ * reference point is read when the set is evaluated, so updates made to the list in place by MOMBI are seen.
+ * 
+ * @param <S> the type of solution
+ */
+public class ArrayTchebycheffUtilityFunctionsSet<S extends Solution<?>> extends TchebycheffUtilityFunctionsSet<S>
+implements ArrayUtilityFunctionsSet {
+
+	private static final long serialVersionUID = -3034470722580893470L;
+
+	/**
+	 * The reference point.
+	 */
+	private final List<Double> referencePoint;
+
+	/**
+	 * Constructs a new Tchebycheff utility function set.
+	 * 
+	 * @param filePath the file containing the weight vectors
+	 * @param referencePoint the reference point
+	 */
+	public ArrayTchebycheffUtilityFunctionsSet(String filePath, List<Double> referencePoint) {
+		super(filePath, referencePoint);
+		this.referencePoint = referencePoint;
+	}
+
+	@Override
+	public double[][] evaluate(List<? extends Solution<?>> solutions, boolean parallel) {
+		return ScalarizationKernels.tchebycheff(ScalarizationKernels.getWeights(this),
+				ScalarizationKernels.toArray(referencePoint), ScalarizationKernels.getObjectives(solutions), parallel);
+	}
+
+}
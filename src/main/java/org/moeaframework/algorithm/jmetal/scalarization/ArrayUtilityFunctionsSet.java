@@ -0,0 +1,43 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.AbstractUtilityFunctionsSet;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * A utility function set that evaluates every weight vector and solution with the kernels in
+ * {@link ScalarizationKernels}.  {@link ScalarizationKernels#evaluate(AbstractUtilityFunctionsSet, List, boolean)}
+ * dispatches to this interface, so rankings given one of these sets avoid boxing every value even when no
+ * precomputed matrix is supplied.
+ */
+public interface ArrayUtilityFunctionsSet {
+	
+	/**
+	 * Evaluates every weight vector and solution.  The values must be identical to those produced by the JMetal
+	 * utility function set this replaces.
+	 * 
+	 * @param solutions the solutions
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	public double[][] evaluate(List<? extends Solution<?>> solutions, boolean parallel);
+
+}
@@ -0,0 +1,222 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.AbstractUtilityFunctionsSet;
+import org.uma.jmetal.algorithm.multiobjective.wasfga.util.WASFGARanking;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+
+/**
+ * JMetal's {@link WASFGARanking} computed from a matrix of scalarized values.  Each rank is filled by taking, for each
+ * weight vector in turn, the remaining feasible solution with the smallest value.  JMetal re-evaluates the utility
+ * function of every remaining solution each time a solution is taken; here, the values are computed once, optionally
+ * in parallel, and each selection is a scan over one row of the matrix.
+ * <p>
+ * Ties are resolved in favor of the earliest solution in the population, as in JMetal, so the ranks and subfronts are
+ * identical to {@link WASFGARanking}.  Infeasible solutions are ranked by JMetal's own implementation.
+ *
+ * @param <S> the type of solution
+ */
+public class ArrayWASFGARanking<S extends Solution<?>> extends WASFGARanking<S> {
+
+	private static final long serialVersionUID = -8830713532683218791L;
+
+	/**
+	 * If {@code true}, the value matrix is evaluated in parallel.
+	 */
+	private final boolean parallel;
+
+	/**
+	 * The subfronts computed by the last call to {@link #compute(List)}.
+	 */
+	private List<List<S>> rankedSubpopulations;
+
+	/**
+	 * Constructs a new WASFGA ranking.
+	 * 
+	 * @param utilityFunctions the achievement scalarizing functions
+	 * @param parallel if {@code true}, the value matrix is evaluated in parallel
+	 */
+	public ArrayWASFGARanking(AbstractUtilityFunctionsSet<S> utilityFunctions, boolean parallel) {
+		super(utilityFunctions);
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns {@code true} if the value matrix is evaluated in parallel.
+	 * 
+	 * @return {@code true} if the value matrix is evaluated in parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Ranks the population, evaluating the utility functions with {@link ScalarizationKernels#evaluate}.  Utility
+	 * functions implementing {@link ArrayUtilityFunctionsSet} are evaluated with their kernel rather than boxed.
+	 * 
+	 * @param population the population
+	 * @return this ranking
+	 */
+	@Override
+	public ArrayWASFGARanking<S> compute(List<S> population) {
+		return compute(population, ScalarizationKernels.evaluate(getUtilityFunctions(), population, parallel));
+	}
+
+	/**
+	 * Ranks the population from precomputed scalarized values.
+	 * 
+	 * @param population the population
+	 * @param values the scalarized values, indexed by weight vector and then by solution
+	 * @return this ranking
+	 */
+	public ArrayWASFGARanking<S> compute(List<S> population, double[][] values) {
+		List<S> infeasible = new ArrayList<S>();
+		int[] feasible = split(population, infeasible);
+		int numberOfFeasibleRanks = getNumberOfFeasibleRanks(feasible.length, values.length);
+		rankedSubpopulations = createSubpopulations(numberOfFeasibleRanks + infeasible.size());
+		
+		int remaining = feasible.length;
+		
+		for (int rank = 0; rank < numberOfFeasibleRanks; rank++) {
+			for (int w = 0; w < values.length; w++) {
+				if (remaining > 0) {
+					S solution = population.get(removeBest(values[w], feasible, remaining--));
+					setAttribute(solution, rank);
+					rankedSubpopulations.get(rank).add(solution);
+				}
+			}
+		}
+		
+		if (!infeasible.isEmpty()) {
+			int[] ranks = rankUnfeasibleSolutions(infeasible);
+			
+			for (int i = 0; i < ranks.length; i++) {
+				int rank = ranks[i] + numberOfFeasibleRanks;
+				setAttribute(infeasible.get(i), rank);
+				rankedSubpopulations.get(rank).add(infeasible.get(i));
+			}
+		}
+		
+		return this;
+	}
+
+	@Override
+	public List<S> getSubFront(int rank) {
+		return rankedSubpopulations.get(rank);
+	}
+
+	@Override
+	public int getNumberOfSubFronts() {
+		return rankedSubpopulations.size();
+	}
+	
+	/**
+	 * Splits the population into feasible and infeasible solutions, using the same test as JMetal.
+	 * 
+	 * @param <S> the type of solution
+	 * @param population the population
+	 * @param infeasible the list where infeasible solutions are added, in population order
+	 * @return the indices of the feasible solutions, in population order
+	 */
+	static <S extends Solution<?>> int[] split(List<S> population, List<S> infeasible) {
+		NumberOfViolatedConstraints<S> numberOfViolatedConstraints = new NumberOfViolatedConstraints<S>();
+		int[] feasible = new int[population.size()];
+		int count = 0;
+		
+		for (int i = 0; i < population.size(); i++) {
+			S solution = population.get(i);
+			Integer violations = numberOfViolatedConstraints.getAttribute(solution);
+			
+			if (violations != null && violations > 0) {
+				infeasible.add(solution);
+			} else {
+				feasible[count++] = i;
+			}
+		}
+		
+		return Arrays.copyOf(feasible, count);
+	}
+	
+	/**
+	 * Returns the number of ranks used for feasible solutions, using the same formula as JMetal.
+	 * 
+	 * @param numberOfFeasibleSolutions the number of feasible solutions
+	 * @param numberOfWeights the total number of weight vectors
+	 * @return the number of ranks used for feasible solutions
+	 */
+	static int getNumberOfFeasibleRanks(int numberOfFeasibleSolutions, int numberOfWeights) {
+		if (numberOfFeasibleSolutions == 0) {
+			return 0;
+		} else if (numberOfFeasibleSolutions > numberOfWeights) {
+			return (numberOfFeasibleSolutions + 1) / numberOfWeights;
+		} else {
+			return 1;
+		}
+	}
+	
+	/**
+	 * Creates the given number of empty subpopulations.
+	 * 
+	 * @param <S> the type of solution
+	 * @param numberOfRanks the number of ranks
+	 * @return the empty subpopulations
+	 */
+	static <S extends Solution<?>> List<List<S>> createSubpopulations(int numberOfRanks) {
+		List<List<S>> subpopulations = new ArrayList<List<S>>(numberOfRanks);
+		
+		for (int i = 0; i < numberOfRanks; i++) {
+			subpopulations.add(new ArrayList<S>());
+		}
+		
+		return subpopulations;
+	}
+	
+	/**
+	 * Removes the remaining solution with the smallest value, preferring the earliest solution when values are equal,
+	 * and preserving the order of the other remaining solutions.
+	 * 
+	 * @param row the value of each solution in the population
+	 * @param remaining the indices of the remaining solutions, in population order, which is updated in place
+	 * @param count the number of remaining solutions
+	 * @return the index of the removed solution
+	 */
+	static int removeBest(double[] row, int[] remaining, int count) {
+		int best = 0;
+		double minimum = row[remaining[0]];
+		
+		for (int i = 1; i < count; i++) {
+			double value = row[remaining[i]];
+			
+			if (value < minimum) {
+				minimum = value;
+				best = i;
+			}
+		}
+		
+		int result = remaining[best];
+		System.arraycopy(remaining, best + 1, remaining, best, count - best - 1);
+		return result;
+	}
+
+}
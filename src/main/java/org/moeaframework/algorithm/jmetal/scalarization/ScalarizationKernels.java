@@ -0,0 +1,272 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.AbstractUtilityFunctionsSet;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Scalarizing function kernels operating on primitive arrays.  Each kernel evaluates every solution against every
+ * weight vector and returns the values as a matrix indexed by weight vector and then by solution, so each row is
+ * computed from one weight vector streamed against the objectives of the population.  When requested, rows are
+ * computed in parallel with one task per weight vector.
+ * <p>
+ * Each value is computed with the same operations in the same order as the corresponding JMetal utility function, so
+ * the values are identical to those produced by JMetal.
+ */
+public final class ScalarizationKernels {
+	
+	/**
+	 * The augmentation coefficient of the achievement scalarizing function used by WASFGA and GWASFGA, which matches
+	 * the value used by JMetal.
+	 */
+	public static final double AUGMENTATION_COEFFICIENT = 0.001;
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private ScalarizationKernels() {
+		super();
+	}
+	
+	/**
+	 * Evaluates the weighted Tchebycheff function, {@code max(w[i] * |f[i] - z[i]|)}, matching JMetal's
+	 * {@code TchebycheffUtilityFunctionsSet} used by MOMBI.
+	 * 
+	 * @param weights the weight vectors, indexed by weight vector and then by objective
+	 * @param referencePoint the reference point
+	 * @param objectives the objective values, indexed by solution and then by objective
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	public static double[][] tchebycheff(double[][] weights, double[] referencePoint, double[][] objectives,
+			boolean parallel) {
+		return evaluate(weights, objectives, parallel, (weight, point) -> {
+			double result = Double.NEGATIVE_INFINITY;
+			
+			for (int i = 0; i < weight.length; i++) {
+				result = Math.max(result, weight[i] * Math.abs(point[i] - referencePoint[i]));
+			}
+			
+			return result;
+		});
+	}
+	
+	/**
+	 * Evaluates the achievement scalarizing function, {@code max(|f[i] - z[i]| / w[i])}, where zero weights are
+	 * replaced by {@code 0.01}, matching JMetal's {@code ASFUtilityFunctionSet} used by MOMBI2.  Any normalization
+	 * must already be applied to the objective values.
+	 * 
+	 * @param weights the weight vectors, indexed by weight vector and then by objective
+	 * @param referencePoint the reference point
+	 * @param objectives the objective values, indexed by solution and then by objective
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	public static double[][] asf(double[][] weights, double[] referencePoint, double[][] objectives,
+			boolean parallel) {
+		return evaluate(weights, objectives, parallel, (weight, point) -> {
+			double result = Double.NEGATIVE_INFINITY;
+			
+			for (int i = 0; i < weight.length; i++) {
+				result = Math.max(result,
+						Math.abs(point[i] - referencePoint[i]) / (weight[i] > 0.0 ? weight[i] : 0.01));
+			}
+			
+			return result;
+		});
+	}
+	
+	/**
+	 * Evaluates the augmented achievement scalarizing function, {@code max(w[i] * (f[i] - q[i])) +
+	 * rho * sum(w[i] * (f[i] - q[i]))}, matching JMetal's {@code ASFWASFGA} used by WASFGA and GWASFGA when no nadir or
+	 * utopia point is set.
+	 * 
+	 * @param weights the weight vectors, indexed by weight vector and then by objective
+	 * @param interestPoint the point of interest
+	 * @param objectives the objective values, indexed by solution and then by objective
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	public static double[][] augmentedASF(double[][] weights, double[] interestPoint, double[][] objectives,
+			boolean parallel) {
+		return augmentedASF(weights, interestPoint, null, objectives, parallel);
+	}
+	
+	/**
+	 * Evaluates the augmented achievement scalarizing function with each difference {@code f[i] - q[i]} divided by
+	 * {@code r[i]} before weighting, matching JMetal's {@code ASFWASFGA} when both a nadir and utopia point are set and
+	 * {@code r} is the nadir minus the utopia point.
+	 * 
+	 * @param weights the weight vectors, indexed by weight vector and then by objective
+	 * @param interestPoint the point of interest
+	 * @param ranges the range of each objective, or {@code null} if the differences are not scaled
+	 * @param objectives the objective values, indexed by solution and then by objective
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	public static double[][] augmentedASF(double[][] weights, double[] interestPoint, double[] ranges,
+			double[][] objectives, boolean parallel) {
+		return evaluate(weights, objectives, parallel, (weight, point) -> {
+			double result = -1.0E10;
+			double sum = 0.0;
+			
+			for (int i = 0; i < weight.length; i++) {
+				double difference = point[i] - interestPoint[i];
+				
+				if (ranges != null) {
+					difference /= ranges[i];
+				}
+				
+				double product = difference * weight[i];
+				
+				if (product > result) {
+					result = product;
+				}
+				
+				sum += product;
+			}
+			
+			return result + sum * AUGMENTATION_COEFFICIENT;
+		});
+	}
+	
+	/**
+	 * Evaluates a utility function set for every weight vector and solution.  Sets implementing
+	 * {@link ArrayUtilityFunctionsSet} are evaluated with their kernel; any other set is evaluated through JMetal's own
+	 * implementation, which boxes every value.
+	 * 
+	 * @param <S> the type of solution
+	 * @param utilityFunctions the utility function set
+	 * @param solutions the solutions
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	public static <S extends Solution<?>> double[][] evaluate(AbstractUtilityFunctionsSet<S> utilityFunctions,
+			List<S> solutions, boolean parallel) {
+		if (utilityFunctions instanceof ArrayUtilityFunctionsSet arrayUtilityFunctions) {
+			return arrayUtilityFunctions.evaluate(solutions, parallel);
+		}
+		
+		double[][] values = new double[utilityFunctions.getSize()][solutions.size()];
+		IntStream indices = IntStream.range(0, values.length);
+		
+		(parallel ? indices.parallel() : indices).forEach(w -> {
+			for (int s = 0; s < values[w].length; s++) {
+				values[w][s] = utilityFunctions.evaluate(solutions.get(s), w);
+			}
+		});
+		
+		return values;
+	}
+	
+	/**
+	 * Copies the weight vectors of a utility function set into an array.
+	 * 
+	 * @param utilityFunctions the utility function set
+	 * @return the weight vectors, indexed by weight vector and then by objective
+	 */
+	public static double[][] getWeights(AbstractUtilityFunctionsSet<?> utilityFunctions) {
+		double[][] weights = new double[utilityFunctions.getSize()][];
+		
+		for (int i = 0; i < weights.length; i++) {
+			weights[i] = toArray(utilityFunctions.getWeightVector(i));
+		}
+		
+		return weights;
+	}
+	
+	/**
+	 * Copies the objective values of the given solutions into an array.
+	 * 
+	 * @param solutions the solutions
+	 * @return the objective values, indexed by solution and then by objective
+	 */
+	public static double[][] getObjectives(List<? extends Solution<?>> solutions) {
+		double[][] objectives = new double[solutions.size()][];
+		
+		for (int i = 0; i < objectives.length; i++) {
+			objectives[i] = solutions.get(i).objectives().clone();
+		}
+		
+		return objectives;
+	}
+	
+	/**
+	 * Copies a point stored as a list into an array.
+	 * 
+	 * @param point the point
+	 * @return the point as an array
+	 */
+	public static double[] toArray(List<Double> point) {
+		double[] result = new double[point.size()];
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = point.get(i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Evaluates a scalarizing function for every weight vector and solution.
+	 * 
+	 * @param weights the weight vectors, indexed by weight vector and then by objective
+	 * @param objectives the objective values, indexed by solution and then by objective
+	 * @param parallel if {@code true}, the weight vectors are evaluated in parallel
+	 * @param function the scalarizing function
+	 * @return the values, indexed by weight vector and then by solution
+	 */
+	private static double[][] evaluate(double[][] weights, double[][] objectives, boolean parallel,
+			ScalarizingFunction function) {
+		double[][] values = new double[weights.length][objectives.length];
+		IntStream indices = IntStream.range(0, weights.length);
+		
+		(parallel ? indices.parallel() : indices).forEach(w -> {
+			double[] weight = weights[w];
+			double[] row = values[w];
+			
+			for (int s = 0; s < objectives.length; s++) {
+				row[s] = function.evaluate(weight, objectives[s]);
+			}
+		});
+		
+		return values;
+	}
+	
+	/**
+	 * A scalarizing function of a single weight vector and solution.
+	 */
+	@FunctionalInterface
+	private interface ScalarizingFunction {
+		
+		/**
+		 * Evaluates the scalarizing function.
+		 * 
+		 * @param weight the weight vector
+		 * @param objectives the objective values of the solution
+		 * @return the scalarized value
+		 */
+		public double evaluate(double[] weight, double[] objectives);
+		
+	}
+
+}
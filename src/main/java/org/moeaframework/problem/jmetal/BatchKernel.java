@@ -0,0 +1,35 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+/**
+ * Evaluates a population stored in structure-of-arrays form.  See {@link BatchProblem} for the layout of the arrays.
+ */
+@FunctionalInterface
+interface BatchKernel {
+
+	/**
+	 * Evaluates the first {@code size} solutions stored in the given arrays.
+	 *
+	 * @param x the decision variables, indexed by variable and then by solution
+	 * @param f the array where the objective values are stored, indexed by objective and then by solution
+	 * @param size the number of solutions to evaluate
+	 */
+	public void evaluate(double[][] x, double[][] f, int size);
+
+}
@@ -0,0 +1,75 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+import java.util.List;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.Problem;
+
+/**
+ * Problem with real-valued decision variables that can evaluate an entire population in a single call.  The
+ * population is stored in structure-of-arrays form, where {@code variables[i][j]} is the value of the i-th decision
+ * variable of the j-th solution and {@code objectives[i][j]} is the i-th objective value of the j-th solution.  The
+ * results are identical to evaluating each solution individually with {@link #evaluate(Solution)}.
+ * <p>
+ * JMetal algorithms evaluate their populations through
+ * {@link org.moeaframework.algorithm.jmetal.adapters.BatchSolutionListEvaluator} when given a batch problem.
+ */
+public interface BatchProblem extends Problem {
+
+	/**
+	 * Evaluates the first {@code size} solutions stored in the given arrays.
+	 *
+	 * @param variables the decision variables, indexed by variable and then by solution
+	 * @param objectives the array where the objective values are stored, indexed by objective and then by solution
+	 * @param size the number of solutions to evaluate
+	 */
+	public void evaluate(double[][] variables, double[][] objectives, int size);
+
+	/**
+	 * Evaluates all of the given solutions in a single batch.
+	 *
+	 * @param solutions the solutions to evaluate
+	 */
+	public default void evaluateAll(List<Solution> solutions) {
+		int size = solutions.size();
+		double[][] variables = new double[getNumberOfVariables()][size];
+		double[][] objectives = new double[getNumberOfObjectives()][size];
+
+		for (int j = 0; j < size; j++) {
+			Solution solution = solutions.get(j);
+
+			for (int i = 0; i < variables.length; i++) {
+				variables[i][j] = RealVariable.getReal(solution.getVariable(i));
+			}
+		}
+
+		evaluate(variables, objectives, size);
+
+		for (int j = 0; j < size; j++) {
+			Solution solution = solutions.get(j);
+
+			for (int i = 0; i < objectives.length; i++) {
+				solution.setObjectiveValue(i, objectives[i][j]);
+			}
+		}
+	}
+
+}
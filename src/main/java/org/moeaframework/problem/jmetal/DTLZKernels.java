@@ -0,0 +1,311 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+/**
+ * Batch implementations of the DTLZ problems.  The arithmetic mirrors JMetal's {@code DTLZ1} through {@code DTLZ7}
+ * operation-for-operation so the results are bit-for-bit identical.  The position-related terms are computed once per
+ * decision variable instead of once per objective, which does not alter the result since each term is deterministic.
+ */
+final class DTLZKernels {
+
+	private DTLZKernels() {
+		super();
+	}
+
+	/**
+	 * Evaluates the DTLZ1 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz1(double[][] x, double[][] f, int size) {
+		int k = x.length - f.length + 1;
+		double[] g = rastrigin(x, k, size);
+		double[] base = new double[size];
+		double[][] c = new double[f.length - 1][];
+		double[][] s = new double[f.length - 1][size];
+
+		for (int j = 0; j < size; j++) {
+			base[j] = (1.0 + g[j]) * 0.5;
+		}
+
+		for (int i = 0; i < f.length - 1; i++) {
+			c[i] = x[i];
+
+			for (int j = 0; j < size; j++) {
+				s[i][j] = 1.0 - x[i][j];
+			}
+		}
+
+		shape(base, c, s, f, size);
+	}
+
+	/**
+	 * Evaluates the DTLZ2 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz2(double[][] x, double[][] f, int size) {
+		int k = x.length - f.length + 1;
+		sphere(x, sumOfSquares(x, k, size), f, size);
+	}
+
+	/**
+	 * Evaluates the DTLZ3 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz3(double[][] x, double[][] f, int size) {
+		int k = x.length - f.length + 1;
+		sphere(x, rastrigin(x, k, size), f, size);
+	}
+
+	/**
+	 * Evaluates the DTLZ4 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz4(double[][] x, double[][] f, int size) {
+		int k = x.length - f.length + 1;
+		double alpha = 100.0;
+		double[] g = sumOfSquares(x, k, size);
+		double[][] c = new double[f.length - 1][size];
+		double[][] s = new double[f.length - 1][size];
+
+		for (int i = 0; i < f.length - 1; i++) {
+			for (int j = 0; j < size; j++) {
+				double angle = Math.pow(x[i][j], alpha) * (Math.PI / 2.0);
+				c[i][j] = Math.cos(angle);
+				s[i][j] = Math.sin(angle);
+			}
+		}
+
+		shape(onePlus(g, size), c, s, f, size);
+	}
+
+	/**
+	 * Evaluates the DTLZ5 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz5(double[][] x, double[][] f, int size) {
+		int k = x.length - f.length + 1;
+		degenerate(x, sumOfSquares(x, k, size), f, size);
+	}
+
+	/**
+	 * Evaluates the DTLZ6 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz6(double[][] x, double[][] f, int size) {
+		int k = x.length - f.length + 1;
+		double[] g = new double[size];
+
+		for (int i = x.length - k; i < x.length; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				g[j] += Math.pow(xi[j], 0.1);
+			}
+		}
+
+		degenerate(x, g, f, size);
+	}
+
+	/**
+	 * Evaluates the DTLZ7 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void dtlz7(double[][] x, double[][] f, int size) {
+		int m = f.length;
+		int k = x.length - m + 1;
+		double[] g = new double[size];
+		double[] h = new double[size];
+
+		for (int i = x.length - k; i < x.length; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				g[j] += xi[j];
+			}
+		}
+
+		for (int j = 0; j < size; j++) {
+			g[j] = 1.0 + 9.0 * g[j] / (double)k;
+		}
+
+		for (int i = 0; i < m - 1; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				f[i][j] = xi[j];
+				h[j] += xi[j] / (1.0 + g[j]) * (1.0 + Math.sin(3.0 * Math.PI * xi[j]));
+			}
+		}
+
+		for (int j = 0; j < size; j++) {
+			f[m - 1][j] = (1.0 + g[j]) * ((double)m - h[j]);
+		}
+	}
+
+	/**
+	 * Computes the sum of squared distances from {@code 0.5} over the last {@code k} decision variables.
+	 */
+	private static double[] sumOfSquares(double[][] x, int k, int size) {
+		double[] g = new double[size];
+
+		for (int i = x.length - k; i < x.length; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				g[j] += (xi[j] - 0.5) * (xi[j] - 0.5);
+			}
+		}
+
+		return g;
+	}
+
+	/**
+	 * Computes the multi-modal Rastrigin-style distance function used by DTLZ1 and DTLZ3.
+	 */
+	private static double[] rastrigin(double[][] x, int k, int size) {
+		double[] g = new double[size];
+
+		for (int i = x.length - k; i < x.length; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				g[j] += (xi[j] - 0.5) * (xi[j] - 0.5) - Math.cos(20.0 * Math.PI * (xi[j] - 0.5));
+			}
+		}
+
+		for (int j = 0; j < size; j++) {
+			g[j] = 100.0 * ((double)k + g[j]);
+		}
+
+		return g;
+	}
+
+	/**
+	 * Returns {@code 1 + g} for each solution.
+	 */
+	private static double[] onePlus(double[] g, int size) {
+		double[] result = new double[size];
+
+		for (int j = 0; j < size; j++) {
+			result[j] = 1.0 + g[j];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Evaluates the spherical front used by DTLZ2 and DTLZ3.
+	 */
+	private static void sphere(double[][] x, double[] g, double[][] f, int size) {
+		double[][] c = new double[f.length - 1][size];
+		double[][] s = new double[f.length - 1][size];
+
+		for (int i = 0; i < f.length - 1; i++) {
+			for (int j = 0; j < size; j++) {
+				c[i][j] = Math.cos(x[i][j] * 0.5 * Math.PI);
+				s[i][j] = Math.sin(x[i][j] * 0.5 * Math.PI);
+			}
+		}
+
+		shape(onePlus(g, size), c, s, f, size);
+	}
+
+	/**
+	 * Evaluates the degenerate front used by DTLZ5 and DTLZ6.
+	 */
+	private static void degenerate(double[][] x, double[] g, double[][] f, int size) {
+		double[][] c = new double[f.length - 1][size];
+		double[][] s = new double[f.length - 1][size];
+
+		for (int j = 0; j < size; j++) {
+			double theta = x[0][j] * Math.PI / 2.0;
+			c[0][j] = Math.cos(theta);
+			s[0][j] = Math.sin(theta);
+		}
+
+		for (int i = 1; i < f.length - 1; i++) {
+			for (int j = 0; j < size; j++) {
+				double t = Math.PI / (4.0 * (1.0 + g[j]));
+				double theta = t * (1.0 + 2.0 * g[j] * x[i][j]);
+				c[i][j] = Math.cos(theta);
+				s[i][j] = Math.sin(theta);
+			}
+		}
+
+		shape(onePlus(g, size), c, s, f, size);
+	}
+
+	/**
+	 * Combines the precomputed position terms into the objective values, multiplying in the same order as JMetal.
+	 * Objective {@code i} is {@code base * c[0] * ... * c[m-i-2] * s[m-i-1]}, omitting the final factor when
+	 * {@code i == 0}.
+	 *
+	 * @param base the leading factor for each solution
+	 * @param c the terms multiplied into the leading positions
+	 * @param s the term multiplied into the trailing position
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	private static void shape(double[] base, double[][] c, double[][] s, double[][] f, int size) {
+		int m = f.length;
+
+		for (int i = 0; i < m; i++) {
+			double[] fi = f[i];
+			System.arraycopy(base, 0, fi, 0, size);
+
+			for (int p = 0; p < m - (i + 1); p++) {
+				double[] cp = c[p];
+
+				for (int j = 0; j < size; j++) {
+					fi[j] *= cp[j];
+				}
+			}
+
+			if (i != 0) {
+				double[] sp = s[m - (i + 1)];
+
+				for (int j = 0; j < size; j++) {
+					fi[j] *= sp[j];
+				}
+			}
+		}
+	}
+
+}
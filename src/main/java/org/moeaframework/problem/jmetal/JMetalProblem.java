@@ -0,0 +1,37 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+import org.moeaframework.problem.Problem;
+
+/**
+ * A MOEA Framework problem that is backed by a JMetal problem.  JMetal algorithms can use the original problem to
+ * avoid converting solutions between the two frameworks on every evaluation.
+ *
+ * @param <S> the type of the JMetal solution
+ */
+public interface JMetalProblem<S extends org.uma.jmetal.solution.Solution<?>> extends Problem {
+	
+	/**
+	 * Returns the original JMetal problem.
+	 * 
+	 * @return the original JMetal problem
+	 */
+	public org.uma.jmetal.problem.Problem<S> getJMetalProblem();
+
+}
@@ -17,10 +17,11 @@
  */
 package org.moeaframework.problem.jmetal;
 
-import java.util.BitSet;
 import java.util.List;
 import java.util.function.Supplier;
 
+import org.moeaframework.algorithm.jmetal.adapters.BinarySolutionView;
+import org.moeaframework.algorithm.jmetal.adapters.DoubleSolutionView;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.constraint.GreaterThanOrEqual;
 import org.moeaframework.core.spi.RegisteredProblemProvider;
@@ -97,7 +98,6 @@ import org.uma.jmetal.problem.multiobjective.zdt.ZDT5;
 import org.uma.jmetal.problem.multiobjective.zdt.ZDT6;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.bounds.Bounds;
 
 public class JMetalProblems extends RegisteredProblemProvider {
@@ -105,31 +105,31 @@ public class JMetalProblems extends RegisteredProblemProvider {
 	public JMetalProblems() {
 		super();
 		
-		registerDouble("DTLZ1_2", () -> new DTLZ1(6, 2), "pf/DTLZ2.2D.pf");
-		registerDouble("DTLZ1_3", () -> new DTLZ1(), "pf/DTLZ1.3D.pf");
-		registerDouble("DTLZ2_2", () -> new DTLZ2(11, 2), "pf/DTLZ2.2D.pf");
-		registerDouble("DTLZ2_3", () -> new DTLZ2(), "pf/DTLZ2.3D.pf");
-		registerDouble("DTLZ3_2", () -> new DTLZ3(11, 2), "pf/DTLZ3.2D.pf");
-		registerDouble("DTLZ3_3", () -> new DTLZ3(), "pf/DTLZ3.3D.pf");
-		registerDouble("DTLZ4_2", () -> new DTLZ4(11, 2), "pf/DTLZ4.2D.pf");
-		registerDouble("DTLZ4_3", () -> new DTLZ4(), "pf/DTLZ4.3D.pf");
-		registerDouble("DTLZ5_2", () -> new DTLZ5(11, 2), null);
-		registerDouble("DTLZ5_3", () -> new DTLZ5(), null);
-		registerDouble("DTLZ6_2", () -> new DTLZ6(11, 2), null);
-		registerDouble("DTLZ6_3", () -> new DTLZ6(), null);
-		registerDouble("DTLZ7_2", () -> new DTLZ7(21, 2), "pf/DTLZ7.2D.pf");
-		registerDouble("DTLZ7_3", () -> new DTLZ7(), "pf/DTLZ7.3D.pf");
+		registerDouble("DTLZ1_2", () -> new DTLZ1(6, 2), DTLZKernels::dtlz1, "pf/DTLZ2.2D.pf");
+		registerDouble("DTLZ1_3", () -> new DTLZ1(), DTLZKernels::dtlz1, "pf/DTLZ1.3D.pf");
+		registerDouble("DTLZ2_2", () -> new DTLZ2(11, 2), DTLZKernels::dtlz2, "pf/DTLZ2.2D.pf");
+		registerDouble("DTLZ2_3", () -> new DTLZ2(), DTLZKernels::dtlz2, "pf/DTLZ2.3D.pf");
+		registerDouble("DTLZ3_2", () -> new DTLZ3(11, 2), DTLZKernels::dtlz3, "pf/DTLZ3.2D.pf");
+		registerDouble("DTLZ3_3", () -> new DTLZ3(), DTLZKernels::dtlz3, "pf/DTLZ3.3D.pf");
+		registerDouble("DTLZ4_2", () -> new DTLZ4(11, 2), DTLZKernels::dtlz4, "pf/DTLZ4.2D.pf");
+		registerDouble("DTLZ4_3", () -> new DTLZ4(), DTLZKernels::dtlz4, "pf/DTLZ4.3D.pf");
+		registerDouble("DTLZ5_2", () -> new DTLZ5(11, 2), DTLZKernels::dtlz5, null);
+		registerDouble("DTLZ5_3", () -> new DTLZ5(), DTLZKernels::dtlz5, null);
+		registerDouble("DTLZ6_2", () -> new DTLZ6(11, 2), DTLZKernels::dtlz6, null);
+		registerDouble("DTLZ6_3", () -> new DTLZ6(), DTLZKernels::dtlz6, null);
+		registerDouble("DTLZ7_2", () -> new DTLZ7(21, 2), DTLZKernels::dtlz7, "pf/DTLZ7.2D.pf");
+		registerDouble("DTLZ7_3", () -> new DTLZ7(), DTLZKernels::dtlz7, "pf/DTLZ7.3D.pf");
 		
-		registerDouble("UF1", () -> new UF1(), "pf/UF1.dat");
-		registerDouble("UF2", () -> new UF2(), "pf/UF2.dat");
-		registerDouble("UF3", () -> new UF3(), "pf/UF3.dat");
-		registerDouble("UF4", () -> new UF4(), "pf/UF4.dat");
-		registerDouble("UF5", () -> new UF5(), "pf/UF5.dat");
-		registerDouble("UF6", () -> new UF6(), "pf/UF6.dat");
-		registerDouble("UF7", () -> new UF7(), "pf/UF7.dat");
-		registerDouble("UF8", () -> new UF8(), "pf/UF8.dat");
-		registerDouble("UF9", () -> new UF9(), "pf/UF9.dat");
-		registerDouble("UF10", () -> new UF10(), "pf/UF10.dat");
+		registerDouble("UF1", () -> new UF1(), UFKernels::uf1, "pf/UF1.dat");
+		registerDouble("UF2", () -> new UF2(), UFKernels::uf2, "pf/UF2.dat");
+		registerDouble("UF3", () -> new UF3(), UFKernels::uf3, "pf/UF3.dat");
+		registerDouble("UF4", () -> new UF4(), UFKernels::uf4, "pf/UF4.dat");
+		registerDouble("UF5", () -> new UF5(), UFKernels::uf5, "pf/UF5.dat");
+		registerDouble("UF6", () -> new UF6(), UFKernels::uf6, "pf/UF6.dat");
+		registerDouble("UF7", () -> new UF7(), UFKernels::uf7, "pf/UF7.dat");
+		registerDouble("UF8", () -> new UF8(), UFKernels::uf8, "pf/UF8.dat");
+		registerDouble("UF9", () -> new UF9(), UFKernels::uf9, "pf/UF9.dat");
+		registerDouble("UF10", () -> new UF10(), UFKernels::uf10, "pf/UF10.dat");
 		
 		registerDouble("LZ1", () -> new LZ09F1(), "pf/LZ09_F1.pf");
 		registerDouble("LZ2", () -> new LZ09F2(), "pf/LZ09_F2.pf");
@@ -160,12 +160,12 @@ public class JMetalProblems extends RegisteredProblemProvider {
 		registerDouble("WFG9_2", () -> new WFG9(1, 10, 2), "pf/WFG9.2D.pf");
 		registerDouble("WFG9_3", () -> new WFG9(2, 10, 3), "pf/WFG9.3D.pf");
 		
-		registerDouble("ZDT1", () -> new ZDT1(), "pf/ZDT1.pf");
-		registerDouble("ZDT2", () -> new ZDT2(), "pf/ZDT2.pf");
-		registerDouble("ZDT3", () -> new ZDT3(), "pf/ZDT3.pf");
-		registerDouble("ZDT4", () -> new ZDT4(), "pf/ZDT4.pf");
+		registerDouble("ZDT1", () -> new ZDT1(), ZDTKernels::zdt1, "pf/ZDT1.pf");
+		registerDouble("ZDT2", () -> new ZDT2(), ZDTKernels::zdt2, "pf/ZDT2.pf");
+		registerDouble("ZDT3", () -> new ZDT3(), ZDTKernels::zdt3, "pf/ZDT3.pf");
+		registerDouble("ZDT4", () -> new ZDT4(), ZDTKernels::zdt4, "pf/ZDT4.pf");
 		registerBinary("ZDT5", () -> new ZDT5(), "pf/ZDT5.pf");
-		registerDouble("ZDT6", () -> new ZDT6(), "pf/ZDT6.pf");
+		registerDouble("ZDT6", () -> new ZDT6(), ZDTKernels::zdt6, "pf/ZDT6.pf");
 		
 		registerDouble("MaF1_3", () -> new MaF01(), null);
 		registerDouble("MaF2_3", () -> new MaF02(), null);
@@ -199,12 +199,18 @@ public class JMetalProblems extends RegisteredProblemProvider {
 		register(name + "-JMetal", () -> new DoubleProblemWrapper(name, constructor.get()), referenceSet);
 	}
 	
+	// the kernel must produce results identical to the JMetal problem, see BatchProblem
+	final void registerDouble(String name, Supplier<DoubleProblem> constructor, BatchKernel kernel,
+			String referenceSet) {
+		register(name + "-JMetal", () -> new BatchDoubleProblemWrapper(name, constructor.get(), kernel), referenceSet);
+	}
+	
 	protected final void registerBinary(String name, Supplier<BinaryProblem> constructor, String referenceSet) {
 		register(name + "-JMetal", () -> new BinaryProblemWrapper(name, constructor.get()), referenceSet);
 	}
 	
 	private abstract class FrameworkProblemAdapter<T extends org.uma.jmetal.problem.Problem<S>,
-	S extends org.uma.jmetal.solution.Solution<?>> extends AbstractProblem {
+	S extends org.uma.jmetal.solution.Solution<?>> extends AbstractProblem implements JMetalProblem<S> {
 		
 		protected final String name;
 		
@@ -221,15 +227,18 @@ public class JMetalProblems extends RegisteredProblemProvider {
 			return name;
 		}
 		
-		public abstract void convert(Solution solution, S otherSolution);
+		@Override
+		public T getJMetalProblem() {
+			return innerProblem;
+		}
+		
+		public abstract S view(Solution solution);
 		
 		public abstract void initVariables(Solution solution);
 
 		@Override
 		public void evaluate(Solution solution) {
-			S innerSolution = innerProblem.createSolution();
-			convert(solution, innerSolution);
-			
+			S innerSolution = view(solution);
 			innerProblem.evaluate(innerSolution);
 			
 			solution.setObjectiveValues(innerSolution.objectives());
@@ -262,10 +271,8 @@ public class JMetalProblems extends RegisteredProblemProvider {
 		}
 
 		@Override
-		public void convert(Solution solution, DoubleSolution otherSolution) {
-			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-				otherSolution.variables().set(i, RealVariable.getReal(solution.getVariable(i)));
-			}
+		public DoubleSolution view(Solution solution) {
+			return new DoubleSolutionView(solution);
 		}
 		
 		@Override
@@ -279,6 +286,22 @@ public class JMetalProblems extends RegisteredProblemProvider {
 		
 	}
 	
+	private class BatchDoubleProblemWrapper extends DoubleProblemWrapper implements BatchProblem {
+		
+		private final BatchKernel kernel;
+
+		public BatchDoubleProblemWrapper(String name, DoubleProblem innerProblem, BatchKernel kernel) {
+			super(name, innerProblem);
+			this.kernel = kernel;
+		}
+
+		@Override
+		public void evaluate(double[][] variables, double[][] objectives, int size) {
+			kernel.evaluate(variables, objectives, size);
+		}
+		
+	}
+	
 	private class BinaryProblemWrapper extends FrameworkProblemAdapter<BinaryProblem, BinarySolution> {
 
 		public BinaryProblemWrapper(String name, BinaryProblem innerProblem) {
@@ -286,17 +309,8 @@ public class JMetalProblems extends RegisteredProblemProvider {
 		}
 		
 		@Override
-		public void convert(Solution solution, BinarySolution otherSolution) {
-			for (int i = 0; i < getNumberOfVariables(); i++) {
-				BitSet bits = BinaryVariable.getBitSet(solution.getVariable(i));
-				BinarySet binarySet = new BinarySet(bits.length());
-				
-				for (int j = 0; j < bits.length(); j++) {
-					binarySet.set(j, bits.get(j));
-				}
-				
-				otherSolution.variables().set(i, binarySet);
-			}
+		public BinarySolution view(Solution solution) {
+			return new BinarySolutionView(solution);
 		}
 		
 		@Override
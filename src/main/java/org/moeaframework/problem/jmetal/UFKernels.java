@@ -0,0 +1,429 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+import java.util.Arrays;
+
+/**
+ * Batch implementations of the UF problems from the CEC 2009 competition, with the default parameters used by JMetal's
+ * constructors.  The arithmetic mirrors JMetal's {@code UF1} through {@code UF10} operation-for-operation, and each
+ * sum is accumulated in variable order, so the results are bit-for-bit identical.  The outer loops run over the
+ * decision variables numbered from {@code 1}, as in the problem definitions, and the inner loops run across the
+ * population.
+ */
+final class UFKernels {
+
+	/**
+	 * The parameter {@code N} of UF5.
+	 */
+	private static final int UF5_N = 10;
+
+	/**
+	 * The parameter {@code N} of UF6.
+	 */
+	private static final int UF6_N = 2;
+
+	/**
+	 * The parameter {@code epsilon} of UF5, UF6 and UF9.
+	 */
+	private static final double EPSILON = 0.1;
+
+	private UFKernels() {
+		super();
+	}
+
+	/**
+	 * Evaluates the UF1 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf1(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 2 == 0 ? 1 : 0];
+			double shift = (double)i * Math.PI / (double)n;
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - Math.sin(Math.PI * 6 * x1[j] + shift);
+				yj *= yj;
+				sum[j] += yj;
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			f[0][j] = x1[j] + 2.0 * sums[0][j] / count1;
+			f[1][j] = 1.0 - Math.sqrt(x1[j]) + 2.0 * sums[1][j] / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF2 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf2(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			boolean even = i % 2 == 0;
+			double[] sum = sums[even ? 1 : 0];
+			double shift4 = (double)(4 * i) * Math.PI / (double)n;
+			double shift = (double)i * Math.PI / (double)n;
+
+			for (int j = 0; j < size; j++) {
+				double a = 0.3 * x1[j] * x1[j] * Math.cos(75.39822368615503 * x1[j] + shift4) + 0.6 * x1[j];
+				double b = even ? Math.sin(Math.PI * 6 * x1[j] + shift) : Math.cos(Math.PI * 6 * x1[j] + shift);
+				double yj = xi[j] - a * b;
+				sum[j] += yj * yj;
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			f[0][j] = x1[j] + 2.0 * sums[0][j] / count1;
+			f[1][j] = 1.0 - Math.sqrt(x1[j]) + 2.0 * sums[1][j] / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF3 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf3(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+		double[][] prods = products(size);
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 2 == 0 ? 1 : 0];
+			double[] prod = prods[i % 2 == 0 ? 1 : 0];
+			double exponent = 0.5 * (1.0 + 3.0 * ((double)i - 2.0) / ((double)n - 2.0));
+			double root = Math.sqrt(i);
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - Math.pow(x1[j], exponent);
+				double pj = Math.cos(20.0 * yj * Math.PI / root);
+				sum[j] += yj * yj;
+				prod[j] *= pj;
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			f[0][j] = x1[j] + 2.0 * (4.0 * sums[0][j] - 2.0 * prods[0][j] + 2.0) / count1;
+			f[1][j] = 1.0 - Math.sqrt(x1[j]) + 2.0 * (4.0 * sums[1][j] - 2.0 * prods[1][j] + 2.0) / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF4 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf4(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 2 == 0 ? 1 : 0];
+			double shift = (double)i * Math.PI / (double)n;
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - Math.sin(Math.PI * 6 * x1[j] + shift);
+				sum[j] += Math.abs(yj) / (1.0 + Math.exp(2.0 * Math.abs(yj)));
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			f[0][j] = x1[j] + 2.0 * sums[0][j] / count1;
+			f[1][j] = 1.0 - x1[j] * x1[j] + 2.0 * sums[1][j] / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF5 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf5(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 2 == 0 ? 1 : 0];
+			double shift = (double)i * Math.PI / (double)n;
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - Math.sin(Math.PI * 6 * x1[j] + shift);
+				sum[j] += 2.0 * yj * yj - Math.cos(Math.PI * 4 * yj) + 1.0;
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			double hj = (0.5 / (double)UF5_N + EPSILON) * Math.abs(Math.sin(2.0 * (double)UF5_N * Math.PI * x1[j]));
+
+			f[0][j] = x1[j] + hj + 2.0 * sums[0][j] / count1;
+			f[1][j] = 1.0 - x1[j] + hj + 2.0 * sums[1][j] / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF6 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf6(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+		double[][] prods = products(size);
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 2 == 0 ? 1 : 0];
+			double[] prod = prods[i % 2 == 0 ? 1 : 0];
+			double shift = (double)i * Math.PI / (double)n;
+			double root = Math.sqrt(i);
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - Math.sin(Math.PI * 6 * x1[j] + shift);
+				double pj = Math.cos(20.0 * yj * Math.PI / root);
+				sum[j] += yj * yj;
+				prod[j] *= pj;
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			double hj = 2.0 * (0.5 / (double)UF6_N + EPSILON) * Math.sin(2.0 * (double)UF6_N * Math.PI * x1[j]);
+
+			if (hj < 0.0) {
+				hj = 0.0;
+			}
+
+			f[0][j] = x1[j] + hj + 2.0 * (4.0 * sums[0][j] - 2.0 * prods[0][j] + 2.0) / count1;
+			f[1][j] = 1.0 - x1[j] + hj + 2.0 * (4.0 * sums[1][j] - 2.0 * prods[1][j] + 2.0) / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF7 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf7(double[][] x, double[][] f, int size) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[][] sums = new double[2][size];
+
+		for (int i = 2; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 2 == 0 ? 1 : 0];
+			double shift = (double)i * Math.PI / (double)n;
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - Math.sin(Math.PI * 6 * x1[j] + shift);
+				sum[j] += yj * yj;
+			}
+		}
+
+		double count1 = (n - 1) / 2;
+		double count2 = n / 2;
+
+		for (int j = 0; j < size; j++) {
+			double yj = Math.pow(x1[j], 0.2);
+
+			f[0][j] = yj + 2.0 * sums[0][j] / count1;
+			f[1][j] = 1.0 - yj + 2.0 * sums[1][j] / count2;
+		}
+	}
+
+	/**
+	 * Evaluates the UF8 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf8(double[][] x, double[][] f, int size) {
+		double[][] sums = sumThreeGroups(x, size, false);
+		double[] counts = countThreeGroups(x.length);
+
+		for (int j = 0; j < size; j++) {
+			double x1 = x[0][j];
+			double x2 = x[1][j];
+
+			f[0][j] = Math.cos(1.5707963267948966 * x1) * Math.cos(1.5707963267948966 * x2) +
+					2.0 * sums[0][j] / counts[0];
+			f[1][j] = Math.cos(1.5707963267948966 * x1) * Math.sin(1.5707963267948966 * x2) +
+					2.0 * sums[1][j] / counts[1];
+			f[2][j] = Math.sin(1.5707963267948966 * x1) + 2.0 * sums[2][j] / counts[2];
+		}
+	}
+
+	/**
+	 * Evaluates the UF9 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf9(double[][] x, double[][] f, int size) {
+		double[][] sums = sumThreeGroups(x, size, false);
+		double[] counts = countThreeGroups(x.length);
+
+		for (int j = 0; j < size; j++) {
+			double x1 = x[0][j];
+			double x2 = x[1][j];
+			double yj = (1.0 + EPSILON) * (1.0 - 4.0 * (2.0 * x1 - 1.0) * (2.0 * x1 - 1.0));
+
+			if (yj < 0.0) {
+				yj = 0.0;
+			}
+
+			f[0][j] = 0.5 * (yj + 2.0 * x1) * x2 + 2.0 * sums[0][j] / counts[0];
+			f[1][j] = 0.5 * (yj - 2.0 * x1 + 2.0) * x2 + 2.0 * sums[1][j] / counts[1];
+			f[2][j] = 1.0 - x2 + 2.0 * sums[2][j] / counts[2];
+		}
+	}
+
+	/**
+	 * Evaluates the UF10 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void uf10(double[][] x, double[][] f, int size) {
+		double[][] sums = sumThreeGroups(x, size, true);
+		double[] counts = countThreeGroups(x.length);
+
+		for (int j = 0; j < size; j++) {
+			double x1 = x[0][j];
+			double x2 = x[1][j];
+
+			f[0][j] = Math.cos(1.5707963267948966 * x1) * Math.cos(1.5707963267948966 * x2) +
+					2.0 * sums[0][j] / counts[0];
+			f[1][j] = Math.cos(1.5707963267948966 * x1) * Math.sin(1.5707963267948966 * x2) +
+					2.0 * sums[1][j] / counts[1];
+			f[2][j] = Math.sin(1.5707963267948966 * x1) + 2.0 * sums[2][j] / counts[2];
+		}
+	}
+
+	/**
+	 * Returns the initial products of the odd and even variable groups, which are {@code 1}.
+	 *
+	 * @param size the number of solutions
+	 * @return the products, indexed by group and then by solution
+	 */
+	private static double[][] products(int size) {
+		double[][] prods = new double[2][size];
+		Arrays.fill(prods[0], 1.0);
+		Arrays.fill(prods[1], 1.0);
+		return prods;
+	}
+
+	/**
+	 * Computes the sums of the three variable groups shared by the three-objective problems, UF8 through UF10, where
+	 * variable {@code i >= 3} belongs to group {@code i % 3 == 1}, {@code i % 3 == 2} or {@code i % 3 == 0}.
+	 *
+	 * @param x the decision variables
+	 * @param size the number of solutions
+	 * @param rastrigin if {@code true}, sums the UF10 term {@code 4 yj^2 - cos(8 pi yj) + 1}, otherwise {@code yj^2}
+	 * @return the sums, indexed by group and then by solution
+	 */
+	private static double[][] sumThreeGroups(double[][] x, int size, boolean rastrigin) {
+		int n = x.length;
+		double[] x1 = x[0];
+		double[] x2 = x[1];
+		double[][] sums = new double[3][size];
+
+		for (int i = 3; i <= n; i++) {
+			double[] xi = x[i - 1];
+			double[] sum = sums[i % 3 == 1 ? 0 : i % 3 == 2 ? 1 : 2];
+			double shift = (double)i * Math.PI / (double)n;
+
+			for (int j = 0; j < size; j++) {
+				double yj = xi[j] - 2.0 * x2[j] * Math.sin(Math.PI * 2 * x1[j] + shift);
+				sum[j] += rastrigin ? 4.0 * yj * yj - Math.cos(Math.PI * 8 * yj) + 1.0 : yj * yj;
+			}
+		}
+
+		return sums;
+	}
+
+	/**
+	 * Counts the variables in each of the three variable groups of UF8 through UF10.
+	 *
+	 * @param n the number of decision variables
+	 * @return the number of variables in each group
+	 */
+	private static double[] countThreeGroups(int n) {
+		double[] counts = new double[3];
+
+		for (int i = 3; i <= n; i++) {
+			counts[i % 3 == 1 ? 0 : i % 3 == 2 ? 1 : 2]++;
+		}
+
+		return counts;
+	}
+
+}
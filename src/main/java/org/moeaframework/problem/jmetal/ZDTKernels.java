@@ -0,0 +1,169 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+/**
+ * Batch implementations of the real-valued ZDT problems.  The arithmetic mirrors JMetal's {@code ZDT1} through
+ * {@code ZDT6} operation-for-operation so the results are bit-for-bit identical.  Each loop runs across the population
+ * for a single decision variable, so the inner loops are independent per solution and can be vectorized by the JIT.
+ */
+final class ZDTKernels {
+
+	private ZDTKernels() {
+		super();
+	}
+
+	/**
+	 * Evaluates the ZDT1 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void zdt1(double[][] x, double[][] f, int size) {
+		double[] g = sumTail(x, size);
+		double constant = 9.0 / (double)(x.length - 1);
+
+		for (int j = 0; j < size; j++) {
+			double f1 = x[0][j];
+			double gj = constant * g[j] + 1.0;
+			double h = 1.0 - Math.sqrt(f1 / gj);
+
+			f[0][j] = f1;
+			f[1][j] = h * gj;
+		}
+	}
+
+	/**
+	 * Evaluates the ZDT2 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void zdt2(double[][] x, double[][] f, int size) {
+		double[] g = sumTail(x, size);
+		double constant = 9.0 / (double)(x.length - 1);
+
+		for (int j = 0; j < size; j++) {
+			double f1 = x[0][j];
+			double gj = constant * g[j] + 1.0;
+			double h = 1.0 - Math.pow(f1 / gj, 2.0);
+
+			f[0][j] = f1;
+			f[1][j] = h * gj;
+		}
+	}
+
+	/**
+	 * Evaluates the ZDT3 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void zdt3(double[][] x, double[][] f, int size) {
+		double[] g = sumTail(x, size);
+		double constant = 9.0 / (double)(x.length - 1);
+
+		for (int j = 0; j < size; j++) {
+			double f1 = x[0][j];
+			double gj = constant * g[j] + 1.0;
+			double h = 1.0 - Math.sqrt(f1 / gj) - f1 / gj * Math.sin(10.0 * Math.PI * f1);
+
+			f[0][j] = f1;
+			f[1][j] = h * gj;
+		}
+	}
+
+	/**
+	 * Evaluates the ZDT4 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void zdt4(double[][] x, double[][] f, int size) {
+		double[] g = new double[size];
+
+		for (int i = 1; i < x.length; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				g[j] += Math.pow(xi[j], 2.0) + -10.0 * Math.cos(4.0 * Math.PI * xi[j]);
+			}
+		}
+
+		double constant = 1.0 + 10.0 * (double)(x.length - 1);
+
+		for (int j = 0; j < size; j++) {
+			double f1 = x[0][j];
+			double gj = g[j] + constant;
+			double h = 1.0 - Math.sqrt(f1 / gj);
+
+			f[0][j] = f1;
+			f[1][j] = h * gj;
+		}
+	}
+
+	/**
+	 * Evaluates the ZDT6 problem.
+	 *
+	 * @param x the decision variables
+	 * @param f the objective values
+	 * @param size the number of solutions
+	 */
+	public static void zdt6(double[][] x, double[][] f, int size) {
+		double[] g = sumTail(x, size);
+
+		for (int j = 0; j < size; j++) {
+			double x1 = x[0][j];
+			double f1 = 1.0 - Math.exp(-4.0 * x1) * Math.pow(Math.sin(6.0 * Math.PI * x1), 6.0);
+			double gj = g[j] / (double)(x.length - 1);
+			gj = Math.pow(gj, 0.25);
+			gj = 9.0 * gj;
+			gj = 1.0 + gj;
+			double h = 1.0 - Math.pow(f1 / gj, 2.0);
+
+			f[0][j] = f1;
+			f[1][j] = h * gj;
+		}
+	}
+
+	/**
+	 * Sums all but the first decision variable of each solution, accumulating in variable order.
+	 *
+	 * @param x the decision variables
+	 * @param size the number of solutions
+	 * @return the sums, one per solution
+	 */
+	private static double[] sumTail(double[][] x, int size) {
+		double[] g = new double[size];
+
+		for (int i = 1; i < x.length; i++) {
+			double[] xi = x[i];
+
+			for (int j = 0; j < size; j++) {
+				g[j] += xi[j];
+			}
+		}
+
+		return g;
+	}
+
+}
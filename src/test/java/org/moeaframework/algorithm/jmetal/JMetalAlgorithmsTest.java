@@ -17,13 +17,33 @@
  */
 package org.moeaframework.algorithm.jmetal;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.DoubleStream;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.algorithm.Algorithm;
+import org.moeaframework.algorithm.jmetal.adapters.BinaryProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.DoubleProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.IntegerProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.ProblemAdapter;
+import org.moeaframework.algorithm.jmetal.mocks.MockBatchProblem;
+import org.moeaframework.algorithm.jmetal.mocks.MockIntegerProblem;
+import org.moeaframework.algorithm.jmetal.mocks.MockMixedProblem;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.spi.ProblemFactory;
+import org.moeaframework.core.spi.ProviderNotFoundException;
 import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.ProblemWrapper;
 import org.moeaframework.problem.DTLZ.DTLZ2;
 import org.moeaframework.problem.ZDT.ZDT5;
+import org.moeaframework.problem.jmetal.JMetalProblem;
+import org.moeaframework.problem.jmetal.JMetalProblems;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 /**
  * Tests the {@link JMetalAlgorithms} class to ensure the JMetal algorithms can be constructed and used correctly.
@@ -44,6 +64,290 @@ public class JMetalAlgorithmsTest {
 		Assert.assertTrue(properties.getUnaccessedProperties().size() == 0);
 	}
 
+	@Test
+	public void testJMetalProblem() {
+		runTest("NSGAII-JMetal", new JMetalProblems().getProblem("ZDT1-JMetal"));
+		runTest("MOCHC-JMetal", new JMetalProblems().getProblem("ZDT5-JMetal"));
+	}
+
+	@Test
+	public void testInnerProblem() {
+		Problem problem = new ProblemFactory().getProblem("ZDT1-JMetal");
+		ProblemAdapter<?> adapter = new JMetalAlgorithms().createProblemAdapter(problem);
+		
+		Assert.assertNotNull(adapter.getInnerProblem());
+		Assert.assertSame(((JMetalProblem<?>)problem).getJMetalProblem(), adapter.getInnerProblem());
+		
+		CountingProblem counter = new CountingProblem(problem);
+		DoubleProblemAdapter counted = (DoubleProblemAdapter)new JMetalAlgorithms().createProblemAdapter(counter);
+		
+		DoubleSolution solution = counted.createSolution();
+		counted.evaluate(solution);
+		
+		Solution expected = counted.convert(solution);
+		problem.evaluate(expected);
+		
+		Assert.assertEquals(0, counter.evaluations);
+		Assert.assertArrayEquals(expected.getObjectiveValues(), solution.objectives(), 0.0);
+	}
+
+	@Test
+	public void testResultIsStandalone() {
+		Algorithm algorithm = new JMetalAlgorithms().getAlgorithm("MOCHC-JMetal",
+				TypedProperties.of("maxEvaluations", 500), new ZDT5());
+		algorithm.step();
+		
+		for (Solution solution : algorithm.getResult()) {
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				Assert.assertEquals(BinaryVariable.class, solution.getVariable(i).getClass());
+			}
+		}
+	}
+
+	@Test
+	public void testIntegerProblem() {
+		runTest("NSGAII-JMetal", new MockIntegerProblem());
+		runTest("NSGAII-JMetal", TypedProperties.of("integer.adapter", "true"), new MockIntegerProblem());
+		runTest("MOCHC-JMetal", new MockIntegerProblem());
+		runTest("MOCHC-JMetal", TypedProperties.of("integer.adapter", "true"), new MockIntegerProblem());
+	}
+	
+	@Test
+	public void testIntegerAdapterIsOptIn() {
+		JMetalAlgorithms algorithms = new JMetalAlgorithms();
+		
+		Assert.assertTrue(algorithms.createProblemAdapter(new MockIntegerProblem()) instanceof BinaryProblemAdapter);
+		Assert.assertTrue(algorithms.createProblemAdapter(new MockIntegerProblem(),
+				TypedProperties.of("integer.adapter", "true")) instanceof IntegerProblemAdapter);
+	}
+
+	@Test
+	public void testMixedProblem() {
+		runTest("NSGAII-JMetal", new MockMixedProblem());
+		runTest("SPEA2-JMetal", new MockMixedProblem());
+	}
+
+	@Test
+	public void testReproducibility() {
+		Assert.assertArrayEquals(runSeeded("NSGAII-JMetal", 123), runSeeded("NSGAII-JMetal", 123), 0.0);
+		Assert.assertArrayEquals(runSeeded("SPEA2-JMetal", 123), runSeeded("SPEA2-JMetal", 123), 0.0);
+	}
+
+	@Test
+	public void testIndependentRuns() throws Exception {
+		double[] expected = runSeeded("NSGAII-JMetal", 123);
+		
+		TypedProperties properties = TypedProperties.of("maxEvaluations", 500);
+		
+		PRNG.setSeed(123);
+		Algorithm algorithm = new JMetalAlgorithms().getAlgorithm("NSGAII-JMetal", properties, new DTLZ2(2));
+		Algorithm other = new JMetalAlgorithms().getAlgorithm("SPEA2-JMetal", properties, new DTLZ2(2));
+		
+		CompletableFuture<Void> future = CompletableFuture.runAsync(other::step);
+		algorithm.step();
+		future.get();
+		
+		Assert.assertArrayEquals(expected, getObjectives(algorithm), 0.0);
+	}
+	
+	@Test
+	public void testUnknownAlgorithm() {
+		PRNG.setSeed(123);
+		double expected = PRNG.nextDouble();
+		
+		PRNG.setSeed(123);
+		
+		try {
+			Assert.assertNull(new JMetalAlgorithms().getAlgorithm("Unknown", new TypedProperties(), new DTLZ2(2)));
+		} catch (ProviderNotFoundException e) {
+			// expected
+		}
+		
+		Assert.assertEquals(expected, PRNG.nextDouble(), 0.0);
+	}
+
+	@Test
+	public void testRankingEngines() {
+		double[] expected = runSeeded("NSGAII-JMetal", TypedProperties.of("ranking", "default"), 123);
+		
+		Assert.assertArrayEquals(expected, runSeeded("NSGAII-JMetal", TypedProperties.of("ranking", "array"), 123), 0.0);
+		Assert.assertArrayEquals(expected, runSeeded("NSGAII-JMetal", TypedProperties.of("ranking", "parallel"), 123),
+				0.0);
+		
+		runTest("NSGAII-JMetal", TypedProperties.of("ranking", "ens"), new DTLZ2(2));
+		runTest("RNSGAII-JMetal", TypedProperties.of("ranking", "ens"), new DTLZ2(2));
+		runTest("MOCHC-JMetal", TypedProperties.of("ranking", "ens"), new ZDT5());
+	}
+	
+	@Test
+	public void testArchiveTypes() {
+		runTest("AbYSS-JMetal", TypedProperties.of("archive.type", "ndtree"), new DTLZ2(2));
+		runTest("MOCell-JMetal", TypedProperties.of("archive.type", "ndtree"), new DTLZ2(2));
+		runTest("MOSA-JMetal", TypedProperties.of("archive.type", "ndtree"), new DTLZ2(2));
+		runTest("SMPSO-JMetal", TypedProperties.of("archive.type", "ndtree"), new DTLZ2(2));
+		
+		for (String archiveType : new String[] { "constrained_crowding", "ndtree" }) {
+			TypedProperties properties = TypedProperties.of("archive.type", archiveType);
+			properties.setInt("maxEvaluations", 2000);
+			
+			Algorithm algorithm = new JMetalAlgorithms().getAlgorithm("SMPSO-JMetal", properties,
+					new JMetalProblems().getProblem("Srinivas-JMetal"));
+			algorithm.step();
+			
+			Assert.assertFalse(algorithm.getResult().isEmpty());
+			Assert.assertTrue(algorithm.getResult().asList().stream().allMatch(Solution::isFeasible));
+		}
+	}
+	
+	@Test
+	public void testSolutionPool() {
+		for (String algorithmName : new String[] { "NSGAII-JMetal", "NSGAIII-JMetal" }) {
+			double[] expected = runSeeded(algorithmName, 123);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, TypedProperties.of("pool.size", 200), 123),
+					0.0);
+		}
+		
+		runTest("NSGAII-JMetal", TypedProperties.of("pool.size", 200), new ZDT5());
+	}
+	
+	@Test
+	public void testBatchEvaluation() {
+		for (String algorithmName : new String[] { "NSGAII-JMetal", "SPEA2-JMetal", "SMPSO-JMetal", "WASFGA-JMetal" }) {
+			MockBatchProblem problem = new MockBatchProblem(2);
+			runTest(algorithmName, problem);
+			Assert.assertTrue(algorithmName, problem.getBatchEvaluations() > 0);
+			
+			problem = new MockBatchProblem(2);
+			runTest(algorithmName, TypedProperties.of("evaluation.batch", false), problem);
+			Assert.assertEquals(algorithmName, 0, problem.getBatchEvaluations());
+		}
+		
+		Problem problem = new JMetalProblems().getProblem("ZDT1-JMetal");
+		Assert.assertArrayEquals(runSeeded("NSGAII-JMetal", TypedProperties.of("evaluation.batch", false), problem, 123),
+				runSeeded("NSGAII-JMetal", new TypedProperties(), problem, 123), 0.0);
+	}
+	
+	@Test
+	public void testHypervolumeEngines() {
+		runTest("SMSEMOA-JMetal", TypedProperties.of("hypervolume", "pisa"), new DTLZ2(2));
+		runTest("SMSEMOA-JMetal", TypedProperties.of("hypervolume", "exact"), new DTLZ2(3));
+		runTest("SMSEMOA-JMetal", TypedProperties.of("hypervolume", "monte_carlo"), new DTLZ2(2));
+	}
+	
+	@Test
+	public void testParallelSelection() {
+		Assert.assertArrayEquals(runSeeded("NSGAIII-JMetal", 123),
+				runSeeded("NSGAIII-JMetal", TypedProperties.of("nsgaiii.parallel", "true"), 123), 0.0);
+		Assert.assertArrayEquals(runSeeded("AGEMOEA-JMetal", 123),
+				runSeeded("AGEMOEA-JMetal", TypedProperties.of("agemoea.parallel", "true"), 123), 0.0);
+		Assert.assertArrayEquals(runSeeded("AGEMOEAII-JMetal", 123),
+				runSeeded("AGEMOEAII-JMetal", TypedProperties.of("agemoea.parallel", "true"), 123), 0.0);
+	}
+	
+	@Test
+	public void testScalarizationKernels() {
+		for (String algorithmName : new String[] { "MOMBI-JMetal", "MOMBI2-JMetal" }) {
+			TypedProperties properties = TypedProperties.of("pathWeights",
+					"resources/weightVectorFiles/mombi2/weight_02D_152.sld");
+			
+			TypedProperties referenceProperties = TypedProperties.of("pathWeights",
+					"resources/weightVectorFiles/mombi2/weight_02D_152.sld");
+			referenceProperties.setBoolean("mombi.arrayKernel", false);
+			
+			TypedProperties parallelProperties = TypedProperties.of("pathWeights",
+					"resources/weightVectorFiles/mombi2/weight_02D_152.sld");
+			parallelProperties.setBoolean("mombi.parallel", true);
+			
+			double[] expected = runSeeded(algorithmName, referenceProperties, 123);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, properties, 123), 0.0);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, parallelProperties, 123), 0.0);
+		}
+		
+		for (String algorithmName : new String[] { "WASFGA-JMetal", "GWASFGA-JMetal" }) {
+			double[] expected = runSeeded(algorithmName, TypedProperties.of("wasfga.arrayKernel", false), 123);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, 123), 0.0);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, TypedProperties.of("wasfga.parallel", true),
+					123), 0.0);
+		}
+	}
+	
+	@Test
+	public void testParallelMOEAD() {
+		for (String variant : new String[] { "MOEAD", "ConstraintMOEAD", "MOEADDRA", "MOEADSTM", "MOEADIEPSILON" }) {
+			TypedProperties properties = TypedProperties.of("variant", variant);
+			properties.setInt("populationSize", 50);
+			properties.setInt("resultPopulationSize", 50);
+			
+			TypedProperties parallelProperties = TypedProperties.of("variant", variant);
+			parallelProperties.setInt("populationSize", 50);
+			parallelProperties.setInt("resultPopulationSize", 50);
+			parallelProperties.setBoolean("moead.parallel", true);
+			
+			double[] expected = runSeeded("MOEAD-JMetal", properties, 123);
+			Assert.assertTrue(expected.length > 0);
+			Assert.assertArrayEquals(expected, runSeeded("MOEAD-JMetal", parallelProperties, 123), 0.0);
+		}
+	}
+	
+	@Test
+	public void testParallelSwarm() {
+		for (String algorithmName : new String[] { "SMPSO-JMetal", "OMOPSO-JMetal", "DMOPSO-JMetal" }) {
+			TypedProperties properties = TypedProperties.of("maxAge", 1000);
+			
+			TypedProperties parallelProperties = TypedProperties.of("maxAge", 1000);
+			parallelProperties.setBoolean("pso.parallel", true);
+			
+			double[] expected = runSeeded(algorithmName, properties, 123);
+			Assert.assertTrue(expected.length > 0);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, parallelProperties, 123), 0.0);
+		}
+		
+		runTest("DMOPSO-JMetal", TypedProperties.of("pso.parallel", true), new DTLZ2(2));
+		
+		TypedProperties resetProperties = TypedProperties.of("maxAge", 1);
+		resetProperties.setBoolean("pso.parallel", true);
+		
+		Assert.assertArrayEquals(runSeeded("DMOPSO-JMetal", resetProperties, 123),
+				runSeeded("DMOPSO-JMetal", resetProperties, 123), 0.0);
+	}
+	
+	@Test
+	public void testAsyncMOCell() {
+		TypedProperties properties = TypedProperties.of("mocell.async", true);
+		runTest("MOCell-JMetal", properties, new DTLZ2(2));
+		
+		properties.setInt("mocell.regions", 1);
+		runTest("MOCell-JMetal", properties, new DTLZ2(2));
+		
+		properties.setInt("mocell.regions", 1000);
+		runTest("MOCell-JMetal", properties, new DTLZ2(2));
+	}
+	
+	@Test
+	public void testParallelAbYSS() {
+		TypedProperties properties = TypedProperties.of("abyss.parallel", true);
+		
+		double[] expected = runSeeded("AbYSS-JMetal", properties, 123);
+		Assert.assertTrue(expected.length > 0);
+		Assert.assertArrayEquals(expected, runSeeded("AbYSS-JMetal", properties, 123), 0.0);
+		
+		runTest("AbYSS-JMetal", properties, new DTLZ2(2));
+	}
+	
+	@Test
+	public void testIncrementalESPEA() {
+		for (Problem problem : new Problem[] { new DTLZ2(2), new DTLZ2(3) }) {
+			for (long seed : new long[] { 123, 456, 789 }) {
+				double[] expected = runSeeded("ESPEA-JMetal", new TypedProperties(), problem, seed);
+				Assert.assertTrue(expected.length > 0);
+				Assert.assertArrayEquals(expected,
+						runSeeded("ESPEA-JMetal", TypedProperties.of("espea.incremental", true), problem, seed), 0.0);
+			}
+		}
+		
+		runTest("ESPEA-JMetal", TypedProperties.of("espea.incremental", true), new DTLZ2(2));
+	}
+	
 	@Test
 	public void testAbYSS() {
 		runTest("AbYSS-JMetal", new DTLZ2(2));
@@ -94,6 +398,46 @@ public class JMetalAlgorithmsTest {
 		runTest("IBEA-JMetal", new DTLZ2(2));
 	}
 	
+	@Test
+	public void testSkipSamplingIsOptIn() {
+		double[] expected = runSeeded("NSGAII-JMetal", TypedProperties.of("pm.arrayKernel", "false"), 123);
+		
+		Assert.assertArrayEquals(expected, runSeeded("NSGAII-JMetal", new TypedProperties(), 123), 0.0);
+		Assert.assertFalse(Arrays.equals(expected, runSeeded("NSGAII-JMetal",
+				TypedProperties.of("pm.skipSampling", "true"), 123)));
+	}
+	
+	@Test
+	public void testNSGAIIKernels() {
+		for (String algorithmName : new String[] { "NSGAII-JMetal", "RNSGAII-JMetal" }) {
+			double[] expected = runSeeded(algorithmName, TypedProperties.of("nsgaii.arrayKernel", "false"), 123);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, new TypedProperties(), 123), 0.0);
+		}
+	}
+	
+	@Test
+	public void testAGEMOEAKernels() {
+		for (String algorithmName : new String[] { "AGEMOEA-JMetal", "AGEMOEAII-JMetal" }) {
+			double[] expected = runSeeded(algorithmName, TypedProperties.of("agemoea.arrayKernel", "false"), 123);
+			Assert.assertArrayEquals(expected, runSeeded(algorithmName, new TypedProperties(), 123), 0.0);
+		}
+	}
+	
+	@Test
+	public void testNSGAIIIKernels() {
+		double[] expected = runSeeded("NSGAIII-JMetal", TypedProperties.of("nsgaiii.arrayKernel", "false"), 123);
+		Assert.assertArrayEquals(expected, runSeeded("NSGAIII-JMetal", new TypedProperties(), 123), 0.0);
+	}
+	
+	@Test
+	public void testIBEAKernels() {
+		double[] expected = runSeeded("IBEA-JMetal", TypedProperties.of("ibea.arrayKernel", "false"), 123);
+		
+		Assert.assertArrayEquals(expected, runSeeded("IBEA-JMetal", new TypedProperties(), 123), 0.0);
+		Assert.assertArrayEquals(expected, runSeeded("IBEA-JMetal", TypedProperties.of("ibea.parallel", "true"), 123),
+				0.0);
+	}
+	
 	@Test
 	public void testMOCell() {
 		runTest("MOCell-JMetal", new DTLZ2(2));
@@ -190,8 +534,58 @@ public class JMetalAlgorithmsTest {
 				properties.getAccessedProperties().stream().sorted().toList()));	
 	}
 
+	private double[] runSeeded(String algorithmName, long seed) {
+		return runSeeded(algorithmName, new TypedProperties(), seed);
+	}
+	
+	private double[] runSeeded(String algorithmName, TypedProperties properties, long seed) {
+		return runSeeded(algorithmName, properties, new DTLZ2(2), seed);
+	}
+	
+	private double[] runSeeded(String algorithmName, TypedProperties properties, Problem problem, long seed) {
+		properties.setInt("maxEvaluations", 500);
+		
+		PRNG.setSeed(seed);
+		Algorithm algorithm = new JMetalAlgorithms().getAlgorithm(algorithmName, properties, problem);
+		algorithm.step();
+		
+		return getObjectives(algorithm);
+	}
+	
+	private double[] getObjectives(Algorithm algorithm) {
+		return algorithm.getResult().asList().stream()
+				.flatMapToDouble(solution -> DoubleStream.of(solution.getObjectiveValues()))
+				.toArray();
+	}
+
 	private void runTest(String algorithmName, Problem problem) {
 		runTest(algorithmName, new TypedProperties(), problem);
 	}
 	
+	/**
+	 * Counts the evaluations performed through the MOEA Framework problem, while still exposing the original JMetal
+	 * problem.
+	 */
+	private static class CountingProblem extends ProblemWrapper implements JMetalProblem<DoubleSolution> {
+		
+		private int evaluations;
+		
+		public CountingProblem(Problem problem) {
+			super(problem);
+		}
+		
+		@Override
+		public void evaluate(Solution solution) {
+			evaluations++;
+			super.evaluate(solution);
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public org.uma.jmetal.problem.Problem<DoubleSolution> getJMetalProblem() {
+			return ((JMetalProblem<DoubleSolution>)problem).getJMetalProblem();
+		}
+		
+	}
+
 }
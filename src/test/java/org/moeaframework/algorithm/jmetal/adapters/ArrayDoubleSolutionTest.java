@@ -0,0 +1,98 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Settings;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+public class ArrayDoubleSolutionTest {
+	
+	@Test
+	public void testSharedBounds() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		
+		Assert.assertSame(adapter.variableBounds(), adapter.variableBounds());
+		Assert.assertSame(adapter.createSolution().getBounds(0), adapter.createSolution().getBounds(0));
+	}
+	
+	@Test
+	public void testVariables() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution solution = adapter.createSolution();
+		
+		Assert.assertEquals(adapter.numberOfVariables(), solution.variables().size());
+		
+		for (int i = 0; i < adapter.numberOfVariables(); i++) {
+			Assert.assertTrue(solution.getValue(i) >= adapter.getLowerBound(i));
+			Assert.assertTrue(solution.getValue(i) <= adapter.getUpperBound(i));
+		}
+		
+		solution.variables().set(0, 0.5);
+		Assert.assertEquals(0.5, solution.getValue(0), Settings.EPS);
+		
+		solution.setValue(1, 0.25);
+		Assert.assertEquals(0.25, solution.variables().get(1), Settings.EPS);
+	}
+	
+	@Test
+	public void testCopy() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution solution = adapter.createSolution();
+		solution.objectives()[0] = 1.0;
+		
+		ArrayDoubleSolution copy = solution.copy();
+		Assert.assertEquals(solution, copy);
+		Assert.assertEquals(solution.hashCode(), copy.hashCode());
+		Assert.assertEquals(solution.variables(), copy.variables());
+		Assert.assertEquals(1.0, copy.objectives()[0], Settings.EPS);
+		
+		copy.setValue(0, 1.0 - solution.getValue(0) / 2.0);
+		Assert.assertNotEquals(solution.getValue(0), copy.getValue(0), Settings.EPS);
+		Assert.assertNotEquals(solution, copy);
+	}
+	
+	@Test
+	public void testOperators() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		SBXCrossover crossover = new SBXCrossover(1.0, 15.0);
+		PolynomialMutation mutation = new PolynomialMutation(1.0, 20.0);
+		
+		for (int i = 0; i < 100; i++) {
+			List<DoubleSolution> offspring = crossover.execute(List.of(adapter.createSolution(),
+					adapter.createSolution()));
+			
+			for (DoubleSolution solution : offspring) {
+				mutation.execute(solution);
+				Assert.assertTrue(solution instanceof ArrayDoubleSolution);
+				
+				for (int j = 0; j < adapter.numberOfVariables(); j++) {
+					Assert.assertTrue(solution.variables().get(j) >= adapter.getLowerBound(j));
+					Assert.assertTrue(solution.variables().get(j) <= adapter.getUpperBound(j));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArrayPermutationSolutionTest {
+	
+	@Test
+	public void testValidPermutation() {
+		ArrayPermutationSolution solution = new ArrayPermutationSolution(100, 2, 0);
+		
+		Assert.assertEquals(100, solution.getLength());
+		Assert.assertEquals(100, solution.variables().size());
+		Assert.assertEquals(100, new HashSet<Integer>(solution.variables()).size());
+		
+		for (int i = 0; i < solution.getLength(); i++) {
+			Assert.assertTrue(solution.getValue(i) >= 0 && solution.getValue(i) < 100);
+		}
+	}
+	
+	@Test
+	public void testSwap() {
+		ArrayPermutationSolution solution = new ArrayPermutationSolution(10, 2, 0);
+		int first = solution.getValue(0);
+		int last = solution.getValue(9);
+		
+		solution.swap(0, 9);
+		Assert.assertEquals(last, solution.getValue(0));
+		Assert.assertEquals(first, (int)solution.variables().get(9));
+	}
+	
+	@Test
+	public void testCopy() {
+		ArrayPermutationSolution solution = new ArrayPermutationSolution(10, 2, 0);
+		solution.objectives()[0] = 1.0;
+		
+		ArrayPermutationSolution copy = solution.copy();
+		Assert.assertEquals(solution, copy);
+		Assert.assertEquals(solution.hashCode(), copy.hashCode());
+		Assert.assertEquals(1.0, copy.objectives()[0], 0.0);
+		
+		copy.swap(0, 1);
+		Assert.assertNotEquals(solution, copy);
+	}
+
+}
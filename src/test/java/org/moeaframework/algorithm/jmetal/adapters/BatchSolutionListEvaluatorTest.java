@@ -0,0 +1,88 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.problem.jmetal.BatchProblem;
+import org.moeaframework.problem.jmetal.JMetalProblems;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+
+public class BatchSolutionListEvaluatorTest {
+	
+	@Test
+	public void testEvaluate() {
+		for (String name : new String[] { "ZDT1-JMetal", "DTLZ2_3-JMetal", "UF8-JMetal" }) {
+			BatchProblem problem = (BatchProblem)new JMetalProblems().getProblem(name);
+			DoubleProblemAdapter adapter = new DoubleProblemAdapter(problem);
+			
+			List<DoubleSolution> expected = new ArrayList<DoubleSolution>();
+			List<DoubleSolution> actual = new ArrayList<DoubleSolution>();
+			
+			for (int i = 0; i < 50; i++) {
+				DoubleSolution solution = adapter.createSolution();
+				expected.add(solution);
+				actual.add((DoubleSolution)solution.copy());
+			}
+			
+			for (DoubleSolution solution : expected) {
+				adapter.evaluate(solution);
+			}
+			
+			Assert.assertSame(actual, new BatchSolutionListEvaluator<DoubleSolution>(problem).evaluate(actual, adapter));
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertArrayEquals(name, expected.get(i).objectives(), actual.get(i).objectives(), 0.0);
+			}
+		}
+	}
+	
+	@Test
+	public void testBoxedFallback() {
+		BatchProblem problem = (BatchProblem)new JMetalProblems().getProblem("ZDT1-JMetal");
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(problem);
+		
+		List<DoubleSolution> expected = new ArrayList<DoubleSolution>();
+		List<DoubleSolution> actual = new ArrayList<DoubleSolution>();
+		
+		for (int i = 0; i < 50; i++) {
+			DoubleSolution solution = adapter.createSolution();
+			DefaultDoubleSolution boxed = new DefaultDoubleSolution(adapter.variableBounds(),
+					adapter.numberOfObjectives(), adapter.numberOfConstraints());
+			
+			for (int j = 0; j < solution.variables().size(); j++) {
+				boxed.variables().set(j, solution.variables().get(j));
+			}
+			
+			actual.add(i % 2 == 0 ? boxed : (DoubleSolution)solution.copy());
+			adapter.evaluate(solution);
+			expected.add(solution);
+		}
+		
+		new BatchSolutionListEvaluator<DoubleSolution>(problem).evaluate(actual, adapter);
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i).objectives(), actual.get(i).objectives(), 0.0);
+		}
+	}
+
+}
@@ -55,5 +55,51 @@ public class BinaryProblemAdapterTest {
 			Assert.assertEquals(theirBits, myBits);
 		}
 	}
+	
+	@Test
+	public void testConvertSharesVariables() {
+		MockBinaryProblem problem = new MockBinaryProblem();
+		BinaryProblemAdapter adapter = new BinaryProblemAdapter(problem);
+		
+		BinarySolution theirSolution = adapter.createSolution();
+		Solution mySolution = adapter.convert(theirSolution);
+		BinaryVariable myVariable = (BinaryVariable)mySolution.getVariable(0);
+		
+		myVariable.set(4, !myVariable.get(4));
+		Assert.assertEquals(myVariable.get(4), theirSolution.variables().get(0).get(4));
+		
+		BinaryVariable copy = myVariable.copy();
+		theirSolution.variables().get(0).flip(4);
+		Assert.assertNotEquals(copy.get(4), myVariable.get(4));
+	}
+	
+	@Test
+	public void testViewComparedWithPlainVariable() {
+		MockBinaryProblem problem = new MockBinaryProblem();
+		BinaryProblemAdapter adapter = new BinaryProblemAdapter(problem);
+		
+		BinarySolution theirSolution = adapter.createSolution();
+		BinaryVariable view = (BinaryVariable)adapter.convert(theirSolution).getVariable(0);
+		BinaryVariable plain = view.copy();
+		
+		Assert.assertEquals(BinaryVariable.class, plain.getClass());
+		Assert.assertEquals(view, plain);
+		Assert.assertEquals(plain.hashCode(), view.hashCode());
+		Assert.assertEquals(0, plain.hammingDistance(view));
+		
+		plain.set(2, !plain.get(2));
+		view.set(7, !view.get(7));
+		
+		Assert.assertNotEquals(view, plain);
+		Assert.assertEquals(2, plain.hammingDistance(view));
+		Assert.assertEquals(2, view.hammingDistance(plain));
+		
+		plain.set(2, !plain.get(2));
+		plain.set(7, !plain.get(7));
+		
+		Assert.assertEquals(view, plain);
+		Assert.assertEquals(plain.hashCode(), view.hashCode());
+		Assert.assertEquals(0, plain.hammingDistance(view));
+	}
 
 }
@@ -0,0 +1,77 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.mocks.MockBinaryProblem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+public class BinarySolutionViewTest {
+	
+	@Test
+	public void testWriteThrough() {
+		Solution solution = new MockBinaryProblem().newSolution();
+		BinaryVariable variable = (BinaryVariable)solution.getVariable(0);
+		BinarySolutionView view = new BinarySolutionView(solution);
+		BinarySet bits = view.variables().get(0);
+		
+		Assert.assertEquals(10, view.totalNumberOfBits());
+		Assert.assertEquals(10, bits.getBinarySetLength());
+		
+		bits.set(3);
+		bits.flip(5);
+		Assert.assertTrue(variable.get(3));
+		Assert.assertTrue(variable.get(5));
+		Assert.assertEquals(2, bits.cardinality());
+		Assert.assertEquals(6, bits.length());
+		Assert.assertEquals(5, bits.nextSetBit(4));
+		
+		variable.set(3, false);
+		Assert.assertFalse(bits.get(3));
+		Assert.assertEquals("0000010000", bits.toString());
+	}
+	
+	@Test
+	public void testEquals() {
+		Solution solution = new MockBinaryProblem().newSolution();
+		BinarySolutionView view = new BinarySolutionView(solution);
+		view.variables().get(0).set(2);
+		
+		BinarySet expected = new BinarySet(10);
+		expected.set(2);
+		
+		Assert.assertEquals(view.variables().get(0), expected);
+		Assert.assertEquals(expected.hashCode(), view.variables().get(0).hashCode());
+	}
+	
+	@Test
+	public void testCopy() {
+		Solution solution = new MockBinaryProblem().newSolution();
+		BinarySolutionView view = new BinarySolutionView(solution);
+		
+		BinarySolutionView copy = view.copy();
+		copy.variables().get(0).set(1);
+		
+		Assert.assertFalse(view.variables().get(0).get(1));
+		Assert.assertTrue(copy.variables().get(0).get(1));
+	}
+
+}
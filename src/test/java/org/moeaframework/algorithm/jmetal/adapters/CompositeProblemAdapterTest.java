@@ -0,0 +1,119 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.JMetalFactory;
+import org.moeaframework.algorithm.jmetal.mocks.MockMixedProblem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.TypedProperties;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.CompositeCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.CompositeMutation;
+import org.uma.jmetal.solution.compositesolution.CompositeSolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+
+public class CompositeProblemAdapterTest {
+	
+	@Test
+	public void testSegments() {
+		CompositeProblemAdapter adapter = new CompositeProblemAdapter(new MockMixedProblem());
+		
+		Assert.assertEquals(4, adapter.numberOfVariables());
+		Assert.assertTrue(adapter.getSegments().get(0) instanceof DoubleProblemAdapter);
+		Assert.assertTrue(adapter.getSegments().get(1) instanceof IntegerProblemAdapter);
+		Assert.assertTrue(adapter.getSegments().get(2) instanceof BinaryProblemAdapter);
+		Assert.assertTrue(adapter.getSegments().get(3) instanceof PermutationProblemAdapter);
+		
+		Assert.assertArrayEquals(new int[] { 0, 2 }, adapter.getVariableIndices(0));
+		Assert.assertArrayEquals(new int[] { 1 }, adapter.getVariableIndices(1));
+		Assert.assertArrayEquals(new int[] { 3 }, adapter.getVariableIndices(2));
+		Assert.assertArrayEquals(new int[] { 4 }, adapter.getVariableIndices(3));
+	}
+	
+	@Test
+	public void testConvert() {
+		CompositeProblemAdapter adapter = new CompositeProblemAdapter(new MockMixedProblem());
+		
+		CompositeSolution theirSolution = adapter.createSolution();
+		Solution mySolution = adapter.convert(theirSolution);
+		
+		DoubleSolution reals = (DoubleSolution)theirSolution.variables().get(0);
+		IntegerSolution integers = (IntegerSolution)theirSolution.variables().get(1);
+		PackedBinarySolution binary = (PackedBinarySolution)theirSolution.variables().get(2);
+		@SuppressWarnings("unchecked")
+		PermutationSolution<Integer> permutation = (PermutationSolution<Integer>)theirSolution.variables().get(3);
+		
+		Assert.assertEquals(reals.variables().get(0), RealVariable.getReal(mySolution.getVariable(0)), Settings.EPS);
+		Assert.assertEquals((int)integers.variables().get(0), BinaryIntegerVariable.getInt(mySolution.getVariable(1)));
+		Assert.assertEquals(reals.variables().get(1), RealVariable.getReal(mySolution.getVariable(2)), Settings.EPS);
+		Assert.assertTrue(binary.variables().get(0).equals(BinaryVariable.getBitSet(mySolution.getVariable(3))));
+		Assert.assertEquals(permutation.variables(),
+				Arrays.stream(Permutation.getPermutation(mySolution.getVariable(4))).boxed().toList());
+	}
+	
+	@Test
+	public void testEvaluate() {
+		MockMixedProblem problem = new MockMixedProblem();
+		CompositeProblemAdapter adapter = new CompositeProblemAdapter(problem);
+		
+		CompositeSolution theirSolution = adapter.createSolution();
+		adapter.evaluate(theirSolution);
+		
+		Solution mySolution = adapter.convert(theirSolution);
+		problem.evaluate(mySolution);
+		
+		Assert.assertArrayEquals(mySolution.getObjectiveValues(), theirSolution.objectives(), Settings.EPS);
+	}
+	
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testOperators() {
+		CompositeProblemAdapter adapter = new CompositeProblemAdapter(new MockMixedProblem());
+		CrossoverOperator crossover = JMetalFactory.getInstance().createCrossoverOperator(adapter,
+				new TypedProperties());
+		MutationOperator mutation = JMetalFactory.getInstance().createMutationOperator(adapter,
+				new TypedProperties());
+		
+		Assert.assertTrue(crossover instanceof CompositeCrossover);
+		Assert.assertTrue(mutation instanceof CompositeMutation);
+		Assert.assertEquals(4, ((CompositeCrossover)crossover).getOperators().size());
+		Assert.assertEquals(4, ((CompositeMutation)mutation).getOperators().size());
+		
+		List<CompositeSolution> offspring = (List<CompositeSolution>)crossover.execute(List.of(
+				adapter.createSolution(), adapter.createSolution()));
+		
+		for (CompositeSolution solution : offspring) {
+			mutation.execute(solution);
+			adapter.convert(solution);
+		}
+	}
+
+}
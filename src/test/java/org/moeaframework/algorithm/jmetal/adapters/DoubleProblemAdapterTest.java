@@ -23,6 +23,9 @@ import org.moeaframework.algorithm.jmetal.mocks.MockRealProblem;
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.Problem;
+import org.moeaframework.problem.jmetal.JMetalProblems;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 
 public class DoubleProblemAdapterTest {
@@ -54,5 +57,38 @@ public class DoubleProblemAdapterTest {
 					Settings.EPS);
 		}
 	}
+	
+	@Test
+	public void testConvertSharesVariables() {
+		MockRealProblem problem = new MockRealProblem();
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(problem);
+		
+		DoubleSolution theirSolution = adapter.createSolution();
+		Solution mySolution = adapter.convert(theirSolution);
+		
+		RealVariable.setReal(mySolution.getVariable(0), 0.5);
+		Assert.assertEquals(0.5, theirSolution.variables().get(0), Settings.EPS);
+		
+		theirSolution.variables().set(0, 0.25);
+		Assert.assertEquals(0.25, RealVariable.getReal(mySolution.getVariable(0)), Settings.EPS);
+		
+		Solution copy = mySolution.copy();
+		theirSolution.variables().set(0, 0.75);
+		Assert.assertEquals(0.25, RealVariable.getReal(copy.getVariable(0)), Settings.EPS);
+	}
+	
+	@Test
+	public void testInnerProblem() {
+		Problem problem = new JMetalProblems().getProblem("ZDT1-JMetal");
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(problem, new ZDT1());
+		
+		DoubleSolution theirSolution = adapter.createSolution();
+		adapter.evaluate(theirSolution);
+		
+		Solution mySolution = adapter.convert(theirSolution);
+		problem.evaluate(mySolution);
+		
+		Assert.assertArrayEquals(mySolution.getObjectiveValues(), theirSolution.objectives(), Settings.EPS);
+	}
 
 }
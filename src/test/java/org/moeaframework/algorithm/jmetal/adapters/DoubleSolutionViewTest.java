@@ -0,0 +1,59 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.mocks.MockRealProblem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVariable;
+
+public class DoubleSolutionViewTest {
+	
+	@Test
+	public void testWriteThrough() {
+		Solution solution = new MockRealProblem().newSolution();
+		DoubleSolutionView view = new DoubleSolutionView(solution);
+		
+		view.variables().set(0, 0.25);
+		Assert.assertEquals(0.25, RealVariable.getReal(solution.getVariable(0)), Settings.EPS);
+		
+		RealVariable.setReal(solution.getVariable(0), 0.75);
+		Assert.assertEquals(0.75, view.variables().get(0), Settings.EPS);
+		
+		Assert.assertEquals(0.0, view.getBounds(0).getLowerBound(), Settings.EPS);
+		Assert.assertEquals(1.0, view.getBounds(0).getUpperBound(), Settings.EPS);
+	}
+	
+	@Test
+	public void testCopy() {
+		Solution solution = new MockRealProblem().newSolution();
+		DoubleSolutionView view = new DoubleSolutionView(solution);
+		view.variables().set(0, 0.25);
+		view.objectives()[0] = 5.0;
+		
+		DoubleSolutionView copy = view.copy();
+		copy.variables().set(0, 0.75);
+		
+		Assert.assertEquals(0.25, view.variables().get(0), Settings.EPS);
+		Assert.assertEquals(0.75, copy.variables().get(0), Settings.EPS);
+		Assert.assertEquals(5.0, copy.objectives()[0], Settings.EPS);
+	}
+
+}
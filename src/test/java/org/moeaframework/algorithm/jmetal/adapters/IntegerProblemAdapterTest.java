@@ -0,0 +1,92 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.mocks.MockIntegerProblem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.uma.jmetal.operator.crossover.impl.IntegerSBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.IntegerPolynomialMutation;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+
+public class IntegerProblemAdapterTest {
+	
+	@Test
+	public void testBounds() {
+		IntegerProblemAdapter adapter = new IntegerProblemAdapter(new MockIntegerProblem());
+		
+		Assert.assertEquals(3, adapter.numberOfVariables());
+		
+		for (int i = 0; i < adapter.numberOfVariables(); i++) {
+			Assert.assertEquals(-5, adapter.getLowerBound(i));
+			Assert.assertEquals(10, adapter.getUpperBound(i));
+			Assert.assertEquals(-5, (int)adapter.variableBounds().get(i).getLowerBound());
+			Assert.assertEquals(10, (int)adapter.variableBounds().get(i).getUpperBound());
+		}
+	}
+	
+	@Test
+	public void testConvert() {
+		IntegerProblemAdapter adapter = new IntegerProblemAdapter(new MockIntegerProblem());
+		
+		ArrayIntegerSolution theirSolution = adapter.createSolution();
+		Solution mySolution = adapter.convert(theirSolution);
+		
+		Assert.assertArrayEquals(theirSolution.getValues(), BinaryIntegerVariable.getInt(mySolution));
+	}
+	
+	@Test
+	public void testEvaluate() {
+		IntegerProblemAdapter adapter = new IntegerProblemAdapter(new MockIntegerProblem());
+		
+		ArrayIntegerSolution solution = adapter.createSolution();
+		solution.setValue(0, -5);
+		solution.setValue(1, 3);
+		solution.setValue(2, 10);
+		adapter.evaluate(solution);
+		
+		Assert.assertArrayEquals(new double[] { 8.0, -8.0 }, solution.objectives(), 0.0);
+	}
+	
+	@Test
+	public void testOperators() {
+		IntegerProblemAdapter adapter = new IntegerProblemAdapter(new MockIntegerProblem());
+		IntegerSBXCrossover crossover = new IntegerSBXCrossover(1.0, 15.0);
+		IntegerPolynomialMutation mutation = new IntegerPolynomialMutation(1.0, 20.0);
+		
+		for (int i = 0; i < 100; i++) {
+			List<IntegerSolution> offspring = crossover.execute(List.of(adapter.createSolution(),
+					adapter.createSolution()));
+			
+			for (IntegerSolution solution : offspring) {
+				mutation.execute(solution);
+				Assert.assertTrue(solution instanceof ArrayIntegerSolution);
+				
+				for (int j = 0; j < adapter.numberOfVariables(); j++) {
+					Assert.assertTrue(solution.variables().get(j) >= adapter.getLowerBound(j));
+					Assert.assertTrue(solution.variables().get(j) <= adapter.getUpperBound(j));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,194 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+public class PackedBinarySetTest {
+	
+	private static final int SIZE = 150;
+	
+	private static final int OFFSET = 2;
+	
+	@Test
+	public void testSingleBitOperations() {
+		Random random = new Random(1234);
+		long[] words = new long[OFFSET + PackedBinarySet.wordsFor(SIZE) + 1];
+		PackedBinarySet packed = new PackedBinarySet(words, OFFSET, SIZE);
+		BitSet expected = new BitSet(SIZE);
+		
+		for (int i = 0; i < 1000; i++) {
+			int index = random.nextInt(SIZE);
+			
+			switch (random.nextInt(3)) {
+			case 0 -> { packed.set(index); expected.set(index); }
+			case 1 -> { packed.clear(index); expected.clear(index); }
+			default -> { packed.flip(index); expected.flip(index); }
+			}
+			
+			assertSame(expected, packed);
+		}
+		
+		Assert.assertEquals(0, words[0]);
+		Assert.assertEquals(0, words[1]);
+		Assert.assertEquals(0, words[words.length - 1]);
+	}
+	
+	@Test
+	public void testRangeOperations() {
+		Random random = new Random(1234);
+		PackedBinarySet packed = new PackedBinarySet(new long[PackedBinarySet.wordsFor(SIZE)], 0, SIZE);
+		BitSet expected = new BitSet(SIZE);
+		
+		for (int i = 0; i < 1000; i++) {
+			int from = random.nextInt(SIZE + 1);
+			int to = from + random.nextInt(SIZE + 1 - from);
+			
+			switch (random.nextInt(3)) {
+			case 0 -> { packed.set(from, to); expected.set(from, to); }
+			case 1 -> { packed.clear(from, to); expected.clear(from, to); }
+			default -> { packed.flip(from, to); expected.flip(from, to); }
+			}
+			
+			assertSame(expected, packed);
+			Assert.assertEquals(expected.get(from, to), packed.get(from, to));
+		}
+	}
+	
+	@Test
+	public void testBulkOperations() {
+		Random random = new Random(1234);
+		long[] words = new long[2 * PackedBinarySet.wordsFor(SIZE)];
+		PackedBinarySet packed = new PackedBinarySet(words, 0, SIZE);
+		PackedBinarySet other = new PackedBinarySet(words, PackedBinarySet.wordsFor(SIZE), SIZE);
+		BitSet expected = new BitSet(SIZE);
+		
+		for (int i = 0; i < 100; i++) {
+			BitSet argument = random(random, SIZE + 10);
+			other.copyFrom(argument);
+			BitSet truncated = argument.get(0, SIZE);
+			
+			BitSet operand = random.nextBoolean() ? other : argument;
+			
+			switch (random.nextInt(4)) {
+			case 0 -> { packed.and(operand); expected.and(truncated); }
+			case 1 -> { packed.or(operand); expected.or(truncated); }
+			case 2 -> { packed.xor(operand); expected.xor(truncated); }
+			default -> { packed.andNot(operand); expected.andNot(truncated); }
+			}
+			
+			assertSame(expected, packed);
+			Assert.assertEquals(expected.intersects(truncated), packed.intersects(other));
+		}
+	}
+	
+	@Test
+	public void testCopy() {
+		PackedBinarySet packed = new PackedBinarySet(new long[PackedBinarySet.wordsFor(SIZE)], 0, SIZE);
+		packed.set(3);
+		packed.set(100);
+		
+		BinarySet copy = (BinarySet)packed.clone();
+		Assert.assertFalse(copy instanceof PackedBinarySet);
+		Assert.assertEquals(SIZE, copy.getBinarySetLength());
+		Assert.assertEquals(packed.toString(), copy.toString());
+		
+		copy.clear(3);
+		Assert.assertTrue(packed.get(3));
+	}
+	
+	@Test
+	public void testEquals() {
+		PackedBinarySet packed = new PackedBinarySet(new long[2 * PackedBinarySet.wordsFor(SIZE)], 1, SIZE);
+		packed.set(3);
+		packed.set(100);
+		
+		BitSet bitSet = new BitSet();
+		bitSet.set(3);
+		bitSet.set(100);
+		
+		BinarySet binarySet = new BinarySet(SIZE + 100);
+		binarySet.or(bitSet);
+		
+		BinaryVariable variable = new BinaryVariable(SIZE);
+		variable.set(3, true);
+		variable.set(100, true);
+		BinarySetView view = new BinarySetView(variable);
+		
+		PackedBinarySet shorter = new PackedBinarySet(new long[PackedBinarySet.wordsFor(101)], 0, 101);
+		shorter.or(bitSet);
+		
+		for (BitSet other : new BitSet[] { bitSet, binarySet, view, shorter }) {
+			Assert.assertTrue(packed.equals(other));
+			Assert.assertEquals(other.hashCode(), packed.hashCode());
+		}
+		
+		Assert.assertTrue(view.equals(packed));
+		Assert.assertTrue(shorter.equals(packed));
+		
+		variable.set(3, false);
+		shorter.set(0);
+		bitSet.set(SIZE);
+		
+		for (BitSet other : new BitSet[] { bitSet, view, shorter }) {
+			Assert.assertFalse(packed.equals(other));
+		}
+		
+		Assert.assertFalse(view.equals(packed));
+		Assert.assertFalse(packed.equals(null));
+	}
+	
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testSetOutOfBounds() {
+		new PackedBinarySet(new long[PackedBinarySet.wordsFor(SIZE)], 0, SIZE).set(SIZE);
+	}
+	
+	private static BitSet random(Random random, int size) {
+		BitSet result = new BitSet(size);
+		
+		for (int i = 0; i < size; i++) {
+			result.set(i, random.nextBoolean());
+		}
+		
+		return result;
+	}
+	
+	private static void assertSame(BitSet expected, PackedBinarySet actual) {
+		Assert.assertTrue(actual.equals(expected));
+		Assert.assertEquals(expected.hashCode(), actual.hashCode());
+		Assert.assertEquals(expected.cardinality(), actual.cardinality());
+		Assert.assertEquals(expected.isEmpty(), actual.isEmpty());
+		Assert.assertEquals(expected.length(), actual.length());
+		Assert.assertArrayEquals(expected.toLongArray(), actual.toLongArray());
+		
+		for (int i = 0; i < SIZE; i++) {
+			Assert.assertEquals(expected.get(i), actual.get(i));
+			Assert.assertEquals(expected.nextSetBit(i), actual.nextSetBit(i));
+			Assert.assertEquals(Math.min(expected.nextClearBit(i), SIZE), actual.nextClearBit(i));
+			Assert.assertEquals(expected.previousSetBit(i), actual.previousSetBit(i));
+			Assert.assertEquals(expected.previousClearBit(i), actual.previousClearBit(i));
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.operator.crossover.impl.HUXCrossover;
+import org.uma.jmetal.operator.crossover.impl.SinglePointCrossover;
+import org.uma.jmetal.operator.mutation.impl.BitFlipMutation;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+public class PackedBinarySolutionTest {
+	
+	private static final PackedBinarySolution.Layout LAYOUT = new PackedBinarySolution.Layout(List.of(10, 64, 100));
+	
+	@Test
+	public void testLayout() {
+		Assert.assertEquals(3, LAYOUT.getNumberOfVariables());
+		Assert.assertEquals(174, LAYOUT.getTotalNumberOfBits());
+		Assert.assertEquals(0, LAYOUT.getOffset(0));
+		Assert.assertEquals(1, LAYOUT.getOffset(1));
+		Assert.assertEquals(2, LAYOUT.getOffset(2));
+		Assert.assertEquals(4, LAYOUT.getTotalNumberOfWords());
+		
+		PackedBinarySolution solution = new PackedBinarySolution(LAYOUT, 2, 0);
+		Assert.assertEquals(List.of(10, 64, 100), solution.numberOfBitsPerVariable());
+		Assert.assertEquals(174, solution.totalNumberOfBits());
+		Assert.assertEquals(4, solution.getWords().length);
+		
+		for (int i = 0; i < LAYOUT.getNumberOfVariables(); i++) {
+			Assert.assertEquals(LAYOUT.getNumberOfBits(i), solution.variables().get(i).getBinarySetLength());
+		}
+	}
+	
+	@Test
+	public void testCopy() {
+		PackedBinarySolution solution = new PackedBinarySolution(LAYOUT, 2, 0);
+		solution.objectives()[0] = 1.0;
+		
+		PackedBinarySolution copy = solution.copy();
+		Assert.assertEquals(solution, copy);
+		Assert.assertEquals(solution.hashCode(), copy.hashCode());
+		Assert.assertEquals(solution.variables(), copy.variables());
+		Assert.assertEquals(1.0, copy.objectives()[0], 0.0);
+		
+		copy.variables().get(2).flip(99);
+		Assert.assertNotEquals(solution.variables().get(2).get(99), copy.variables().get(2).get(99));
+		Assert.assertNotEquals(solution, copy);
+	}
+	
+	@Test
+	public void testSetVariable() {
+		PackedBinarySolution solution = new PackedBinarySolution(LAYOUT, 2, 0);
+		BinarySet view = solution.variables().get(1);
+		BinarySet original = (BinarySet)view.clone();
+		BinarySet bits = new BinarySet(64);
+		bits.set(0, 64);
+		
+		BinarySet oldValue = solution.variables().set(1, bits);
+		Assert.assertNotSame(view, oldValue);
+		Assert.assertEquals(original, oldValue);
+		Assert.assertSame(view, solution.variables().get(1));
+		Assert.assertEquals(64, solution.variables().get(1).cardinality());
+		Assert.assertEquals(-1L, solution.getWords()[1]);
+	}
+	
+	@Test
+	public void testOperators() {
+		SinglePointCrossover<BinarySolution> singlePoint = new SinglePointCrossover<BinarySolution>(1.0);
+		HUXCrossover<BinarySolution> hux = new HUXCrossover<BinarySolution>(1.0);
+		BitFlipMutation<BinarySolution> mutation = new BitFlipMutation<BinarySolution>(0.1);
+		
+		for (int i = 0; i < 100; i++) {
+			PackedBinarySolution parent1 = new PackedBinarySolution(LAYOUT, 2, 0);
+			PackedBinarySolution parent2 = new PackedBinarySolution(LAYOUT, 2, 0);
+			
+			List<BinarySolution> offspring = singlePoint.execute(List.of(parent1, parent2));
+			offspring = hux.execute(offspring);
+			
+			for (BinarySolution solution : offspring) {
+				mutation.execute(solution);
+				Assert.assertTrue(solution instanceof PackedBinarySolution);
+				
+				long[] words = ((PackedBinarySolution)solution).getWords();
+				Assert.assertEquals(0L, words[0] >>> 10);
+				Assert.assertEquals(0L, words[3] >>> 36);
+			}
+			
+			// the total number of ones at each position is preserved by crossover alone
+			List<BinarySolution> children = singlePoint.execute(List.of(parent1, parent2));
+			
+			for (int j = 0; j < LAYOUT.getNumberOfVariables(); j++) {
+				Assert.assertEquals(parent1.variables().get(j).cardinality() + parent2.variables().get(j).cardinality(),
+						children.get(0).variables().get(j).cardinality() + children.get(1).variables().get(j).cardinality());
+			}
+		}
+	}
+
+}
@@ -19,7 +19,9 @@ package org.moeaframework.algorithm.jmetal.adapters;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.mocks.MockDeltaPermutationProblem;
 import org.moeaframework.algorithm.jmetal.mocks.MockPermutationProblem;
+import org.moeaframework.algorithm.jmetal.operators.ArrayPermutationSwapMutation;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.variable.Permutation;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
@@ -53,5 +55,45 @@ public class PermutationProblemAdapterTest {
 			Assert.assertEquals(theirPermutation[i], myPermutation[i]);
 		}
 	}
+	
+	@Test
+	public void testDeltaEvaluation() {
+		MockDeltaPermutationProblem problem = new MockDeltaPermutationProblem();
+		PermutationProblemAdapter adapter = new PermutationProblemAdapter(problem);
+		ArrayPermutationSwapMutation mutation = new ArrayPermutationSwapMutation(1.0);
+		
+		ArrayPermutationSolution solution = adapter.createSolution();
+		adapter.evaluate(solution);
+		Assert.assertEquals(1, problem.fullEvaluations);
+		
+		for (int i = 0; i < 100; i++) {
+			ArrayPermutationSolution offspring = solution.copy();
+			mutation.execute(offspring);
+			adapter.evaluate(offspring);
+			
+			Solution expected = adapter.convert(offspring);
+			new MockPermutationProblem().evaluate(expected);
+			Assert.assertEquals(expected.getObjectiveValue(0), offspring.objectives()[0], 0.0);
+			
+			solution = offspring;
+		}
+		
+		Assert.assertEquals(1, problem.fullEvaluations);
+		Assert.assertEquals(100, problem.deltaEvaluations);
+		
+		// unchanged solutions are not re-evaluated, while other modifications require a full evaluation
+		adapter.evaluate(solution.copy());
+		Assert.assertEquals(1, problem.fullEvaluations);
+		
+		ArrayPermutationSolution modified = solution.copy();
+		modified.swap(0, 1);
+		modified.swap(2, 3);
+		adapter.evaluate(modified);
+		Assert.assertEquals(2, problem.fullEvaluations);
+		
+		modified.variables().set(0, modified.variables().set(1, modified.variables().get(0)));
+		adapter.evaluate(modified);
+		Assert.assertEquals(3, problem.fullEvaluations);
+	}
 
 }
@@ -17,6 +17,8 @@
  */
 package org.moeaframework.algorithm.jmetal.adapters;
 
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.algorithm.jmetal.mocks.MockConstraintProblem;
@@ -71,5 +73,23 @@ public class ProblemAdapterTest {
 		Assert.assertEquals(problem.getNumberOfObjectives(), solution.objectives().length);
 		Assert.assertEquals(5.0, solution.objectives()[0], Settings.EPS);
 	}
+	
+	@Test
+	public void testReleaseDiscarded() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new MockConstraintProblem());
+		List<DoubleSolution> candidates = List.of(adapter.createSolution(), adapter.createSolution(),
+				adapter.createSolution());
+		
+		adapter.releaseDiscarded(candidates, List.of(candidates.get(1)));
+		Assert.assertNull(adapter.getSolutionPool());
+		
+		adapter.setSolutionPool(new SolutionPool<DoubleSolution>(10));
+		adapter.releaseDiscarded(candidates, List.of(candidates.get(1)));
+		
+		Assert.assertEquals(2, adapter.getSolutionPool().size());
+		Assert.assertSame(candidates.get(2), adapter.createSolution());
+		Assert.assertSame(candidates.get(0), adapter.createSolution());
+		Assert.assertEquals(0, adapter.getSolutionPool().size());
+	}
 
 }
@@ -0,0 +1,150 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Settings;
+import org.moeaframework.algorithm.jmetal.mocks.MockBinaryProblem;
+import org.moeaframework.algorithm.jmetal.mocks.MockPermutationProblem;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+
+public class SolutionPoolTest {
+	
+	@Test
+	public void testCapacity() {
+		SolutionPool<Object> pool = new SolutionPool<Object>(2);
+		
+		Assert.assertNull(pool.acquire());
+		
+		pool.release(new Object());
+		pool.release(new Object());
+		pool.release(new Object());
+		Assert.assertEquals(2, pool.size());
+		
+		Assert.assertNotNull(pool.acquire());
+		Assert.assertEquals(1, pool.size());
+		
+		pool.clear();
+		Assert.assertEquals(0, pool.size());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new SolutionPool<Object>(0);
+	}
+	
+	@Test
+	public void testDisabled() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution solution = adapter.createSolution();
+		
+		adapter.release(solution);
+		
+		Assert.assertNull(adapter.getSolutionPool());
+		Assert.assertNotSame(solution, adapter.createSolution());
+		Assert.assertNotSame(solution, solution.copy());
+	}
+	
+	@Test
+	public void testCreateSolution() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		adapter.setSolutionPool(new SolutionPool<DoubleSolution>(10));
+		
+		ArrayDoubleSolution solution = adapter.createSolution();
+		solution.objectives()[0] = 1.0;
+		solution.attributes().put("foo", "bar");
+		adapter.release(solution);
+		
+		ArrayDoubleSolution recycled = adapter.createSolution();
+		Assert.assertSame(solution, recycled);
+		Assert.assertEquals(0.0, recycled.objectives()[0], Settings.EPS);
+		Assert.assertTrue(recycled.attributes().isEmpty());
+		
+		for (int i = 0; i < adapter.numberOfVariables(); i++) {
+			Assert.assertTrue(recycled.getValue(i) >= adapter.getLowerBound(i));
+			Assert.assertTrue(recycled.getValue(i) <= adapter.getUpperBound(i));
+		}
+	}
+	
+	@Test
+	public void testCopy() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		adapter.setSolutionPool(new SolutionPool<DoubleSolution>(10));
+		
+		ArrayDoubleSolution discarded = adapter.createSolution();
+		ArrayDoubleSolution solution = adapter.createSolution();
+		solution.objectives()[0] = 1.0;
+		solution.attributes().put("foo", "bar");
+		adapter.release(discarded);
+		
+		ArrayDoubleSolution copy = solution.copy();
+		Assert.assertSame(discarded, copy);
+		Assert.assertEquals(solution, copy);
+		Assert.assertEquals(1.0, copy.objectives()[0], Settings.EPS);
+		Assert.assertEquals("bar", copy.attributes().get("foo"));
+		Assert.assertSame(adapter.getSolutionPool(), copy.getSolutionPool());
+		
+		Assert.assertNotSame(solution, solution.copy());
+	}
+	
+	@Test
+	public void testBinary() {
+		BinaryProblemAdapter adapter = new BinaryProblemAdapter(new MockBinaryProblem());
+		adapter.setSolutionPool(new SolutionPool<BinarySolution>(10));
+		
+		PackedBinarySolution discarded = adapter.createSolution();
+		PackedBinarySolution solution = adapter.createSolution();
+		adapter.release(discarded);
+		
+		PackedBinarySolution copy = solution.copy();
+		Assert.assertSame(discarded, copy);
+		Assert.assertEquals(solution, copy);
+		
+		adapter.release(copy);
+		Assert.assertSame(discarded, adapter.createSolution());
+	}
+	
+	@Test
+	public void testPermutation() {
+		PermutationProblemAdapter adapter = new PermutationProblemAdapter(new MockPermutationProblem());
+		adapter.setSolutionPool(new SolutionPool<PermutationSolution<Integer>>(10));
+		
+		ArrayPermutationSolution discarded = adapter.createSolution();
+		ArrayPermutationSolution solution = adapter.createSolution();
+		solution.markEvaluated();
+		adapter.release(discarded);
+		
+		ArrayPermutationSolution copy = solution.copy();
+		Assert.assertSame(discarded, copy);
+		Assert.assertEquals(solution, copy);
+		Assert.assertTrue(copy.isEvaluated());
+		
+		adapter.release(copy);
+		ArrayPermutationSolution recycled = adapter.createSolution();
+		Assert.assertSame(discarded, recycled);
+		Assert.assertFalse(recycled.isEvaluated());
+		Assert.assertArrayEquals(IntStream.range(0, 10).toArray(), IntStream.of(recycled.getValues()).sorted().toArray());
+	}
+	
+}
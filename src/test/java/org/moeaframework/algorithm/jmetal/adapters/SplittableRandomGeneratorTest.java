@@ -0,0 +1,164 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.adapters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class SplittableRandomGeneratorTest {
+	
+	@Test
+	public void testSeed() {
+		SplittableRandomGenerator generator1 = new SplittableRandomGenerator(123);
+		SplittableRandomGenerator generator2 = new SplittableRandomGenerator(123);
+		
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(generator1.nextDouble(), generator2.nextDouble(), 0.0);
+			Assert.assertEquals(generator1.nextInt(0, 10), generator2.nextInt(0, 10));
+		}
+		
+		double[] expected = new double[10];
+		
+		generator1.setSeed(456);
+		
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = generator1.nextDouble();
+		}
+		
+		generator1.setSeed(456);
+		Assert.assertEquals(456, generator1.getSeed());
+		
+		for (int i = 0; i < expected.length; i++) {
+			Assert.assertEquals(expected[i], generator1.nextDouble(), 0.0);
+		}
+	}
+	
+	@Test
+	public void testBounds() {
+		SplittableRandomGenerator generator = new SplittableRandomGenerator(123);
+		boolean[] seen = new boolean[5];
+		
+		for (int i = 0; i < 1000; i++) {
+			double value = generator.nextDouble(-1.0, 2.0);
+			Assert.assertTrue(value >= -1.0 && value < 2.0);
+			
+			int index = generator.nextInt(0, 4);
+			seen[index] = true;
+		}
+		
+		for (boolean value : seen) {
+			Assert.assertTrue(value);
+		}
+		
+		Assert.assertEquals(Integer.MAX_VALUE, generator.nextInt(Integer.MAX_VALUE, Integer.MAX_VALUE));
+	}
+	
+	@Test
+	public void testBind() throws Exception {
+		SplittableRandomGenerator generator = new SplittableRandomGenerator(123);
+		double[] expected = new double[10];
+		
+		try (SplittableRandomGenerator.Scope scope = generator.bind(5)) {
+			for (int i = 0; i < expected.length; i++) {
+				expected[i] = generator.nextDouble();
+			}
+		}
+		
+		double[] actual = CompletableFuture.supplyAsync(() -> {
+			double[] values = new double[expected.length];
+			
+			try (SplittableRandomGenerator.Scope scope = generator.bind(5)) {
+				for (int i = 0; i < values.length; i++) {
+					values[i] = generator.nextDouble();
+				}
+			}
+			
+			return values;
+		}).get();
+		
+		Assert.assertArrayEquals(expected, actual, 0.0);
+		
+		try (SplittableRandomGenerator.Scope scope = generator.bind(6)) {
+			Assert.assertNotEquals(expected[0], generator.nextDouble(), 0.0);
+		}
+		
+		Assert.assertEquals(new SplittableRandomGenerator(123).nextDouble(), generator.nextDouble(), 0.0);
+	}
+	
+	@Test
+	public void testWithStreams() {
+		SplittableRandomGenerator generator = new SplittableRandomGenerator(123);
+		double[] expected = sample(generator, false);
+		
+		Assert.assertArrayEquals(expected, sample(new SplittableRandomGenerator(123), false), 0.0);
+		Assert.assertArrayEquals(expected, sample(new SplittableRandomGenerator(123), true), 0.0);
+	}
+	
+	@Test
+	public void testInstall() {
+		SplittableRandomGenerator fallback = new SplittableRandomGenerator(456);
+		SplittableRandomGenerator generator = new SplittableRandomGenerator(123);
+		
+		JMetalRandom.getInstance().setRandomGenerator(fallback);
+		SplittableRandomGenerator.install();
+		SplittableRandomGenerator.install();
+		
+		JMetalRandom random = JMetalRandom.getInstance();
+		Assert.assertNotSame(fallback, random.getRandomGenerator());
+		Assert.assertEquals(new SplittableRandomGenerator(456).nextDouble(), random.nextDouble(), 0.0);
+		
+		SplittableRandomGenerator expected = new SplittableRandomGenerator(123);
+		double expectedValue;
+		
+		try (SplittableRandomGenerator.Scope scope = expected.bind(0)) {
+			expectedValue = expected.nextDouble();
+		}
+		
+		try (SplittableRandomGenerator.Scope scope = generator.bind(0)) {
+			Assert.assertEquals(123, random.getSeed());
+			Assert.assertEquals(expectedValue, random.nextDouble(), 0.0);
+		}
+		
+		Assert.assertEquals(456, random.getSeed());
+	}
+	
+	/**
+	 * Draws one value per task from streams reserved by {@link SplittableRandomGenerator#withStreams}.
+	 * 
+	 * @param generator the generator bound to the calling thread
+	 * @param parallel {@code true} if the tasks are run in parallel
+	 * @return the values drawn by each task
+	 */
+	private double[] sample(SplittableRandomGenerator generator, boolean parallel) {
+		double[] values = new double[100];
+		
+		try (SplittableRandomGenerator.Scope scope = generator.bind(0)) {
+			IntStream range = IntStream.range(0, values.length);
+			
+			(parallel ? range.parallel() : range).forEach(SplittableRandomGenerator.withStreams(values.length,
+					i -> values[i] = generator.nextDouble() + SplittableRandomGenerator.nextGaussian()));
+		}
+		
+		return values;
+	}
+	
+}
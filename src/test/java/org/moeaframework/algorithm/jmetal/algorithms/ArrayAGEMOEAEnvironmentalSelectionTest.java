@@ -0,0 +1,96 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.agemoea.util.AGEMOEAEnvironmentalSelection;
+import org.uma.jmetal.algorithm.multiobjective.agemoeaii.util.AGEMOEA2EnvironmentalSelection;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+public class ArrayAGEMOEAEnvironmentalSelectionTest {
+	
+	@Test
+	public void testMatchesAGEMOEA() {
+		for (boolean parallel : new boolean[] { false, true }) {
+			Random random = new Random(42);
+			
+			for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+				List<DoubleSolution> expected = ArrayNSGAIIIEnvironmentalSelectionTest.createPopulation(random, 200,
+						numberOfObjectives);
+				List<DoubleSolution> actual = copy(expected);
+				
+				assertSameSelection(
+						new AGEMOEAEnvironmentalSelection<DoubleSolution>(numberOfObjectives).execute(expected, 100),
+						new ArrayAGEMOEAEnvironmentalSelection<DoubleSolution>(numberOfObjectives, createRanking(),
+								parallel).execute(actual, 100));
+			}
+		}
+	}
+	
+	@Test
+	public void testMatchesAGEMOEA2() {
+		for (boolean parallel : new boolean[] { false, true }) {
+			Random random = new Random(42);
+			
+			for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+				List<DoubleSolution> expected = ArrayNSGAIIIEnvironmentalSelectionTest.createPopulation(random, 200,
+						numberOfObjectives);
+				List<DoubleSolution> actual = copy(expected);
+				
+				assertSameSelection(
+						new AGEMOEA2EnvironmentalSelection<DoubleSolution>(numberOfObjectives).execute(expected, 100),
+						new ArrayAGEMOEA2EnvironmentalSelection<DoubleSolution>(numberOfObjectives, createRanking(),
+								parallel).execute(actual, 100));
+			}
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void assertSameSelection(List<?> expected, List<DoubleSolution> actual) {
+		String attributeId = AGEMOEAEnvironmentalSelection.getAttributeId();
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			DoubleSolution expectedSolution = ((List<DoubleSolution>)expected).get(i);
+			Assert.assertEquals(expectedSolution.variables(), actual.get(i).variables());
+			Assert.assertEquals(expectedSolution.attributes().get(attributeId), actual.get(i).attributes().get(attributeId));
+		}
+	}
+	
+	private FastNonDominatedSortRanking<DoubleSolution> createRanking() {
+		return new FastNonDominatedSortRanking<>(new DominanceWithConstraintsComparator<>());
+	}
+	
+	private List<DoubleSolution> copy(List<DoubleSolution> solutions) {
+		List<DoubleSolution> result = new ArrayList<>();
+		
+		for (DoubleSolution solution : solutions) {
+			result.add((DoubleSolution)solution.copy());
+		}
+		
+		return result;
+	}
+
+}
@@ -0,0 +1,108 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.ibea.IBEA;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.solutionattribute.impl.Fitness;
+
+public class ArrayIBEATest {
+	
+	@Test
+	public void testMatchesIBEA() {
+		testMatchesIBEA(false);
+	}
+	
+	@Test
+	public void testMatchesIBEAParallel() {
+		testMatchesIBEA(true);
+	}
+	
+	private void testMatchesIBEA(boolean parallel) {
+		Random random = new Random(42);
+		Fitness<DoubleSolution> fitness = new Fitness<>();
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+			DTLZ2 problem = new DTLZ2(numberOfObjectives + 4, numberOfObjectives);
+			IBEA<DoubleSolution> expectedAlgorithm = new IBEA<>(problem, 20, 20, 1000, null, null, null);
+			ArrayIBEA<DoubleSolution> actualAlgorithm = new ArrayIBEA<>(problem, 20, 20, 1000, null, null, null,
+					parallel);
+			
+			List<DoubleSolution> expected = createPopulation(random, 50, numberOfObjectives);
+			List<DoubleSolution> actual = new ArrayList<>();
+			
+			for (DoubleSolution solution : expected) {
+				actual.add((DoubleSolution)solution.copy());
+			}
+			
+			expectedAlgorithm.calculateFitness(expected);
+			actualAlgorithm.calculateFitness(actual);
+			assertSameFitness(fitness, expected, actual);
+			
+			while (expected.size() > 20) {
+				expectedAlgorithm.removeWorst(expected);
+				actualAlgorithm.removeWorst(actual);
+				assertSameFitness(fitness, expected, actual);
+			}
+		}
+	}
+	
+	private void assertSameFitness(Fitness<DoubleSolution> fitness, List<DoubleSolution> expected,
+			List<DoubleSolution> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i).variables(), actual.get(i).variables());
+			Assert.assertEquals(fitness.getAttribute(expected.get(i)), fitness.getAttribute(actual.get(i)), 0.0);
+		}
+	}
+	
+	/**
+	 * Creates solutions with random objectives, some of which are duplicated or infeasible, storing the index of each
+	 * solution in its decision variable so solutions can be identified after removal.
+	 */
+	private List<DoubleSolution> createPopulation(Random random, int size, int numberOfObjectives) {
+		List<DoubleSolution> population = new ArrayList<>();
+		
+		for (int i = 0; i < size; i++) {
+			DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, (double)size)),
+					numberOfObjectives, 1);
+			solution.variables().set(0, (double)i);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.objectives()[j] = i > 0 && random.nextInt(10) == 0 ?
+						population.get(i - 1).objectives()[j] : random.nextDouble();
+			}
+			
+			solution.constraints()[0] = random.nextInt(5) == 0 ? -random.nextDouble() : 0.0;
+			population.add(solution);
+		}
+		
+		return population;
+	}
+
+}
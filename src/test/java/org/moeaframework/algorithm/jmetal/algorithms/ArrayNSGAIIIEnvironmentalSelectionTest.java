@@ -0,0 +1,126 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.EnvironmentalSelection;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ReferencePoint;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+public class ArrayNSGAIIIEnvironmentalSelectionTest {
+	
+	@Test
+	public void testMatchesEnvironmentalSelection() {
+		testMatchesEnvironmentalSelection(false);
+	}
+	
+	@Test
+	public void testMatchesEnvironmentalSelectionParallel() {
+		testMatchesEnvironmentalSelection(true);
+	}
+	
+	private void testMatchesEnvironmentalSelection(boolean parallel) {
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+			List<ReferencePoint<DoubleSolution>> referencePoints = new ArrayList<>();
+			new ReferencePoint<DoubleSolution>().generateReferencePoints(referencePoints, numberOfObjectives, 4);
+			
+			int populationSize = referencePoints.size();
+			List<DoubleSolution> population = createPopulation(random, 2 * populationSize, numberOfObjectives);
+			Ranking<DoubleSolution> ranking = new FastNonDominatedSortRanking<DoubleSolution>().compute(population);
+			
+			List<List<DoubleSolution>> fronts = new ArrayList<>();
+			List<DoubleSolution> last = null;
+			int selected = 0;
+			
+			for (int rank = 0; selected < populationSize; rank++) {
+				last = ranking.getSubFront(rank);
+				fronts.add(last);
+				selected += last.size();
+			}
+			
+			int solutionsToSelect = last.size() - (selected - populationSize);
+			
+			JMetalRandom.getInstance().setSeed(123);
+			List<DoubleSolution> expected = new EnvironmentalSelection<>(fronts, solutionsToSelect,
+					copy(referencePoints), numberOfObjectives).execute(last);
+			
+			JMetalRandom.getInstance().setSeed(123);
+			List<DoubleSolution> actual = new ArrayNSGAIIIEnvironmentalSelection<>(fronts, solutionsToSelect,
+					copy(referencePoints), numberOfObjectives, parallel).execute(last);
+			
+			Assert.assertEquals(solutionsToSelect, actual.size());
+			Assert.assertEquals(expected.size(), actual.size());
+			
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertSame(expected.get(i), actual.get(i));
+			}
+		}
+	}
+	
+	private List<ReferencePoint<DoubleSolution>> copy(List<ReferencePoint<DoubleSolution>> referencePoints) {
+		List<ReferencePoint<DoubleSolution>> result = new ArrayList<>();
+		
+		for (ReferencePoint<DoubleSolution> referencePoint : referencePoints) {
+			result.add(new ReferencePoint<>(referencePoint));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Creates solutions with random objectives spread over several fronts.
+	 */
+	static List<DoubleSolution> createPopulation(Random random, int size, int numberOfObjectives) {
+		List<DoubleSolution> population = new ArrayList<>();
+		
+		for (int i = 0; i < size; i++) {
+			DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, (double)size)),
+					numberOfObjectives, 0);
+			solution.variables().set(0, (double)i);
+			
+			double sum = 0.0;
+			double scale = 1.0 + random.nextInt(3);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.objectives()[j] = random.nextDouble();
+				sum += solution.objectives()[j];
+			}
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.objectives()[j] *= scale / sum;
+			}
+			
+			population.add(solution);
+		}
+		
+		return population;
+	}
+
+}
@@ -0,0 +1,67 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.PackedBinarySet;
+import org.moeaframework.algorithm.jmetal.adapters.PackedBinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+
+public class PackedMOCHCTest {
+	
+	@Test
+	public void testHammingDistance() {
+		PackedBinarySolution.Layout layout = new PackedBinarySolution.Layout(List.of(10, 64, 100));
+		
+		for (int i = 0; i < 100; i++) {
+			PackedBinarySolution solution1 = new PackedBinarySolution(layout, 2, 0);
+			PackedBinarySolution solution2 = new PackedBinarySolution(layout, 2, 0);
+			DefaultBinarySolution copy1 = copy(solution1);
+			DefaultBinarySolution copy2 = copy(solution2);
+			
+			int expected = 0;
+			
+			for (int j = 0; j < layout.getNumberOfVariables(); j++) {
+				for (int k = 0; k < layout.getNumberOfBits(j); k++) {
+					if (solution1.variables().get(j).get(k) != solution2.variables().get(j).get(k)) {
+						expected++;
+					}
+				}
+			}
+			
+			Assert.assertEquals(expected, PackedMOCHC.hammingDistance(solution1, solution2));
+			Assert.assertEquals(expected, PackedMOCHC.hammingDistance(copy1, copy2));
+			Assert.assertEquals(expected, PackedMOCHC.hammingDistance(solution1, copy2));
+			Assert.assertEquals(expected, PackedMOCHC.hammingDistance(copy1, solution2));
+		}
+	}
+	
+	private DefaultBinarySolution copy(PackedBinarySolution solution) {
+		DefaultBinarySolution result = new DefaultBinarySolution(solution.numberOfBitsPerVariable(), 2);
+		
+		for (int i = 0; i < solution.variables().size(); i++) {
+			result.variables().set(i, ((PackedBinarySet)solution.variables().get(i)).toBinarySet());
+		}
+		
+		return result;
+	}
+
+}
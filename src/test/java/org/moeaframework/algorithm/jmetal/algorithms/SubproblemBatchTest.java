@@ -0,0 +1,91 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+public class SubproblemBatchTest {
+	
+	@Test
+	public void testConflicts() {
+		List<DoubleSolution> population = ArrayNSGAIIIEnvironmentalSelectionTest.createPopulation(new Random(123),
+				10, 2);
+		SubproblemBatch batch = new SubproblemBatch(population.size(), false);
+		
+		Assert.assertFalse(batch.conflicts(0, List.of(0, 1)));
+		
+		add(batch, population, 0, List.of(1, 2), new int[] { 0, 1, 2 });
+		
+		Assert.assertTrue(batch.conflicts(1, List.of(5, 6)));
+		Assert.assertTrue(batch.conflicts(5, List.of(6, 2)));
+		Assert.assertFalse(batch.conflicts(5, List.of(6, 7)));
+		
+		add(batch, population, 5, List.of(6, 7), null);
+		
+		Assert.assertTrue(batch.conflicts(8, List.of(9, 3)));
+	}
+	
+	@Test
+	public void testFlush() {
+		testFlush(false);
+	}
+	
+	@Test
+	public void testFlushParallel() {
+		testFlush(true);
+	}
+	
+	private void testFlush(boolean parallel) {
+		List<DoubleSolution> population = ArrayNSGAIIIEnvironmentalSelectionTest.createPopulation(new Random(123),
+				10, 2);
+		SubproblemBatch batch = new SubproblemBatch(population.size(), parallel);
+		
+		add(batch, population, 0, List.of(1, 2), new int[] { 0, 1, 2 });
+		add(batch, population, 5, List.of(6, 7), new int[] { 4, 5, 6 });
+		add(batch, population, 9, List.of(8, 3), null);
+		
+		List<Integer> order = new ArrayList<Integer>();
+		
+		batch.flush(new ZDT1(1), offspring -> {
+			order.add(offspring.getSubProblemId());
+			Assert.assertEquals(offspring.getChild().variables().get(0), offspring.getChild().objectives()[0], 0.0);
+			
+			int expectedSize = offspring.getSubProblemId() == 9 ? population.size() : 3;
+			Assert.assertEquals(expectedSize, offspring.size());
+		});
+		
+		Assert.assertEquals(List.of(0, 5, 9), order);
+		Assert.assertFalse(batch.conflicts(0, List.of(1, 2)));
+	}
+	
+	private void add(SubproblemBatch batch, List<DoubleSolution> population, int subProblemId,
+			List<Integer> matingPool, int[] neighbors) {
+		batch.add(population, subProblemId, matingPool, neighbors, new DifferentialEvolutionCrossover(),
+				new PolynomialMutation(1.0, 20.0));
+	}
+
+}
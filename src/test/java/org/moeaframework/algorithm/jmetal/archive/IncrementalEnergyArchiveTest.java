@@ -0,0 +1,113 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.EnergyArchive;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.EnergyArchive.ReplacementStrategy;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.ScalarizationWrapper;
+import org.uma.jmetal.algorithm.multiobjective.espea.util.ScalarizationWrapper.ScalarizationType;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+public class IncrementalEnergyArchiveTest {
+	
+	/**
+	 * The number of solutions created, which is stored in the decision variable since JMetal's archives identify
+	 * solutions using {@code equals}, which only compares the decision variables.
+	 */
+	private int count;
+	
+	@Test
+	public void testReplacementStrategies() {
+		for (ReplacementStrategy strategy : ReplacementStrategy.values()) {
+			test(2, ScalarizationType.UNIFORM, true, strategy);
+		}
+	}
+	
+	@Test
+	public void testScalarization() {
+		test(2, ScalarizationType.SUM_OF_OBJECTIVES, true, ReplacementStrategy.LARGEST_DIFFERENCE);
+		test(2, ScalarizationType.CHEBYSHEV, true, ReplacementStrategy.LARGEST_DIFFERENCE);
+	}
+	
+	@Test
+	public void testUnnormalized() {
+		test(2, ScalarizationType.UNIFORM, false, ReplacementStrategy.LARGEST_DIFFERENCE);
+		test(2, ScalarizationType.SUM_OF_OBJECTIVES, false, ReplacementStrategy.WORST_IN_ARCHIVE);
+	}
+	
+	@Test
+	public void testThreeObjectives() {
+		test(3, ScalarizationType.UNIFORM, true, ReplacementStrategy.LARGEST_DIFFERENCE);
+	}
+	
+	private void test(int numberOfObjectives, ScalarizationType scalarizationType, boolean normalizeObjectives,
+			ReplacementStrategy strategy) {
+		Random random = new Random(42);
+		ScalarizationWrapper scalarization = new ScalarizationWrapper(scalarizationType);
+		EnergyArchive<DoubleSolution> expected = new EnergyArchive<>(30, scalarization, normalizeObjectives, strategy);
+		IncrementalEnergyArchive<DoubleSolution> actual = new IncrementalEnergyArchive<>(30, scalarization,
+				normalizeObjectives, strategy);
+		
+		for (int i = 0; i < 2000; i++) {
+			DoubleSolution solution = createSolution(random, numberOfObjectives);
+			Assert.assertEquals(expected.add(solution), actual.add((DoubleSolution)solution.copy()));
+			assertSameObjectives(expected.solutions(), actual.solutions());
+		}
+	}
+	
+	/**
+	 * Creates a solution near the unit sphere, so many solutions are non-dominated, that occasionally dominates
+	 * solutions closer to the sphere.
+	 */
+	private DoubleSolution createSolution(Random random, int numberOfObjectives) {
+		DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, Double.MAX_VALUE)),
+				numberOfObjectives, 0);
+		solution.variables().set(0, (double)count++);
+		
+		double norm = 0.0;
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			solution.objectives()[i] = Math.abs(random.nextGaussian());
+			norm += solution.objectives()[i] * solution.objectives()[i];
+		}
+		
+		double scale = (1.0 + 0.1 * random.nextDouble()) / Math.sqrt(norm);
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			solution.objectives()[i] *= scale;
+		}
+		
+		return solution;
+	}
+	
+	private void assertSameObjectives(List<DoubleSolution> expected, List<DoubleSolution> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(expected.get(i).objectives(), actual.get(i).objectives(), 0.0);
+		}
+	}
+
+}
@@ -0,0 +1,211 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+
+public class NDTreeArchiveTest {
+	
+	/**
+	 * The number of solutions created, which is stored in the decision variable since JMetal's archives identify
+	 * solutions using {@code equals}, which only compares the decision variables.
+	 */
+	private int count;
+	
+	@Test
+	public void testUnbounded() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+			Random random = new Random(42);
+			NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(Integer.MAX_VALUE, 2);
+			NonDominatedSolutionListArchive<DoubleSolution> expected = new NonDominatedSolutionListArchive<>(
+					new DefaultDominanceComparator<>());
+			
+			for (int i = 0; i < 2000; i++) {
+				DoubleSolution solution = createGridSolution(random, numberOfObjectives);
+				Assert.assertEquals(expected.add(solution), archive.add(solution));
+			}
+			
+			assertSameSolutions(expected.solutions(), archive.solutions());
+		}
+	}
+	
+	@Test
+	public void testBounded() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+			Random random = new Random(42);
+			NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(50, 4);
+			CrowdingDistanceArchive<DoubleSolution> expected = new CrowdingDistanceArchive<>(50);
+			
+			for (int i = 0; i < 2000; i++) {
+				DoubleSolution solution = createFrontSolution(random, numberOfObjectives);
+				Assert.assertEquals(expected.add(solution), archive.add(solution));
+				assertSameSolutions(expected.solutions(), archive.solutions());
+			}
+			
+			Assert.assertEquals(50, archive.size());
+			assertSameSolutions(expected.solutions(), archive.solutions());
+		}
+	}
+	
+	@Test
+	public void testConstrained() {
+		Random random = new Random(42);
+		NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(50, 4);
+		CrowdingDistanceArchive<DoubleSolution> expected = new CrowdingDistanceArchive<>(50,
+				new DominanceWithConstraintsComparator<>());
+		
+		for (int i = 0; i < 2000; i++) {
+			DoubleSolution solution = createFrontSolution(random, 2, 1);
+			solution.constraints()[0] = random.nextInt(2000) < i ? 0.0 : -random.nextInt(1, 6);
+			
+			Assert.assertEquals(expected.add(solution), archive.add(solution));
+			assertSameSolutions(expected.solutions(), archive.solutions());
+		}
+		
+		Assert.assertTrue(archive.solutions().stream().allMatch(ConstraintHandling::isFeasible));
+	}
+	
+	@Test
+	public void testDensityEstimator() {
+		Random random = new Random(42);
+		NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(100);
+		CrowdingDistanceDensityEstimator<DoubleSolution> estimator = new CrowdingDistanceDensityEstimator<>();
+		
+		for (int i = 0; i < 500; i++) {
+			archive.add(createFrontSolution(random, 3));
+		}
+		
+		archive.computeDensityEstimator();
+		
+		List<DoubleSolution> solutions = List.copyOf(archive.solutions());
+		double[] actual = solutions.stream().mapToDouble(estimator::value).toArray();
+		
+		estimator.compute(solutions);
+		Assert.assertArrayEquals(solutions.stream().mapToDouble(estimator::value).toArray(), actual, 1e-12);
+	}
+	
+	@Test
+	public void testReorderSolutions() {
+		Random random = new Random(42);
+		NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(50);
+		
+		for (int i = 0; i < 1000; i++) {
+			archive.add(createFrontSolution(random, 2));
+			
+			if (i % 10 == 0) {
+				archive.computeDensityEstimator();
+				archive.solutions().sort(archive.comparator());
+			}
+		}
+		
+		Set<DoubleSolution> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		for (int i = 0; i < archive.size(); i++) {
+			Assert.assertSame(archive.get(i), archive.solutions().get(i));
+			unique.add(archive.get(i));
+		}
+		
+		Assert.assertEquals(archive.size(), unique.size());
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSolutionsAreNotModifiable() {
+		NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(50);
+		archive.solutions().add(createFrontSolution(new Random(42), 2));
+	}
+	
+	/**
+	 * Creates a solution with objective values on a coarse grid, producing many ties and duplicates.
+	 */
+	private DoubleSolution createGridSolution(Random random, int numberOfObjectives) {
+		DoubleSolution solution = createSolution(numberOfObjectives);
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			solution.objectives()[i] = random.nextInt(20);
+		}
+		
+		return solution;
+	}
+	
+	/**
+	 * Creates a solution near the unit sphere, so many solutions are non-dominated.
+	 */
+	private DoubleSolution createFrontSolution(Random random, int numberOfObjectives) {
+		return createFrontSolution(random, numberOfObjectives, 0);
+	}
+	
+	/**
+	 * Creates a solution near the unit sphere with the given number of constraints, which are initially satisfied.
+	 */
+	private DoubleSolution createFrontSolution(Random random, int numberOfObjectives, int numberOfConstraints) {
+		DoubleSolution solution = createSolution(numberOfObjectives, numberOfConstraints);
+		double norm = 0.0;
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			solution.objectives()[i] = Math.abs(random.nextGaussian());
+			norm += solution.objectives()[i] * solution.objectives()[i];
+		}
+		
+		double scale = (1.0 + 0.1 * random.nextDouble()) / Math.sqrt(norm);
+		
+		for (int i = 0; i < numberOfObjectives; i++) {
+			solution.objectives()[i] *= scale;
+		}
+		
+		return solution;
+	}
+	
+	private DoubleSolution createSolution(int numberOfObjectives) {
+		return createSolution(numberOfObjectives, 0);
+	}
+	
+	private DoubleSolution createSolution(int numberOfObjectives, int numberOfConstraints) {
+		DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, Double.MAX_VALUE)),
+				numberOfObjectives, numberOfConstraints);
+		solution.variables().set(0, (double)count++);
+		return solution;
+	}
+	
+	private void assertSameSolutions(List<DoubleSolution> expected, List<DoubleSolution> actual) {
+		Set<DoubleSolution> expectedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<DoubleSolution> actualSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		expectedSet.addAll(expected);
+		actualSet.addAll(actual);
+		
+		Assert.assertEquals(expected.size(), actual.size());
+		Assert.assertEquals(expectedSet, actualSet);
+	}
+
+}
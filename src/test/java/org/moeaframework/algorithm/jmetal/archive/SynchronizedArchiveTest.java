@@ -0,0 +1,75 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.archive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.bounds.Bounds;
+
+public class SynchronizedArchiveTest {
+	
+	@Test
+	public void testConcurrentAdd() {
+		List<DoubleSolution> solutions = new ArrayList<>();
+		
+		for (int i = 0; i < 2000; i++) {
+			solutions.add(createSolution(i, i / 2000.0));
+		}
+		
+		SynchronizedArchive<DoubleSolution> archive = new SynchronizedArchive<>(
+				new CrowdingDistanceArchive<>(solutions.size()));
+		
+		IntStream.range(0, solutions.size()).parallel().forEach(i -> archive.add(solutions.get(i)));
+		
+		Assert.assertEquals(solutions.size(), archive.size());
+		Assert.assertEquals(solutions.size(), archive.getArchive().size());
+	}
+	
+	@Test
+	public void testSnapshot() {
+		SynchronizedArchive<DoubleSolution> archive = new SynchronizedArchive<>(new CrowdingDistanceArchive<>(10));
+		archive.add(createSolution(0, 0.25));
+		
+		List<DoubleSolution> snapshot = archive.solutions();
+		archive.add(createSolution(1, 0.75));
+		
+		Assert.assertEquals(1, snapshot.size());
+		Assert.assertEquals(2, archive.size());
+		Assert.assertEquals(2, (int)archive.apply(List::size));
+	}
+	
+	/**
+	 * Creates a solution on the linear front {@code f1 + f2 = 1}.  The decision variable is unique since JMetal's
+	 * archives identify solutions using {@code equals}.
+	 */
+	private DoubleSolution createSolution(int id, double f1) {
+		DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, Double.MAX_VALUE)), 2, 0);
+		solution.variables().set(0, (double)id);
+		solution.objectives()[0] = f1;
+		solution.objectives()[1] = 1.0 - f1;
+		return solution;
+	}
+
+}
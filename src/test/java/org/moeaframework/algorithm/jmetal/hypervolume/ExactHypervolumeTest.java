@@ -0,0 +1,106 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+@SuppressWarnings("deprecation")
+public class ExactHypervolumeTest {
+	
+	@Test
+	public void testMatchesPISA() {
+		Random random = new Random(42);
+		HypervolumeContributionAttribute<DoubleSolution> attribute = new HypervolumeContributionAttribute<>();
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			for (int trial = 0; trial < 10; trial++) {
+				double[][] points = HypervolumeKernelsTest.createFront(random, 2 + random.nextInt(20),
+						numberOfObjectives);
+				List<DoubleSolution> expected = createSolutions(points);
+				List<DoubleSolution> actual = createSolutions(points);
+				List<DoubleSolution> referenceFront = createSolutions(HypervolumeKernelsTest.createPoints(random, 30,
+						numberOfObjectives));
+				
+				referenceFront.addAll(expected);
+				new PISAHypervolume<DoubleSolution>().computeHypervolumeContribution(expected, referenceFront);
+				new ExactHypervolume<DoubleSolution>().computeHypervolumeContribution(actual, referenceFront);
+				
+				// PISA subtracts nearly equal volumes, so its error scales with the largest contribution
+				double epsilon = 1e-11 * attribute.getAttribute(expected.get(0));
+				
+				for (int i = 0; i < points.length; i++) {
+					Assert.assertEquals(attribute.getAttribute(expected.get(i)), attribute.getAttribute(actual.get(i)),
+							epsilon);
+				}
+				
+				Assert.assertEquals(expected.get(points.length - 1).variables(),
+						actual.get(points.length - 1).variables());
+			}
+		}
+	}
+	
+	@Test
+	public void testOffset() {
+		ExactHypervolume<DoubleSolution> hypervolume = new ExactHypervolume<>();
+		Assert.assertEquals(AbstractArrayHypervolume.DEFAULT_OFFSET, hypervolume.getOffset(), 0.0);
+		
+		hypervolume.setOffset(1.0);
+		Assert.assertEquals(1.0, hypervolume.getOffset(), 0.0);
+	}
+	
+	@Test
+	public void testEvaluate() {
+		List<DoubleSolution> solutions = createSolutions(new double[][] { { 0.25, 0.75 }, { 0.75, 0.25 } });
+		
+		Assert.assertEquals(new PISAHypervolume<DoubleSolution>(new double[] { 1.0, 1.0 }).evaluate(solutions),
+				new ExactHypervolume<DoubleSolution>().evaluate(solutions), 1e-12);
+	}
+	
+	/**
+	 * Creates solutions with the given objective values, storing the index of each solution in its decision variable
+	 * so solutions can be identified after sorting.
+	 */
+	static List<DoubleSolution> createSolutions(double[][] points) {
+		List<DoubleSolution> solutions = new ArrayList<>();
+		
+		for (int i = 0; i < points.length; i++) {
+			DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, (double)points.length)),
+					points[i].length, 0);
+			solution.variables().set(0, (double)i);
+			
+			for (int j = 0; j < points[i].length; j++) {
+				solution.objectives()[j] = points[i][j];
+			}
+			
+			solutions.add(solution);
+		}
+		
+		return solutions;
+	}
+	
+}
@@ -0,0 +1,175 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.hypervolume;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+@SuppressWarnings("deprecation")
+public class HypervolumeKernelsTest {
+	
+	@Test
+	public void testHypervolume() {
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+			for (int trial = 0; trial < 20; trial++) {
+				double[][] points = createPoints(random, 1 + random.nextInt(30), numberOfObjectives);
+				double[] reference = createReference(numberOfObjectives);
+				
+				Assert.assertEquals(expectedHypervolume(points, points.length, -1, reference),
+						HypervolumeKernels.hypervolume(points, reference), 1e-12);
+			}
+		}
+	}
+	
+	@Test
+	public void testContributions() {
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+			for (int trial = 0; trial < 20; trial++) {
+				double[][] points = createPoints(random, 1 + random.nextInt(20), numberOfObjectives);
+				double[] reference = createReference(numberOfObjectives);
+				double[] contributions = HypervolumeKernels.contributions(points, reference);
+				double total = expectedHypervolume(points, points.length, -1, reference);
+				
+				for (int i = 0; i < points.length; i++) {
+					Assert.assertEquals(total - expectedHypervolume(points, points.length, i, reference),
+							contributions[i], 1e-12);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testContributionsNondominated2D() {
+		double[][] points = new double[][] { { 0.5, 0.5 }, { 0.0, 1.0 }, { 1.0, 0.0 }, { 0.5, 0.5 }, { 0.25, 0.75 } };
+		double[] contributions = HypervolumeKernels.contributions(points, new double[] { 2.0, 2.0 });
+		
+		Assert.assertArrayEquals(new double[] { 0.0, 0.25, 0.5, 0.0, 0.0625 }, contributions, 1e-12);
+	}
+	
+	@Test
+	public void testApproximateContributions() {
+		JMetalRandom.getInstance().setSeed(42);
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+			double[][] points = createFront(random, 10, numberOfObjectives);
+			double[] reference = createReference(numberOfObjectives);
+			double[] expected = HypervolumeKernels.contributions(points, reference);
+			double[] actual = HypervolumeKernels.approximateContributions(points, reference, 200000,
+					JMetalRandom.getInstance());
+			
+			for (int i = 0; i < points.length; i++) {
+				Assert.assertEquals(expected[i], actual[i], 0.01);
+			}
+		}
+	}
+	
+	/**
+	 * Creates points on the unit simplex, some of which are rounded so that duplicates and dominated points occur.
+	 */
+	static double[][] createPoints(Random random, int size, int numberOfObjectives) {
+		double[][] points = createFront(random, size, numberOfObjectives);
+		
+		for (double[] point : points) {
+			if (random.nextBoolean()) {
+				for (int j = 0; j < numberOfObjectives; j++) {
+					point[j] = Math.round(4.0 * point[j]) / 4.0;
+				}
+			}
+		}
+		
+		return points;
+	}
+	
+	/**
+	 * Creates mutually non-dominated points on the unit simplex.
+	 */
+	static double[][] createFront(Random random, int size, int numberOfObjectives) {
+		double[][] points = new double[size][numberOfObjectives];
+		
+		for (double[] point : points) {
+			double sum = 0.0;
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				point[j] = random.nextDouble();
+				sum += point[j];
+			}
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				point[j] /= sum;
+			}
+		}
+		
+		return points;
+	}
+	
+	private static double[] createReference(int numberOfObjectives) {
+		double[] reference = new double[numberOfObjectives];
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			reference[j] = 1.0 + 0.1 * (j + 1);
+		}
+		
+		return reference;
+	}
+	
+	/**
+	 * Computes the hypervolume using JMetal's PISA implementation, optionally excluding one point.
+	 */
+	private static double expectedHypervolume(double[][] points, int size, int excluded, double[] reference) {
+		int numberOfObjectives = reference.length;
+		double[][] front = new double[size][];
+		int count = 0;
+		
+		for (int i = 0; i < size; i++) {
+			if (i != excluded) {
+				front[count] = new double[numberOfObjectives];
+				
+				for (int j = 0; j < numberOfObjectives; j++) {
+					front[count][j] = reference[j] - points[i][j];
+				}
+				
+				count++;
+			}
+		}
+		
+		if (count == 0) {
+			return 0.0;
+		} else if (numberOfObjectives == 1) {
+			double maximum = 0.0;
+			
+			for (int i = 0; i < count; i++) {
+				maximum = Math.max(maximum, front[i][0]);
+			}
+			
+			return maximum;
+		}
+		
+		return new PISAHypervolume<DoubleSolution>().calculateHypervolume(front, count, numberOfObjectives);
+	}
+	
+}
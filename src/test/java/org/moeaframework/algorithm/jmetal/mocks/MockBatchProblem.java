@@ -0,0 +1,48 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.mocks;
+
+import org.moeaframework.problem.jmetal.BatchProblem;
+
+/**
+ * A mock problem with real variables that counts the number of solutions evaluated in batches.
+ */
+public class MockBatchProblem extends MockRealProblem implements BatchProblem {
+	
+	private int batchEvaluations;
+	
+	public MockBatchProblem(int numberOfObjectives) {
+		super(numberOfObjectives);
+	}
+
+	@Override
+	public void evaluate(double[][] variables, double[][] objectives, int size) {
+		for (int i = 0; i < getNumberOfObjectives(); i++) {
+			for (int j = 0; j < size; j++) {
+				objectives[i][j] = 5.0;
+			}
+		}
+		
+		batchEvaluations += size;
+	}
+	
+	public int getBatchEvaluations() {
+		return batchEvaluations;
+	}
+
+}
@@ -0,0 +1,48 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.mocks;
+
+import org.moeaframework.algorithm.jmetal.adapters.DeltaPermutationProblem;
+import org.moeaframework.core.Solution;
+
+/**
+ * A mock permutation problem supporting delta evaluation.  Counts the number of full and delta evaluations.
+ */
+public class MockDeltaPermutationProblem extends MockPermutationProblem implements DeltaPermutationProblem {
+	
+	public int fullEvaluations;
+	
+	public int deltaEvaluations;
+	
+	@Override
+	public void evaluate(Solution solution) {
+		super.evaluate(solution);
+		fullEvaluations++;
+	}
+
+	@Override
+	public void evaluateSwap(int[] permutation, int i, int j, double[] objectives) {
+		objectives[0] += (weight(i) - weight(j)) * (permutation[i] - permutation[j]);
+		deltaEvaluations++;
+	}
+	
+	private static int weight(int index) {
+		return index < 9 ? index : 0;
+	}
+
+}
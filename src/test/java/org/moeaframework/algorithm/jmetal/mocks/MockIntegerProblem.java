@@ -0,0 +1,56 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.mocks;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.problem.AbstractProblem;
+
+/**
+ * A mock problem with integer variables.  The objectives are to minimize and maximize the sum of the variables.
+ */
+public class MockIntegerProblem extends AbstractProblem {
+	
+	public MockIntegerProblem() {
+		super(3, 2);
+	}
+
+	@Override
+	public void evaluate(Solution solution) {
+		int sum = 0;
+		
+		for (int value : BinaryIntegerVariable.getInt(solution)) {
+			sum += value;
+		}
+		
+		solution.setObjectiveValue(0, sum);
+		solution.setObjectiveValue(1, -sum);
+	}
+
+	@Override
+	public Solution newSolution() {
+		Solution solution = new Solution(3, 2);
+		
+		for (int i = 0; i < 3; i++) {
+			solution.setVariable(i, new BinaryIntegerVariable(-5, 10));
+		}
+		
+		return solution;
+	}
+
+}
@@ -0,0 +1,58 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.mocks;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.BinaryIntegerVariable;
+import org.moeaframework.core.variable.BinaryVariable;
+import org.moeaframework.core.variable.Permutation;
+import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.problem.AbstractProblem;
+
+/**
+ * A mock problem with real, integer, binary, and permutation variables.
+ */
+public class MockMixedProblem extends AbstractProblem {
+	
+	public MockMixedProblem() {
+		super(5, 2);
+	}
+
+	@Override
+	public void evaluate(Solution solution) {
+		double real = RealVariable.getReal(solution.getVariable(0)) + RealVariable.getReal(solution.getVariable(2));
+		int integer = BinaryIntegerVariable.getInt(solution.getVariable(1));
+		int bits = ((BinaryVariable)solution.getVariable(3)).cardinality();
+		int first = Permutation.getPermutation(solution.getVariable(4))[0];
+		
+		solution.setObjectiveValue(0, real + integer);
+		solution.setObjectiveValue(1, bits + first);
+	}
+
+	@Override
+	public Solution newSolution() {
+		Solution solution = new Solution(5, 2);
+		solution.setVariable(0, new RealVariable(0.0, 1.0));
+		solution.setVariable(1, new BinaryIntegerVariable(0, 10));
+		solution.setVariable(2, new RealVariable(-1.0, 1.0));
+		solution.setVariable(3, new BinaryVariable(5));
+		solution.setVariable(4, new Permutation(4));
+		return solution;
+	}
+
+}
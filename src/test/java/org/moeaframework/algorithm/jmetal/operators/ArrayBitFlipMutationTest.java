@@ -0,0 +1,108 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.PackedBinarySolution;
+import org.moeaframework.algorithm.jmetal.adapters.SplittableRandomGenerator;
+import org.uma.jmetal.operator.mutation.impl.BitFlipMutation;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class ArrayBitFlipMutationTest {
+	
+	private static final PackedBinarySolution.Layout LAYOUT = new PackedBinarySolution.Layout(List.of(10, 64, 100));
+	
+	@Test
+	public void testEquivalence() {
+		ArrayBitFlipMutation mutation = new ArrayBitFlipMutation(0.1, false);
+		BitFlipMutation<BinarySolution> scalar = new BitFlipMutation<BinarySolution>(0.1);
+		
+		for (int i = 0; i < 100; i++) {
+			PackedBinarySolution expected = new PackedBinarySolution(LAYOUT, 2, 0);
+			PackedBinarySolution actual = expected.copy();
+			
+			JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(i));
+			scalar.execute(expected);
+			
+			JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(i));
+			mutation.execute(actual);
+			
+			Assert.assertEquals(expected, actual);
+		}
+	}
+	
+	@Test
+	public void testSkipSampling() {
+		ArrayBitFlipMutation mutation = new ArrayBitFlipMutation(0.05, true);
+		int[] counts = new int[LAYOUT.getTotalNumberOfBits()];
+		int trials = 20000;
+		
+		for (int i = 0; i < trials; i++) {
+			PackedBinarySolution solution = new PackedBinarySolution(LAYOUT, 2, 0);
+			PackedBinarySolution original = solution.copy();
+			
+			mutation.execute(solution);
+			
+			int index = 0;
+			
+			for (int j = 0; j < LAYOUT.getNumberOfVariables(); j++) {
+				for (int k = 0; k < LAYOUT.getNumberOfBits(j); k++) {
+					if (solution.variables().get(j).get(k) != original.variables().get(j).get(k)) {
+						counts[index]++;
+					}
+					
+					index++;
+				}
+			}
+		}
+		
+		for (int count : counts) {
+			Assert.assertEquals(0.05, count / (double)trials, 0.01);
+		}
+	}
+	
+	@Test
+	public void testProbabilityOne() {
+		PackedBinarySolution solution = new PackedBinarySolution(LAYOUT, 2, 0);
+		PackedBinarySolution original = solution.copy();
+		
+		new ArrayBitFlipMutation(1.0).execute(solution);
+		
+		for (int i = 0; i < LAYOUT.getNumberOfVariables(); i++) {
+			Assert.assertEquals(LAYOUT.getNumberOfBits(i), solution.variables().get(i).cardinality() +
+					original.variables().get(i).cardinality());
+		}
+		
+		Assert.assertEquals(0L, solution.getWords()[0] >>> 10);
+		Assert.assertEquals(0L, solution.getWords()[3] >>> 36);
+	}
+	
+	@Test
+	public void testProbabilityZero() {
+		PackedBinarySolution solution = new PackedBinarySolution(LAYOUT, 2, 0);
+		PackedBinarySolution original = solution.copy();
+		
+		new ArrayBitFlipMutation(0.0).execute(solution);
+		Assert.assertEquals(original, solution);
+	}
+
+}
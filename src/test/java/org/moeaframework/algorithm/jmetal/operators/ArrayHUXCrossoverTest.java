@@ -0,0 +1,70 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.PackedBinarySolution;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+
+public class ArrayHUXCrossoverTest {
+	
+	private static final PackedBinarySolution.Layout LAYOUT = new PackedBinarySolution.Layout(List.of(10, 64, 100));
+	
+	@Test
+	public void testExchangesDifferingBits() {
+		ArrayHUXCrossover crossover = new ArrayHUXCrossover(1.0);
+		int exchanged = 0;
+		int differing = 0;
+		
+		for (int i = 0; i < 1000; i++) {
+			PackedBinarySolution parent1 = new PackedBinarySolution(LAYOUT, 2, 0);
+			PackedBinarySolution parent2 = new PackedBinarySolution(LAYOUT, 2, 0);
+			List<BinarySolution> offspring = crossover.execute(List.of(parent1, parent2));
+			long[] words1 = ((PackedBinarySolution)offspring.get(0)).getWords();
+			long[] words2 = ((PackedBinarySolution)offspring.get(1)).getWords();
+			
+			for (int j = 0; j < words1.length; j++) {
+				long common = ~(parent1.getWords()[j] ^ parent2.getWords()[j]);
+				
+				Assert.assertEquals(parent1.getWords()[j] & common, words1[j] & common);
+				Assert.assertEquals(parent2.getWords()[j] & common, words2[j] & common);
+				Assert.assertEquals(parent1.getWords()[j] ^ parent2.getWords()[j], words1[j] ^ words2[j]);
+			}
+			
+			exchanged += parent1.hammingDistance((PackedBinarySolution)offspring.get(0));
+			differing += parent1.hammingDistance(parent2);
+		}
+		
+		Assert.assertEquals(0.5, exchanged / (double)differing, 0.01);
+	}
+	
+	@Test
+	public void testProbabilityZero() {
+		PackedBinarySolution parent1 = new PackedBinarySolution(LAYOUT, 2, 0);
+		PackedBinarySolution parent2 = new PackedBinarySolution(LAYOUT, 2, 0);
+		
+		List<BinarySolution> offspring = new ArrayHUXCrossover(0.0).execute(List.of(parent1, parent2));
+		
+		Assert.assertEquals(parent1, offspring.get(0));
+		Assert.assertEquals(parent2, offspring.get(1));
+	}
+
+}
@@ -0,0 +1,98 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.ArrayPermutationSolution;
+import org.uma.jmetal.operator.crossover.impl.PMXCrossover;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
+
+public class ArrayPMXCrossoverTest {
+	
+	@Test
+	public void testMatchesJMetal() {
+		for (int i = 0; i < 100; i++) {
+			ArrayPermutationSolution parent1 = new ArrayPermutationSolution(20, 1, 0);
+			ArrayPermutationSolution parent2 = new ArrayPermutationSolution(20, 1, 0);
+			int start = i % 19;
+			int end = start + 1 + (i % (19 - start));
+			
+			Iterator<Integer> points = List.of(start, end).iterator();
+			PMXCrossover expected = new PMXCrossover(1.0, () -> 0.0, (a, b) -> points.next());
+			List<PermutationSolution<Integer>> expectedOffspring = expected.execute(List.of(
+					toIntegerSolution(parent1), toIntegerSolution(parent2)));
+			
+			int[] offspring1 = new int[20];
+			int[] offspring2 = new int[20];
+			ArrayPMXCrossover.evolve(parent1.getValues(), parent2.getValues(), offspring1, offspring2, start, end);
+			
+			Assert.assertEquals(expectedOffspring.get(0).variables(), toList(offspring1));
+			Assert.assertEquals(expectedOffspring.get(1).variables(), toList(offspring2));
+		}
+	}
+	
+	@Test
+	public void testValidPermutations() {
+		ArrayPMXCrossover crossover = new ArrayPMXCrossover(1.0);
+		
+		for (int i = 0; i < 100; i++) {
+			List<PermutationSolution<Integer>> offspring = crossover.execute(List.of(
+					new ArrayPermutationSolution(50, 1, 0), new ArrayPermutationSolution(50, 1, 0)));
+			
+			Assert.assertEquals(2, offspring.size());
+			
+			for (PermutationSolution<Integer> solution : offspring) {
+				Assert.assertTrue(solution instanceof ArrayPermutationSolution);
+				Assert.assertEquals(50, new HashSet<Integer>(solution.variables()).size());
+			}
+			
+			offspring.add(offspring.remove(0));
+		}
+	}
+	
+	@Test
+	public void testFallback() {
+		ArrayPMXCrossover crossover = new ArrayPMXCrossover(1.0);
+		List<PermutationSolution<Integer>> offspring = crossover.execute(List.of(
+				new IntegerPermutationSolution(10, 1, 0), new IntegerPermutationSolution(10, 1, 0)));
+		
+		Assert.assertTrue(offspring.get(0) instanceof IntegerPermutationSolution);
+	}
+	
+	private static IntegerPermutationSolution toIntegerSolution(ArrayPermutationSolution solution) {
+		IntegerPermutationSolution result = new IntegerPermutationSolution(solution.getLength(), 1, 0);
+		
+		for (int i = 0; i < solution.getLength(); i++) {
+			result.variables().set(i, solution.getValue(i));
+		}
+		
+		return result;
+	}
+	
+	private static List<Integer> toList(int[] values) {
+		return Arrays.stream(values).boxed().toList();
+	}
+
+}
@@ -0,0 +1,67 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.ArrayPermutationSolution;
+
+public class ArrayPermutationSwapMutationTest {
+	
+	@Test
+	public void testSwapsTwoPositions() {
+		ArrayPermutationSwapMutation mutation = new ArrayPermutationSwapMutation(1.0);
+		
+		for (int i = 0; i < 100; i++) {
+			ArrayPermutationSolution solution = new ArrayPermutationSolution(10, 1, 0);
+			ArrayPermutationSolution original = solution.copy();
+			
+			mutation.execute(solution);
+			
+			int differences = 0;
+			
+			for (int j = 0; j < solution.getLength(); j++) {
+				if (solution.getValue(j) != original.getValue(j)) {
+					differences++;
+				}
+			}
+			
+			Assert.assertEquals(2, differences);
+		}
+	}
+	
+	@Test
+	public void testProbabilityZero() {
+		ArrayPermutationSwapMutation mutation = new ArrayPermutationSwapMutation(0.0);
+		ArrayPermutationSolution solution = new ArrayPermutationSolution(10, 1, 0);
+		ArrayPermutationSolution original = solution.copy();
+		
+		mutation.execute(solution);
+		Assert.assertEquals(original, solution);
+	}
+	
+	@Test
+	public void testSingleElement() {
+		ArrayPermutationSwapMutation mutation = new ArrayPermutationSwapMutation(1.0);
+		ArrayPermutationSolution solution = new ArrayPermutationSolution(1, 1, 0);
+		
+		mutation.execute(solution);
+		Assert.assertEquals(0, solution.getValue(0));
+	}
+
+}
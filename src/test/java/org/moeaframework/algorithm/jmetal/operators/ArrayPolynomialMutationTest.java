@@ -0,0 +1,114 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.ArrayDoubleSolution;
+import org.moeaframework.algorithm.jmetal.adapters.DoubleProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.SplittableRandomGenerator;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class ArrayPolynomialMutationTest {
+	
+	@Test
+	public void testEquivalence() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayPolynomialMutation kernel = new ArrayPolynomialMutation(0.5, 20.0, true, false);
+		ArrayPolynomialMutation scalar = new ArrayPolynomialMutation(0.5, 20.0, false, false);
+		
+		for (int i = 0; i < 100; i++) {
+			ArrayDoubleSolution expected = adapter.createSolution();
+			ArrayDoubleSolution actual = expected.copy();
+			
+			JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(i));
+			scalar.execute(expected);
+			
+			JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(i));
+			kernel.execute(actual);
+			
+			Assert.assertEquals(expected, actual);
+		}
+	}
+	
+	@Test
+	public void testDistribution() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution parent = adapter.createSolution();
+		parent.setValue(0, 0.3);
+		
+		SummaryStatistics expected = sample(new ArrayPolynomialMutation(1.0, 20.0, false, false), parent, 0);
+		SummaryStatistics actual = sample(new ArrayPolynomialMutation(1.0, 20.0, true, false), parent, 100000);
+		
+		Assert.assertEquals(expected.getMean(), actual.getMean(), 0.01);
+		Assert.assertEquals(expected.getStandardDeviation(), actual.getStandardDeviation(), 0.01);
+		Assert.assertTrue(actual.getMin() >= 0.0);
+		Assert.assertTrue(actual.getMax() <= 1.0);
+	}
+	
+	@Test
+	public void testSkipSampling() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayPolynomialMutation mutation = new ArrayPolynomialMutation(0.2, 20.0, true, true);
+		int[] counts = new int[adapter.numberOfVariables()];
+		int trials = 20000;
+		
+		for (int i = 0; i < trials; i++) {
+			ArrayDoubleSolution solution = adapter.createSolution();
+			ArrayDoubleSolution original = solution.copy();
+			
+			mutation.execute(solution);
+			
+			for (int j = 0; j < counts.length; j++) {
+				if (solution.getValue(j) != original.getValue(j)) {
+					counts[j]++;
+				}
+			}
+		}
+		
+		for (int j = 0; j < counts.length; j++) {
+			Assert.assertEquals(0.2, counts[j] / (double)trials, 0.02);
+		}
+	}
+	
+	@Test
+	public void testProbabilityZero() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution solution = adapter.createSolution();
+		ArrayDoubleSolution original = solution.copy();
+		
+		new ArrayPolynomialMutation(0.0, 20.0).execute(solution);
+		Assert.assertEquals(original, solution);
+	}
+	
+	private SummaryStatistics sample(ArrayPolynomialMutation mutation, ArrayDoubleSolution parent, long seed) {
+		SummaryStatistics statistics = new SummaryStatistics();
+		JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(seed));
+		
+		for (int i = 0; i < 10000; i++) {
+			ArrayDoubleSolution offspring = parent.copy();
+			mutation.execute(offspring);
+			statistics.addValue(offspring.getValue(0));
+		}
+		
+		return statistics;
+	}
+
+}
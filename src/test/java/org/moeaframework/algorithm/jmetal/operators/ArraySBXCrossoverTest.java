@@ -0,0 +1,103 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.operators;
+
+import java.util.List;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.jmetal.adapters.ArrayDoubleSolution;
+import org.moeaframework.algorithm.jmetal.adapters.DoubleProblemAdapter;
+import org.moeaframework.algorithm.jmetal.adapters.SplittableRandomGenerator;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class ArraySBXCrossoverTest {
+	
+	@Test
+	public void testEquivalence() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArraySBXCrossover kernel = new ArraySBXCrossover(1.0, 15.0, true);
+		ArraySBXCrossover scalar = new ArraySBXCrossover(1.0, 15.0, false);
+		
+		for (int i = 0; i < 100; i++) {
+			ArrayDoubleSolution parent1 = adapter.createSolution();
+			ArrayDoubleSolution parent2 = adapter.createSolution();
+			parent2.setValue(0, parent1.getValue(0));
+			
+			List<DoubleSolution> expected = execute(scalar, parent1, parent2, i);
+			List<DoubleSolution> actual = execute(kernel, parent1, parent2, i);
+			
+			Assert.assertEquals(expected, actual);
+		}
+	}
+	
+	@Test
+	public void testDistribution() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution parent1 = adapter.createSolution();
+		ArrayDoubleSolution parent2 = adapter.createSolution();
+		parent1.setValue(0, 0.2);
+		parent2.setValue(0, 0.6);
+		
+		SummaryStatistics expected = sample(new ArraySBXCrossover(1.0, 15.0, false), parent1, parent2, 0);
+		SummaryStatistics actual = sample(new ArraySBXCrossover(1.0, 15.0, true), parent1, parent2, 100000);
+		
+		Assert.assertEquals(expected.getMean(), actual.getMean(), 0.01);
+		Assert.assertEquals(expected.getStandardDeviation(), actual.getStandardDeviation(), 0.01);
+		Assert.assertTrue(actual.getMin() >= 0.0);
+		Assert.assertTrue(actual.getMax() <= 1.0);
+	}
+	
+	@Test
+	public void testProbabilityZero() {
+		DoubleProblemAdapter adapter = new DoubleProblemAdapter(new DTLZ2(2));
+		ArrayDoubleSolution parent1 = adapter.createSolution();
+		ArrayDoubleSolution parent2 = adapter.createSolution();
+		
+		List<DoubleSolution> offspring = new ArraySBXCrossover(0.0, 15.0).execute(List.of(parent1, parent2));
+		
+		Assert.assertEquals(parent1, offspring.get(0));
+		Assert.assertEquals(parent2, offspring.get(1));
+		Assert.assertNotSame(parent1, offspring.get(0));
+		Assert.assertNotSame(parent2, offspring.get(1));
+	}
+	
+	private List<DoubleSolution> execute(ArraySBXCrossover crossover, ArrayDoubleSolution parent1,
+			ArrayDoubleSolution parent2, long seed) {
+		JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(seed));
+		return crossover.execute(List.of(parent1, parent2));
+	}
+	
+	private SummaryStatistics sample(ArraySBXCrossover crossover, ArrayDoubleSolution parent1,
+			ArrayDoubleSolution parent2, long seed) {
+		SummaryStatistics statistics = new SummaryStatistics();
+		JMetalRandom.getInstance().setRandomGenerator(new SplittableRandomGenerator(seed));
+		
+		for (int i = 0; i < 10000; i++) {
+			for (DoubleSolution offspring : crossover.execute(List.of(parent1, parent2))) {
+				statistics.addValue(offspring.variables().get(0));
+			}
+		}
+		
+		return statistics;
+	}
+
+}
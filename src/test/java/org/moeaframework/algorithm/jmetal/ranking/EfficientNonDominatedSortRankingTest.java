@@ -0,0 +1,103 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.ranking;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+public class EfficientNonDominatedSortRankingTest {
+	
+	@Test
+	public void testUnconstrained() {
+		Random random = new Random(42);
+		
+		for (int i = 0; i < 20; i++) {
+			List<BinarySolution> population = FastNonDominatedSortArrayRankingTest.createPopulation(random, 200, 3, 0);
+			
+			assertSameFronts(population,
+					new FastNonDominatedSortRanking<BinarySolution>(new DefaultDominanceComparator<>()).compute(population),
+					new EfficientNonDominatedSortRanking<BinarySolution>(false).compute(population));
+		}
+	}
+	
+	@Test
+	public void testConstrained() {
+		Random random = new Random(42);
+		
+		for (int i = 0; i < 20; i++) {
+			List<BinarySolution> population = FastNonDominatedSortArrayRankingTest.createPopulation(random, 200, 2, 2);
+			
+			assertSameFronts(population,
+					new FastNonDominatedSortRanking<BinarySolution>(new DominanceWithConstraintsComparator<>()).compute(population),
+					new EfficientNonDominatedSortRanking<BinarySolution>(true).compute(population));
+		}
+	}
+	
+	@Test
+	public void testSignedZero() {
+		List<BinarySolution> population = FastNonDominatedSortArrayRankingTest.createPopulation(new Random(42), 2, 2, 0);
+		population.get(0).objectives()[0] = -0.0;
+		population.get(0).objectives()[1] = 2.0;
+		population.get(1).objectives()[0] = 0.0;
+		population.get(1).objectives()[1] = 1.0;
+		
+		Ranking<BinarySolution> ranking = new EfficientNonDominatedSortRanking<BinarySolution>(false)
+				.compute(population);
+		
+		Assert.assertEquals(1, ranking.getRank(population.get(0)).intValue());
+		Assert.assertEquals(0, ranking.getRank(population.get(1)).intValue());
+	}
+	
+	private void assertSameFronts(List<BinarySolution> population, Ranking<BinarySolution> expected,
+			Ranking<BinarySolution> actual) {
+		Comparator<BinarySolution> order = Comparator.comparingInt(solution -> indexOf(population, solution));
+		
+		Assert.assertEquals(expected.getNumberOfSubFronts(), actual.getNumberOfSubFronts());
+		
+		for (int rank = 0; rank < expected.getNumberOfSubFronts(); rank++) {
+			List<BinarySolution> expectedFront = expected.getSubFront(rank).stream().sorted(order).toList();
+			List<BinarySolution> actualFront = actual.getSubFront(rank);
+			
+			Assert.assertEquals(expectedFront.size(), actualFront.size());
+			
+			for (int i = 0; i < expectedFront.size(); i++) {
+				Assert.assertSame(expectedFront.get(i), actualFront.get(i));
+			}
+		}
+	}
+	
+	private int indexOf(List<BinarySolution> population, BinarySolution solution) {
+		for (int i = 0; i < population.size(); i++) {
+			if (population.get(i) == solution) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+
+}
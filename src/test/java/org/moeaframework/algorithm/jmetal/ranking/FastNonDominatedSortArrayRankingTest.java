@@ -0,0 +1,118 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DefaultDominanceComparator;
+import org.uma.jmetal.util.comparator.dominanceComparator.impl.DominanceWithConstraintsComparator;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+public class FastNonDominatedSortArrayRankingTest {
+	
+	@Test
+	public void testUnconstrained() {
+		Random random = new Random(42);
+		
+		for (int i = 0; i < 20; i++) {
+			List<BinarySolution> population = createPopulation(random, 200, 3, 0);
+			Ranking<BinarySolution> expected = new FastNonDominatedSortRanking<>(new DefaultDominanceComparator<>());
+			
+			assertSameFronts(expected.compute(population),
+					new FastNonDominatedSortArrayRanking<BinarySolution>(false).compute(population));
+			assertSameFronts(expected.compute(population),
+					new FastNonDominatedSortArrayRanking<BinarySolution>(false, true).compute(population));
+		}
+	}
+	
+	@Test
+	public void testConstrained() {
+		Random random = new Random(42);
+		
+		for (int i = 0; i < 20; i++) {
+			List<BinarySolution> population = createPopulation(random, 200, 2, 2);
+			Ranking<BinarySolution> expected = new FastNonDominatedSortRanking<>(
+					new DominanceWithConstraintsComparator<>());
+			
+			assertSameFronts(expected.compute(population),
+					new FastNonDominatedSortArrayRanking<BinarySolution>(true).compute(population));
+			assertSameFronts(expected.compute(population),
+					new FastNonDominatedSortArrayRanking<BinarySolution>(true, true).compute(population));
+		}
+	}
+	
+	@Test
+	public void testRank() {
+		List<BinarySolution> population = createPopulation(new Random(42), 50, 2, 0);
+		Ranking<BinarySolution> ranking = new FastNonDominatedSortArrayRanking<BinarySolution>(false).compute(population);
+		
+		for (int rank = 0; rank < ranking.getNumberOfSubFronts(); rank++) {
+			for (BinarySolution solution : ranking.getSubFront(rank)) {
+				Assert.assertEquals(rank, ranking.getRank(solution).intValue());
+				Assert.assertEquals(rank, new FastNonDominatedSortRanking<BinarySolution>().getRank(solution).intValue());
+			}
+		}
+	}
+	
+	/**
+	 * Creates a population with objective and constraint values on a coarse grid, producing many ties and duplicates.
+	 */
+	static List<BinarySolution> createPopulation(Random random, int size, int numberOfObjectives,
+			int numberOfConstraints) {
+		List<BinarySolution> population = new ArrayList<>();
+		
+		for (int i = 0; i < size; i++) {
+			BinarySolution solution = new DefaultBinarySolution(List.of(1), numberOfObjectives, numberOfConstraints);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.objectives()[j] = random.nextInt(10);
+			}
+			
+			for (int j = 0; j < numberOfConstraints; j++) {
+				solution.constraints()[j] = random.nextBoolean() ? 0.0 : -random.nextInt(3);
+			}
+			
+			population.add(solution);
+		}
+		
+		return population;
+	}
+	
+	private void assertSameFronts(Ranking<BinarySolution> expected, Ranking<BinarySolution> actual) {
+		Assert.assertEquals(expected.getNumberOfSubFronts(), actual.getNumberOfSubFronts());
+		
+		for (int rank = 0; rank < expected.getNumberOfSubFronts(); rank++) {
+			List<BinarySolution> expectedFront = expected.getSubFront(rank);
+			List<BinarySolution> actualFront = actual.getSubFront(rank);
+			
+			Assert.assertEquals(expectedFront.size(), actualFront.size());
+			
+			for (int i = 0; i < expectedFront.size(); i++) {
+				Assert.assertSame(expectedFront.get(i), actualFront.get(i));
+			}
+		}
+	}
+
+}
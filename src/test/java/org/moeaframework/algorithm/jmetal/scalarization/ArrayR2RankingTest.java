@@ -0,0 +1,102 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFUtilityFunctionSet;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2Ranking;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2RankingAttribute;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.R2SolutionData;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+public class ArrayR2RankingTest {
+	
+	@Test
+	public void testMatchesR2Ranking() {
+		testMatchesR2Ranking(false);
+	}
+	
+	@Test
+	public void testMatchesR2RankingParallel() {
+		testMatchesR2Ranking(true);
+	}
+	
+	private void testMatchesR2Ranking(boolean parallel) {
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[][] weights = ScalarizationKernelsTest.createWeights(random, 20, numberOfObjectives);
+			double[] referencePoint = new double[numberOfObjectives];
+			ASFUtilityFunctionSet<DoubleSolution> utilityFunctions = new ASFUtilityFunctionSet<>(weights);
+			
+			List<DoubleSolution> expected = ScalarizationKernelsTest.createSolutions(random, 60, numberOfObjectives);
+			List<DoubleSolution> actual = ScalarizationKernelsTest.copy(expected);
+			List<DoubleSolution> actualFromValues = ScalarizationKernelsTest.copy(expected);
+			List<DoubleSolution> actualFromArraySet = ScalarizationKernelsTest.copy(expected);
+			
+			R2Ranking<DoubleSolution> expectedRanking = new R2Ranking<>(utilityFunctions).computeRanking(expected);
+			
+			assertSameRanking(expected, expectedRanking, actual,
+					new ArrayR2Ranking<>(utilityFunctions, parallel).computeRanking(actual));
+			
+			assertSameRanking(expected, expectedRanking, actualFromValues,
+					new ArrayR2Ranking<>(utilityFunctions, parallel).computeRanking(actualFromValues,
+							ScalarizationKernels.asf(weights, referencePoint,
+									ScalarizationKernels.getObjectives(actualFromValues), parallel),
+							null));
+			
+			assertSameRanking(expected, expectedRanking, actualFromArraySet,
+					new ArrayR2Ranking<>(new ArrayASFUtilityFunctionSet<DoubleSolution>(weights), parallel)
+							.computeRanking(actualFromArraySet));
+		}
+	}
+	
+	private void assertSameRanking(List<DoubleSolution> expected, R2Ranking<DoubleSolution> expectedRanking,
+			List<DoubleSolution> actual, R2Ranking<DoubleSolution> actualRanking) {
+		R2RankingAttribute<DoubleSolution> attribute = new R2RankingAttribute<>();
+		
+		assertSameOrder(expected, actual);
+		Assert.assertEquals(expectedRanking.getNumberOfSubfronts(), actualRanking.getNumberOfSubfronts());
+		
+		for (int i = 0; i < expectedRanking.getNumberOfSubfronts(); i++) {
+			assertSameOrder(expectedRanking.getSubfront(i), actualRanking.getSubfront(i));
+		}
+		
+		for (int i = 0; i < expected.size(); i++) {
+			R2SolutionData expectedData = attribute.getAttribute(expected.get(i));
+			R2SolutionData actualData = attribute.getAttribute(actual.get(i));
+			
+			Assert.assertEquals(expectedData.rank, actualData.rank);
+			Assert.assertEquals(expectedData.utility, actualData.utility, 0.0);
+			Assert.assertEquals(expectedData.alpha, actualData.alpha, 0.0);
+		}
+	}
+	
+	private void assertSameOrder(List<DoubleSolution> expected, List<DoubleSolution> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i).variables(), actual.get(i).variables());
+		}
+	}
+
+}
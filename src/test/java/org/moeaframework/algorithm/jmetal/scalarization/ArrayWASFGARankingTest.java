@@ -0,0 +1,146 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.gwasfga.util.GWASFGARanking;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFWASFGA;
+import org.uma.jmetal.algorithm.multiobjective.wasfga.util.WASFGARanking;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+public class ArrayWASFGARankingTest {
+	
+	@Test
+	public void testMatchesWASFGARanking() {
+		for (boolean parallel : new boolean[] { false, true }) {
+			Random random = new Random(42);
+			
+			for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+				double[][] weights = ScalarizationKernelsTest.createWeights(random, 20, numberOfObjectives);
+				double[] interestPoint = new double[numberOfObjectives];
+				ASFWASFGA<DoubleSolution> utilityFunctions = new ASFWASFGA<>(weights);
+				
+				List<DoubleSolution> expected = createPopulation(random, 60, numberOfObjectives);
+				List<DoubleSolution> actual = copy(expected);
+				
+				assertSameRanking(new WASFGARanking<>(utilityFunctions).compute(expected),
+						new ArrayWASFGARanking<>(utilityFunctions, parallel).compute(actual));
+				assertSameRanking(new WASFGARanking<>(utilityFunctions).compute(expected),
+						new ArrayWASFGARanking<>(utilityFunctions, parallel).compute(actual,
+								ScalarizationKernels.augmentedASF(weights, interestPoint,
+										ScalarizationKernels.getObjectives(actual), parallel)));
+				assertSameRanking(new WASFGARanking<>(utilityFunctions).compute(expected),
+						new ArrayWASFGARanking<>(new ArrayASFWASFGA<DoubleSolution>(weights), parallel)
+								.compute(actual));
+			}
+		}
+	}
+	
+	@Test
+	public void testMatchesGWASFGARanking() {
+		for (boolean parallel : new boolean[] { false, true }) {
+			Random random = new Random(42);
+			
+			for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+				double[][] utopiaWeights = ScalarizationKernelsTest.createWeights(random, 10, numberOfObjectives);
+				double[][] nadirWeights = ScalarizationKernelsTest.createWeights(random, 10, numberOfObjectives);
+				double[] utopia = random.doubles(numberOfObjectives, -1.0, 0.0).toArray();
+				double[] nadir = random.doubles(numberOfObjectives, 1.0, 2.0).toArray();
+				ASFWASFGA<DoubleSolution> utopiaFunctions = new ASFWASFGA<>(utopiaWeights, toList(utopia));
+				ASFWASFGA<DoubleSolution> nadirFunctions = new ASFWASFGA<>(nadirWeights, toList(nadir));
+				
+				List<DoubleSolution> expected = createPopulation(random, 60, numberOfObjectives);
+				List<DoubleSolution> actual = copy(expected);
+				
+				assertSameRanking(new GWASFGARanking<>(utopiaFunctions, nadirFunctions).compute(expected),
+						new ArrayGWASFGARanking<>(utopiaFunctions, nadirFunctions, parallel).compute(actual));
+				assertSameRanking(new GWASFGARanking<>(utopiaFunctions, nadirFunctions).compute(expected),
+						new ArrayGWASFGARanking<>(utopiaFunctions, nadirFunctions, parallel).compute(actual,
+								ScalarizationKernels.augmentedASF(utopiaWeights, utopia,
+										ScalarizationKernels.getObjectives(actual), parallel),
+								ScalarizationKernels.augmentedASF(nadirWeights, nadir,
+										ScalarizationKernels.getObjectives(actual), parallel)));
+				assertSameRanking(new GWASFGARanking<>(utopiaFunctions, nadirFunctions).compute(expected),
+						new ArrayGWASFGARanking<>(new ArrayASFWASFGA<DoubleSolution>(utopiaWeights, toList(utopia)),
+								new ArrayASFWASFGA<DoubleSolution>(nadirWeights, toList(nadir)), parallel)
+								.compute(actual));
+			}
+		}
+	}
+	
+	private void assertSameRanking(Ranking<DoubleSolution> expected, Ranking<DoubleSolution> actual) {
+		Assert.assertEquals(expected.getNumberOfSubFronts(), actual.getNumberOfSubFronts());
+		
+		for (int i = 0; i < expected.getNumberOfSubFronts(); i++) {
+			List<DoubleSolution> expectedFront = expected.getSubFront(i);
+			List<DoubleSolution> actualFront = actual.getSubFront(i);
+			Assert.assertEquals(expectedFront.size(), actualFront.size());
+			
+			for (int j = 0; j < expectedFront.size(); j++) {
+				Assert.assertEquals(expectedFront.get(j).variables(), actualFront.get(j).variables());
+			}
+		}
+	}
+	
+	/**
+	 * Creates solutions where some solutions are infeasible.
+	 */
+	private List<DoubleSolution> createPopulation(Random random, int size, int numberOfObjectives) {
+		NumberOfViolatedConstraints<DoubleSolution> numberOfViolatedConstraints = new NumberOfViolatedConstraints<>();
+		OverallConstraintViolation<DoubleSolution> overallConstraintViolation = new OverallConstraintViolation<>();
+		List<DoubleSolution> population = ScalarizationKernelsTest.createSolutions(random, size, numberOfObjectives);
+		
+		for (DoubleSolution solution : population) {
+			if (random.nextInt(8) == 0) {
+				numberOfViolatedConstraints.setAttribute(solution, 1 + random.nextInt(2));
+				overallConstraintViolation.setAttribute(solution, -random.nextDouble());
+			}
+		}
+		
+		return population;
+	}
+	
+	private List<DoubleSolution> copy(List<DoubleSolution> solutions) {
+		List<DoubleSolution> result = new ArrayList<>();
+		
+		for (DoubleSolution solution : solutions) {
+			result.add((DoubleSolution)solution.copy());
+		}
+		
+		return result;
+	}
+	
+	private List<Double> toList(double[] point) {
+		List<Double> result = new ArrayList<>();
+		
+		for (double value : point) {
+			result.add(value);
+		}
+		
+		return result;
+	}
+
+}
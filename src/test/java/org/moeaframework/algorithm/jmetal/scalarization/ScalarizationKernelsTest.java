@@ -0,0 +1,208 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm.jmetal.scalarization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFUtilityFunctionSet;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.ASFWASFGA;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.AbstractUtilityFunctionsSet;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.Normalizer;
+import org.uma.jmetal.algorithm.multiobjective.mombi.util.TchebycheffUtilityFunctionsSet;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+public class ScalarizationKernelsTest {
+	
+	@Test
+	public void testTchebycheff() {
+		List<Double> referencePoint = List.of(0.1, -0.2);
+		TchebycheffUtilityFunctionsSet<DoubleSolution> utilityFunctions = new TchebycheffUtilityFunctionsSet<>(
+				"resources/weightVectorFiles/mombi2/weight_02D_152.sld", referencePoint);
+		List<DoubleSolution> solutions = createSolutions(new Random(42), 50, 2);
+		
+		for (boolean parallel : new boolean[] { false, true }) {
+			assertSameValues(utilityFunctions, solutions, ScalarizationKernels.tchebycheff(
+					ScalarizationKernels.getWeights(utilityFunctions),
+					ScalarizationKernels.toArray(referencePoint),
+					ScalarizationKernels.getObjectives(solutions),
+					parallel));
+		}
+	}
+	
+	@Test
+	public void testASF() {
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[][] weights = createWeights(random, 30, numberOfObjectives);
+			double[] referencePoint = random.doubles(numberOfObjectives).toArray();
+			List<DoubleSolution> solutions = createSolutions(random, 50, numberOfObjectives);
+			ASFUtilityFunctionSet<DoubleSolution> utilityFunctions = new ASFUtilityFunctionSet<>(weights,
+					toList(referencePoint));
+			
+			for (boolean parallel : new boolean[] { false, true }) {
+				assertSameValues(utilityFunctions, solutions, ScalarizationKernels.asf(weights, referencePoint,
+						ScalarizationKernels.getObjectives(solutions), parallel));
+			}
+		}
+	}
+	
+	@Test
+	public void testAugmentedASF() {
+		Random random = new Random(42);
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[][] weights = createWeights(random, 30, numberOfObjectives);
+			double[] interestPoint = random.doubles(numberOfObjectives).toArray();
+			List<DoubleSolution> solutions = createSolutions(random, 50, numberOfObjectives);
+			ASFWASFGA<DoubleSolution> utilityFunctions = new ASFWASFGA<>(weights, toList(interestPoint));
+			
+			for (boolean parallel : new boolean[] { false, true }) {
+				assertSameValues(utilityFunctions, solutions, ScalarizationKernels.augmentedASF(weights,
+						interestPoint, ScalarizationKernels.getObjectives(solutions), parallel));
+				assertSameValues(utilityFunctions, solutions, ScalarizationKernels.evaluate(utilityFunctions,
+						solutions, parallel));
+			}
+		}
+	}
+	
+	@Test
+	public void testArrayUtilityFunctionsSets() {
+		Random random = new Random(42);
+		List<Double> referencePoint = new ArrayList<>(List.of(0.1, -0.2));
+		ArrayTchebycheffUtilityFunctionsSet<DoubleSolution> tchebycheff = new ArrayTchebycheffUtilityFunctionsSet<>(
+				"resources/weightVectorFiles/mombi2/weight_02D_152.sld", referencePoint);
+		List<DoubleSolution> solutions = createSolutions(random, 50, 2);
+		
+		assertSameArrayValues(tchebycheff, solutions);
+		referencePoint.set(0, -0.3);
+		assertSameArrayValues(tchebycheff, solutions);
+		
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[][] weights = createWeights(random, 30, numberOfObjectives);
+			List<Double> point = toList(random.doubles(numberOfObjectives).toArray());
+			List<Double> min = toList(random.doubles(numberOfObjectives, -1.0, 0.0).toArray());
+			List<Double> max = toList(random.doubles(numberOfObjectives, 1.0, 2.0).toArray());
+			solutions = createSolutions(random, 50, numberOfObjectives);
+			
+			ArrayASFUtilityFunctionSet<DoubleSolution> asf = new ArrayASFUtilityFunctionSet<>(weights, point);
+			assertSameArrayValues(asf, solutions);
+			asf.setNormalizer(new Normalizer(min, max));
+			assertSameArrayValues(asf, solutions);
+			
+			ArrayASFWASFGA<DoubleSolution> augmentedASF = new ArrayASFWASFGA<>(weights, point);
+			assertSameArrayValues(augmentedASF, solutions);
+			augmentedASF.updatePointOfInterest(toList(random.doubles(numberOfObjectives).toArray()));
+			assertSameArrayValues(augmentedASF, solutions);
+			augmentedASF.setNadir(max);
+			augmentedASF.setUtopia(min);
+			assertSameArrayValues(augmentedASF, solutions);
+		}
+	}
+	
+	private void assertSameArrayValues(AbstractUtilityFunctionsSet<DoubleSolution> utilityFunctions,
+			List<DoubleSolution> solutions) {
+		Assert.assertTrue(utilityFunctions instanceof ArrayUtilityFunctionsSet);
+		
+		for (boolean parallel : new boolean[] { false, true }) {
+			assertSameValues(utilityFunctions, solutions, ScalarizationKernels.evaluate(utilityFunctions,
+					solutions, parallel));
+		}
+	}
+	
+	private void assertSameValues(AbstractUtilityFunctionsSet<DoubleSolution> utilityFunctions,
+			List<DoubleSolution> solutions, double[][] values) {
+		Assert.assertEquals(utilityFunctions.getSize(), values.length);
+		
+		for (int w = 0; w < values.length; w++) {
+			Assert.assertEquals(solutions.size(), values[w].length);
+			
+			for (int s = 0; s < solutions.size(); s++) {
+				Assert.assertEquals(utilityFunctions.evaluate(solutions.get(s), w), values[w][s], 0.0);
+			}
+		}
+	}
+	
+	/**
+	 * Creates random weight vectors, some of which contain zero weights.
+	 */
+	static double[][] createWeights(Random random, int size, int numberOfObjectives) {
+		double[][] weights = new double[size][numberOfObjectives];
+		
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				weights[i][j] = random.nextInt(5) == 0 ? 0.0 : random.nextDouble();
+			}
+		}
+		
+		return weights;
+	}
+	
+	/**
+	 * Creates solutions with coarse random objectives, so many values are equal, and some duplicated solutions.  The
+	 * index of each solution is stored in its decision variable so solutions can be identified after sorting.
+	 */
+	static List<DoubleSolution> createSolutions(Random random, int size, int numberOfObjectives) {
+		List<DoubleSolution> solutions = new ArrayList<>();
+		
+		for (int i = 0; i < size; i++) {
+			DoubleSolution solution = new DefaultDoubleSolution(List.of(Bounds.create(0.0, (double)size)),
+					numberOfObjectives, 1);
+			solution.variables().set(0, (double)i);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.objectives()[j] = i > 0 && random.nextInt(10) == 0 ?
+						solutions.get(i - 1).objectives()[j] : random.nextInt(8) / 8.0;
+			}
+			
+			solutions.add(solution);
+		}
+		
+		return solutions;
+	}
+	
+	/**
+	 * Copies the given solutions.
+	 */
+	static List<DoubleSolution> copy(List<DoubleSolution> solutions) {
+		List<DoubleSolution> result = new ArrayList<>();
+		
+		for (DoubleSolution solution : solutions) {
+			result.add((DoubleSolution)solution.copy());
+		}
+		
+		return result;
+	}
+	
+	private List<Double> toList(double[] point) {
+		List<Double> result = new ArrayList<>();
+		
+		for (double value : point) {
+			result.add(value);
+		}
+		
+		return result;
+	}
+
+}
@@ -0,0 +1,82 @@
+/* Copyright 2009-2024 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.problem.jmetal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Solution;
+import org.moeaframework.problem.Problem;
+
+public class JMetalProblemsTest {
+	
+	@Test
+	public void testBatchZDT() {
+		for (String name : new String[] { "ZDT1", "ZDT2", "ZDT3", "ZDT4", "ZDT6" }) {
+			testBatch(name + "-JMetal");
+		}
+	}
+	
+	@Test
+	public void testBatchDTLZ() {
+		for (int i = 1; i <= 7; i++) {
+			testBatch("DTLZ" + i + "_2-JMetal");
+			testBatch("DTLZ" + i + "_3-JMetal");
+		}
+	}
+	
+	@Test
+	public void testBatchUF() {
+		for (int i = 1; i <= 10; i++) {
+			testBatch("UF" + i + "-JMetal");
+		}
+	}
+	
+	private void testBatch(String name) {
+		Problem problem = new JMetalProblems().getProblem(name);
+		Assert.assertTrue(name, problem instanceof BatchProblem);
+		
+		List<Solution> expected = new ArrayList<Solution>();
+		List<Solution> actual = new ArrayList<Solution>();
+		
+		for (int i = 0; i < 100; i++) {
+			Solution solution = problem.newSolution();
+			
+			for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+				solution.getVariable(j).randomize();
+			}
+			
+			expected.add(solution);
+			actual.add(solution.copy());
+		}
+		
+		for (Solution solution : expected) {
+			problem.evaluate(solution);
+		}
+		
+		((BatchProblem)problem).evaluateAll(actual);
+		
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(name, expected.get(i).getObjectiveValues(), actual.get(i).getObjectiveValues(),
+					0.0);
+		}
+	}
+
+}